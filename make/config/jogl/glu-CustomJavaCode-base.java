@@ -194,6 +194,24 @@ public static final GLUtessellator gluNewTess() {
     return GLUtessellatorImpl.gluNewTess();
 }
 
+/*****************************************************************************
+ * <b>gluNewTessBatch</b> creates and returns a new batch tessellation object,
+ * which tessellates polygons given as packed coordinates and contour offsets
+ * into indexed triangles without any callbacks.
+ * Its storage is reused across polygons, use one object per thread.
+ *
+ * Optional, throws GLException if not available in profile
+ *
+ * @return A new batch tessellation object.
+ *
+ * @see GLUtessellatorBatch
+ * @see #gluNewTess gluNewTess
+ ****************************************************************************/
+public static final GLUtessellatorBatch gluNewTessBatch() {
+    validateGLUtessellatorImpl();
+    return GLUtessellatorBatchImpl.gluNewTessBatch();
+}
+
 /*****************************************************************************
  * <b>gluDeleteTess</b> destroys the indicated tessellation object (which was
  * created with {@link #gluNewTess gluNewTess}).
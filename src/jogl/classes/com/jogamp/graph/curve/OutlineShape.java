@@ -30,6 +30,7 @@ package com.jogamp.graph.curve;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 
 import jogamp.graph.geom.plane.AffineTransform;
 
@@ -123,6 +124,11 @@ public class OutlineShape implements Comparable<OutlineShape> {
      * Modified shape, requires to update the vertices and triangles, here: triangulation.
      */
     public static final int DIRTY_TRIANGLES  = 1 << 2;
+    /**
+     * Modified outlines, requires to transform and cleanup the outlines before triangulation,
+     * see {@link #getTriangles(VerticesState)} and {@link #triangulate(Triangulator, Triangulator.Sink)}.
+     */
+    private static final int DIRTY_OUTLINES  = 1 << 3;
 
     private final Vertex.Factory<? extends Vertex> vertexFactory;
 
@@ -177,7 +183,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
     /** Sets sharpness, defaults to {@link #DEFAULT_SHARPNESS}. */
     public void setSharpness(final float s) {
         if( this.sharpness != s ) {
-            clearCache();
+            clearTriangleCache();
             sharpness=s;
         }
     }
@@ -194,8 +200,29 @@ public class OutlineShape implements Comparable<OutlineShape> {
         dirtyBits = 0;
     }
 
-    /** Clears cached triangulated data, i.e. {@link #getTriangles(VerticesState)} and {@link #getVertices()}.  */
+    /**
+     * Clears cached triangulated data, i.e. {@link #getTriangles(VerticesState)} and {@link #getVertices()}.
+     * <p>
+     * Outlines are cleaned up again at next triangulation,
+     * hence this method shall be called after modifying vertices in place, e.g. via {@link Outline#getVertex(int)}.
+     * </p>
+     * @see #clearTriangleCache()
+     */
     public void clearCache() {
+        vertices.clear();
+        triangles.clear();
+        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES;
+    }
+
+    /**
+     * Clears cached triangulated data like {@link #clearCache()},
+     * but keeps the cleaned up outlines, i.e. skips outline cleanup and overlap subdivision at next triangulation.
+     * <p>
+     * Shall only be used if no vertices have been modified since the last triangulation,
+     * e.g. after {@link #setSharpness(float) changing the sharpness}.
+     * </p>
+     */
+    public void clearTriangleCache() {
         vertices.clear();
         triangles.clear();
         dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
@@ -266,7 +293,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
                     bbox.resize(outline.getBounds());
                 }
                 // vertices.addAll(outline.getVertices()); // FIXME: can do and remove DIRTY_VERTICES ?
-                dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+                dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES;
                 return;
             }
         }
@@ -274,7 +301,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
         if( 0 == ( dirtyBits & DIRTY_BOUNDS ) ) {
             bbox.resize(outline.getBounds());
         }
-        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES;
     }
 
     /**
@@ -309,7 +336,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
             throw new NullPointerException("outline is null");
         }
         outlines.set(position, outline);
-        dirtyBits |= DIRTY_BOUNDS | DIRTY_TRIANGLES | DIRTY_VERTICES;
+        dirtyBits |= DIRTY_BOUNDS | DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES;
     }
 
     /**
@@ -320,7 +347,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
      * @throws IndexOutOfBoundsException if position is out of range (position < 0 || position >= getOutlineNumber())
      */
     public final Outline removeOutline(final int position) throws IndexOutOfBoundsException {
-        dirtyBits |= DIRTY_BOUNDS | DIRTY_TRIANGLES | DIRTY_VERTICES;
+        dirtyBits |= DIRTY_BOUNDS | DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES;
         return outlines.remove(position);
     }
 
@@ -352,7 +379,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
             bbox.resize(v.getCoord());
         }
         // vertices.add(v); // FIXME: can do and remove DIRTY_VERTICES ?
-        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES;
     }
 
     /**
@@ -366,7 +393,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
         if( 0 == ( dirtyBits & DIRTY_BOUNDS ) ) {
             bbox.resize(v.getCoord());
         }
-        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES;
     }
 
     /**
@@ -423,7 +450,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
      */
     public final void closeLastOutline(final boolean closeTail) {
         if( getLastOutline().setClosed(true) ) {
-            dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+            dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES;
         }
     }
 
@@ -685,7 +712,10 @@ public class OutlineShape implements Comparable<OutlineShape> {
             throw new IllegalStateException("destinationType "+destinationType.name()+" not supported (currently "+outlineState.name()+")");
         }
         if( 0 != ( DIRTY_TRIANGLES & dirtyBits ) ) {
-            cleanupOutlines();
+            if( 0 != ( DIRTY_OUTLINES & dirtyBits ) ) {
+                cleanupOutlines();
+                dirtyBits &= ~DIRTY_OUTLINES;
+            }
             triangulateImpl();
             updated = true;
             dirtyBits |= DIRTY_VERTICES;
@@ -699,6 +729,62 @@ public class OutlineShape implements Comparable<OutlineShape> {
         return triangles;
     }
 
+    /**
+     * Sets the cached triangulation of this shape as returned by {@link #getTriangles(VerticesState)},
+     * e.g. as restored from persistent storage, hence skipping triangulation.
+     * <p>
+     * The current outlines must be in {@link VerticesState#QUADRATIC_NURBS} state, as they were at triangulation.
+     * Triangle vertices with a valid {@link Vertex#getId() ID} must be the outline vertices,
+     * having their ID set to their index within {@link #getVertices()}.
+     * </p>
+     * @param tris the triangles
+     * @param addedVerticeCount the number of vertices added by the triangulation, see {@link #getAddedVerticeCount()}
+     */
+    public final void setTriangles(final List<Triangle> tris, final int addedVerticeCount) {
+        triangles.clear();
+        triangles.addAll(tris);
+        this.addedVerticeCount = addedVerticeCount;
+        outlineState = VerticesState.QUADRATIC_NURBS;
+        dirtyBits |= DIRTY_VERTICES;
+        dirtyBits &= ~( DIRTY_TRIANGLES | DIRTY_OUTLINES );
+    }
+
+    /**
+     * Triangulate the {@link OutlineShape} passing the triangles to the given {@link Triangulator.Sink}.
+     * <p>
+     * If the outlines have been modified since their last cleanup, they are cleaned up beforehand,
+     * i.e. empty outlines and duplicate closing vertices are removed and overlapping curves are subdivided.
+     * The outlines are not {@link #transform(AffineTransform) transformed}.
+     * </p>
+     * <p>
+     * Unlike {@link #getTriangles(VerticesState)}, triangles are not cached.
+     * The given {@link Triangulator} is {@link Triangulator#reset() reset} beforehand,
+     * allowing its internal storage to be reused for subsequent triangulations of animated shapes.
+     * </p>
+     * <p>
+     * Vertices with a valid {@link Vertex#getId() ID} are indices into {@link #getVertices()},
+     * all others are owned by the {@link Triangulator} and valid until its next reset.
+     * </p>
+     * @param triangulator the {@link Triangulator} to use, e.g. reused for each frame
+     * @param sink receiving the triangles
+     */
+    public void triangulate(final Triangulator triangulator, final Triangulator.Sink sink) {
+        if( 0 != ( DIRTY_OUTLINES & dirtyBits ) ) {
+            cleanupOutlines();
+            dirtyBits &= ~DIRTY_OUTLINES;
+        }
+        triangulator.reset();
+        if( 0 < outlines.size() ) {
+            sortOutlines();
+            generateVertexIds();
+            for(int index = 0; index<outlines.size(); index++) {
+                triangulator.addCurve(sink, outlines.get(index), sharpness);
+            }
+            triangulator.generate(sink);
+        }
+        dirtyBits |= DIRTY_VERTICES;
+    }
+
     /**
      * Return a transformed instance with all {@link Outline}s are copied and transformed.
      * <p>
@@ -28,11 +28,15 @@
 package com.jogamp.graph.curve;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import jogamp.graph.geom.plane.AffineTransform;
+import jogamp.nativewindow.ParallelBands;
 import jogamp.opengl.Debug;
 
+import com.jogamp.common.util.InterruptedRuntimeException;
 import com.jogamp.graph.geom.Triangle;
 import com.jogamp.graph.geom.Vertex;
 import com.jogamp.graph.curve.opengl.GLRegion;
@@ -113,6 +117,7 @@ public abstract class Region {
     private int quality;
     private int dirty = DIRTY_SHAPE | DIRTY_STATE;
     private int numVertices = 0;
+    private int numIndices = 0;
     protected final AABBox box = new AABBox();
     protected Frustum frustum = null;
 
@@ -190,9 +195,16 @@ public abstract class Region {
     /** See {@link #MAX_QUALITY} */
     public final void setQuality(final int q) { quality=q; }
 
+    /** Returns the number of vertices added to this region. */
+    public final int getVertexCount() { return numVertices; }
+
+    /** Returns the number of indices added to this region. */
+    public final int getIndexCount() { return numIndices; }
+
     protected void clearImpl() {
         dirty = DIRTY_SHAPE | DIRTY_STATE;
         numVertices = 0;
+        numIndices = 0;
         box.reset();
     }
 
@@ -264,6 +276,7 @@ public abstract class Region {
 
     private void pushNewVertexIdxImpl(final Vertex vertIn, final AffineTransform transform, final float[] rgba) {
         pushIndex(numVertices);
+        numIndices++;
         pushNewVertexImpl(vertIn, transform, rgba);
     }
 
@@ -338,6 +351,7 @@ public abstract class Region {
                     pushIndex(tv0Idx+idxOffset);
                     pushIndex(triInVertices[1].getId()+idxOffset);
                     pushIndex(triInVertices[2].getId()+idxOffset);
+                    numIndices+=3;
                     vertsTMovIdxCount+=3;
                 } else {
                     // invalid idx - generate new one
@@ -369,6 +383,71 @@ public abstract class Region {
         }
     }
 
+    /**
+     * Add the given {@link OutlineShape}s to this region, each with its optional {@link AffineTransform},
+     * while triangulating the distinct {@link OutlineShape}s concurrently using the given {@link Executor}.
+     * <p>
+     * The triangulation of each distinct {@link OutlineShape} is performed once on one of the executor's threads
+     * and cached within the {@link OutlineShape}, the current thread takes a share of the work as well.
+     * Thereafter the triangulated shapes are merged into this region's vertex- and index-buffer
+     * on the current thread in the given order, hence the result is identical to calling
+     * {@link #addOutlineShape(OutlineShape, AffineTransform, float[])} for each shape in the given order.
+     * Only the upload of the merged buffers is left to the GL thread, i.e. {@link GLRegion#draw(com.jogamp.opengl.GL2ES2, com.jogamp.graph.curve.opengl.RegionRenderer, int[]) draw(..)}.
+     * </p>
+     * <p>
+     * The given {@link OutlineShape}s must not be modified or triangulated by other threads while this method executes.
+     * </p>
+     * @param shapes the {@link OutlineShape}s to add
+     * @param transforms optional list of {@link AffineTransform}s, one for each shape, may be {@code null} or contain {@code null} elements
+     * @param rgbaColor if {@link #hasColorChannel()} RGBA color must be passed, otherwise value is ignored.
+     * @param executor {@link Executor} running the triangulation, if {@code null} the triangulation is performed on the current thread.
+     *                 Tasks rejected by the executor are performed on the current thread.
+     * @throws InterruptedRuntimeException if interrupted while waiting for the triangulation tasks, thrown after all tasks have completed
+     */
+    public final void addOutlineShapes(final List<OutlineShape> shapes, final List<AffineTransform> transforms,
+                                       final float[] rgbaColor, final Executor executor) {
+        final int shapeCount = shapes.size();
+        if( null != transforms && transforms.size() != shapeCount ) {
+            throw new IllegalArgumentException("Transform count "+transforms.size()+" != shape count "+shapeCount);
+        }
+        if( null != executor ) {
+            triangulateParallel(shapes, executor);
+        }
+        for (int i = 0; i < shapeCount; i++) {
+            addOutlineShape(shapes.get(i), null != transforms ? transforms.get(i) : null, rgbaColor);
+        }
+    }
+
+    private static void triangulate(final List<OutlineShape> shapes, final int i0, final int i1) {
+        for(int i=i0; i<i1; i++) {
+            final OutlineShape shape = shapes.get(i);
+            shape.getVertices();
+            shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+        }
+    }
+
+    /**
+     * Triangulates the distinct {@link OutlineShape}s in bands of consecutive shapes via {@link ParallelBands}.
+     * Returns after all bands have been processed.
+     */
+    private static void triangulateParallel(final List<OutlineShape> shapes, final Executor executor) {
+        final IdentityHashMap<OutlineShape, Boolean> seen = new IdentityHashMap<OutlineShape, Boolean>();
+        final ArrayList<OutlineShape> distinct = new ArrayList<OutlineShape>(shapes.size());
+        for(int i=0; i<shapes.size(); i++) {
+            final OutlineShape shape = shapes.get(i);
+            if( null == seen.put(shape, Boolean.TRUE) ) {
+                distinct.add(shape);
+            }
+        }
+        final int count = distinct.size();
+        final int bands = ParallelBands.getBandCount(executor, 0, count, 1);
+        ParallelBands.run(executor, bands, new ParallelBands.Band() {
+            @Override
+            public void run(final int band) {
+                triangulate(distinct, count * band / bands, count * (band+1) / bands);
+            } } );
+    }
+
     /** @return the AxisAligned bounding box of current region */
     public final AABBox getBounds() {
         return box;
@@ -102,6 +102,20 @@ public abstract class GLRegion extends Region {
         clearImpl();
     }
 
+    /**
+     * Returns the estimated memory size in bytes of this region's vertex and index data,
+     * i.e. 3 position and 3 curve-parameter floats per vertex, 4 color floats per vertex
+     * if {@link #hasColorChannel()} and one short per index.
+     * <p>
+     * The data is held on the client side and within the GPU buffer objects.
+     * Render target resources of two-pass {@link #VBAA_RENDERING_BIT VBAA} are not included.
+     * </p>
+     */
+    public int getEstimatedMemorySize() {
+        final int floatsPerVertex = hasColorChannel() ? 3 + 3 + 4 : 3 + 3;
+        return getVertexCount() * floatsPerVertex * 4 + getIndexCount() * 2;
+    }
+
     /**
      * Delete and clear the associated OGL objects.
      */
@@ -28,8 +28,9 @@
 package com.jogamp.graph.curve.opengl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Executor;
 
 import com.jogamp.opengl.GL2ES2;
 import com.jogamp.opengl.GLException;
@@ -78,6 +79,11 @@ public class TextRegionUtil {
      * Visit each {@link Font.Glyph}'s {@link OutlineShape} with the given {@link ShapeVisitor}
      * additionally passing the progressed {@link AffineTransform}.
      * The latter reflects the given font metric, pixelSize and hence character position.
+     * <p>
+     * The font's enabled {@link Font#setLayoutFeatures(int) layout features} are applied,
+     * i.e. {@link Font#getLigature(CharSequence, int, int) ligatures} substitute their characters
+     * and the {@link Font#getKerning(int, int, float) kerning} of each glyph pair adjusts the position.
+     * </p>
      * @param visitor
      * @param transform optional given transform
      * @param font the target {@link Font}
@@ -99,15 +105,29 @@ public class TextRegionUtil {
 
         float y = 0;
         float advanceTotal = 0;
+        int prevID = -1;
 
         for(int i=0; i< charCount; i++) {
             final char character = str.charAt(i);
             if( '\n' == character ) {
                 y -= lineHeight;
                 advanceTotal = 0;
+                prevID = -1;
             } else if (character == ' ') {
                 advanceTotal += font.getAdvanceWidth(Glyph.ID_SPACE, pixelSize);
+                prevID = -1;
             } else {
+                Font.Glyph glyph = font.getLigature(str, i, charCount);
+                if( null == glyph ) {
+                    glyph = font.getGlyph(character);
+                }
+                final int id = glyph.getID() & 0xffff;
+                if( 0 <= prevID ) {
+                    advanceTotal += font.getKerning(prevID, id, pixelSize);
+                }
+                prevID = id;
+                i += glyph.getCharCount() - 1;
+
                 if(Region.DEBUG_INSTANCE) {
                     System.err.println("XXXXXXXXXXXXXXx char: "+character+", scale: "+scale+"; translate: "+advanceTotal+", "+y);
                 }
@@ -120,7 +140,6 @@ public class TextRegionUtil {
                 temp1.translate(advanceTotal, y, temp2);
                 temp1.scale(scale, scale, temp2);
 
-                final Font.Glyph glyph = font.getGlyph(character);
                 final OutlineShape glyphShape = glyph.getShape();
                 if( null == glyphShape ) {
                     continue;
@@ -153,6 +172,38 @@ public class TextRegionUtil {
         processString(visitor, null, font, pixelSize, str, temp1, temp2);
     }
 
+    /**
+     * Add the string in 3D space w.r.t. the font and pixelSize at the end of the {@link GLRegion},
+     * triangulating the distinct glyph {@link OutlineShape}s concurrently using the given {@link Executor}.
+     * <p>
+     * The glyphs are merged into the region's buffers in string order,
+     * see {@link Region#addOutlineShapes(java.util.List, java.util.List, float[], Executor)}.
+     * The result is identical to {@link #addStringToRegion(GLRegion, Factory, Font, float, CharSequence, float[], AffineTransform, AffineTransform)}.
+     * </p>
+     * @param region the {@link GLRegion} sink
+     * @param vertexFactory vertex impl factory {@link Factory}
+     * @param font the target {@link Font}
+     * @param pixelSize Use {@link Font#getPixelSize(float, float)} for resolution correct pixel-size.
+     * @param str string text
+     * @param rgbaColor if {@link Region#hasColorChannel()} RGBA color must be passed, otherwise value is ignored.
+     * @param temp1 temporary AffineTransform storage, mandatory
+     * @param temp2 temporary AffineTransform storage, mandatory
+     * @param executor {@link Executor} running the triangulation, if {@code null} the triangulation is performed on the current thread.
+     */
+    public static void addStringToRegion(final GLRegion region, final Factory<? extends Vertex> vertexFactory,
+                                         final Font font, final float pixelSize, final CharSequence str, final float[] rgbaColor,
+                                         final AffineTransform temp1, final AffineTransform temp2, final Executor executor) {
+        final ArrayList<OutlineShape> shapes = new ArrayList<OutlineShape>(str.length());
+        final ArrayList<AffineTransform> transforms = new ArrayList<AffineTransform>(str.length());
+        final ShapeVisitor visitor = new ShapeVisitor() {
+            public final void visit(final OutlineShape shape, final AffineTransform t) {
+                shapes.add(shape);
+                transforms.add(new AffineTransform(t));
+            } };
+        processString(visitor, null, font, pixelSize, str, temp1, temp2);
+        region.addOutlineShapes(shapes, transforms, region.hasColorChannel() ? rgbaColor : null, executor);
+    }
+
     /**
      * Render the string in 3D space w.r.t. the font and pixelSize
      * using a cached {@link GLRegion} for reuse.
@@ -250,13 +301,13 @@ public class TextRegionUtil {
     */
    public void clear(final GL2ES2 gl) {
        // fluchCache(gl) already called
-       final Iterator<GLRegion> iterator = stringCacheMap.values().iterator();
+       final Iterator<CacheEntry> iterator = stringCacheMap.values().iterator();
        while(iterator.hasNext()){
-           final GLRegion region = iterator.next();
-           region.destroy(gl);
+           final CacheEntry entry = iterator.next();
+           entry.region.destroy(gl);
        }
        stringCacheMap.clear();
-       stringCacheArray.clear();
+       stringCacheMemorySize = 0;
    }
 
    /**
@@ -289,55 +340,219 @@ public class TextRegionUtil {
    /**
     * @return the current utilized cache size, <= {@link #getCacheLimit()}
     */
-   public final int getCacheSize() { return stringCacheArray.size(); }
+   public final int getCacheSize() { return stringCacheMap.size(); }
 
-   protected final void validateCache(final GL2ES2 gl, final int space) {
+   /**
+    * <p>Sets the cache memory limit in bytes, summing up the {@link GLRegion#getEstimatedMemorySize() estimated memory size}
+    * of all cached {@link GLRegion}s.
+    * Default is -1 unlimited, >0 limited </p>
+    *
+    * <p>The cache will be validate when the next string rendering happens.</p>
+    *
+    * @param newLimit new cache memory limit in bytes
+    */
+   public final void setCacheMemoryLimit(final long newLimit ) { stringCacheMemoryLimit = newLimit; }
+
+   /**
+    * Sets the cache memory limit, see {@link #setCacheMemoryLimit(long)} and validates the cache.
+    *
+    * @see #setCacheMemoryLimit(long)
+    *
+    * @param gl current GL used to remove cached objects if required
+    * @param newLimit new cache memory limit in bytes
+    */
+   public final void setCacheMemoryLimit(final GL2ES2 gl, final long newLimit ) { stringCacheMemoryLimit = newLimit; validateCache(gl, 0); }
+
+   /**
+    * @return the current cache memory limit in bytes
+    */
+   public final long getCacheMemoryLimit() { return stringCacheMemoryLimit; }
+
+   /**
+    * @return the current utilized cache memory size in bytes, i.e. the sum of all cached {@link GLRegion#getEstimatedMemorySize()}.
+    */
+   public final long getCacheMemorySize() { return stringCacheMemorySize; }
+
+   /**
+    * @return number of cache lookups, e.g. by {@link #drawString3D(GL2ES2, RegionRenderer, Font, float, CharSequence, float[], int[]) cached drawString3D(..)},
+    * reusing a cached {@link GLRegion}.
+    */
+   public final long getCacheHitCount() { return stringCacheHits; }
+
+   /**
+    * @return number of cache lookups, e.g. by {@link #drawString3D(GL2ES2, RegionRenderer, Font, float, CharSequence, float[], int[]) cached drawString3D(..)},
+    * not finding a cached {@link GLRegion}, i.e. requiring a new one.
+    */
+   public final long getCacheMissCount() { return stringCacheMisses; }
+
+   /**
+    * @return number of cached {@link GLRegion}s evicted due to the {@link #getCacheLimit() cache limit}
+    * or {@link #getCacheMemoryLimit() cache memory limit}.
+    */
+   public final long getCacheEvictionCount() { return stringCacheEvictions; }
+
+   /** Resets the {@link #getCacheHitCount() hit}, {@link #getCacheMissCount() miss} and {@link #getCacheEvictionCount() eviction} counter. */
+   public final void resetCacheStats() {
+       stringCacheHits = 0;
+       stringCacheMisses = 0;
+       stringCacheEvictions = 0;
+   }
+
+   /**
+    * Evicts the least recently used cached {@link GLRegion}s
+    * until {@code space} additional entries of {@code bytes} additional estimated memory size
+    * fit into the {@link #getCacheLimit() cache limit} and {@link #getCacheMemoryLimit() cache memory limit}.
+    */
+   protected final void validateCache(final GL2ES2 gl, final int space, final long bytes) {
        if ( getCacheLimit() > 0 ) {
-           while ( getCacheSize() + space > getCacheLimit() ) {
+           while ( getCacheSize() > 0 && getCacheSize() + space > getCacheLimit() ) {
+               removeCachedRegion(gl, 0);
+               stringCacheEvictions++;
+           }
+       }
+       if ( getCacheMemoryLimit() > 0 ) {
+           while ( getCacheSize() > 0 && getCacheMemorySize() + bytes > getCacheMemoryLimit() ) {
                removeCachedRegion(gl, 0);
+               stringCacheEvictions++;
            }
        }
    }
 
+   protected final void validateCache(final GL2ES2 gl, final int space) {
+       validateCache(gl, space, 0);
+   }
+
+   /**
+    * Returns the cached {@link GLRegion} marking it most recently used, or {@code null} if not cached,
+    * counting a {@link #getCacheHitCount() hit} or {@link #getCacheMissCount() miss}.
+    */
    protected final GLRegion getCachedRegion(final Font font, final CharSequence str, final float pixelSize, final int special) {
-       return stringCacheMap.get(getKey(font, str, pixelSize, special));
+       final CacheEntry entry = stringCacheMap.get(lookupKey.set(font, str, pixelSize, special));
+       lookupKey.clear();
+       if( null != entry ) {
+           stringCacheHits++;
+           return entry.region;
+       } else {
+           stringCacheMisses++;
+           return null;
+       }
    }
 
    protected final void addCachedRegion(final GL2ES2 gl, final Font font, final CharSequence str, final float pixelSize, final int special, final GLRegion glyphString) {
        if ( 0 != getCacheLimit() ) {
-           final String key = getKey(font, str, pixelSize, special);
-           final GLRegion oldRegion = stringCacheMap.put(key, glyphString);
-           if ( null == oldRegion ) {
-               // new entry ..
-               validateCache(gl, 1);
-               stringCacheArray.add(stringCacheArray.size(), key);
-           } /// else overwrite is nop ..
+           final CacheKey key = new CacheKey().set(font, str.toString(), pixelSize, special);
+           final CacheEntry oldEntry = stringCacheMap.remove(key);
+           if ( null != oldEntry ) {
+               stringCacheMemorySize -= oldEntry.memorySize;
+               if( oldEntry.region != glyphString ) {
+                   oldEntry.region.destroy(gl);
+               }
+           }
+           final CacheEntry entry = new CacheEntry(glyphString);
+           validateCache(gl, 1, entry.memorySize);
+           stringCacheMap.put(key, entry);
+           stringCacheMemorySize += entry.memorySize;
        }
    }
 
    protected final void removeCachedRegion(final GL2ES2 gl, final Font font, final CharSequence str, final int pixelSize, final int special) {
-       final String key = getKey(font, str, pixelSize, special);
-       final GLRegion region = stringCacheMap.remove(key);
-       if(null != region) {
-           region.destroy(gl);
+       final CacheEntry entry = stringCacheMap.remove(lookupKey.set(font, str, pixelSize, special));
+       lookupKey.clear();
+       if(null != entry) {
+           stringCacheMemorySize -= entry.memorySize;
+           entry.region.destroy(gl);
        }
-       stringCacheArray.remove(key);
    }
 
+   /**
+    * Removes the cached {@link GLRegion} at position {@code idx} in least recently used order,
+    * i.e. {@code idx} zero denotes the least recently used entry.
+    */
    protected final void removeCachedRegion(final GL2ES2 gl, final int idx) {
-       final String key = stringCacheArray.remove(idx);
-       if( null != key ) {
-           final GLRegion region = stringCacheMap.remove(key);
-           if(null != region) {
-               region.destroy(gl);
+       final Iterator<CacheEntry> iterator = stringCacheMap.values().iterator();
+       for(int i=0; i<idx && iterator.hasNext(); i++) {
+           iterator.next();
+       }
+       if( iterator.hasNext() ) {
+           final CacheEntry entry = iterator.next();
+           iterator.remove();
+           stringCacheMemorySize -= entry.memorySize;
+           entry.region.destroy(gl);
+       }
+   }
+
+   /**
+    * Cache key using the unique font name, the font's {@link Font#getLayoutFeatures() layout features},
+    * pixel size, special value and the actual character content, the latter is compared char by char.
+    */
+   private static final class CacheKey {
+       String fontName;
+       int layoutFeatures;
+       CharSequence text;
+       int pixelSizeBits;
+       int special;
+       int hash;
+
+       CacheKey set(final Font font, final CharSequence text, final float pixelSize, final int special) {
+           this.fontName = font.getName(Font.NAME_UNIQUNAME);
+           this.layoutFeatures = font.getLayoutFeatures();
+           this.text = text;
+           this.pixelSizeBits = Float.floatToIntBits(pixelSize);
+           this.special = special;
+           // 31 * x == (x << 5) - x
+           int h = 31 + fontName.hashCode();
+           h = ((h << 5) - h) + layoutFeatures;
+           h = ((h << 5) - h) + pixelSizeBits;
+           h = ((h << 5) - h) + special;
+           final int len = text.length();
+           for(int i=0; i<len; i++) {
+               h = ((h << 5) - h) + text.charAt(i);
            }
+           this.hash = h;
+           return this;
+       }
+       void clear() {
+           fontName = null;
+           text = null;
+       }
+       @Override
+       public int hashCode() { return hash; }
+
+       @Override
+       public boolean equals(final Object o) {
+           if( this == o ) {
+               return true;
+           }
+           if( !( o instanceof CacheKey ) ) {
+               return false;
+           }
+           final CacheKey other = (CacheKey)o;
+           if( hash != other.hash || layoutFeatures != other.layoutFeatures ||
+               pixelSizeBits != other.pixelSizeBits || special != other.special ||
+               !fontName.equals(other.fontName) ) {
+               return false;
+           }
+           final int len = text.length();
+           if( len != other.text.length() ) {
+               return false;
+           }
+           for(int i=0; i<len; i++) {
+               if( text.charAt(i) != other.text.charAt(i) ) {
+                   return false;
+               }
+           }
+           return true;
        }
    }
 
-   protected final String getKey(final Font font, final CharSequence str, final float pixelSize, final int special) {
-       final StringBuilder sb = new StringBuilder();
-       return font.getName(sb, Font.NAME_UNIQUNAME)
-              .append(".").append(str.hashCode()).append(".").append(Float.floatToIntBits(pixelSize)).append(special).toString();
+   private static final class CacheEntry {
+       final GLRegion region;
+       final int memorySize;
+
+       CacheEntry(final GLRegion region) {
+           this.region = region;
+           this.memorySize = region.getEstimatedMemorySize();
+       }
    }
 
    /** Default cache limit, see {@link #setCacheLimit(int)} */
@@ -345,7 +560,13 @@ public class TextRegionUtil {
 
    public final AffineTransform tempT1 = new AffineTransform();
    public final AffineTransform tempT2 = new AffineTransform();
-   private final HashMap<String, GLRegion> stringCacheMap = new HashMap<String, GLRegion>(DEFAULT_CACHE_LIMIT);
-   private final ArrayList<String> stringCacheArray = new ArrayList<String>(DEFAULT_CACHE_LIMIT);
+   /** Cached regions in least recently used order */
+   private final LinkedHashMap<CacheKey, CacheEntry> stringCacheMap = new LinkedHashMap<CacheKey, CacheEntry>(DEFAULT_CACHE_LIMIT, 0.75f, true /* accessOrder */);
+   private final CacheKey lookupKey = new CacheKey();
    private int stringCacheLimit = DEFAULT_CACHE_LIMIT;
-}
\ No newline at end of file
+   private long stringCacheMemoryLimit = -1;
+   private long stringCacheMemorySize = 0;
+   private long stringCacheHits = 0;
+   private long stringCacheMisses = 0;
+   private long stringCacheEvictions = 0;
+}
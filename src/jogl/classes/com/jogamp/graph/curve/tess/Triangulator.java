@@ -32,6 +32,7 @@ import java.util.List;
 
 import com.jogamp.graph.geom.Outline;
 import com.jogamp.graph.geom.Triangle;
+import com.jogamp.graph.geom.Vertex;
 
 /** Interface to the triangulation algorithms provided
  *  A triangulation of 2D outlines where you can
@@ -49,6 +50,28 @@ import com.jogamp.graph.geom.Triangle;
  */
 public interface Triangulator {
 
+    /**
+     * Sink receiving generated triangles directly,
+     * e.g. to fill index and vertex buffers without creating {@link Triangle} instances.
+     * <p>
+     * Vertices not being part of the added {@link Outline}s,
+     * i.e. having an {@link Vertex#getId() ID} of {@link Integer#MAX_VALUE},
+     * are owned by the {@link Triangulator} and only valid until its {@link Triangulator#reset()}.
+     * </p>
+     */
+    public interface Sink {
+        /**
+         * Adds one triangle in counter clockwise order.
+         * @param v1 vertex 1
+         * @param v2 vertex 2
+         * @param v3 vertex 3
+         * @param b1 {@code true} if vertex 1 is a boundary vertex, see {@link Triangle#getVerticesBoundary()}
+         * @param b2 {@code true} if vertex 2 is a boundary vertex
+         * @param b3 {@code true} if vertex 3 is a boundary vertex
+         */
+        public void addTriangle(Vertex v1, Vertex v2, Vertex v3, boolean b1, boolean b2, boolean b3);
+    }
+
     /**
      * Add a curve to the list of Outlines
      * describing the shape
@@ -58,12 +81,33 @@ public interface Triangulator {
      */
     public void addCurve(List<Triangle> sink, Outline outline, float sharpness);
 
+    /**
+     * Add a curve to the list of Outlines
+     * describing the shape, passing generated triangles to the given {@link Sink}.
+     * <p>
+     * Internal graph data is reused after {@link #reset()}, hence repeated triangulations
+     * using the same instance and a {@link Sink} cause little garbage.
+     * </p>
+     * @param sink receiving the generated triangles
+     * @param outline a bounding {@link Outline}
+     * @param sharpness the curve sharpness, stored into the texture coordinate of the off-curve vertices
+     *                  of the generated boundary triangles, see {@link com.jogamp.graph.curve.OutlineShape#getSharpness()}
+     */
+    public void addCurve(Sink sink, Outline outline, float sharpness);
+
     /** Generate the triangulation of the provided
      *  List of {@link Outline}s
      * @param sink list where the generated triangles will be added
      */
     public void generate(List<Triangle> sink);
 
+    /** Generate the triangulation of the provided
+     *  List of {@link Outline}s
+     * @param sink receiving the generated triangles
+     * @see #addCurve(Sink, Outline, float)
+     */
+    public void generate(Sink sink);
+
     /**
      * Reset the triangulation to initial state
      * Clearing cached data
@@ -27,6 +27,10 @@
  */
 package com.jogamp.graph.font;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
 import jogamp.graph.geom.plane.AffineTransform;
 
 import com.jogamp.graph.curve.OutlineShape;
@@ -70,6 +74,18 @@ public interface Font {
     public static final int NAME_MANUFACTURER = 8;
     public static final int NAME_DESIGNER = 9;
 
+    /** Default {@link #setGlyphCacheLimit(int) glyph cache limit} */
+    public static final int DEFAULT_GLYPH_CACHE_LIMIT = 4096;
+
+    /** Default {@link #setMeasuredRunCacheLimit(int) measured run cache limit} */
+    public static final int DEFAULT_MEASURED_RUN_CACHE_LIMIT = 256;
+
+    /** {@link #setLayoutFeatures(int) Layout feature} applying pairwise kerning, see {@link #getKerning(int, int, float)}. */
+    public static final int LAYOUT_KERNING = 1 << 0;
+
+    /** {@link #setLayoutFeatures(int) Layout feature} applying standard ligatures, see {@link #getLigature(CharSequence, int, int)}. */
+    public static final int LAYOUT_LIGATURES = 1 << 1;
+
 
     /**
      * Metrics for font
@@ -133,10 +149,47 @@ public interface Font {
          * @return
          */
         public float getAdvance(final float pixelSize, boolean useFrationalMetrics);
+        /**
+         * Returns the number of characters represented by this glyph,
+         * i.e. greater than one for a {@link Font#getLigature(CharSequence, int, int) ligature}, otherwise one.
+         */
+        public int getCharCount();
         public OutlineShape getShape();
         public int hashCode();
     }
 
+    /**
+     * Measured layout metrics of a text run at a given pixel size,
+     * see {@link Font#getMeasuredRun(CharSequence, float)}.
+     * <p>
+     * Instances are immutable and shared via the font's measured run cache,
+     * hence the returned advances array shall not be modified.
+     * </p>
+     */
+    public interface MeasuredRun {
+        public Font getFont();
+        public String getText();
+        public float getPixelSize();
+        /** Same as {@link Font#getMetricWidth(CharSequence, float)} */
+        public float getMetricWidth();
+        /** Same as {@link Font#getMetricHeight(CharSequence, float, AABBox)} */
+        public float getMetricHeight();
+        /**
+         * Same as {@link Font#getMetricBounds(CharSequence, float)}
+         * @param dest AABBox instance set to this run's layout boundary
+         * @return the given and set AABBox 'dest'
+         */
+        public AABBox getMetricBounds(final AABBox dest);
+        /**
+         * Returns the fractional advance of each character of {@link #getText()},
+         * a new-line character has a zero advance.
+         * <p>
+         * The returned array is shared and shall not be modified.
+         * </p>
+         */
+        public float[] getAdvances();
+    }
+
 
     public String getName(final int nameIndex);
     public StringBuilder getName(final StringBuilder string, final int nameIndex);
@@ -172,15 +225,190 @@ public interface Font {
      */
     public float getAdvanceWidth(final int glyphID, final float pixelSize);
     public Metrics getMetrics();
+
+    /**
+     * Returns the glyph ID of the given Unicode codepoint,
+     * or {@link Glyph#ID_UNKNOWN} if the codepoint is not mapped by this font.
+     * <p>
+     * Supplementary plane codepoints are supported.
+     * The lookup is a constant time table access and allocation free.
+     * This method is thread safe.
+     * </p>
+     * @param codepoint the Unicode codepoint
+     */
+    public int getGlyphID(final int codepoint);
+
+    /**
+     * Returns the {@link Glyph} of the given symbol.
+     * <p>
+     * Glyphs are cached up to the {@link #getGlyphCacheLimit() glyph cache limit}.
+     * This method is thread safe.
+     * </p>
+     */
     public Glyph getGlyph(final char symbol);
     public int getNumGlyphs();
 
+    /**
+     * Sets the enabled layout features, i.e. a bitfield of {@link #LAYOUT_KERNING} and {@link #LAYOUT_LIGATURES},
+     * applied by this font's text metrics and the text layout of {@link com.jogamp.graph.curve.opengl.TextRegionUtil}.
+     * <p>
+     * The font's kern and GSUB tables are compiled once when a feature is enabled the first time.
+     * Layout features are disabled by default.
+     * </p>
+     * <p>
+     * Regions cached by {@link com.jogamp.graph.curve.opengl.TextRegionUtil} are keyed by the enabled layout features,
+     * hence toggling them never reuses a string laid out with different features.
+     * </p>
+     */
+    public void setLayoutFeatures(final int features);
+
+    /** Returns the enabled layout features, see {@link #setLayoutFeatures(int)}. */
+    public int getLayoutFeatures();
+
+    /**
+     * Returns the horizontal kerning adjustment between the given glyph pair, to be added to the left glyph's advance,
+     * or zero if no kerning applies or {@link #LAYOUT_KERNING} is disabled.
+     * <p>
+     * This method is thread safe and allocation free.
+     * </p>
+     * @param leftGlyphID the left glyph ID
+     * @param rightGlyphID the right glyph ID
+     * @param pixelSize Use <code>pointSize * resolution</code> for resolution correct pixel-size, see {@link #getPixelSize(float, float)}
+     */
+    public float getKerning(final int leftGlyphID, final int rightGlyphID, final float pixelSize);
+
+    /**
+     * Returns the ligature {@link Glyph} substituting the characters of the given text starting at {@code start},
+     * or {@code null} if no ligature applies or {@link #LAYOUT_LIGATURES} is disabled.
+     * <p>
+     * The number of substituted characters is {@link Glyph#getCharCount()}.
+     * Ligature glyphs are cached, hence this method is thread safe and allocation free
+     * once the glyph is cached.
+     * </p>
+     * @param text the text
+     * @param start index of the ligature's first character
+     * @param end index after the last character, which may be part of a ligature
+     */
+    public Glyph getLigature(final CharSequence text, final int start, final int end);
+
+    /**
+     * Sets the maximum number of cached {@link Glyph}s, a value &le; 0 denotes unlimited, &gt; 0 limited.
+     * <p>
+     * If exceeded, glyphs are evicted in second-chance (CLOCK) order:
+     * cached glyphs are visited in insertion order, a glyph referenced since its last visit
+     * is spared once and re-queued, while an unreferenced glyph is evicted.
+     * </p>
+     */
+    public void setGlyphCacheLimit(final int limit);
+
+    /** Returns the maximum number of cached {@link Glyph}s, see {@link #setGlyphCacheLimit(int)}. */
+    public int getGlyphCacheLimit();
+
+    /** Returns the number of cached {@link Glyph}s. */
+    public int getGlyphCacheSize();
+
+    /**
+     * Builds and caches the {@link Glyph}s of all given symbols, i.e. their {@link Glyph#getShape() shape} and metrics,
+     * so that a subsequent {@link #getGlyph(char)} does not stall the rendering thread.
+     * <p>
+     * If an {@link Executor} is given, the symbols are split into chunks
+     * built concurrently via tasks issued to the executor and this method returns immediately.
+     * Otherwise the glyphs are built on the current thread.
+     * </p>
+     * @param symbols the symbols to build
+     * @param executor optional {@link Executor}, may be {@code null}
+     */
+    public void prewarm(final CharSequence symbols, final Executor executor);
+
+    /**
+     * Builds and caches the {@link Glyph}s of all symbols within the given range,
+     * see {@link #prewarm(CharSequence, Executor)}.
+     * @param first first symbol of the range
+     * @param last last symbol of the range, inclusive
+     * @param executor optional {@link Executor}, may be {@code null}
+     */
+    public void prewarm(final char first, final char last, final Executor executor);
+
+    /**
+     * Loads the persisted {@link Glyph} shapes of this font including their triangulation
+     * from the given file as written via {@link #storeShapeCache(File)}.
+     * <p>
+     * The newest generation of the file, see {@link #storeShapeCache(File)}, is memory mapped
+     * and its entries are decoded on demand while building a {@link Glyph},
+     * skipping font outline decoding and triangulation of persisted glyphs.
+     * The file is ignored if it doesn't match this font's identity, i.e. its unique name and checksum,
+     * e.g. after a font update.
+     * </p>
+     * @param file the shape cache file
+     * @return true if the shape cache has been loaded, false if the file doesn't exist or doesn't match this font
+     * @throws IOException if the file is corrupt or cannot be read
+     */
+    public boolean loadShapeCache(final File file) throws IOException;
+
+    /**
+     * Persists the shapes of all cached {@link Glyph}s including their triangulation to the given file,
+     * to be loaded via {@link #loadShapeCache(File)} at a later process start.
+     * <p>
+     * Glyph shapes are triangulated if required, hence they shall not be used concurrently by other threads.
+     * Entries of a previously {@link #loadShapeCache(File) loaded} shape cache are retained.
+     * </p>
+     * <p>
+     * Each call writes a new generation file <code>file.generation</code> next to the given file,
+     * since a loaded shape cache stays memory mapped and cannot be replaced on platforms like Windows.
+     * Older generations are deleted once no longer mapped, hence the same file can be used
+     * for {@link #loadShapeCache(File)} at startup and {@link #storeShapeCache(File)} thereafter.
+     * </p>
+     * @param file the shape cache file
+     * @throws IOException if the file cannot be written
+     */
+    public void storeShapeCache(final File file) throws IOException;
+
     /**
      *
      * @param pixelSize Use <code>pointSize * resolution</code> for resolution correct pixel-size, see {@link #getPixelSize(float, float)}
      * @return
      */
     public float getLineHeight(final float pixelSize);
+
+    /**
+     * Returns the {@link MeasuredRun} of the given text, i.e. its width, bounds and per character advances.
+     * <p>
+     * Measured runs are cached per font keyed by pixel size and text
+     * up to the {@link #getMeasuredRunCacheLimit() measured run cache limit},
+     * hence repeated measurements of the same text are cheap.
+     * This method is thread safe.
+     * </p>
+     * @param string text to measure
+     * @param pixelSize Use <code>pointSize * resolution</code> for resolution correct pixel-size, see {@link #getPixelSize(float, float)}
+     */
+    public MeasuredRun getMeasuredRun(final CharSequence string, final float pixelSize);
+
+    /**
+     * Sets the maximum number of cached {@link MeasuredRun}s, -1 unlimited, 0 disabled, >0 limited.
+     * <p>
+     * If exceeded, least recently used runs are evicted from the cache.
+     * </p>
+     */
+    public void setMeasuredRunCacheLimit(final int limit);
+
+    /** Returns the maximum number of cached {@link MeasuredRun}s, see {@link #setMeasuredRunCacheLimit(int)}. */
+    public int getMeasuredRunCacheLimit();
+
+    /**
+     * Stores the advance of each character of the given text into the caller provided array,
+     * a new-line character has a zero advance.
+     * <p>
+     * This method does not allocate memory, given the {@link Glyph}s are cached.
+     * </p>
+     * @param string text to measure
+     * @param pixelSize Use <code>pointSize * resolution</code> for resolution correct pixel-size, see {@link #getPixelSize(float, float)}
+     * @param useFrationalMetrics
+     * @param advances destination array, receiving <code>string.length()</code> advances
+     * @param advancesOffset offset within the destination array
+     * @return the total advance of the last line
+     */
+    public float getAdvances(final CharSequence string, final float pixelSize, final boolean useFrationalMetrics,
+                             final float[] advances, final int advancesOffset);
     /**
      *
      * @param string
@@ -101,6 +101,23 @@ public class FontFactory {
         return fontConstr.create(file);
     }
 
+    /**
+     * Creates a Font instance.
+     * <p>
+     * If {@code memoryMapped} is {@code true}, the font file is memory mapped
+     * and only its table directory and header tables are parsed at creation.
+     * All other tables are parsed on first access and glyph outlines are decoded per used glyph,
+     * allowing to open large fonts and font collections quickly with little heap usage.
+     * </p>
+     * @param file font file
+     * @param memoryMapped {@code true} to memory map the font file and parse it lazily
+     * @return the new Font instance
+     * @throws IOException
+     */
+    public static final Font get(final File file, final boolean memoryMapped) throws IOException {
+        return fontConstr.create(file, memoryMapped);
+    }
+
     /**
      * Creates a Font instance based on a determinated font stream with its given length
      * of the font segment.
@@ -0,0 +1,147 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.glu;
+
+/**
+ * Batch polygon tessellator producing an indexed triangle list
+ * from packed coordinates, without any per-vertex callbacks.
+ * <p>
+ * Each call to {@link #tessellate(double[], int, int, int[], int) tessellate(..)}
+ * processes one polygon made of one or more contours.
+ * All contour vertices are read from a single packed coordinate array,
+ * where contour <code>i</code> spans the vertices
+ * <code>[contourStarts[i] .. contourStarts[i+1])</code>
+ * and the last contour ends at <code>vertexCount</code>.
+ * </p>
+ * <p>
+ * The result is a list of triangles, three vertex indices each, see {@link #getIndices()}.
+ * Indices below <code>vertexCount</code> refer to the input vertices,
+ * indices at or above refer to vertices generated at edge intersections,
+ * see {@link #getCombinedCoords()}.
+ * </p>
+ * <p>
+ * The mesh, sweep-line and priority queue storage is kept and reused by the next call,
+ * as are the result arrays. Hence an instance performs no allocations
+ * once it has seen a polygon of the same complexity.
+ * </p>
+ * <p>
+ * Instances are not thread safe, however independent instances do not share any state.
+ * For parallel tessellation use one instance per thread.
+ * </p>
+ *
+ * @see GLU#gluNewTessBatch()
+ */
+public interface GLUtessellatorBatch {
+    /**
+     * Sets the winding rule determining the polygon interior,
+     * one of {@link GLU#GLU_TESS_WINDING_ODD} (default), {@link GLU#GLU_TESS_WINDING_NONZERO},
+     * {@link GLU#GLU_TESS_WINDING_POSITIVE}, {@link GLU#GLU_TESS_WINDING_NEGATIVE}
+     * or {@link GLU#GLU_TESS_WINDING_ABS_GEQ_TWO}.
+     * @throws IllegalArgumentException for any other value
+     */
+    void setWindingRule(int rule);
+
+    /** Returns the winding rule, see {@link #setWindingRule(int)}. */
+    int getWindingRule();
+
+    /**
+     * Sets the polygon normal as with {@link GLU#gluTessNormal(GLUtessellator, double, double, double)}.
+     * <p>
+     * If the normal is zero (default), it is computed from 3-component input,
+     * while 2-component input uses <code>(0, 0, 1)</code>, i.e. triangles are emitted counter-clockwise in the x/y plane.
+     * </p>
+     */
+    void setNormal(double x, double y, double z);
+
+    /**
+     * Tessellates one polygon.
+     *
+     * @param coords packed vertex coordinates
+     * @param components number of coordinates per vertex, 2 or 3
+     * @param vertexCount number of vertices in <code>coords</code>
+     * @param contourStarts index of the first vertex of each contour, ascending
+     * @param contourCount number of contours
+     * @return the number of triangles, i.e. <code>{@link #getIndexCount()} / 3</code>
+     * @throws IllegalArgumentException if the contour layout exceeds the given arrays
+     * @throws com.jogamp.opengl.GLException if the tessellation failed
+     */
+    int tessellate(double[] coords, int components, int vertexCount, int[] contourStarts, int contourCount);
+
+    /**
+     * Tessellates one polygon given in single precision,
+     * see {@link #tessellate(double[], int, int, int[], int)}.
+     */
+    int tessellate(float[] coords, int components, int vertexCount, int[] contourStarts, int contourCount);
+
+    /**
+     * Returns the triangle vertex indices of the last tessellation,
+     * valid up to {@link #getIndexCount()}.
+     * <p>
+     * The array is reused by the next call and may be larger than required.
+     * </p>
+     */
+    int[] getIndices();
+
+    /** Returns the number of valid {@link #getIndices() indices} of the last tessellation. */
+    int getIndexCount();
+
+    /**
+     * Returns the number of vertices generated at edge intersections by the last tessellation.
+     * Combined vertex <code>k</code> is referenced by index <code>vertexCount + k</code>.
+     */
+    int getCombinedVertexCount();
+
+    /**
+     * Returns the packed x/y/z coordinates of the {@link #getCombinedVertexCount() combined vertices},
+     * three per vertex regardless of the input components.
+     * <p>
+     * The array is reused by the next call and may be larger than required.
+     * </p>
+     */
+    double[] getCombinedCoords();
+
+    /**
+     * Returns the four source vertex indices of each {@link #getCombinedVertexCount() combined vertex},
+     * which may refer to input vertices or earlier combined vertices.
+     * Together with {@link #getCombinedWeights()} they allow interpolating further vertex attributes,
+     * as the <code>combine</code> callback does for {@link GLUtessellator}.
+     * <p>
+     * The array is reused by the next call and may be larger than required.
+     * </p>
+     */
+    int[] getCombinedSources();
+
+    /**
+     * Returns the four weights of each {@link #getCombinedVertexCount() combined vertex}
+     * matching {@link #getCombinedSources()}.
+     * <p>
+     * The array is reused by the next call and may be larger than required.
+     * </p>
+     */
+    float[] getCombinedWeights();
+}
@@ -1843,6 +1843,208 @@ public final class FloatUtil {
     }
   }
 
+  /**
+   * Batched {@link #multMatrixVec(float[], int, float[], int, float[], int) multMatrixVec(..)}
+   * of {@code count} 4-component column-vectors, i.e.
+   * <pre>
+   *    dst[i] = m_in * src[i]
+   * </pre>
+   * <p>
+   * The matrix is loaded once and the loop body is free of calls and aliasing hazards,
+   * allowing the JIT to keep the matrix in registers and to unroll resp. vectorize the loop.
+   * In place operation is allowed, i.e. {@code src == dst} with same offset and stride.
+   * </p>
+   * @param m_in 4x4 matrix in column-major order
+   * @param m_in_off offset to matrix
+   * @param src source vectors
+   * @param src_off offset to the first source vector
+   * @param src_stride number of floats between two source vectors, at least 4
+   * @param dst destination vectors
+   * @param dst_off offset to the first destination vector
+   * @param dst_stride number of floats between two destination vectors, at least 4
+   * @param count number of vectors
+   */
+  public static void multMatrixVec4(final float[] m_in, final int m_in_off,
+                                    final float[] src, final int src_off, final int src_stride,
+                                    final float[] dst, final int dst_off, final int dst_stride, final int count) {
+      final float m00 = m_in[m_in_off+0+0*4], m10 = m_in[m_in_off+1+0*4], m20 = m_in[m_in_off+2+0*4], m30 = m_in[m_in_off+3+0*4];
+      final float m01 = m_in[m_in_off+0+1*4], m11 = m_in[m_in_off+1+1*4], m21 = m_in[m_in_off+2+1*4], m31 = m_in[m_in_off+3+1*4];
+      final float m02 = m_in[m_in_off+0+2*4], m12 = m_in[m_in_off+1+2*4], m22 = m_in[m_in_off+2+2*4], m32 = m_in[m_in_off+3+2*4];
+      final float m03 = m_in[m_in_off+0+3*4], m13 = m_in[m_in_off+1+3*4], m23 = m_in[m_in_off+2+3*4], m33 = m_in[m_in_off+3+3*4];
+      int s = src_off, d = dst_off;
+      for(int i=0; i<count; i++, s+=src_stride, d+=dst_stride) {
+          final float x = src[s], y = src[s+1], z = src[s+2], w = src[s+3];
+          dst[d  ] = m00 * x + m01 * y + m02 * z + m03 * w;
+          dst[d+1] = m10 * x + m11 * y + m12 * z + m13 * w;
+          dst[d+2] = m20 * x + m21 * y + m22 * z + m23 * w;
+          dst[d+3] = m30 * x + m31 * y + m32 * z + m33 * w;
+      }
+  }
+
+  /**
+   * Batched transformation of {@code count} 3-component points, i.e. column-vectors with an implied {@code w = 1}:
+   * <pre>
+   *    dst[i] = ( m_in * ( src[i], 1 ) ).xyz
+   * </pre>
+   * <p>
+   * No perspective division is performed, hence the matrix is expected to be affine, e.g. a modelview matrix.
+   * In place operation is allowed, i.e. {@code src == dst} with same offset and stride.
+   * </p>
+   * @param m_in 4x4 matrix in column-major order
+   * @param m_in_off offset to matrix
+   * @param src source points
+   * @param src_off offset to the first source point
+   * @param src_stride number of floats between two source points, at least 3
+   * @param dst destination points
+   * @param dst_off offset to the first destination point
+   * @param dst_stride number of floats between two destination points, at least 3
+   * @param count number of points
+   * @see #multMatrixVec4(float[], int, float[], int, int, float[], int, int, int)
+   */
+  public static void multMatrixVec3(final float[] m_in, final int m_in_off,
+                                    final float[] src, final int src_off, final int src_stride,
+                                    final float[] dst, final int dst_off, final int dst_stride, final int count) {
+      final float m00 = m_in[m_in_off+0+0*4], m10 = m_in[m_in_off+1+0*4], m20 = m_in[m_in_off+2+0*4];
+      final float m01 = m_in[m_in_off+0+1*4], m11 = m_in[m_in_off+1+1*4], m21 = m_in[m_in_off+2+1*4];
+      final float m02 = m_in[m_in_off+0+2*4], m12 = m_in[m_in_off+1+2*4], m22 = m_in[m_in_off+2+2*4];
+      final float m03 = m_in[m_in_off+0+3*4], m13 = m_in[m_in_off+1+3*4], m23 = m_in[m_in_off+2+3*4];
+      int s = src_off, d = dst_off;
+      for(int i=0; i<count; i++, s+=src_stride, d+=dst_stride) {
+          final float x = src[s], y = src[s+1], z = src[s+2];
+          dst[d  ] = m00 * x + m01 * y + m02 * z + m03;
+          dst[d+1] = m10 * x + m11 * y + m12 * z + m13;
+          dst[d+2] = m20 * x + m21 * y + m22 * z + m23;
+      }
+  }
+
+  /**
+   * Batched {@link #multMatrixVec4(float[], int, float[], int, int, float[], int, int, int) multMatrixVec4(..)}
+   * over {@link FloatBuffer}s using absolute indices, i.e. the buffer positions are neither used nor modified.
+   * @param m_in 4x4 matrix in column-major order
+   * @param m_in_off offset to matrix
+   * @param src source vectors
+   * @param src_off absolute index of the first source vector
+   * @param src_stride number of floats between two source vectors, at least 4
+   * @param dst destination vectors
+   * @param dst_off absolute index of the first destination vector
+   * @param dst_stride number of floats between two destination vectors, at least 4
+   * @param count number of vectors
+   */
+  public static void multMatrixVec4(final float[] m_in, final int m_in_off,
+                                    final FloatBuffer src, final int src_off, final int src_stride,
+                                    final FloatBuffer dst, final int dst_off, final int dst_stride, final int count) {
+      if( src.hasArray() && dst.hasArray() && !dst.isReadOnly() ) {
+          multMatrixVec4(m_in, m_in_off, src.array(), src.arrayOffset()+src_off, src_stride,
+                                         dst.array(), dst.arrayOffset()+dst_off, dst_stride, count);
+          return;
+      }
+      final float m00 = m_in[m_in_off+0+0*4], m10 = m_in[m_in_off+1+0*4], m20 = m_in[m_in_off+2+0*4], m30 = m_in[m_in_off+3+0*4];
+      final float m01 = m_in[m_in_off+0+1*4], m11 = m_in[m_in_off+1+1*4], m21 = m_in[m_in_off+2+1*4], m31 = m_in[m_in_off+3+1*4];
+      final float m02 = m_in[m_in_off+0+2*4], m12 = m_in[m_in_off+1+2*4], m22 = m_in[m_in_off+2+2*4], m32 = m_in[m_in_off+3+2*4];
+      final float m03 = m_in[m_in_off+0+3*4], m13 = m_in[m_in_off+1+3*4], m23 = m_in[m_in_off+2+3*4], m33 = m_in[m_in_off+3+3*4];
+      int s = src_off, d = dst_off;
+      for(int i=0; i<count; i++, s+=src_stride, d+=dst_stride) {
+          final float x = src.get(s), y = src.get(s+1), z = src.get(s+2), w = src.get(s+3);
+          dst.put(d  , m00 * x + m01 * y + m02 * z + m03 * w);
+          dst.put(d+1, m10 * x + m11 * y + m12 * z + m13 * w);
+          dst.put(d+2, m20 * x + m21 * y + m22 * z + m23 * w);
+          dst.put(d+3, m30 * x + m31 * y + m32 * z + m33 * w);
+      }
+  }
+
+  /**
+   * Batched {@link #multMatrixVec3(float[], int, float[], int, int, float[], int, int, int) multMatrixVec3(..)}
+   * over {@link FloatBuffer}s using absolute indices, i.e. the buffer positions are neither used nor modified.
+   * @param m_in 4x4 matrix in column-major order
+   * @param m_in_off offset to matrix
+   * @param src source points
+   * @param src_off absolute index of the first source point
+   * @param src_stride number of floats between two source points, at least 3
+   * @param dst destination points
+   * @param dst_off absolute index of the first destination point
+   * @param dst_stride number of floats between two destination points, at least 3
+   * @param count number of points
+   */
+  public static void multMatrixVec3(final float[] m_in, final int m_in_off,
+                                    final FloatBuffer src, final int src_off, final int src_stride,
+                                    final FloatBuffer dst, final int dst_off, final int dst_stride, final int count) {
+      if( src.hasArray() && dst.hasArray() && !dst.isReadOnly() ) {
+          multMatrixVec3(m_in, m_in_off, src.array(), src.arrayOffset()+src_off, src_stride,
+                                         dst.array(), dst.arrayOffset()+dst_off, dst_stride, count);
+          return;
+      }
+      final float m00 = m_in[m_in_off+0+0*4], m10 = m_in[m_in_off+1+0*4], m20 = m_in[m_in_off+2+0*4];
+      final float m01 = m_in[m_in_off+0+1*4], m11 = m_in[m_in_off+1+1*4], m21 = m_in[m_in_off+2+1*4];
+      final float m02 = m_in[m_in_off+0+2*4], m12 = m_in[m_in_off+1+2*4], m22 = m_in[m_in_off+2+2*4];
+      final float m03 = m_in[m_in_off+0+3*4], m13 = m_in[m_in_off+1+3*4], m23 = m_in[m_in_off+2+3*4];
+      int s = src_off, d = dst_off;
+      for(int i=0; i<count; i++, s+=src_stride, d+=dst_stride) {
+          final float x = src.get(s), y = src.get(s+1), z = src.get(s+2);
+          dst.put(d  , m00 * x + m01 * y + m02 * z + m03);
+          dst.put(d+1, m10 * x + m11 * y + m12 * z + m13);
+          dst.put(d+2, m20 * x + m21 * y + m22 * z + m23);
+      }
+  }
+
+  /**
+   * Batched {@link #multMatrix(float[], int, float[], int, float[], int) multMatrix(..)}
+   * of one matrix with {@code count} consecutive matrices, i.e.
+   * <pre>
+   *    [d<sub>i</sub>] = [a] x [b<sub>i</sub>]
+   * </pre>
+   * e.g. concatenating a parent transform with all child transforms.
+   * <p>
+   * Matrix {@code a} is loaded once, each {@code b<sub>i</sub>} is read completely before {@code d<sub>i</sub>} is written,
+   * hence in place operation is allowed, i.e. {@code b == d} with same offset.
+   * </p>
+   * @param a 4x4 matrix in column-major order
+   * @param a_off offset to matrix a
+   * @param b {@code count} consecutive 4x4 matrices in column-major order
+   * @param b_off offset to the first matrix b
+   * @param d result storage for {@code count} consecutive 4x4 matrices in column-major order, must not overlap {@code a}
+   * @param d_off offset to the first result matrix
+   * @param count number of matrices
+   */
+  public static void multMatrix(final float[] a, final int a_off, final float[] b, final int b_off,
+                                final float[] d, final int d_off, final int count) {
+      final float a00 = a[a_off+0+0*4], a10 = a[a_off+1+0*4], a20 = a[a_off+2+0*4], a30 = a[a_off+3+0*4];
+      final float a01 = a[a_off+0+1*4], a11 = a[a_off+1+1*4], a21 = a[a_off+2+1*4], a31 = a[a_off+3+1*4];
+      final float a02 = a[a_off+0+2*4], a12 = a[a_off+1+2*4], a22 = a[a_off+2+2*4], a32 = a[a_off+3+2*4];
+      final float a03 = a[a_off+0+3*4], a13 = a[a_off+1+3*4], a23 = a[a_off+2+3*4], a33 = a[a_off+3+3*4];
+      int bo = b_off, dof = d_off;
+      for(int i=0; i<count; i++, bo+=16, dof+=16) {
+          // each column of d = a * same column of b
+          {
+              final float x = b[bo+0+0*4], y = b[bo+1+0*4], z = b[bo+2+0*4], w = b[bo+3+0*4];
+              d[dof+0+0*4] = a00 * x + a01 * y + a02 * z + a03 * w;
+              d[dof+1+0*4] = a10 * x + a11 * y + a12 * z + a13 * w;
+              d[dof+2+0*4] = a20 * x + a21 * y + a22 * z + a23 * w;
+              d[dof+3+0*4] = a30 * x + a31 * y + a32 * z + a33 * w;
+          }
+          {
+              final float x = b[bo+0+1*4], y = b[bo+1+1*4], z = b[bo+2+1*4], w = b[bo+3+1*4];
+              d[dof+0+1*4] = a00 * x + a01 * y + a02 * z + a03 * w;
+              d[dof+1+1*4] = a10 * x + a11 * y + a12 * z + a13 * w;
+              d[dof+2+1*4] = a20 * x + a21 * y + a22 * z + a23 * w;
+              d[dof+3+1*4] = a30 * x + a31 * y + a32 * z + a33 * w;
+          }
+          {
+              final float x = b[bo+0+2*4], y = b[bo+1+2*4], z = b[bo+2+2*4], w = b[bo+3+2*4];
+              d[dof+0+2*4] = a00 * x + a01 * y + a02 * z + a03 * w;
+              d[dof+1+2*4] = a10 * x + a11 * y + a12 * z + a13 * w;
+              d[dof+2+2*4] = a20 * x + a21 * y + a22 * z + a23 * w;
+              d[dof+3+2*4] = a30 * x + a31 * y + a32 * z + a33 * w;
+          }
+          {
+              final float x = b[bo+0+3*4], y = b[bo+1+3*4], z = b[bo+2+3*4], w = b[bo+3+3*4];
+              d[dof+0+3*4] = a00 * x + a01 * y + a02 * z + a03 * w;
+              d[dof+1+3*4] = a10 * x + a11 * y + a12 * z + a13 * w;
+              d[dof+2+3*4] = a20 * x + a21 * y + a22 * z + a23 * w;
+              d[dof+3+3*4] = a30 * x + a31 * y + a32 * z + a33 * w;
+          }
+      }
+  }
+
   /**
    * Copy the named column of the given column-major matrix to v_out.
    * <p>
@@ -27,9 +27,15 @@
  */
 package com.jogamp.opengl.math.geom;
 
+import java.nio.FloatBuffer;
+import java.util.BitSet;
+import java.util.concurrent.Executor;
+
 import jogamp.common.os.PlatformPropsImpl;
+import jogamp.nativewindow.ParallelBands;
 
 import com.jogamp.common.os.Platform;
+import com.jogamp.common.util.InterruptedRuntimeException;
 import com.jogamp.opengl.math.FloatUtil;
 import com.jogamp.opengl.math.FovHVHalves;
 
@@ -46,6 +52,11 @@ import com.jogamp.opengl.math.FovHVHalves;
  *   <li> {@link #isSphereOutside(float[], float) sphere} </li>
  *   <li> {@link #isAABBoxOutside(AABBox) bounding-box} </li>
  * </ul>
+ * or to cull many objects at once given as packed structure-of-arrays
+ * <ul>
+ *   <li> {@link #cullAABBoxes(float[], float[], float[], float[], float[], float[], int, int, BitSet, int[]) bounding-boxes} </li>
+ *   <li> {@link #cullSpheres(float[], float[], float[], float[], int, int, BitSet, int[]) spheres} </li>
+ * </ul>
  *
  * <p>
  * Extracting the world-frustum planes from the P*Mv:
@@ -369,6 +380,248 @@ public class Frustum {
     }
 
 
+    /** Minimum number of boxes per band of {@link #cullAABBoxes(float[], float[], float[], float[], float[], float[], int, int, int[], int[], Executor)}. */
+    private static final int MIN_CULL_BAND_SIZE = 4096;
+
+    /** Returns a packed copy of the planes, i.e. 6 times { n[0], n[1], n[2], d }. */
+    private float[] packPlanes() {
+        final float[] pl = new float[6*4];
+        for (int i = 0; i < 6; ++i) {
+            final Plane p = planes[i];
+            pl[i*4+0] = p.n[0];
+            pl[i*4+1] = p.n[1];
+            pl[i*4+2] = p.n[2];
+            pl[i*4+3] = p.d;
+        }
+        return pl;
+    }
+
+    /**
+     * Returns the index of the first plane the given box is completely outside of, starting with the {@code hint} plane,
+     * or -1 if the box is not completely outside of any plane.
+     * <p>
+     * Only the box corner farthest along the plane normal (p-vertex) is tested,
+     * which is equivalent to testing all eight corners as {@link #isAABBoxOutside(AABBox)} does.
+     * </p>
+     */
+    private static int cullPlane(final float[] pl, final int hint,
+                                 final float x0, final float y0, final float z0,
+                                 final float x1, final float y1, final float z1) {
+        for (int k = 0, i = hint; k < 6; ++k, i = 5 > i ? i + 1 : 0) {
+            final float nx = pl[i*4+0], ny = pl[i*4+1], nz = pl[i*4+2];
+            final float dist = nx * ( nx > 0f ? x1 : x0 ) + ny * ( ny > 0f ? y1 : y0 ) + nz * ( nz > 0f ? z1 : z0 ) + pl[i*4+3];
+            if ( dist <= 0.0f ) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Returns a valid plane hint of the given optional hints array. */
+    private static int getPlaneHint(final int[] planeHints, final int j) {
+        if( null != planeHints ) {
+            final int h = planeHints[j];
+            if( 0 <= h && h < 6 ) {
+                return h;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Culls {@code count} axis aligned bounding boxes given as packed structure-of-arrays,
+     * i.e. box {@code j} is [{@code minX[j]}, {@code minY[j]}, {@code minZ[j]}] - [{@code maxX[j]}, {@code maxY[j]}, {@code maxZ[j]}].
+     * <p>
+     * Boxes {@code j} within [{@code off} .. {@code off+count}) not completely outside of the frustum,
+     * see {@link #isAABBoxOutside(AABBox)}, have their bit {@code j} set in {@code visible}, all others are cleared.
+     * </p>
+     * <p>
+     * If {@code planeHints} is given, {@code planeHints[j]} shall hold the index of the plane which culled box {@code j}
+     * in a previous call, or -1. This plane is tested first, exploiting temporal coherency of the view,
+     * and the array is updated with the culling plane or -1 if the box is visible.
+     * </p>
+     * @param minX minimum x-coordinate of each box
+     * @param minY minimum y-coordinate of each box
+     * @param minZ minimum z-coordinate of each box
+     * @param maxX maximum x-coordinate of each box
+     * @param maxY maximum y-coordinate of each box
+     * @param maxZ maximum z-coordinate of each box
+     * @param off index of the first box
+     * @param count number of boxes
+     * @param visible receiving the visibility of each box
+     * @param planeHints optional plane coherency hints, may be {@code null}
+     * @return number of visible boxes
+     */
+    public final int cullAABBoxes(final float[] minX, final float[] minY, final float[] minZ,
+                                  final float[] maxX, final float[] maxY, final float[] maxZ,
+                                  final int off, final int count, final BitSet visible, final int[] planeHints) {
+        final float[] pl = packPlanes();
+        int visibleCount = 0;
+        for (int j = off; j < off + count; ++j) {
+            final int p = cullPlane(pl, getPlaneHint(planeHints, j), minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]);
+            if( null != planeHints ) {
+                planeHints[j] = p;
+            }
+            if( 0 > p ) {
+                visible.set(j);
+                visibleCount++;
+            } else {
+                visible.clear(j);
+            }
+        }
+        return visibleCount;
+    }
+
+    /**
+     * Culls {@code count} axis aligned bounding boxes given interleaved in a {@link FloatBuffer},
+     * i.e. box {@code j} is stored at absolute index {@code j * stride} as
+     * {@code minX, minY, minZ, maxX, maxY, maxZ}.
+     * The buffer position is neither used nor modified.
+     * <p>
+     * Visibility and {@code planeHints} are handled as described in
+     * {@link #cullAABBoxes(float[], float[], float[], float[], float[], float[], int, int, BitSet, int[])}.
+     * </p>
+     * @param boxes interleaved boxes
+     * @param stride number of floats between two boxes, at least 6
+     * @param off index of the first box
+     * @param count number of boxes
+     * @param visible receiving the visibility of each box
+     * @param planeHints optional plane coherency hints, may be {@code null}
+     * @return number of visible boxes
+     */
+    public final int cullAABBoxes(final FloatBuffer boxes, final int stride,
+                                  final int off, final int count, final BitSet visible, final int[] planeHints) {
+        final float[] pl = packPlanes();
+        int visibleCount = 0;
+        for (int j = off; j < off + count; ++j) {
+            final int b = j * stride;
+            final int p = cullPlane(pl, getPlaneHint(planeHints, j),
+                                    boxes.get(b+0), boxes.get(b+1), boxes.get(b+2),
+                                    boxes.get(b+3), boxes.get(b+4), boxes.get(b+5));
+            if( null != planeHints ) {
+                planeHints[j] = p;
+            }
+            if( 0 > p ) {
+                visible.set(j);
+                visibleCount++;
+            } else {
+                visible.clear(j);
+            }
+        }
+        return visibleCount;
+    }
+
+    /**
+     * Culls {@code count} axis aligned bounding boxes given as packed structure-of-arrays
+     * like {@link #cullAABBoxes(float[], float[], float[], float[], float[], float[], int, int, BitSet, int[])},
+     * but storing the visibility of box {@code j} as {@code 1} or {@code 0} in {@code visible[j]}.
+     * <p>
+     * If an {@link Executor} is given and the number of boxes is large,
+     * the boxes are split into bands culled concurrently, the current thread taking the last band
+     * and all bands rejected by the {@link Executor}.
+     * This method returns after all bands have been culled.
+     * </p>
+     * @param minX minimum x-coordinate of each box
+     * @param minY minimum y-coordinate of each box
+     * @param minZ minimum z-coordinate of each box
+     * @param maxX maximum x-coordinate of each box
+     * @param maxY maximum y-coordinate of each box
+     * @param maxZ maximum z-coordinate of each box
+     * @param off index of the first box
+     * @param count number of boxes
+     * @param visible receiving the visibility of each box
+     * @param planeHints optional plane coherency hints, may be {@code null}
+     * @param executor optional {@link Executor} culling bands of boxes concurrently, may be {@code null}
+     * @return number of visible boxes
+     * @throws InterruptedRuntimeException if interrupted while waiting for the bands, thrown after all bands have completed
+     */
+    public final int cullAABBoxes(final float[] minX, final float[] minY, final float[] minZ,
+                                  final float[] maxX, final float[] maxY, final float[] maxZ,
+                                  final int off, final int count, final int[] visible, final int[] planeHints,
+                                  final Executor executor) {
+        final float[] pl = packPlanes();
+        final int bands = ParallelBands.getBandCount(executor, 0, count, MIN_CULL_BAND_SIZE);
+        final int[] visibleCounts = new int[bands];
+        ParallelBands.run(executor, bands, new ParallelBands.Band() {
+            @Override
+            public void run(final int band) {
+                final int j0 = off + (int) ( (long)count *  band    / bands );
+                final int j1 = off + (int) ( (long)count * (band+1) / bands );
+                visibleCounts[band] = cullAABBoxesImpl(pl, minX, minY, minZ, maxX, maxY, maxZ, j0, j1, visible, planeHints);
+            } } );
+        int n = 0;
+        for(int i=0; i<bands; i++) {
+            n += visibleCounts[i];
+        }
+        return n;
+    }
+
+    private static int cullAABBoxesImpl(final float[] pl,
+                                        final float[] minX, final float[] minY, final float[] minZ,
+                                        final float[] maxX, final float[] maxY, final float[] maxZ,
+                                        final int j0, final int j1, final int[] visible, final int[] planeHints) {
+        int visibleCount = 0;
+        for (int j = j0; j < j1; ++j) {
+            final int p = cullPlane(pl, getPlaneHint(planeHints, j), minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]);
+            if( null != planeHints ) {
+                planeHints[j] = p;
+            }
+            if( 0 > p ) {
+                visible[j] = 1;
+                visibleCount++;
+            } else {
+                visible[j] = 0;
+            }
+        }
+        return visibleCount;
+    }
+
+    /**
+     * Culls {@code count} spheres given as packed structure-of-arrays,
+     * i.e. sphere {@code j} has its center at [{@code x[j]}, {@code y[j]}, {@code z[j]}] and radius {@code radius[j]}.
+     * <p>
+     * Spheres {@code j} within [{@code off} .. {@code off+count}) not completely outside of the frustum,
+     * see {@link #isSphereOutside(float[], float)}, have their bit {@code j} set in {@code visible}, all others are cleared.
+     * {@code planeHints} are handled as described in
+     * {@link #cullAABBoxes(float[], float[], float[], float[], float[], float[], int, int, BitSet, int[])}.
+     * </p>
+     * @param x x-coordinate of each center
+     * @param y y-coordinate of each center
+     * @param z z-coordinate of each center
+     * @param radius radius of each sphere
+     * @param off index of the first sphere
+     * @param count number of spheres
+     * @param visible receiving the visibility of each sphere
+     * @param planeHints optional plane coherency hints, may be {@code null}
+     * @return number of visible spheres
+     */
+    public final int cullSpheres(final float[] x, final float[] y, final float[] z, final float[] radius,
+                                 final int off, final int count, final BitSet visible, final int[] planeHints) {
+        final float[] pl = packPlanes();
+        int visibleCount = 0;
+        for (int j = off; j < off + count; ++j) {
+            final int hint = getPlaneHint(planeHints, j);
+            final float cx = x[j], cy = y[j], cz = z[j], r = radius[j];
+            int p = -1;
+            for (int k = 0, i = hint; k < 6; ++k, i = 5 > i ? i + 1 : 0) {
+                if( pl[i*4+0] * cx + pl[i*4+1] * cy + pl[i*4+2] * cz + pl[i*4+3] < -r ) {
+                    p = i;
+                    break;
+                }
+            }
+            if( null != planeHints ) {
+                planeHints[j] = p;
+            }
+            if( 0 > p ) {
+                visible.set(j);
+                visibleCount++;
+            } else {
+                visible.clear(j);
+            }
+        }
+        return visibleCount;
+    }
+
     public static enum Location { OUTSIDE, INSIDE, INTERSECT };
 
     /**
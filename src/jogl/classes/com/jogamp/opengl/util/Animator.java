@@ -54,6 +54,9 @@ import com.jogamp.opengl.GLException;
     has been redrawn, a brief pause is performed to avoid swamping the
     CPU, unless {@link #setRunAsFastAsPossible} has been called.  </P>
 
+    <P> Alternatively a {@link FramePacer} can be {@link #setFramePacer(FramePacer) set}
+    to pace the loop against <code>System.nanoTime()</code> deadlines of a fractional target frame rate. </P>
+
  * <p>
  * The Animator execution thread does not run as a daemon thread,
  * so it is able to keep an application from terminating.<br>
@@ -64,6 +67,7 @@ public class Animator extends AnimatorBase {
     private ThreadGroup threadGroup;
     private Runnable runnable;
     private boolean runAsFastAsPossible;
+    private volatile FramePacer framePacer;
     boolean isAnimating;
     volatile boolean pauseIssued;
     volatile boolean stopIssued;
@@ -127,6 +131,32 @@ public class Animator extends AnimatorBase {
         runAsFastAsPossible = runFast;
     }
 
+    /**
+     * Sets the {@link FramePacer} pacing the animation loop after each frame, replacing the brief pause,
+     * or <code>null</code> to disable pacing.
+     * <p>
+     * The pacer's schedule is {@link FramePacer#reset() reset} on start, resume and when set.
+     * </p>
+     */
+    public final synchronized void setFramePacer(final FramePacer pacer) {
+        if( null != pacer ) {
+            pacer.reset();
+        }
+        framePacer = pacer;
+    }
+
+    /** Returns the {@link FramePacer}, maybe <code>null</code>. */
+    public final FramePacer getFramePacer() {
+        return framePacer;
+    }
+
+    private final void resetFramePacer() {
+        final FramePacer pacer = framePacer;
+        if( null != pacer ) {
+            pacer.reset();
+        }
+    }
+
     class MainLoop implements Runnable {
         @Override
         public String toString() {
@@ -144,6 +174,7 @@ public class Animator extends AnimatorBase {
                         System.err.println("Animator start on " + getThreadName() + ": " + toString());
                     }
                     fpsCounter.resetFPSCounter();
+                    resetFramePacer();
                     animThread = Thread.currentThread();
                     isAnimating = false;
                     // 'waitForStartedCondition' wake-up is handled below!
@@ -184,6 +215,7 @@ public class Animator extends AnimatorBase {
                             if (wasPaused) {
                                 // resume from pause -> reset counter
                                 fpsCounter.resetFPSCounter();
+                                resetFramePacer();
                                 if (DEBUG) {
                                     System.err.println("Animator resume on " + animThread.getName() + ": " + toString());
                                 }
@@ -207,7 +239,16 @@ public class Animator extends AnimatorBase {
                             stopIssued = true;
                             break; // end animation loop
                         }
-                        if ( !runAsFastAsPossible ) {
+                        final FramePacer pacer = framePacer;
+                        if( null != pacer ) {
+                            try {
+                                pacer.awaitNextFrame();
+                            } catch (final InterruptedException e) {
+                                caughtException = new UncaughtAnimatorException(null, SourcedInterruptedException.wrap(e));
+                                stopIssued = true;
+                                break; // end animation loop
+                            }
+                        } else if ( !runAsFastAsPossible ) {
                             // Avoid swamping the CPU
                             Thread.yield();
                         }
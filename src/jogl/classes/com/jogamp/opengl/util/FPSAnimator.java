@@ -52,6 +52,11 @@ import com.jogamp.common.ExceptionUtils;
  * frames-per-second rate to avoid using all CPU time. The target FPS
  * is only an estimate and is not guaranteed.
  * <p>
+ * Scheduling is performed at millisecond granularity, hence rates like 144 or 90 FPS jitter and drift.
+ * For precise and fractional frame rates use an {@link Animator} w/ a {@link FramePacer},
+ * see {@link Animator#setFramePacer(FramePacer)}.
+ * </p>
+ * <p>
  * The Animator execution thread does not run as a daemon thread,
  * so it is able to keep an application from terminating.<br>
  * Call {@link #stop() } to terminate the animation and it's execution thread.
@@ -0,0 +1,275 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+/**
+ * Frame pacing against {@link System#nanoTime()} deadlines for a fractional target frame rate,
+ * e.g. 143.856 or 59.94 frames per second.
+ * <p>
+ * Deadlines are computed from an origin and the frame index, i.e. <code>origin + index * period</code>,
+ * with the period in nanoseconds. Hence the schedule does not accumulate rounding errors as millisecond timers do,
+ * a fractional rate only deviates by the rounding of its period to nanoseconds.
+ * </p>
+ * <p>
+ * {@link #awaitNextFrame()} sleeps until {@link #getSpinThreshold() shortly before} the deadline
+ * and spin-yields for the remaining time, trading some CPU time for accuracy.
+ * </p>
+ * <p>
+ * If a frame misses its deadline, the {@link Policy} determines the next one:
+ * <ul>
+ *   <li>{@link Policy#CATCH_UP}: Keep the schedule and render the missed frames back to back,
+ *       up to {@link #getMaxCatchUpFrames()}, after which the schedule is re-anchored.</li>
+ *   <li>{@link Policy#SKIP}: Skip the missed frames and continue with the next deadline of the schedule.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * The measured wake-up jitter, i.e. the absolute difference between wake-up time and deadline,
+ * and the number of skipped frames are exposed for instrumentation.
+ * </p>
+ * <p>
+ * {@link #awaitNextFrame()} shall only be called by one animation thread, see {@link Animator#setFramePacer(FramePacer)}.
+ * The schedule may be {@link #reset()} and the configuration changed from any thread,
+ * taking effect at the next {@link #awaitNextFrame()}.
+ * </p>
+ */
+public class FramePacer {
+    /** Policy for missed deadlines */
+    public static enum Policy {
+        /** Keep the schedule and catch up missed frames back to back. */
+        CATCH_UP,
+        /** Skip missed frames and continue with the next deadline of the schedule. */
+        SKIP
+    }
+
+    /** Default spin threshold in nanoseconds, {@value} */
+    public static final long DEFAULT_SPIN_THRESHOLD = 2000000L;
+    /** Default maximum number of frames to catch up, {@value} */
+    public static final int DEFAULT_MAX_CATCH_UP_FRAMES = 3;
+
+    private volatile long period;
+    private volatile Policy policy;
+    private volatile long spinThreshold = DEFAULT_SPIN_THRESHOLD;
+    private volatile int maxCatchUpFrames = DEFAULT_MAX_CATCH_UP_FRAMES;
+
+    private long origin;
+    private long frameIndex;
+    /** Cleared by {@link #reset()} from any thread, the animation thread re-anchors the schedule. */
+    private volatile boolean started = false;
+
+    private long frameCount = 0;
+    private long skippedFrames = 0;
+    private long lastJitter = 0;
+    private long jitterSum = 0;
+    private long jitterMax = 0;
+
+    /**
+     * @param fps target frames per second, &gt; 0
+     * @param policy {@link Policy} for missed deadlines
+     */
+    public FramePacer(final double fps, final Policy policy) {
+        setFPS(fps);
+        setPolicy(policy);
+    }
+
+    /**
+     * Sets the target frames per second, i.e. the {@link #setPeriod(long) period} of <code>1e9 / fps</code>
+     * rounded to nanoseconds, and {@link #reset() resets} the schedule.
+     * @param fps target frames per second, &gt; 0 and &le; 1e9
+     */
+    public final void setFPS(final double fps) {
+        if( !( 0.0 < fps ) || Double.isInfinite(fps) || 1 > Math.round(1e9 / fps) ) {
+            throw new IllegalArgumentException("Invalid fps "+fps);
+        }
+        setPeriod(Math.round(1e9 / fps));
+    }
+    /** Returns the target frames per second, i.e. <code>1e9 / period</code>. */
+    public final double getFPS() { return 1e9 / period; }
+
+    /**
+     * Sets the target frame period in nanoseconds and {@link #reset() resets} the schedule.
+     * @param nanos target frame period in nanoseconds, &gt; 0
+     */
+    public final void setPeriod(final long nanos) {
+        if( 0 >= nanos ) {
+            throw new IllegalArgumentException("Invalid period "+nanos);
+        }
+        this.period = nanos;
+        reset();
+    }
+    /** Returns the target frame period in nanoseconds. */
+    public final long getPeriod() { return period; }
+
+    public final void setPolicy(final Policy policy) {
+        if( null == policy ) {
+            throw new IllegalArgumentException("Null policy");
+        }
+        this.policy = policy;
+    }
+    public final Policy getPolicy() { return policy; }
+
+    /**
+     * Sets the remaining time in nanoseconds before a deadline spent spin-yielding instead of sleeping,
+     * compensating for the sleep granularity of the platform. Defaults to {@link #DEFAULT_SPIN_THRESHOLD}.
+     */
+    public final void setSpinThreshold(final long nanos) {
+        spinThreshold = Math.max(0, nanos);
+    }
+    public final long getSpinThreshold() { return spinThreshold; }
+
+    /**
+     * Sets the maximum number of missed frames to catch up with {@link Policy#CATCH_UP}.
+     * Defaults to {@link #DEFAULT_MAX_CATCH_UP_FRAMES}.
+     */
+    public final void setMaxCatchUpFrames(final int frames) {
+        maxCatchUpFrames = Math.max(0, frames);
+    }
+    public final int getMaxCatchUpFrames() { return maxCatchUpFrames; }
+
+    /**
+     * Resets the schedule, the next {@link #awaitNextFrame()} re-anchors it at the current time.
+     * The statistics are not reset, see {@link #resetStats()}.
+     * <p>
+     * May be called from any thread.
+     * </p>
+     */
+    public final void reset() {
+        started = false;
+    }
+
+    /** Resets the frame count, skipped frames and jitter statistics. */
+    public final void resetStats() {
+        frameCount = 0;
+        skippedFrames = 0;
+        lastJitter = 0;
+        jitterSum = 0;
+        jitterMax = 0;
+    }
+
+    /**
+     * Returns the next deadline in {@link System#nanoTime()} units,
+     * or <code>0</code> if the schedule is not yet anchored.
+     * <p>
+     * Shall be called by the animation thread only.
+     * </p>
+     */
+    public final long getNextDeadline() {
+        return started ? origin + ( frameIndex + 1 ) * period : 0;
+    }
+
+    /**
+     * Waits until the deadline of the next frame and advances the schedule,
+     * to be called once after each rendered frame.
+     * <p>
+     * The first call after construction or {@link #reset()} anchors the schedule at the current time
+     * and waits one period.
+     * </p>
+     * @return the wake-up time in {@link System#nanoTime()} units
+     * @throws InterruptedException if interrupted while sleeping
+     */
+    public final long awaitNextFrame() throws InterruptedException {
+        final long period = this.period;
+        long now = System.nanoTime();
+        if( !started ) {
+            started = true;
+            origin = now;
+            frameIndex = 0;
+        }
+        long next = frameIndex + 1;
+        long deadline = origin + next * period;
+        if( now - deadline > 0 ) {
+            // missed deadline
+            final long missed = ( now - deadline ) / period; // complete periods behind 'deadline'
+            if( Policy.SKIP == policy ) {
+                next += missed + 1;
+                skippedFrames += missed + 1;
+                deadline = origin + next * period;
+            } else if( missed >= maxCatchUpFrames ) {
+                // too far behind, re-anchor
+                skippedFrames += missed;
+                origin = now;
+                frameIndex = 0;
+                next = 1;
+                deadline = origin + period;
+            } else {
+                // catch up, no wait
+                frameIndex = next;
+                frameCount++;
+                record(now - deadline);
+                return now;
+            }
+        }
+        now = sleepUntil(deadline, now);
+        frameIndex = next;
+        frameCount++;
+        record(now - deadline);
+        return now;
+    }
+
+    private long sleepUntil(final long deadline, long now) throws InterruptedException {
+        final long spinThreshold = this.spinThreshold;
+        long remaining = deadline - now;
+        if( remaining > spinThreshold ) {
+            final long sleep = remaining - spinThreshold;
+            Thread.sleep(sleep / 1000000L, (int) ( sleep % 1000000L ));
+            now = System.nanoTime();
+            remaining = deadline - now;
+        }
+        while( remaining > 0 ) {
+            Thread.yield();
+            now = System.nanoTime();
+            remaining = deadline - now;
+        }
+        return now;
+    }
+
+    private void record(final long jitter) {
+        final long j = Math.abs(jitter);
+        lastJitter = j;
+        jitterSum += j;
+        if( j > jitterMax ) {
+            jitterMax = j;
+        }
+    }
+
+    /** Returns the number of paced frames since the last {@link #resetStats()}. */
+    public final long getFrameCount() { return frameCount; }
+    /** Returns the number of skipped or dropped frames since the last {@link #resetStats()}. */
+    public final long getSkippedFrames() { return skippedFrames; }
+    /** Returns the wake-up jitter of the last frame in nanoseconds. */
+    public final long getLastJitter() { return lastJitter; }
+    /** Returns the average wake-up jitter in nanoseconds since the last {@link #resetStats()}. */
+    public final long getAvgJitter() { return 0 < frameCount ? jitterSum / frameCount : 0; }
+    /** Returns the maximum wake-up jitter in nanoseconds since the last {@link #resetStats()}. */
+    public final long getMaxJitter() { return jitterMax; }
+
+    @Override
+    public String toString() {
+        return "FramePacer["+getFPS()+" fps, period "+period/1000+" us, "+policy+", spin "+spinThreshold/1000+" us, frames "+frameCount+
+               ", skipped "+skippedFrames+", jitter avg "+getAvgJitter()/1000+" us, max "+jitterMax/1000+" us]";
+    }
+}
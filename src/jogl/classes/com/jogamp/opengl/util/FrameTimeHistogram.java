@@ -0,0 +1,286 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of durations in nanoseconds,
+ * using the bucket layout of HDR histograms.
+ * <p>
+ * Values below <code>2^{@link #getSubBucketBits() subBucketBits}</code> are counted exactly,
+ * larger values are counted in buckets of <code>2^(subBucketBits-1)</code> linear sub-buckets
+ * per power of two, i.e. with a relative error of at most <code>2^-(subBucketBits-1)</code>.
+ * Values above {@link #MAX_TRACKABLE_VALUE} are clamped.
+ * </p>
+ * <p>
+ * {@link #record(long)} is wait-free apart from the min/max CAS loops and does not allocate,
+ * hence it may be called on the rendering thread for each frame.
+ * Any thread may take a {@link #snapshot(Snapshot) snapshot} concurrently,
+ * which is consistent per bucket but not across buckets while values are being recorded.
+ * </p>
+ */
+public class FrameTimeHistogram {
+    /** Default number of sub-bucket bits, {@value}, i.e. a relative error of at most 3.125%. */
+    public static final int DEFAULT_SUB_BUCKET_BITS = 6;
+    /** Highest trackable value in nanoseconds, {@value}, i.e. ~18 minutes. Larger values are clamped. */
+    public static final long MAX_TRACKABLE_VALUE = ( 1L << 40 ) - 1;
+
+    /**
+     * Reusable snapshot of a {@link FrameTimeHistogram}.
+     * <p>
+     * All values are in nanoseconds.
+     * </p>
+     */
+    public static class Snapshot {
+        private long count;
+        private long min;
+        private long max;
+        private double mean;
+        private long p50;
+        private long p95;
+        private long p99;
+
+        /** Number of recorded values */
+        public final long getCount() { return count; }
+        /** Minimum recorded value, 0 if {@link #getCount()} is 0 */
+        public final long getMin() { return min; }
+        /** Maximum recorded value, 0 if {@link #getCount()} is 0 */
+        public final long getMax() { return max; }
+        /** Mean of all recorded values */
+        public final double getMean() { return mean; }
+        /** 50th percentile, the median */
+        public final long getP50() { return p50; }
+        /** 95th percentile */
+        public final long getP95() { return p95; }
+        /** 99th percentile */
+        public final long getP99() { return p99; }
+
+        /** Copies all values of the given snapshot into this instance and returns this instance. */
+        public final Snapshot set(final Snapshot o) {
+            count = o.count; min = o.min; max = o.max; mean = o.mean;
+            p50 = o.p50; p95 = o.p95; p99 = o.p99;
+            return this;
+        }
+
+        public final StringBuilder toString(StringBuilder sb) {
+            if(null == sb) {
+                sb = new StringBuilder();
+            }
+            sb.append("count ").append(count)
+              .append(", min ").append(toMillis(min))
+              .append(", mean ").append(toMillis(mean))
+              .append(", p50 ").append(toMillis(p50))
+              .append(", p95 ").append(toMillis(p95))
+              .append(", p99 ").append(toMillis(p99))
+              .append(", max ").append(toMillis(max)).append(" ms");
+            return sb;
+        }
+        @Override
+        public final String toString() {
+            return "Snapshot["+toString(null).toString()+"]";
+        }
+        private static String toMillis(final double nanos) {
+            return String.format("%.3f", nanos / 1000000.0);
+        }
+    }
+
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final int subBucketHalfCount;
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalSum = new AtomicLong();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxValue = new AtomicLong(0);
+
+    /** Creates a histogram using {@link #DEFAULT_SUB_BUCKET_BITS}. */
+    public FrameTimeHistogram() {
+        this(DEFAULT_SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Creates a histogram.
+     * @param subBucketBits number of sub-bucket bits within [2..16], determining the precision
+     * @throws IllegalArgumentException if <code>subBucketBits</code> is out of range
+     */
+    public FrameTimeHistogram(final int subBucketBits) throws IllegalArgumentException {
+        if( 2 > subBucketBits || 16 < subBucketBits ) {
+            throw new IllegalArgumentException("subBucketBits not within [2..16]: "+subBucketBits);
+        }
+        this.subBucketBits = subBucketBits;
+        this.subBucketCount = 1 << subBucketBits;
+        this.subBucketHalfCount = subBucketCount >>> 1;
+        this.counts = new AtomicLongArray( getBucketIndex(MAX_TRACKABLE_VALUE) + 1 );
+    }
+
+    /** Returns the number of sub-bucket bits. */
+    public final int getSubBucketBits() { return subBucketBits; }
+
+    /** Returns the number of buckets. */
+    public final int getBucketCount() { return counts.length(); }
+
+    /** Returns the bucket index of the given non-negative value. */
+    private int getBucketIndex(final long value) {
+        if( value < subBucketCount ) {
+            return (int)value;
+        }
+        final int shift = 64 - Long.numberOfLeadingZeros(value) - subBucketBits; // >= 1
+        final int sub = (int) ( value >>> shift ); // [subBucketHalfCount .. subBucketCount-1]
+        return subBucketCount + ( shift - 1 ) * subBucketHalfCount + ( sub - subBucketHalfCount );
+    }
+
+    /** Returns the highest value counted in the bucket of the given index. */
+    private long getBucketHighestValue(final int index) {
+        if( index < subBucketCount ) {
+            return index;
+        }
+        final int i = index - subBucketCount;
+        final int shift = i / subBucketHalfCount + 1;
+        final long sub = subBucketHalfCount + i % subBucketHalfCount;
+        return ( ( sub + 1 ) << shift ) - 1;
+    }
+
+    /**
+     * Records the given duration.
+     * <p>
+     * Negative values are recorded as 0, values above {@link #MAX_TRACKABLE_VALUE} are clamped.
+     * </p>
+     * @param nanos duration in nanoseconds
+     */
+    public final void record(final long nanos) {
+        final long v = Math.min(Math.max(0, nanos), MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(getBucketIndex(v));
+        totalSum.addAndGet(v);
+        long m;
+        while( v < ( m = minValue.get() ) && !minValue.compareAndSet(m, v) ) { }
+        while( v > ( m = maxValue.get() ) && !maxValue.compareAndSet(m, v) ) { }
+        totalCount.incrementAndGet();
+    }
+
+    /** Returns the number of recorded values. */
+    public final long getCount() { return totalCount.get(); }
+
+    /** Returns the maximum recorded value in nanoseconds, 0 if none has been recorded. */
+    public final long getMax() { return maxValue.get(); }
+
+    /** Returns the minimum recorded value in nanoseconds, 0 if none has been recorded. */
+    public final long getMin() {
+        final long m = minValue.get();
+        return Long.MAX_VALUE == m ? 0 : m;
+    }
+
+    /**
+     * Returns the value at the given percentile in nanoseconds,
+     * i.e. the highest value of the bucket containing the percentile clamped to {@link #getMax()}.
+     * @param percentile within [0..100]
+     */
+    public final long getValueAtPercentile(final double percentile) {
+        long sum = 0;
+        for(int i=counts.length()-1; i>=0; i--) {
+            sum += counts.get(i);
+        }
+        return getValueAtPercentile(percentile, sum, getMax());
+    }
+
+    private long getValueAtPercentile(final double percentile, final long count, final long max) {
+        if( 0 >= count ) {
+            return 0;
+        }
+        final double p = Math.min(Math.max(0.0, percentile), 100.0);
+        final long rank = Math.max(1, (long) Math.ceil( p / 100.0 * count ));
+        long acc = 0;
+        final int bucketCount = counts.length();
+        for(int i=0; i<bucketCount; i++) {
+            acc += counts.get(i);
+            if( acc >= rank ) {
+                return Math.min(getBucketHighestValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Fills the given snapshot with the current statistics and returns it.
+     * <p>
+     * Does not allocate, hence may be called periodically on the rendering thread.
+     * </p>
+     * @param result the snapshot to fill
+     */
+    public final Snapshot snapshot(final Snapshot result) {
+        long count = 0;
+        for(int i=counts.length()-1; i>=0; i--) {
+            count += counts.get(i);
+        }
+        result.count = count;
+        if( 0 < count ) {
+            final long max = getMax();
+            result.min = getMin();
+            result.max = max;
+            result.mean = (double) totalSum.get() / (double) count;
+            result.p50 = getValueAtPercentile(50.0, count, max);
+            result.p95 = getValueAtPercentile(95.0, count, max);
+            result.p99 = getValueAtPercentile(99.0, count, max);
+        } else {
+            result.min = 0;
+            result.max = 0;
+            result.mean = 0;
+            result.p50 = 0;
+            result.p95 = 0;
+            result.p99 = 0;
+        }
+        return result;
+    }
+
+    /** Returns a new {@link Snapshot} of the current statistics. */
+    public final Snapshot snapshot() {
+        return snapshot(new Snapshot());
+    }
+
+    /**
+     * Clears all recorded values.
+     * <p>
+     * Values recorded concurrently may be partially lost.
+     * </p>
+     */
+    public final void reset() {
+        for(int i=counts.length()-1; i>=0; i--) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalSum.set(0);
+        minValue.set(Long.MAX_VALUE);
+        maxValue.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "FrameTimeHistogram["+snapshot(new Snapshot()).toString(null).toString()+"]";
+    }
+}
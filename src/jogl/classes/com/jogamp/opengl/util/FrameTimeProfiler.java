@@ -0,0 +1,247 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import com.jogamp.opengl.GLAutoDrawable;
+
+/**
+ * Opt-in per-frame timing instrumentation of a {@link GLAutoDrawable},
+ * recording the duration of each {@link Phase} into a {@link FrameTimeHistogram}.
+ * <p>
+ * Percentiles expose the hitches hidden by the averages of {@link com.jogamp.opengl.FPSCounter}.
+ * </p>
+ * <p>
+ * Attach an instance via <code>GLAutoDrawableBase.setFrameTimeProfiler(FrameTimeProfiler)</code>,
+ * e.g. of a NEWT <code>GLWindow</code>.
+ * Recording is allocation-free on the rendering thread.
+ * </p>
+ * <p>
+ * Every {@link #getReportInterval() report interval} frames, the {@link Listener}s are notified
+ * on the rendering thread with reused {@link FrameTimeHistogram.Snapshot}s for export.
+ * If {@link #getResetOnReport() reset on report} is enabled,
+ * the histograms are cleared afterwards, i.e. each report covers one interval.
+ * </p>
+ */
+public class FrameTimeProfiler {
+    /** Measured phase of a frame */
+    public static enum Phase {
+        /** {@link com.jogamp.opengl.GLEventListener#display(GLAutoDrawable) GLEventListener display} calls of all listeners */
+        DISPLAY,
+        /** {@link com.jogamp.opengl.GLDrawable#swapBuffers() swapBuffers} */
+        SWAP_BUFFERS,
+        /** Execution of queued {@link com.jogamp.opengl.GLRunnable}s, only recorded if any were queued */
+        GL_RUNNABLES,
+        /** Whole frame while the context is current, i.e. including all above phases */
+        FRAME;
+
+        /** Cached {@link #values()}, avoiding the array copy */
+        static final Phase[] all = values();
+    }
+
+    /** Export hook, see {@link FrameTimeProfiler#addListener(Listener)}. */
+    public static interface Listener {
+        /**
+         * Called on the rendering thread every {@link FrameTimeProfiler#getReportInterval() report interval} frames.
+         * <p>
+         * The snapshots are indexed by {@link Phase#ordinal()} and reused,
+         * i.e. they are only valid during this call and must be copied if retained.
+         * </p>
+         * @param source the reporting profiler
+         * @param frameCount total number of frames since creation or the last {@link FrameTimeProfiler#reset()}
+         * @param snapshots snapshot per {@link Phase}
+         */
+        void frameTimesReported(FrameTimeProfiler source, long frameCount, FrameTimeHistogram.Snapshot[] snapshots);
+    }
+
+    /** Default report interval in frames, {@value} */
+    public static final int DEFAULT_REPORT_INTERVAL = 300;
+
+    private static final Listener[] noListeners = new Listener[0];
+
+    private final FrameTimeHistogram[] histograms;
+    private final FrameTimeHistogram.Snapshot[] snapshots;
+    private final Object listenersLock = new Object();
+    private volatile Listener[] listeners = noListeners;
+    private volatile int reportInterval = DEFAULT_REPORT_INTERVAL;
+    private volatile boolean resetOnReport = false;
+    private volatile long frameCount = 0;
+    private int framesSinceReport = 0;
+
+    /** Creates a profiler using {@link FrameTimeHistogram#DEFAULT_SUB_BUCKET_BITS}. */
+    public FrameTimeProfiler() {
+        this(FrameTimeHistogram.DEFAULT_SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Creates a profiler.
+     * @param subBucketBits precision of the histograms, see {@link FrameTimeHistogram#FrameTimeHistogram(int)}
+     */
+    public FrameTimeProfiler(final int subBucketBits) {
+        histograms = new FrameTimeHistogram[Phase.all.length];
+        snapshots = new FrameTimeHistogram.Snapshot[Phase.all.length];
+        for(int i=0; i<histograms.length; i++) {
+            histograms[i] = new FrameTimeHistogram(subBucketBits);
+            snapshots[i] = new FrameTimeHistogram.Snapshot();
+        }
+    }
+
+    /** Returns the histogram of the given phase. */
+    public final FrameTimeHistogram getHistogram(final Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /** Returns a new {@link FrameTimeHistogram.Snapshot} of the given phase. */
+    public final FrameTimeHistogram.Snapshot getSnapshot(final Phase phase) {
+        return histograms[phase.ordinal()].snapshot();
+    }
+
+    /** Returns the number of frames since creation or the last {@link #reset()}. */
+    public final long getFrameCount() { return frameCount; }
+
+    /** Returns the report interval in frames. */
+    public final int getReportInterval() { return reportInterval; }
+
+    /**
+     * Sets the report interval in frames, defaults to {@link #DEFAULT_REPORT_INTERVAL}.
+     * @param frames number of frames, 0 disables reporting
+     */
+    public final void setReportInterval(final int frames) {
+        if( 0 > frames ) {
+            throw new IllegalArgumentException("Negative report interval: "+frames);
+        }
+        reportInterval = frames;
+    }
+
+    /** Returns whether the histograms are cleared after each report. */
+    public final boolean getResetOnReport() { return resetOnReport; }
+
+    /** Sets whether the histograms are cleared after each report, defaults to <code>false</code>. */
+    public final void setResetOnReport(final boolean v) { resetOnReport = v; }
+
+    /** Adds the given listener, notified every {@link #getReportInterval()} frames. */
+    public final void addListener(final Listener l) {
+        if( null == l ) {
+            return;
+        }
+        synchronized(listenersLock) {
+            final Listener[] _listeners = listeners;
+            final Listener[] n = new Listener[_listeners.length+1];
+            System.arraycopy(_listeners, 0, n, 0, _listeners.length);
+            n[_listeners.length] = l;
+            listeners = n;
+        }
+    }
+
+    /** Removes the given listener, returns <code>true</code> if it was registered. */
+    public final boolean removeListener(final Listener l) {
+        synchronized(listenersLock) {
+            final Listener[] _listeners = listeners;
+            for(int i=0; i<_listeners.length; i++) {
+                if( _listeners[i] == l ) {
+                    final Listener[] n = new Listener[_listeners.length-1];
+                    System.arraycopy(_listeners, 0, n, 0, i);
+                    System.arraycopy(_listeners, i+1, n, i, n.length-i);
+                    listeners = _listeners.length > 1 ? n : noListeners;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Records the duration of the given phase.
+     * @param phase the measured phase
+     * @param nanos duration in nanoseconds
+     */
+    public final void record(final Phase phase, final long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Records the duration of a whole frame as {@link Phase#FRAME}
+     * and notifies the {@link Listener}s if the {@link #getReportInterval() report interval} is reached.
+     * <p>
+     * Shall be called on the rendering thread only.
+     * </p>
+     * @param nanos duration of the frame in nanoseconds
+     */
+    public final void endFrame(final long nanos) {
+        histograms[Phase.FRAME.ordinal()].record(nanos);
+        frameCount++;
+        final int interval = reportInterval;
+        if( 0 < interval && ++framesSinceReport >= interval ) {
+            framesSinceReport = 0;
+            report();
+        }
+    }
+
+    /**
+     * Notifies all {@link Listener}s with current snapshots
+     * and clears the histograms if {@link #getResetOnReport() reset on report} is enabled.
+     * <p>
+     * Shall be called on the rendering thread only.
+     * </p>
+     */
+    public final void report() {
+        final Listener[] _listeners = listeners;
+        if( 0 < _listeners.length ) {
+            for(int i=0; i<histograms.length; i++) {
+                histograms[i].snapshot(snapshots[i]);
+            }
+            for(int i=0; i<_listeners.length; i++) {
+                _listeners[i].frameTimesReported(this, frameCount, snapshots);
+            }
+        }
+        if( resetOnReport ) {
+            for(int i=0; i<histograms.length; i++) {
+                histograms[i].reset();
+            }
+        }
+    }
+
+    /** Clears all histograms and the frame count. */
+    public final void reset() {
+        for(int i=0; i<histograms.length; i++) {
+            histograms[i].reset();
+        }
+        frameCount = 0;
+        framesSinceReport = 0;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("FrameTimeProfiler[frames ").append(frameCount);
+        for(int i=0; i<histograms.length; i++) {
+            sb.append(", ").append(Phase.all[i]).append(" [");
+            histograms[i].snapshot(new FrameTimeHistogram.Snapshot()).toString(sb).append("]");
+        }
+        return sb.append("]").toString();
+    }
+}
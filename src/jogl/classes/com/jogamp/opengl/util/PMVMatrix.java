@@ -432,6 +432,42 @@ public final class PMVMatrix implements GLMatrixFunc {
         return mat4MvP;
     }
 
+    /**
+     * Transforms {@code count} points by the {@link #glGetMvMatrixf() Mv} matrix in one batch, i.e.
+     * <pre>
+     *    dst[i] = ( Mv * ( src[i], 1 ) ).xyz
+     * </pre>
+     * see {@link FloatUtil#multMatrixVec3(float[], int, float[], int, int, float[], int, int, int)}.
+     * @param src source points
+     * @param src_off offset to the first source point
+     * @param src_stride number of floats between two source points, at least 3
+     * @param dst destination points, may be {@code src}
+     * @param dst_off offset to the first destination point
+     * @param dst_stride number of floats between two destination points, at least 3
+     * @param count number of points
+     */
+    public final void multMvVec3f(final float[] src, final int src_off, final int src_stride,
+                                  final float[] dst, final int dst_off, final int dst_stride, final int count) {
+        FloatUtil.multMatrixVec3(matrixArray, mMv_offset, src, src_off, src_stride, dst, dst_off, dst_stride, count);
+    }
+
+    /**
+     * Transforms {@code count} 4-component vectors by the {@link #multPMvMatrixf(float[], int) P x Mv} matrix in one batch,
+     * see {@link FloatUtil#multMatrixVec4(float[], int, float[], int, int, float[], int, int, int)}.
+     * @param src source vectors
+     * @param src_off offset to the first source vector
+     * @param src_stride number of floats between two source vectors, at least 4
+     * @param dst destination vectors, may be {@code src}
+     * @param dst_off offset to the first destination vector
+     * @param dst_stride number of floats between two destination vectors, at least 4
+     * @param count number of vectors
+     */
+    public final void multPMvVec4f(final float[] src, final int src_off, final int src_stride,
+                                   final float[] dst, final int dst_off, final int dst_stride, final int count) {
+        FloatUtil.multMatrix(matrixArray, mP_offset, matrixArray, mMv_offset, mat4Tmp1, 0);
+        FloatUtil.multMatrixVec4(mat4Tmp1, 0, src, src_off, src_stride, dst, dst_off, dst_stride, count);
+    }
+
     //
     // GLMatrixFunc implementation
     //
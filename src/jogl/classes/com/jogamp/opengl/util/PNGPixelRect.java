@@ -43,7 +43,6 @@ import com.jogamp.nativewindow.util.PixelFormatUtil;
 import jogamp.opengl.Debug;
 import jogamp.opengl.util.pngj.ImageInfo;
 import jogamp.opengl.util.pngj.ImageLine;
-import jogamp.opengl.util.pngj.ImageLineHelper;
 import jogamp.opengl.util.pngj.PngReader;
 import jogamp.opengl.util.pngj.PngWriter;
 import jogamp.opengl.util.pngj.chunks.PngChunkPLTE;
@@ -148,8 +147,9 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
             }
         }
         final boolean vert_flip = destIsGLOriented;
+        final int destBytesPerPixel = destFmt.comp.bytesPerPixel();
+        final int destRowBytes = width * destBytesPerPixel;
 
-        int[] rgbaScanline = indexed ? new int[width * channels] : null;
         if(DEBUG) {
             System.err.println("PNGPixelRect: indexed "+indexed+", alpha "+hasAlpha+", grayscale "+imgInfo.greyscale+", channels "+channels+"/"+imgInfo.channels+
                                ", bytesPerPixel "+bytesPerPixel+"/"+imgInfo.bytesPixel+
@@ -158,94 +158,148 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
             System.err.println("PNGPixelRect: destStrideInBytes "+destStrideInBytes+" (destMinStrideInBytes "+destMinStrideInBytes+")");
         }
 
+        // One sample per byte, i.e. bit depth 1, 2 and 4 unpacked w/o scaling
+        pngr.setUnpackedMode(true);
+        // Palette indices and gray levels are mapped to the destination pixel via a lookup table,
+        // computed once per image.
+        final int[] lut;
+        if( indexed ) {
+            lut = createPaletteLUT(destFmt, plte, trns, hasAlpha);
+        } else if( 1 == channels ) {
+            lut = createLuminanceLUT(destFmt, imgInfo.bitDepth);
+        } else {
+            lut = null;
+        }
+        final boolean copyRow = null == lut && !isGrayAlpha && srcFmt == destFmt; // fast-path
+        byte[] scanline = null;
+        final byte[] destRow = copyRow ? null : new byte[destRowBytes];
+
         for (int row = 0; row < height; row++) {
-            final ImageLine l1 = pngr.readRow(row);
-            int lineOff = 0;
-            int dataOff = vert_flip ? ( height - 1 - row ) * destStrideInBytes : row * destStrideInBytes;
-            if( indexed ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    rgbaScanline = ImageLineHelper.palette2rgb(l1, plte, trns, rgbaScanline); // reuse rgbaScanline and update if resized
-                    dataOff = getPixelRGBA8ToAny(destFmt, destPixels, dataOff, rgbaScanline, lineOff, hasAlpha);
-                    lineOff += bytesPerPixel;
-                }
-            } else if( 1 == channels ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, (byte)l1.scanline[lineOff++], (byte)0xff); // Luminance, 1 bytesPerPixel
-                }
+            scanline = pngr.readRowByte(scanline, row);
+            final int dataOff = vert_flip ? ( height - 1 - row ) * destStrideInBytes : row * destStrideInBytes;
+            if( copyRow ) {
+                destPixels.position(dataOff);
+                destPixels.put(scanline, 0, destRowBytes);
+                continue;
+            }
+            if( null != lut ) {
+                lookupRow(lut, scanline, width, destRow, destBytesPerPixel);
             } else if( isGrayAlpha ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, (byte)l1.scanline[lineOff++], (byte)l1.scanline[lineOff++]); // Luminance+Alpha, 2 bytesPerPixel
-                }
-            } else if( srcFmt == destFmt ) { // fast-path
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelRGBSame(destPixels, dataOff, l1.scanline, lineOff, bytesPerPixel);
-                    lineOff += bytesPerPixel;
+                for (int j = 0, lineOff = 0, destOff = 0; j < width; j++, lineOff += 2) {
+                    destOff = getPixelLUMToAny(destFmt, destRow, destOff, scanline[lineOff], scanline[lineOff+1]); // Luminance+Alpha, 2 bytesPerPixel
                 }
             } else {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelRGBA8ToAny(destFmt, destPixels, dataOff, l1.scanline, lineOff, hasAlpha);
-                    lineOff += bytesPerPixel;
+                for (int j = 0, lineOff = 0, destOff = 0; j < width; j++, lineOff += bytesPerPixel) {
+                    final int p = PixelFormatUtil.convertToInt32(destFmt, scanline[lineOff],   // R
+                                                                          scanline[lineOff+1], // G
+                                                                          scanline[lineOff+2], // B
+                                                                          hasAlpha ? scanline[lineOff+3] : (byte)0xff); // A
+                    destOff = putPixel(destRow, destOff, p, destBytesPerPixel);
                 }
             }
+            destPixels.position(dataOff);
+            destPixels.put(destRow, 0, destRowBytes);
         }
+        destPixels.position(0);
         pngr.end();
 
         return new PNGPixelRect(destFmt, new Dimension(width, height), destStrideInBytes, destIsGLOriented, destPixels, dpiX, dpiY);
     }
 
-    private static final int getPixelLUMToAny(final PixelFormat dest_fmt, final ByteBuffer d, int dOff, final byte lum, final byte alpha) {
+    /** Returns a lookup table mapping each palette index to its <code>dest_fmt</code> pixel, see {@link #putPixel(byte[], int, int, int)}. */
+    private static int[] createPaletteLUT(final PixelFormat dest_fmt, final PngChunkPLTE plte, final PngChunkTRNS trns, final boolean hasAlpha) {
+        final int[] lut = new int[256];
+        final int[] rgb = new int[3];
+        final int[] palAlpha = hasAlpha ? trns.getPalletteAlpha() : null;
+        final int n = Math.min(plte.getNentries(), lut.length);
+        for(int i=0; i<n; i++) {
+            plte.getEntryRgb(i, rgb);
+            final int a = null != palAlpha && i < palAlpha.length ? palAlpha[i] : 0xff;
+            lut[i] = PixelFormatUtil.convertToInt32(dest_fmt, (byte)rgb[0], (byte)rgb[1], (byte)rgb[2], (byte)a);
+        }
+        return lut;
+    }
+
+    /** Returns a lookup table mapping each gray level of the given bit depth to its <code>dest_fmt</code> pixel, see {@link #putPixel(byte[], int, int, int)}. */
+    private static int[] createLuminanceLUT(final PixelFormat dest_fmt, final int bitDepth) {
+        final int[] lut = new int[256];
+        final int maxLevel = ( 1 << Math.min(8, bitDepth) ) - 1;
+        final byte[] tmp = new byte[4];
+        for(int i=0; i<=maxLevel; i++) {
+            final byte lum = (byte) ( i * 255 / maxLevel );
+            getPixelLUMToAny(dest_fmt, tmp, 0, lum, (byte)0xff);
+            lut[i] = ( 0xff & tmp[0] ) | ( 0xff & tmp[1] ) << 8 | ( 0xff & tmp[2] ) << 16 | ( 0xff & tmp[3] ) << 24;
+        }
+        return lut;
+    }
+
+    /** Maps <code>width</code> one byte samples of <code>scanline</code> via the lookup table to <code>destRow</code>. */
+    private static void lookupRow(final int[] lut, final byte[] scanline, final int width, final byte[] destRow, final int destBytesPerPixel) {
+        switch( destBytesPerPixel ) {
+            case 1:
+                for (int j = 0; j < width; j++) {
+                    destRow[j] = (byte) lut[ 0xff & scanline[j] ];
+                }
+                break;
+            case 3:
+                for (int j = 0, d = 0; j < width; j++) {
+                    final int p = lut[ 0xff & scanline[j] ];
+                    destRow[d++] = (byte) ( p );
+                    destRow[d++] = (byte) ( p >>>  8 );
+                    destRow[d++] = (byte) ( p >>> 16 );
+                }
+                break;
+            case 4:
+                for (int j = 0, d = 0; j < width; j++) {
+                    final int p = lut[ 0xff & scanline[j] ];
+                    destRow[d++] = (byte) ( p );
+                    destRow[d++] = (byte) ( p >>>  8 );
+                    destRow[d++] = (byte) ( p >>> 16 );
+                    destRow[d++] = (byte) ( p >>> 24 );
+                }
+                break;
+            default:
+                throw new InternalError("Unhandled bytes per pixel "+destBytesPerPixel);
+        }
+    }
+
+    private static final int getPixelLUMToAny(final PixelFormat dest_fmt, final byte[] d, int dOff, final byte lum, final byte alpha) {
         switch(dest_fmt) {
             case LUMINANCE:
-                d.put(dOff++, lum);
+                d[dOff++] = lum;
                 break;
             case BGR888:
             case RGB888:
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = lum;
                 break;
             case ABGR8888:
             case ARGB8888:
-                d.put(dOff++, alpha); // A
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
+                d[dOff++] = alpha; // A
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = lum;
                 break;
             case BGRA8888:
             case RGBA8888:
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, alpha); // A
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = alpha; // A
                 break;
             default:
                 throw new InternalError("Unhandled format "+dest_fmt);
         }
         return dOff;
     }
-    private static final int getPixelRGBA8ToAny(final PixelFormat dest_fmt, final ByteBuffer d, int dOff, final int[] scanline, final int lineOff, final boolean srcHasAlpha) {
-        final int p = PixelFormatUtil.convertToInt32(dest_fmt, (byte)scanline[lineOff],   // R
-                                                               (byte)scanline[lineOff+1], // G
-                                                               (byte)scanline[lineOff+2], // B
-                                                               srcHasAlpha ? (byte)scanline[lineOff+3] : (byte)0xff); // A
-        final int dbpp = dest_fmt.comp.bytesPerPixel();
-        d.put(dOff++, (byte) ( p ));                // 1
+    private static final int putPixel(final byte[] d, int dOff, final int p, final int dbpp) {
+        d[dOff++] = (byte) ( p );                // 1
         if( 1 < dbpp ) {
-            d.put(dOff++, (byte) ( p >>>  8 ));     // 2
-            d.put(dOff++, (byte) ( p >>> 16 ));     // 3
+            d[dOff++] = (byte) ( p >>>  8 );     // 2
+            d[dOff++] = (byte) ( p >>> 16 );     // 3
             if( 4 == dbpp ) {
-                d.put(dOff++, (byte) ( p >>> 24 )); // 4
-            }
-        }
-        return dOff;
-    }
-    private static final int getPixelRGBSame(final ByteBuffer d, int dOff, final int[] scanline, final int lineOff, final int bpp) {
-        d.put(dOff++, (byte)scanline[lineOff]);             // R
-        if( 1 < bpp ) {
-            d.put(dOff++, (byte)scanline[lineOff + 1]);     // G
-            d.put(dOff++, (byte)scanline[lineOff + 2]);     // B
-            if( 4 == bpp ) {
-                d.put(dOff++, (byte)scanline[lineOff + 3]); // A
+                d[dOff++] = (byte) ( p >>> 24 ); // 4
             }
         }
         return dOff;
@@ -303,6 +357,26 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
     public double[] getDpi() { return dpi; }
 
     public void write(final OutputStream outstream, final boolean closeOutstream) throws IOException {
+        write(outstream, closeOutstream, DEFAULT_COMPRESSION_LEVEL, 1);
+    }
+
+    /** Default deflate compression level, {@value} */
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
+    /**
+     * Writes this image as PNG.
+     * <p>
+     * With more than one thread, bands of rows are filtered and deflated concurrently
+     * into one standard zlib stream, if supported by the runtime, i.e. Java 7 or later.
+     * Otherwise the image is encoded sequentially.
+     * </p>
+     * @param outstream the output stream
+     * @param closeOutstream if true, closes the output stream after writing
+     * @param compressionLevel deflate compression level [0..9], see {@link #DEFAULT_COMPRESSION_LEVEL}
+     * @param threads number of encoder threads, 0 or 1 for sequential encoding
+     * @throws IOException
+     */
+    public void write(final OutputStream outstream, final boolean closeOutstream, final int compressionLevel, final int threads) throws IOException {
         final int width = size.getWidth();
         final int height = size.getHeight();
         final int bytesPerPixel = pixelformat.comp.bytesPerPixel();
@@ -314,6 +388,8 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
         // open image for writing to a output stream
         try {
             final PngWriter png = new PngWriter(outstream, imi);
+            png.setCompLevel(compressionLevel);
+            png.setParallelEncoding(threads);
             // add some optional metadata (chunks)
             png.getMetadata().setDpi(dpi[0], dpi[1]);
             png.getMetadata().setTimeNow(0); // 0 seconds from now = now
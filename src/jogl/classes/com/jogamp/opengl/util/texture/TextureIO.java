@@ -47,6 +47,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
@@ -70,6 +71,7 @@ import com.jogamp.opengl.GLProfile;
 
 import jogamp.opengl.Debug;
 
+import com.jogamp.common.net.Uri;
 import com.jogamp.common.util.IOUtil;
 import com.jogamp.opengl.util.GLPixelStorageModes;
 import com.jogamp.opengl.util.PNGPixelRect;
@@ -236,7 +238,7 @@ public class TextureIO {
         if (fileSuffix == null) {
             fileSuffix = IOUtil.getFileSuffix(file);
         }
-        return newTextureDataImpl(glp, file, 0, 0, mipmap, fileSuffix);
+        return newTextureDataImpl(glp, file, 0, 0, mipmap, fileSuffix, 1);
     }
 
     /**
@@ -263,7 +265,7 @@ public class TextureIO {
     public static TextureData newTextureData(final GLProfile glp, final InputStream stream,
                                              final boolean mipmap,
                                              final String fileSuffix) throws IOException {
-        return newTextureDataImpl(glp, stream, 0, 0, mipmap, fileSuffix);
+        return newTextureDataImpl(glp, stream, 0, 0, mipmap, fileSuffix, 1);
     }
 
     /**
@@ -293,7 +295,99 @@ public class TextureIO {
         if (fileSuffix == null) {
             fileSuffix = IOUtil.getFileSuffix(url.getPath());
         }
-        return newTextureDataImpl(glp, url, 0, 0, mipmap, fileSuffix);
+        return newTextureDataImpl(glp, url, 0, 0, mipmap, fileSuffix, 1);
+    }
+
+    /**
+     * Creates a TextureData from the given file at a reduced size of
+     * <code>ceil(width / scaleDenom) x ceil(height / scaleDenom)</code> pixels,
+     * e.g. for thumbnails or low mipmap levels. Does no OpenGL work.
+     * <p>
+     * Reduced size decoding is performed by {@link TextureProvider}s implementing
+     * {@link TextureProvider.SupportsScaledDecode}, currently JPEG, w/o decoding the full size image.
+     * Other image types are read at full size.
+     * </p>
+     *
+     * @param glp the OpenGL Profile this texture data should be
+     *                  created for.
+     * @param file the file from which to read the texture data
+     * @param mipmap     whether mipmaps should be produced for this
+     *                   texture, see {@link #newTextureData(GLProfile, File, boolean, String)}
+     * @param fileSuffix the suffix of the file name to be used as a
+     *                   hint of the file format to the underlying
+     *                   texture provider, or null if none and should be
+     *                   auto-detected
+     * @param scaleDenom scale denominator, either 1, 2, 4 or 8
+     * @return the texture data from the file, or null if none of the
+     *         registered texture providers could read the file
+     * @throws IOException if an error occurred while reading the file
+     * @throws IllegalArgumentException if scaleDenom is not 1, 2, 4 or 8
+     */
+    public static TextureData newTextureData(final GLProfile glp, final File file,
+                                             final boolean mipmap,
+                                             String fileSuffix,
+                                             final int scaleDenom) throws IOException, IllegalArgumentException {
+        if (fileSuffix == null) {
+            fileSuffix = IOUtil.getFileSuffix(file);
+        }
+        return newTextureDataImpl(glp, file, 0, 0, mipmap, fileSuffix, scaleDenom);
+    }
+
+    /**
+     * Creates a TextureData from the given stream at a reduced size,
+     * see {@link #newTextureData(GLProfile, File, boolean, String, int)}.
+     * Does no OpenGL work.
+     *
+     * @param glp the OpenGL Profile this texture data should be
+     *                  created for.
+     * @param stream the stream from which to read the texture data
+     * @param mipmap     whether mipmaps should be produced for this
+     *                   texture, see {@link #newTextureData(GLProfile, InputStream, boolean, String)}
+     * @param fileSuffix the suffix of the file name to be used as a
+     *                   hint of the file format to the underlying
+     *                   texture provider, or null if none and should be
+     *                   auto-detected
+     * @param scaleDenom scale denominator, either 1, 2, 4 or 8
+     * @return the texture data from the stream, or null if none of the
+     *         registered texture providers could read the stream
+     * @throws IOException if an error occurred while reading the stream
+     * @throws IllegalArgumentException if scaleDenom is not 1, 2, 4 or 8
+     */
+    public static TextureData newTextureData(final GLProfile glp, final InputStream stream,
+                                             final boolean mipmap,
+                                             final String fileSuffix,
+                                             final int scaleDenom) throws IOException, IllegalArgumentException {
+        return newTextureDataImpl(glp, stream, 0, 0, mipmap, fileSuffix, scaleDenom);
+    }
+
+    /**
+     * Creates a TextureData from the given URL at a reduced size,
+     * see {@link #newTextureData(GLProfile, File, boolean, String, int)}.
+     * Does no OpenGL work.
+     *
+     * @param glp the OpenGL Profile this texture data should be
+     *                  created for.
+     * @param url the URL from which to read the texture data
+     * @param mipmap     whether mipmaps should be produced for this
+     *                   texture, see {@link #newTextureData(GLProfile, URL, boolean, String)}
+     * @param fileSuffix the suffix of the file name to be used as a
+     *                   hint of the file format to the underlying
+     *                   texture provider, or null if none and should be
+     *                   auto-detected
+     * @param scaleDenom scale denominator, either 1, 2, 4 or 8
+     * @return the texture data from the URL, or null if none of the
+     *         registered texture providers could read the URL
+     * @throws IOException if an error occurred while reading the URL
+     * @throws IllegalArgumentException if scaleDenom is not 1, 2, 4 or 8
+     */
+    public static TextureData newTextureData(final GLProfile glp, final URL url,
+                                             final boolean mipmap,
+                                             String fileSuffix,
+                                             final int scaleDenom) throws IOException, IllegalArgumentException {
+        if (fileSuffix == null) {
+            fileSuffix = IOUtil.getFileSuffix(url.getPath());
+        }
+        return newTextureDataImpl(glp, url, 0, 0, mipmap, fileSuffix, scaleDenom);
     }
 
     //----------------------------------------------------------------------
@@ -348,7 +442,7 @@ public class TextureIO {
             fileSuffix = IOUtil.getFileSuffix(file);
         }
 
-        return newTextureDataImpl(glp, file, internalFormat, pixelFormat, mipmap, fileSuffix);
+        return newTextureDataImpl(glp, file, internalFormat, pixelFormat, mipmap, fileSuffix, 1);
     }
 
     /**
@@ -392,7 +486,7 @@ public class TextureIO {
             throw new IllegalArgumentException("internalFormat and pixelFormat must be non-zero");
         }
 
-        return newTextureDataImpl(glp, stream, internalFormat, pixelFormat, mipmap, fileSuffix);
+        return newTextureDataImpl(glp, stream, internalFormat, pixelFormat, mipmap, fileSuffix, 1);
     }
 
     /**
@@ -440,7 +534,7 @@ public class TextureIO {
             fileSuffix = IOUtil.getFileSuffix(url.getPath());
         }
 
-        return newTextureDataImpl(glp, url, internalFormat, pixelFormat, mipmap, fileSuffix);
+        return newTextureDataImpl(glp, url, internalFormat, pixelFormat, mipmap, fileSuffix, 1);
     }
 
     //----------------------------------------------------------------------
@@ -822,10 +916,14 @@ public class TextureIO {
                                                   final int internalFormat,
                                                   final int pixelFormat,
                                                   final boolean mipmap,
-                                                  String fileSuffix) throws IOException {
+                                                  String fileSuffix,
+                                                  final int scaleDenom) throws IOException {
         if (stream == null) {
             throw new IOException("Stream was null");
         }
+        if( 1 != scaleDenom && 2 != scaleDenom && 4 != scaleDenom && 8 != scaleDenom ) {
+            throw new IllegalArgumentException("Scale denominator not 1, 2, 4 or 8: "+scaleDenom);
+        }
 
         // Note: use of BufferedInputStream works around 4764639/4892246
         if (!(stream instanceof BufferedInputStream)) {
@@ -839,11 +937,12 @@ public class TextureIO {
             if( imageType.isDefined() ) {
                 final TextureProvider mappedProvider = imageType2TextureProvider.get(imageType);
                 if( null != mappedProvider ) {
-                    final TextureData data = mappedProvider.newTextureData(glp, stream,
+                    final TextureData data = newTextureData(mappedProvider, glp, stream,
                                                                            internalFormat,
                                                                            pixelFormat,
                                                                            mipmap,
-                                                                           imageType.type);
+                                                                           imageType.type,
+                                                                           scaleDenom);
                     if (data != null) {
                         data.srcImageType = imageType;
                         return data;
@@ -861,11 +960,12 @@ public class TextureIO {
 
         for (final Iterator<TextureProvider> iter = textureProviders.iterator(); iter.hasNext(); ) {
             final TextureProvider provider = iter.next();
-            final TextureData data = provider.newTextureData(glp, stream,
+            final TextureData data = newTextureData(provider, glp, stream,
                                                              internalFormat,
                                                              pixelFormat,
                                                              mipmap,
-                                                             fileSuffix);
+                                                             fileSuffix,
+                                                             scaleDenom);
             if (data != null) {
                 final ImageType[] imageTypes = provider.getImageTypes();
                 data.srcImageType = null != imageTypes ? imageTypes[0] : null;
@@ -875,18 +975,35 @@ public class TextureIO {
 
         throw new IOException("No suitable reader for given stream");
     }
+    private static TextureData newTextureData(final TextureProvider provider, final GLProfile glp, final InputStream stream,
+                                              final int internalFormat,
+                                              final int pixelFormat,
+                                              final boolean mipmap,
+                                              final String fileSuffix,
+                                              final int scaleDenom) throws IOException {
+        if( 1 < scaleDenom && provider instanceof TextureProvider.SupportsScaledDecode ) {
+            return ((TextureProvider.SupportsScaledDecode)provider).newTextureData(glp, stream, internalFormat, pixelFormat,
+                                                                                   mipmap, fileSuffix, scaleDenom);
+        }
+        return provider.newTextureData(glp, stream, internalFormat, pixelFormat, mipmap, fileSuffix);
+    }
     private static TextureData newTextureDataImpl(final GLProfile glp, final File file,
                                                   final int internalFormat,
                                                   final int pixelFormat,
                                                   final boolean mipmap,
-                                                  final String fileSuffix) throws IOException {
+                                                  final String fileSuffix,
+                                                  final int scaleDenom) throws IOException {
         if (file == null) {
             throw new IOException("File was null");
         }
         final InputStream stream = new BufferedInputStream(new FileInputStream(file));
         try {
+            final TextureData mappedData = newMappedTextureData(glp, file, stream, internalFormat, pixelFormat, mipmap);
+            if( null != mappedData ) {
+                return mappedData;
+            }
             return newTextureDataImpl( glp, stream, internalFormat, pixelFormat, mipmap,
-                                       (fileSuffix != null) ? fileSuffix : IOUtil.getFileSuffix(file) );
+                                       (fileSuffix != null) ? fileSuffix : IOUtil.getFileSuffix(file), scaleDenom );
         } catch(final IOException ioe) {
             throw new IOException(ioe.getMessage()+", given file "+file.getAbsolutePath(), ioe);
         } finally {
@@ -897,13 +1014,27 @@ public class TextureIO {
                                                   final int internalFormat,
                                                   final int pixelFormat,
                                                   final boolean mipmap,
-                                                  final String fileSuffix) throws IOException {
+                                                  final String fileSuffix,
+                                                  final int scaleDenom) throws IOException {
         if (url == null) {
             throw new IOException("URL was null");
         }
+        if( "file".equals(url.getProtocol()) ) {
+            File file = null;
+            try {
+                file = Uri.valueOf(url).toFile();
+            } catch (final URISyntaxException use) {
+                if(DEBUG) {
+                    System.err.println("Caught "+use.getMessage());
+                }
+            }
+            if( null != file && file.isFile() ) {
+                return newTextureDataImpl(glp, file, internalFormat, pixelFormat, mipmap, fileSuffix, scaleDenom);
+            }
+        }
         final InputStream stream = new BufferedInputStream(url.openStream());
         try {
-            return newTextureDataImpl(glp, stream, internalFormat, pixelFormat, mipmap, fileSuffix);
+            return newTextureDataImpl(glp, stream, internalFormat, pixelFormat, mipmap, fileSuffix, scaleDenom);
         } catch(final IOException ioe) {
             throw new IOException(ioe.getMessage()+", given URL "+url, ioe);
         } finally {
@@ -911,6 +1042,40 @@ public class TextureIO {
         }
     }
 
+    /**
+     * Returns {@link TextureData} backed by a read-only memory mapping of the given file,
+     * if its content is of a type supporting mapped access and the registered {@link TextureProvider}
+     * for it is the builtin one. Otherwise returns <code>null</code>.
+     * <p>
+     * Currently only {@link ImageType#T_DDS DDS} is mapped, where the {@link TextureData}
+     * (mipmap) buffers are slices of the mapping instead of copies on the heap.
+     * </p>
+     * @param stream the opened file stream, only used to determine the {@link ImageType}
+     */
+    private static TextureData newMappedTextureData(final GLProfile glp, final File file, final InputStream stream,
+                                                    final int internalFormat,
+                                                    final int pixelFormat,
+                                                    final boolean mipmap) throws IOException {
+        final ImageType imageType;
+        try {
+            imageType = new ImageType(stream);
+        } catch (final IOException ioe) {
+            if(DEBUG) {
+                System.err.println("Caught "+ioe.getMessage());
+            }
+            return null; // too small to carry a magic, let the providers decide
+        }
+        if( ImageType.T_DDS.equals(imageType.type) ) {
+            final TextureProvider provider = imageType2TextureProvider.get(imageType);
+            if( provider instanceof DDSTextureProvider ) {
+                final TextureData data = ((DDSTextureProvider)provider).newTextureData(glp, file, internalFormat, pixelFormat, mipmap);
+                data.srcImageType = imageType;
+                return data;
+            }
+        }
+        return null;
+    }
+
     //----------------------------------------------------------------------
     // DDS image provider
     static class DDSTextureProvider implements TextureProvider {
@@ -937,6 +1102,23 @@ public class TextureIO {
             return null;
         }
 
+        /**
+         * Maps the given DDS file read-only, the resulting {@link TextureData} buffers
+         * are slices of the mapping, which is released by the {@link TextureData.Flusher}.
+         */
+        TextureData newTextureData(final GLProfile glp, final File file,
+                                   final int internalFormat,
+                                   final int pixelFormat,
+                                   final boolean mipmap) throws IOException {
+            final DDSImage image = DDSImage.read(file);
+            try {
+                return newTextureData(glp, image, internalFormat, pixelFormat, mipmap);
+            } catch (final RuntimeException re) {
+                image.close();
+                throw re;
+            }
+        }
+
         private TextureData newTextureData(final GLProfile glp, final DDSImage image,
                                            int internalFormat,
                                            int pixelFormat,
@@ -1156,7 +1338,7 @@ public class TextureIO {
 
     //----------------------------------------------------------------------
     // JPEG image provider
-    static class JPGTextureProvider implements TextureProvider {
+    static class JPGTextureProvider implements TextureProvider, TextureProvider.SupportsScaledDecode {
         private static final ImageType[] imageTypes = new ImageType[] { new ImageType(ImageType.T_JPG) };
         @Override
         public final ImageType[] getImageTypes() {
@@ -1169,9 +1351,19 @@ public class TextureIO {
                                           int pixelFormat,
                                           final boolean mipmap,
                                           final String fileSuffix) throws IOException {
+            return newTextureData(glp, stream, internalFormat, pixelFormat, mipmap, fileSuffix, 1);
+        }
+
+        @Override
+        public TextureData newTextureData(final GLProfile glp, final InputStream stream,
+                                          int internalFormat,
+                                          int pixelFormat,
+                                          final boolean mipmap,
+                                          final String fileSuffix,
+                                          final int scaleDenom) throws IOException {
             if (ImageType.T_JPG.equals(fileSuffix) ||
             	ImageType.T_JPG.equals(ImageType.Util.getFileSuffix(stream))) {
-                final JPEGImage image = JPEGImage.read(/*glp, */ stream);
+                final JPEGImage image = JPEGImage.read(/*glp, */ stream, TextureData.ColorSpace.RGB, null, scaleDenom);
                 if (pixelFormat == 0) {
                     pixelFormat = image.getGLFormat();
                 }
@@ -0,0 +1,662 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAnimatorControl;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLRunnable;
+
+import jogamp.opengl.Debug;
+
+/**
+ * Asynchronous texture streaming on top of {@link TextureIO} and {@link TextureData}.
+ * <p>
+ * {@link #request(File, boolean, String, int, Listener) Requested} images are decoded
+ * into {@link TextureData} by a bounded pool of worker threads in priority order,
+ * higher priority first and equal priorities in request order.
+ * Decoded data is handed to the associated {@link GLAutoDrawable} via {@link GLAutoDrawable#invoke(boolean, GLRunnable) invoke},
+ * where it is uploaded into a {@link Texture} on the GL thread, again in priority order.
+ * </p>
+ * <p>
+ * The uploads per frame are limited by an optional {@link #setUploadBudget(long, long) budget}
+ * in bytes and/or nanoseconds, while at least one texture is uploaded per frame.
+ * The budget is applied while the drawable is {@link GLAnimatorControl#isAnimating() animated},
+ * where the remaining uploads are deferred to the next frame.
+ * Without animator all decoded data is uploaded at once. Alternatively an application may
+ * call {@link #upload(GL)} from its own {@link com.jogamp.opengl.GLEventListener#display(GLAutoDrawable) display} method.
+ * </p>
+ * <p>
+ * If the drawable refuses to {@link GLAutoDrawable#invoke(boolean, GLRunnable) invoke} the upload,
+ * a {@link GLEventListener} is added to the drawable once, uploading the refused data within its next
+ * {@link GLEventListener#display(GLAutoDrawable) display}, e.g. after the drawable has been realized.
+ * The listener stays attached until this instance is {@link #destroy() destroyed}.
+ * </p>
+ * <p>
+ * Memory is accounted by {@link TextureData#getEstimatedMemorySize()}:
+ * <ul>
+ *   <li>{@link #getPendingMemorySize() pending}, decoded data waiting for upload.
+ *       The workers stop decoding while it exceeds {@link #setMaxPendingMemorySize(long) its maximum}.</li>
+ *   <li>{@link #getResidentMemorySize() resident}, uploaded textures until {@link #release(GL, Request) released}.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * A {@link Request} can be {@link Request#cancel() canceled} until its upload begins
+ * and {@link Request#setPriority(int) re-prioritized} at any time.
+ * </p>
+ */
+public class TextureStreamer {
+    private static final boolean DEBUG = Debug.debug("TextureStreamer");
+    private static int instanceCounter = 0;
+
+    /** Request state */
+    public static enum State {
+        /** Waiting for decoding */
+        QUEUED,
+        /** Decoding by a worker */
+        DECODING,
+        /** Decoded, waiting for upload */
+        DECODED,
+        /** Uploading on the GL thread */
+        UPLOADING,
+        /** Uploaded, {@link Request#getTexture()} is available */
+        LOADED,
+        /** Canceled before upload */
+        CANCELED,
+        /** Decoding or upload failed, see {@link Request#getError()} */
+        FAILED,
+        /** {@link TextureStreamer#release(GL, Request) Released} after upload */
+        RELEASED
+    }
+
+    /** Listener notified about finished {@link Request}s. */
+    public static interface Listener {
+        /** Called on the GL thread after the texture has been uploaded. */
+        void textureLoaded(TextureStreamer streamer, Request request, Texture texture);
+        /** Called on the worker or GL thread if decoding or upload failed. */
+        void textureFailed(TextureStreamer streamer, Request request, Throwable error);
+    }
+
+    /** A texture streaming request. */
+    public final class Request {
+        private final File file;
+        private final URL url;
+        private final boolean mipmap;
+        private final String fileSuffix;
+        private final Listener listener;
+        private final long serial;
+        private int priority;
+        private volatile State state;
+        private TextureData data;
+        private volatile Texture texture;
+        private volatile Throwable error;
+        private volatile int memorySize;
+
+        private Request(final File file, final URL url, final boolean mipmap, final String fileSuffix,
+                        final int priority, final Listener listener, final long serial) {
+            this.file = file;
+            this.url = url;
+            this.mipmap = mipmap;
+            this.fileSuffix = fileSuffix;
+            this.priority = priority;
+            this.listener = listener;
+            this.serial = serial;
+            this.state = State.QUEUED;
+        }
+
+        /** Returns the requested {@link File} or <code>null</code>. */
+        public final File getFile() { return file; }
+        /** Returns the requested {@link URL} or <code>null</code>. */
+        public final URL getURL() { return url; }
+        /** Returns the current priority, higher values are processed first. */
+        public final int getPriority() { synchronized(lock) { return priority; } }
+        /** Returns the current {@link State}. */
+        public final State getState() { return state; }
+        /** Returns the uploaded {@link Texture} if {@link State#LOADED}, otherwise <code>null</code>. */
+        public final Texture getTexture() { return texture; }
+        /** Returns the cause if {@link State#FAILED}, otherwise <code>null</code>. */
+        public final Throwable getError() { return error; }
+        /** Returns the {@link TextureData#getEstimatedMemorySize() estimated memory size} once decoded, otherwise 0. */
+        public final int getMemorySize() { return memorySize; }
+
+        /**
+         * Changes the priority of this request, reordering it within the decode or upload queue.
+         */
+        public final void setPriority(final int priority) {
+            synchronized(lock) {
+                if( this.priority != priority ) {
+                    final PriorityQueue<Request> queue = State.QUEUED == state ? decodeQueue :
+                                                         ( State.DECODED == state ? uploadQueue : null );
+                    if( null != queue && queue.remove(this) ) {
+                        this.priority = priority;
+                        queue.add(this);
+                    } else {
+                        this.priority = priority;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Cancels this request if not yet uploading, releasing decoded data.
+         * @return <code>true</code> if canceled, otherwise <code>false</code>, i.e. already uploading, done or failed.
+         */
+        public final boolean cancel() {
+            return TextureStreamer.this.cancel(this);
+        }
+
+        @Override
+        public final String toString() {
+            return "Request["+(null != file ? file : url)+", prio "+priority+", "+state+", "+memorySize+" bytes]";
+        }
+    }
+
+    private static final Comparator<Request> requestOrder = new Comparator<Request>() {
+        @Override
+        public int compare(final Request a, final Request b) {
+            if( a.priority != b.priority ) {
+                return a.priority > b.priority ? -1 : 1;
+            }
+            return a.serial < b.serial ? -1 : ( a.serial > b.serial ? 1 : 0 );
+        }
+    };
+
+    private final Object lock = new Object();
+    private final GLAutoDrawable drawable;
+    private final GLProfile glp;
+    private final PriorityQueue<Request> decodeQueue = new PriorityQueue<Request>(16, requestOrder);
+    private final PriorityQueue<Request> uploadQueue = new PriorityQueue<Request>(16, requestOrder);
+    private final Thread[] workers;
+    private final GLRunnable uploadTask;
+    /** Uploads within {@link GLEventListener#display(GLAutoDrawable) display} if the {@link #uploadTask} has been refused. */
+    private final GLEventListener uploadFallback;
+    private long serialCounter = 0;
+    private long pendingMemorySize = 0;
+    private long residentMemorySize = 0;
+    private long maxPendingMemorySize = 0;
+    private long uploadBudgetBytes = 0;
+    private long uploadBudgetNanos = 0;
+    private boolean uploadScheduled = false;
+    /** {@link #uploadTask} has been refused and is pending for {@link #uploadFallback}. */
+    private boolean uploadRefused = false;
+    private boolean uploadFallbackAdded = false;
+    private boolean destroyed = false;
+
+    /**
+     * Creates a new instance and starts its decode workers.
+     * @param drawable the {@link GLAutoDrawable} used to upload the textures
+     * @param workerCount number of decode worker threads, &ge; 1
+     * @param maxPendingMemorySize maximum memory in bytes of decoded data waiting for upload, 0 for unlimited.
+     *        A single decoded image exceeding this limit is still accepted.
+     */
+    public TextureStreamer(final GLAutoDrawable drawable, final int workerCount, final long maxPendingMemorySize) {
+        if( null == drawable ) {
+            throw new IllegalArgumentException("Null drawable");
+        }
+        if( 1 > workerCount ) {
+            throw new IllegalArgumentException("Worker count < 1: "+workerCount);
+        }
+        this.drawable = drawable;
+        this.glp = drawable.getGLProfile();
+        this.maxPendingMemorySize = Math.max(0, maxPendingMemorySize);
+        this.uploadTask = new GLRunnable() {
+            @Override
+            public boolean run(final GLAutoDrawable drawable) {
+                final boolean animated = isAnimated();
+                synchronized(lock) {
+                    uploadScheduled = false;
+                }
+                uploadImpl(drawable.getGL(), animated);
+                if( animated ) {
+                    boolean reschedule = false;
+                    synchronized(lock) {
+                        if( !destroyed && !uploadQueue.isEmpty() && !uploadScheduled ) {
+                            uploadScheduled = true;
+                            reschedule = true;
+                        }
+                    }
+                    if( reschedule ) {
+                        scheduleUpload(); // deferred to next frame
+                    }
+                }
+                return true;
+            }
+        };
+        this.uploadFallback = new GLEventListener() {
+            @Override
+            public void init(final GLAutoDrawable drawable) { }
+            @Override
+            public void dispose(final GLAutoDrawable drawable) { }
+            @Override
+            public void display(final GLAutoDrawable drawable) {
+                final boolean refused;
+                synchronized(lock) {
+                    refused = uploadRefused;
+                    uploadRefused = false;
+                }
+                if( refused ) {
+                    uploadTask.run(drawable);
+                }
+            }
+            @Override
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        };
+        final int id;
+        synchronized( TextureStreamer.class ) {
+            id = instanceCounter++;
+        }
+        workers = new Thread[workerCount];
+        for(int i=0; i<workerCount; i++) {
+            workers[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    workerLoop();
+                }
+            }, "TextureStreamer-"+id+"-Worker-"+i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    /** Returns the associated {@link GLAutoDrawable}. */
+    public final GLAutoDrawable getDrawable() { return drawable; }
+
+    /**
+     * Sets the upload budget per frame, see {@link #upload(GL)}.
+     * @param bytes maximum bytes to upload per frame, 0 for unlimited
+     * @param nanos maximum time in nanoseconds to spend uploading per frame, 0 for unlimited
+     */
+    public final void setUploadBudget(final long bytes, final long nanos) {
+        synchronized(lock) {
+            uploadBudgetBytes = Math.max(0, bytes);
+            uploadBudgetNanos = Math.max(0, nanos);
+        }
+    }
+    /** Returns the upload budget per frame in bytes, 0 for unlimited. */
+    public final long getUploadBudgetBytes() { synchronized(lock) { return uploadBudgetBytes; } }
+    /** Returns the upload budget per frame in nanoseconds, 0 for unlimited. */
+    public final long getUploadBudgetNanos() { synchronized(lock) { return uploadBudgetNanos; } }
+
+    /**
+     * Sets the maximum memory in bytes of decoded data waiting for upload, 0 for unlimited.
+     */
+    public final void setMaxPendingMemorySize(final long bytes) {
+        synchronized(lock) {
+            maxPendingMemorySize = Math.max(0, bytes);
+            lock.notifyAll();
+        }
+    }
+    /** Returns the maximum memory in bytes of decoded data waiting for upload, 0 for unlimited. */
+    public final long getMaxPendingMemorySize() { synchronized(lock) { return maxPendingMemorySize; } }
+    /** Returns the estimated memory in bytes of decoded data waiting for upload. */
+    public final long getPendingMemorySize() { synchronized(lock) { return pendingMemorySize; } }
+    /** Returns the estimated memory in bytes of uploaded textures not yet {@link #release(GL, Request) released}. */
+    public final long getResidentMemorySize() { synchronized(lock) { return residentMemorySize; } }
+    /** Returns the number of requests waiting for decoding. */
+    public final int getQueuedCount() { synchronized(lock) { return decodeQueue.size(); } }
+    /** Returns the number of decoded requests waiting for upload. */
+    public final int getDecodedCount() { synchronized(lock) { return uploadQueue.size(); } }
+
+    /**
+     * Requests streaming of the given image file, see {@link TextureIO#newTextureData(GLProfile, File, boolean, String)}.
+     * @param file the image file
+     * @param mipmap whether mipmaps should be produced for this texture
+     * @param fileSuffix the suffix of the file name to be used as a hint of the file format, maybe <code>null</code>
+     * @param priority higher values are decoded and uploaded first
+     * @param listener optional {@link Listener}, maybe <code>null</code>
+     * @throws IllegalStateException if {@link #destroy() destroyed}
+     */
+    public final Request request(final File file, final boolean mipmap, final String fileSuffix,
+                                 final int priority, final Listener listener) throws IllegalStateException {
+        if( null == file ) {
+            throw new IllegalArgumentException("Null file");
+        }
+        return requestImpl(file, null, mipmap, fileSuffix, priority, listener);
+    }
+
+    /**
+     * Requests streaming of the given image URL, see {@link TextureIO#newTextureData(GLProfile, URL, boolean, String)}.
+     * @param url the image URL
+     * @param mipmap whether mipmaps should be produced for this texture
+     * @param fileSuffix the suffix of the file name to be used as a hint of the file format, maybe <code>null</code>
+     * @param priority higher values are decoded and uploaded first
+     * @param listener optional {@link Listener}, maybe <code>null</code>
+     * @throws IllegalStateException if {@link #destroy() destroyed}
+     */
+    public final Request request(final URL url, final boolean mipmap, final String fileSuffix,
+                                 final int priority, final Listener listener) throws IllegalStateException {
+        if( null == url ) {
+            throw new IllegalArgumentException("Null URL");
+        }
+        return requestImpl(null, url, mipmap, fileSuffix, priority, listener);
+    }
+
+    private Request requestImpl(final File file, final URL url, final boolean mipmap, final String fileSuffix,
+                                final int priority, final Listener listener) throws IllegalStateException {
+        synchronized(lock) {
+            if( destroyed ) {
+                throw new IllegalStateException("Destroyed: "+this);
+            }
+            final Request r = new Request(file, url, mipmap, fileSuffix, priority, listener, serialCounter++);
+            decodeQueue.add(r);
+            lock.notifyAll();
+            return r;
+        }
+    }
+
+    /**
+     * Cancels the given request if not yet uploading, releasing decoded data.
+     * @return <code>true</code> if canceled, otherwise <code>false</code>, i.e. already uploading, done or failed.
+     * @see Request#cancel()
+     */
+    public final boolean cancel(final Request r) {
+        final TextureData data;
+        synchronized(lock) {
+            switch( r.state ) {
+                case QUEUED:
+                    decodeQueue.remove(r);
+                    r.state = State.CANCELED;
+                    return true;
+                case DECODING:
+                    r.state = State.CANCELED; // worker releases the data
+                    return true;
+                case DECODED:
+                    uploadQueue.remove(r);
+                    pendingMemorySize -= r.memorySize;
+                    data = r.data;
+                    r.data = null;
+                    r.state = State.CANCELED;
+                    lock.notifyAll();
+                    break;
+                default:
+                    return false;
+            }
+        }
+        data.flush();
+        return true;
+    }
+
+    /**
+     * Destroys the {@link Texture} of the given {@link State#LOADED} request
+     * and removes it from the {@link #getResidentMemorySize() resident memory}.
+     * <p>
+     * Shall be called on the GL thread with a current context.
+     * </p>
+     * @return <code>true</code> if released, otherwise <code>false</code>.
+     */
+    public final boolean release(final GL gl, final Request r) {
+        final Texture tex;
+        synchronized(lock) {
+            if( State.LOADED != r.state ) {
+                return false;
+            }
+            tex = r.texture;
+            r.texture = null;
+            residentMemorySize -= r.memorySize;
+            r.state = State.RELEASED;
+        }
+        tex.destroy(gl);
+        return true;
+    }
+
+    /**
+     * Uploads decoded data in priority order within the {@link #setUploadBudget(long, long) upload budget},
+     * uploading at least one texture if available.
+     * <p>
+     * Shall be called on the GL thread with a current context, e.g. within
+     * {@link com.jogamp.opengl.GLEventListener#display(GLAutoDrawable) display}.
+     * </p>
+     * @return the number of uploaded textures
+     */
+    public final int upload(final GL gl) {
+        return uploadImpl(gl, true);
+    }
+
+    private int uploadImpl(final GL gl, final boolean budgeted) {
+        final long t0 = System.nanoTime();
+        int count = 0;
+        long bytes = 0;
+        while( true ) {
+            final Request r;
+            final TextureData data;
+            synchronized(lock) {
+                r = uploadQueue.peek();
+                if( null == r ) {
+                    break;
+                }
+                if( budgeted && 0 < count &&
+                    ( ( 0 < uploadBudgetBytes && bytes + r.memorySize > uploadBudgetBytes ) ||
+                      ( 0 < uploadBudgetNanos && System.nanoTime() - t0 >= uploadBudgetNanos ) ) ) {
+                    break;
+                }
+                uploadQueue.poll();
+                data = r.data;
+                r.data = null;
+                r.state = State.UPLOADING;
+            }
+            Texture tex = null;
+            Throwable error = null;
+            try {
+                tex = new Texture(gl, data);
+            } catch (final Throwable t) {
+                error = t;
+            } finally {
+                data.flush();
+            }
+            synchronized(lock) {
+                pendingMemorySize -= r.memorySize;
+                if( null != tex ) {
+                    residentMemorySize += r.memorySize;
+                    r.texture = tex;
+                    r.state = State.LOADED;
+                } else {
+                    r.error = error;
+                    r.state = State.FAILED;
+                }
+                lock.notifyAll();
+            }
+            bytes += r.memorySize;
+            count++;
+            if( DEBUG ) {
+                System.err.println("TextureStreamer: Uploaded "+r+" in "+(System.nanoTime()-t0)/1000+" us total");
+            }
+            if( null != r.listener ) {
+                if( null != tex ) {
+                    r.listener.textureLoaded(this, r, tex);
+                } else {
+                    r.listener.textureFailed(this, r, error);
+                }
+            }
+        }
+        return count;
+    }
+
+    private boolean isAnimated() {
+        final GLAnimatorControl animator = drawable.getAnimator();
+        return null != animator && animator.isAnimating();
+    }
+
+    /**
+     * Schedules the {@link #uploadTask} after the caller has set {@link #uploadScheduled}.
+     * If refused by the drawable, e.g. not realized, {@link #uploadScheduled} is kept
+     * and the upload is performed by the {@link #uploadFallback} within the next display.
+     */
+    private void scheduleUpload() {
+        if( !drawable.invoke(false, uploadTask) ) {
+            final boolean addFallback;
+            synchronized(lock) {
+                if( destroyed ) {
+                    return;
+                }
+                uploadRefused = true;
+                addFallback = !uploadFallbackAdded;
+                uploadFallbackAdded = true;
+            }
+            if( DEBUG ) {
+                System.err.println("TextureStreamer: Upload refused by drawable, deferred to next display, fallback added "+addFallback);
+            }
+            if( addFallback ) {
+                drawable.addGLEventListener(uploadFallback);
+                final boolean stale;
+                synchronized(lock) {
+                    stale = destroyed;
+                }
+                if( stale ) {
+                    drawable.removeGLEventListener(uploadFallback); // destroyed concurrently
+                }
+            }
+        }
+    }
+
+    private void workerLoop() {
+        while( true ) {
+            final Request r;
+            synchronized(lock) {
+                try {
+                    while( !destroyed &&
+                           ( decodeQueue.isEmpty() ||
+                             ( 0 < maxPendingMemorySize && 0 < pendingMemorySize && pendingMemorySize >= maxPendingMemorySize ) ) ) {
+                        lock.wait();
+                    }
+                } catch (final InterruptedException ie) {
+                    return; // destroyed
+                }
+                if( destroyed ) {
+                    return;
+                }
+                r = decodeQueue.poll();
+                r.state = State.DECODING;
+            }
+            TextureData data = null;
+            Throwable error = null;
+            try {
+                if( null != r.file ) {
+                    data = TextureIO.newTextureData(glp, r.file, r.mipmap, r.fileSuffix);
+                } else {
+                    data = TextureIO.newTextureData(glp, r.url, r.mipmap, r.fileSuffix);
+                }
+            } catch (final Throwable t) {
+                error = t;
+            }
+            if( null == data && null == error ) {
+                error = new IOException("No TextureData for "+r);
+            }
+            boolean schedule = false;
+            boolean canceled = false;
+            synchronized(lock) {
+                if( State.CANCELED == r.state || destroyed ) {
+                    r.state = State.CANCELED;
+                    canceled = true;
+                } else if( null != error ) {
+                    r.error = error;
+                    r.state = State.FAILED;
+                } else {
+                    r.data = data;
+                    r.memorySize = data.getEstimatedMemorySize();
+                    pendingMemorySize += r.memorySize;
+                    r.state = State.DECODED;
+                    uploadQueue.add(r);
+                    if( !uploadScheduled ) {
+                        uploadScheduled = true;
+                        schedule = true;
+                    }
+                }
+            }
+            if( canceled ) {
+                if( null != data ) {
+                    data.flush();
+                }
+            } else if( null != error ) {
+                if( DEBUG ) {
+                    System.err.println("TextureStreamer: Failed "+r+": "+error.getMessage());
+                }
+                if( null != r.listener ) {
+                    r.listener.textureFailed(this, r, error);
+                }
+            } else if( schedule ) {
+                scheduleUpload();
+            }
+        }
+    }
+
+    /**
+     * Stops the decode workers, cancels all requests not yet uploaded and releases their decoded data.
+     * <p>
+     * Uploaded textures are not destroyed, use {@link #release(GL, Request)}.
+     * </p>
+     * <p>
+     * Removes the display fallback listener from the drawable if added, see above.
+     * Hence this method shall not be called from within a {@link GLEventListener} callback of the drawable in this case.
+     * </p>
+     */
+    public final void destroy() {
+        final ArrayList<Request> canceled = new ArrayList<Request>();
+        final boolean removeFallback;
+        synchronized(lock) {
+            if( destroyed ) {
+                return;
+            }
+            destroyed = true;
+            uploadRefused = false;
+            removeFallback = uploadFallbackAdded;
+            canceled.addAll(decodeQueue);
+            canceled.addAll(uploadQueue);
+            lock.notifyAll();
+        }
+        if( removeFallback ) {
+            drawable.removeGLEventListener(uploadFallback);
+        }
+        for(int i=0; i<canceled.size(); i++) {
+            cancel(canceled.get(i));
+        }
+        for(int i=0; i<workers.length; i++) {
+            workers[i].interrupt();
+        }
+    }
+
+    /** Returns <code>true</code> if {@link #destroy() destroyed}. */
+    public final boolean isDestroyed() { synchronized(lock) { return destroyed; } }
+
+    @Override
+    public String toString() {
+        synchronized(lock) {
+            return "TextureStreamer[workers "+workers.length+", queued "+decodeQueue.size()+", decoded "+uploadQueue.size()+
+                   ", pending "+pendingMemorySize+"/"+maxPendingMemorySize+" bytes, resident "+residentMemorySize+
+                   " bytes, budget "+uploadBudgetBytes+" bytes, "+uploadBudgetNanos+" ns]";
+        }
+    }
+}
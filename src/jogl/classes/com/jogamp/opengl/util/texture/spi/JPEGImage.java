@@ -30,6 +30,7 @@ package com.jogamp.opengl.util.texture.spi;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
 
 import com.jogamp.opengl.GL;
 
@@ -52,15 +53,46 @@ public class JPEGImage {
      * @throws IOException
      */
     public static JPEGImage read(final InputStream in, final ColorSpace cs) throws IOException {
-        return new JPEGImage(in, cs);
+        return new JPEGImage(in, cs, null, 1);
     }
 
     /** Reads a JPEG image from the specified InputStream, using the {@link ColorSpace#RGB}. */
     public static JPEGImage read(final InputStream in) throws IOException {
-        return new JPEGImage(in, ColorSpace.RGB);
+        return new JPEGImage(in, ColorSpace.RGB, null, 1);
     }
 
-    private static class JPEGColorSink implements JPEGDecoder.ColorSink  {
+    /**
+     * Reads a JPEG image from the specified InputStream, using the given color space for storage
+     * and the given {@link Executor} to decode restart intervals, inverse DCT and color conversion in parallel.
+     *
+     * @param in
+     * @param cs Storage color space, either {@link ColorSpace#RGB} or {@link ColorSpace#YCbCr}. {@link ColorSpace#YCCK} and {@link ColorSpace#CMYK} will throw an exception!
+     * @param executor {@link Executor} running the decoding bands, if {@code null} decoding is performed on the current thread.
+     * @return
+     * @throws IOException
+     */
+    public static JPEGImage read(final InputStream in, final ColorSpace cs, final Executor executor) throws IOException {
+        return new JPEGImage(in, cs, executor, 1);
+    }
+
+    /**
+     * Reads a JPEG image from the specified InputStream at a reduced size of
+     * <code>ceil(width / scaleDenom) x ceil(height / scaleDenom)</code> pixels,
+     * using reduced inverse DCTs, e.g. for thumbnails or low mipmap levels.
+     *
+     * @param in
+     * @param cs Storage color space, either {@link ColorSpace#RGB} or {@link ColorSpace#YCbCr}. {@link ColorSpace#YCCK} and {@link ColorSpace#CMYK} will throw an exception!
+     * @param executor {@link Executor} running the decoding bands, if {@code null} decoding is performed on the current thread.
+     * @param scaleDenom scale denominator, either 1, 2, 4 or 8
+     * @return
+     * @throws IOException
+     * @throws IllegalArgumentException if scaleDenom is not 1, 2, 4 or 8
+     */
+    public static JPEGImage read(final InputStream in, final ColorSpace cs, final Executor executor, final int scaleDenom) throws IOException {
+        return new JPEGImage(in, cs, executor, scaleDenom);
+    }
+
+    private static class JPEGColorSink implements JPEGDecoder.ScanlineSink  {
         int width=0, height=0;
         int sourceComponents=0;
         ColorSpace sourceCS = ColorSpace.YCbCr;
@@ -91,25 +123,11 @@ public class JPEGImage {
         }
 
         @Override
-        public final void storeRGB(final int x, final int y, final byte r, final byte g, final byte b) {
-            int i = ( ( height - y - 1 ) * width + x ) * storageComponents;
-            data.put(i++, r);
-            data.put(i++, g);
-            data.put(i++, b);
-            // data.put(i++, (byte)0xff);
-        }
-
-        @Override
-        public final void store2(final int x, final int y, final byte c1, final byte c2) {
-            throw new RuntimeException("not supported yet");
-        }
-
-        @Override
-        public final void storeYCbCr(final int x, final int y, final byte Y, final byte Cb, final byte Cr) {
-            int i = ( ( height - y - 1 ) * width + x ) * storageComponents;
-            data.put(i++, Y);
-            data.put(i++, Cb);
-            data.put(i++, Cr);
+        public final void storeScanline(final int y, final byte[] line) {
+            final int lineSize = width * storageComponents;
+            final ByteBuffer dst = data.duplicate(); // thread-safe position
+            dst.position( ( height - y - 1 ) * lineSize );
+            dst.put(line, 0, lineSize);
         }
 
         @Override
@@ -118,13 +136,13 @@ public class JPEGImage {
         }
     };
 
-    private JPEGImage(final InputStream in, final ColorSpace cs) throws IOException {
+    private JPEGImage(final InputStream in, final ColorSpace cs, final Executor executor, final int scaleDenom) throws IOException {
         pixelStorage = new JPEGColorSink(cs);
         final JPEGDecoder decoder = new JPEGDecoder();
-        decoder.parse(in);
+        decoder.parse(in, executor, scaleDenom);
         pixelWidth = decoder.getWidth();
         pixelHeight = decoder.getHeight();
-        decoder.getPixel(pixelStorage, pixelWidth, pixelHeight);
+        decoder.getPixel(pixelStorage, pixelWidth, pixelHeight, executor);
         data = pixelStorage.data;
         final boolean hasAlpha = false;
 
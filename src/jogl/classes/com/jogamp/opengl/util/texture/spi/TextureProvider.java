@@ -68,6 +68,34 @@ public interface TextureProvider {
         ImageType[] getImageTypes();
     }
 
+    /**
+     * Optional additional interface for {@link TextureProvider} implementation
+     * supporting reduced size decoding.
+     * <p>
+     * Use case: Thumbnails and low mipmap levels,
+     * see {@link com.jogamp.opengl.util.texture.TextureIO#newTextureData(GLProfile, InputStream, boolean, String, int) TextureIO.newTextureData(.., scaleDenom)}.
+     * </p>
+     */
+    public static interface SupportsScaledDecode {
+        /**
+         * Produces a TextureData object from a stream at a reduced size of
+         * <code>ceil(width / scaleDenom) x ceil(height / scaleDenom)</code> pixels,
+         * or returns null if the file format was not supported by this TextureProvider.
+         * <p>
+         * See {@link TextureProvider#newTextureData(GLProfile, InputStream, int, int, boolean, String)}
+         * for the other parameters.
+         * </p>
+         * @param scaleDenom scale denominator, either 1, 2, 4 or 8
+         * @throws IOException if an error occurred while reading the stream
+         */
+        public TextureData newTextureData(GLProfile glp, InputStream stream,
+                                          int internalFormat,
+                                          int pixelFormat,
+                                          boolean mipmap,
+                                          String fileSuffix,
+                                          int scaleDenom) throws IOException;
+    }
+
     /**
      * Returns the known supported {@link ImageType}s, or {@code null} if unknown.
      * <p>
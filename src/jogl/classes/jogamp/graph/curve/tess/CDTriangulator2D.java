@@ -53,6 +53,9 @@ public class CDTriangulator2D implements Triangulator {
     private static final boolean TEST_ENABLED = TEST_LINE_AA || TEST_MARK_LINE;
 
     private final ArrayList<Loop> loops = new ArrayList<Loop>();
+    /** Recycled graph storage, reused after {@link #reset()}. */
+    private final GraphPool pool = new GraphPool();
+    private final ListSink listSink = new ListSink();
 
     private int addedVerticeCount;
     private int maxTriID;
@@ -69,6 +72,7 @@ public class CDTriangulator2D implements Triangulator {
         maxTriID = 0;
         addedVerticeCount = 0;
         loops.clear();
+        pool.reset();
     }
 
     @Override
@@ -76,9 +80,41 @@ public class CDTriangulator2D implements Triangulator {
         return addedVerticeCount;
     }
 
+    /** Adapts a {@link List} of {@link Triangle}s to a {@link Triangulator.Sink}. */
+    private final class ListSink implements Sink {
+        List<Triangle> list;
+
+        @Override
+        public void addTriangle(final Vertex v1, final Vertex v2, final Vertex v3, final boolean b1, final boolean b2, final boolean b3) {
+            final Triangle t = new Triangle(v1, v2, v3, new boolean[] { b1, b2, b3 });
+            t.setId(maxTriID++);
+            list.add(t);
+            if(DEBUG){
+                System.err.println("CDTri.add: "+t);
+            }
+        }
+    }
 
     @Override
     public final void addCurve(final List<Triangle> sink, final Outline polyline, final float sharpness) {
+        listSink.list = sink;
+        try {
+            addCurveImpl(listSink, false, polyline, sharpness);
+        } finally {
+            listSink.list = null;
+        }
+    }
+
+    @Override
+    public final void addCurve(final Sink sink, final Outline polyline, final float sharpness) {
+        addCurveImpl(sink, true, polyline, sharpness);
+    }
+
+    /**
+     * @param reuseVertices if {@code true}, newly created boundary vertices are recycled at {@link #reset()},
+     *        otherwise they are referenced by the resulting {@link Triangle}s and must not be reused.
+     */
+    private void addCurveImpl(final Sink sink, final boolean reuseVertices, final Outline polyline, final float sharpness) {
         Loop loop = null;
 
         if(!loops.isEmpty()) {
@@ -86,14 +122,14 @@ public class CDTriangulator2D implements Triangulator {
         }
 
         if(loop == null) {
-            final GraphOutline outline = new GraphOutline(polyline);
-            final GraphOutline innerPoly = extractBoundaryTriangles(sink, outline, false, sharpness);
+            final GraphOutline outline = pool.newGraphOutline(polyline);
+            final GraphOutline innerPoly = extractBoundaryTriangles(sink, reuseVertices, outline, false, sharpness);
             // vertices.addAll(polyline.getVertices());
-            loop = new Loop(innerPoly, VectorUtil.Winding.CCW);
+            loop = pool.newLoop(innerPoly, VectorUtil.Winding.CCW);
             loops.add(loop);
         } else {
-            final GraphOutline outline = new GraphOutline(polyline);
-            final GraphOutline innerPoly = extractBoundaryTriangles(sink, outline, true, sharpness);
+            final GraphOutline outline = pool.newGraphOutline(polyline);
+            final GraphOutline innerPoly = extractBoundaryTriangles(sink, reuseVertices, outline, true, sharpness);
             // vertices.addAll(innerPoly.getVertices());
             loop.addConstraintCurve(innerPoly);
         }
@@ -101,28 +137,57 @@ public class CDTriangulator2D implements Triangulator {
 
     @Override
     public final void generate(final List<Triangle> sink) {
+        listSink.list = sink;
+        try {
+            generateImpl(listSink);
+        } finally {
+            listSink.list = null;
+        }
+        if( TEST_ENABLED ) {
+            final float[] tempV2 = new float[2];
+            final CDTriangulator2DExpAddOn addOn = new CDTriangulator2DExpAddOn();
+            final int sinkSize = sink.size();
+            if( TEST_MARK_LINE ) {
+                for(int i=0; i<sinkSize; i++) {
+                    final Triangle t0 = sink.get(i);
+                    addOn.markLineInTriangle(t0, tempV2);
+                }
+            } else if ( TEST_LINE_AA ){
+                for(int i=0; i<sinkSize-1; i+=2) {
+                    final Triangle t0 = sink.get(i);
+                    final Triangle t1 = sink.get(i+1);
+                    /* final float[] rect =  */ addOn.processLineAA(i, t0, t1, tempV2);
+                }
+            }
+        }
+    }
+
+    @Override
+    public final void generate(final Sink sink) {
+        generateImpl(sink);
+    }
+
+    private void generateImpl(final Sink sink) {
         final int loopsSize = loops.size();
         for(int i=0;i<loopsSize;i++) {
             final Loop loop = loops.get(i);
             int numTries = 0;
             int size = loop.computeLoopSize();
             while(!loop.isSimplex()){
-                final Triangle tri;
+                final boolean cut;
                 if(numTries > size){
-                    tri = loop.cut(false);
+                    cut = loop.cut(false, sink);
                 }
                 else{
-                    tri = loop.cut(true);
+                    cut = loop.cut(true, sink);
                 }
                 numTries++;
 
-                if(tri != null) {
+                if(cut) {
                     numTries = 0;
                     size--;
-                    tri.setId(maxTriID++);
-                    sink.add(tri);
                     if(DEBUG){
-                        System.err.println("CDTri.gen["+i+"].0: "+tri);
+                        System.err.println("CDTri.gen["+i+"].0: size "+size);
                     }
                 }
                 if(numTries > size*2){
@@ -132,35 +197,16 @@ public class CDTriangulator2D implements Triangulator {
                     break;
                 }
             }
-            final Triangle tri = loop.cut(true);
-            if(tri != null) {
-                sink.add(tri);
+            if( loop.cut(true, sink) ) {
                 if(DEBUG){
-                    System.err.println("CDTri.gen["+i+"].1: "+tri);
-                }
-            }
-        }
-        if( TEST_ENABLED ) {
-            final float[] tempV2 = new float[2];
-            final CDTriangulator2DExpAddOn addOn = new CDTriangulator2DExpAddOn();
-            final int sinkSize = sink.size();
-            if( TEST_MARK_LINE ) {
-                for(int i=0; i<sinkSize; i++) {
-                    final Triangle t0 = sink.get(i);
-                    addOn.markLineInTriangle(t0, tempV2);
-                }
-            } else if ( TEST_LINE_AA ){
-                for(int i=0; i<sinkSize-1; i+=2) {
-                    final Triangle t0 = sink.get(i);
-                    final Triangle t1 = sink.get(i+1);
-                    /* final float[] rect =  */ addOn.processLineAA(i, t0, t1, tempV2);
+                    System.err.println("CDTri.gen["+i+"].1: simplex");
                 }
             }
         }
     }
 
-    private GraphOutline extractBoundaryTriangles(final List<Triangle> sink, final GraphOutline outline, final boolean hole, final float sharpness) {
-        final GraphOutline innerOutline = new GraphOutline();
+    private GraphOutline extractBoundaryTriangles(final Sink sink, final boolean reuseVertices, final GraphOutline outline, final boolean hole, final float sharpness) {
+        final GraphOutline innerOutline = pool.newGraphOutline();
         final ArrayList<GraphVertex> outVertices = outline.getGraphPoint();
         final int size = outVertices.size();
         for(int i=0; i < size; i++) {
@@ -169,30 +215,16 @@ public class CDTriangulator2D implements Triangulator {
             final GraphVertex gv2 = outVertices.get((i+1)%size);      // +1
 
             if( !gv1.getPoint().isOnCurve() ) {
-                final Vertex v0 = gv0.getPoint().clone();
-                final Vertex v2 = gv2.getPoint().clone();
-                final Vertex v1 = gv1.getPoint().clone();
+                final Vertex v0 = pool.copyVertex(gv0.getPoint(), reuseVertices);
+                final Vertex v2 = pool.copyVertex(gv2.getPoint(), reuseVertices);
+                final Vertex v1 = pool.copyVertex(gv1.getPoint(), reuseVertices);
                 addedVerticeCount += 3;
-                final boolean[] boundaryVertices = { true, true, true };
 
                 gv0.setBoundaryContained(true);
                 gv1.setBoundaryContained(true);
                 gv2.setBoundaryContained(true);
 
-                final Triangle t;
-                final boolean holeLike;
-                if(VectorUtil.ccw(v0,v1,v2)) {
-                    holeLike = false;
-                    t = new Triangle(v0, v1, v2, boundaryVertices);
-                } else {
-                    holeLike = true;
-                    t = new Triangle(v2, v1, v0, boundaryVertices);
-                }
-                t.setId(maxTriID++);
-                sink.add(t);
-                if(DEBUG){
-                    System.err.println(t);
-                }
+                final boolean holeLike = !VectorUtil.ccw(v0,v1,v2);
                 if( hole || holeLike ) {
                     v0.setTexCoord(0.0f,           -0.1f, 0f);
                     v2.setTexCoord(1.0f,           -0.1f, 0f);
@@ -203,8 +235,13 @@ public class CDTriangulator2D implements Triangulator {
                     v2.setTexCoord(1.0f,            0.1f, 0f);
                     v1.setTexCoord(0.5f,  sharpness+0.1f, 0f);
                 }
+                if(!holeLike) {
+                    sink.addTriangle(v0, v1, v2, true, true, true);
+                } else {
+                    sink.addTriangle(v2, v1, v0, true, true, true);
+                }
                 if(DEBUG) {
-                    System.err.println("CDTri.ebt["+i+"].0: hole "+(hole || holeLike)+" "+gv1+", "+t);
+                    System.err.println("CDTri.ebt["+i+"].0: hole "+(hole || holeLike)+" "+gv1);
                 }
             } else {
                 if( !gv2.getPoint().isOnCurve() || !gv0.getPoint().isOnCurve() ) {
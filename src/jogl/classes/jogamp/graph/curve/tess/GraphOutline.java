@@ -33,11 +33,40 @@ import com.jogamp.graph.geom.Outline;
 import com.jogamp.graph.geom.Vertex;
 
 public class GraphOutline {
-    final private Outline outline;
+    private Outline outline;
+    /** Own {@link Outline} of an inner outline, kept for reuse. */
+    private final Outline innerOutline;
     final private ArrayList<GraphVertex> controlpoints = new ArrayList<GraphVertex>(3);
 
     public GraphOutline(){
         this.outline = new Outline();
+        this.innerOutline = this.outline;
+    }
+
+    /** Re-initializes this instance as a control polyline of the given {@link Outline}, see {@link GraphPool}. */
+    /* pp */ void set(final Outline ol, final GraphPool pool) {
+        this.outline = ol;
+        controlpoints.clear();
+        final ArrayList<Vertex> vertices = ol.getVertices();
+        for(int i = 0; i< vertices.size(); i++){
+            controlpoints.add(pool.newGraphVertex(vertices.get(i)));
+        }
+    }
+
+    /** Re-initializes this instance as an empty inner outline, see {@link GraphPool}. */
+    /* pp */ void set() {
+        final ArrayList<Vertex> vertices = innerOutline.getVertices();
+        vertices.clear();
+        innerOutline.setVertices(vertices); // validates bbox
+        this.outline = innerOutline;
+        controlpoints.clear();
+    }
+
+    /** Releases all references for reuse, see {@link GraphPool}. */
+    /* pp */ void clear() {
+        controlpoints.clear();
+        innerOutline.getVertices().clear();
+        outline = innerOutline;
     }
 
     /**Create a control polyline of control vertices
@@ -46,6 +75,7 @@ public class GraphOutline {
      */
     public GraphOutline(final Outline ol){
         this.outline = ol;
+        this.innerOutline = null;
         final ArrayList<Vertex> vertices = this.outline.getVertices();
         for(int i = 0; i< vertices.size(); i++){
             this.controlpoints.add(new GraphVertex(vertices.get(i)));
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.curve.tess;
+
+import java.util.ArrayList;
+
+import com.jogamp.graph.geom.Outline;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.math.VectorUtil;
+
+/**
+ * Reusable storage of the triangulation graph, i.e. {@link GraphOutline}s, {@link GraphVertex}s,
+ * {@link HEdge}s, {@link Loop}s and newly created boundary {@link Vertex}s.
+ * <p>
+ * All elements are recycled at {@link #reset()},
+ * avoiding garbage for repeated triangulations using the same {@link CDTriangulator2D}.
+ * </p>
+ */
+public final class GraphPool {
+    private final ArrayList<HEdge> hedges = new ArrayList<HEdge>();
+    private int hedgeCount = 0;
+    private final ArrayList<GraphVertex> gvertices = new ArrayList<GraphVertex>();
+    private int gvertexCount = 0;
+    private final ArrayList<GraphOutline> goutlines = new ArrayList<GraphOutline>();
+    private int goutlineCount = 0;
+    private final ArrayList<Loop> loops = new ArrayList<Loop>();
+    private int loopCount = 0;
+    private final ArrayList<Vertex> vertices = new ArrayList<Vertex>();
+    private int vertexCount = 0;
+
+    /* pp */ HEdge newHEdge(final GraphVertex vert, final int type) {
+        final HEdge e;
+        if( hedgeCount < hedges.size() ) {
+            e = hedges.get(hedgeCount);
+            e.set(vert, type);
+        } else {
+            e = new HEdge(vert, type);
+            hedges.add(e);
+        }
+        hedgeCount++;
+        return e;
+    }
+
+    /* pp */ GraphVertex newGraphVertex(final Vertex point) {
+        final GraphVertex v;
+        if( gvertexCount < gvertices.size() ) {
+            v = gvertices.get(gvertexCount);
+            v.set(point);
+        } else {
+            v = new GraphVertex(point);
+            gvertices.add(v);
+        }
+        gvertexCount++;
+        return v;
+    }
+
+    private GraphOutline nextGraphOutline() {
+        final GraphOutline o;
+        if( goutlineCount < goutlines.size() ) {
+            o = goutlines.get(goutlineCount);
+        } else {
+            o = new GraphOutline();
+            goutlines.add(o);
+        }
+        goutlineCount++;
+        return o;
+    }
+
+    /** Returns a control polyline of the given {@link Outline}, see {@link GraphOutline#GraphOutline(Outline)}. */
+    /* pp */ GraphOutline newGraphOutline(final Outline ol) {
+        final GraphOutline o = nextGraphOutline();
+        o.set(ol, this);
+        return o;
+    }
+
+    /** Returns an empty inner outline, see {@link GraphOutline#GraphOutline()}. */
+    /* pp */ GraphOutline newGraphOutline() {
+        final GraphOutline o = nextGraphOutline();
+        o.set();
+        return o;
+    }
+
+    /* pp */ Loop newLoop(final GraphOutline polyline, final VectorUtil.Winding winding) {
+        final Loop l;
+        if( loopCount < loops.size() ) {
+            l = loops.get(loopCount);
+        } else {
+            l = new Loop(this);
+            loops.add(l);
+        }
+        loopCount++;
+        l.set(polyline, winding);
+        return l;
+    }
+
+    /**
+     * Returns a copy of the given {@link Vertex}.
+     * @param reuse if {@code true}, a copy created before the last {@link #reset()} is reused,
+     *        otherwise a new {@link Vertex#clone() clone} is returned not being referenced by this pool.
+     */
+    /* pp */ Vertex copyVertex(final Vertex src, final boolean reuse) {
+        if( !reuse ) {
+            return src.clone();
+        }
+        final Vertex v;
+        if( vertexCount < vertices.size() ) {
+            v = vertices.get(vertexCount);
+            v.setCoord(src.getCoord(), 0, 3);
+            v.setTexCoord(src.getTexCoord(), 0, 3);
+            v.setOnCurve(src.isOnCurve());
+            v.setId(src.getId());
+        } else {
+            v = src.clone();
+            vertices.add(v);
+        }
+        vertexCount++;
+        return v;
+    }
+
+    /**
+     * Recycles all elements, releasing references to user {@link Vertex}s and {@link Outline}s.
+     */
+    public void reset() {
+        for(int i=0; i<hedgeCount; i++) {
+            hedges.get(i).set(null, HEdge.BOUNDARY);
+        }
+        for(int i=0; i<gvertexCount; i++) {
+            gvertices.get(i).set(null);
+        }
+        for(int i=0; i<goutlineCount; i++) {
+            goutlines.get(i).clear();
+        }
+        for(int i=0; i<loopCount; i++) {
+            loops.get(i).clear();
+        }
+        hedgeCount = 0;
+        gvertexCount = 0;
+        goutlineCount = 0;
+        loopCount = 0;
+        vertexCount = 0;
+    }
+}
@@ -40,6 +40,15 @@ public class GraphVertex {
         this.point = point;
     }
 
+    /** Re-initializes this instance for reuse, see {@link GraphPool}. */
+    /* pp */ void set(final Vertex point) {
+        this.point = point;
+        if( null != edges ) {
+            edges.clear();
+        }
+        this.boundaryContained = false;
+    }
+
     public Vertex getPoint() {
         return point;
     }
@@ -64,7 +73,7 @@ public class GraphVertex {
     }
 
     public ArrayList<HEdge> getEdges() {
-        return edges;
+        return null != edges && edges.size() > 0 ? edges : null;
     }
 
     public void setEdges(final ArrayList<HEdge> edges) {
@@ -81,9 +90,6 @@ public class GraphVertex {
         if(edges == null)
             return;
         edges.remove(edge);
-        if(edges.size() == 0){
-            edges = null;
-        }
     }
     public HEdge findNextEdge(final GraphVertex nextVert){
         for(int i=0; i<edges.size(); i++) {
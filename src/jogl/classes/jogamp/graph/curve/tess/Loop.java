@@ -30,29 +30,50 @@ package jogamp.graph.curve.tess;
 import java.util.ArrayList;
 
 
+import com.jogamp.graph.curve.tess.Triangulator;
 import com.jogamp.graph.geom.Vertex;
-import com.jogamp.graph.geom.Triangle;
 import com.jogamp.opengl.math.VectorUtil;
 import com.jogamp.opengl.math.geom.AABBox;
 
 public class Loop {
+    private final GraphPool pool;
     private HEdge root = null;
     private final AABBox box = new AABBox();
     private GraphOutline initialOutline = null;
 
     public Loop(final GraphOutline polyline, final VectorUtil.Winding winding){
+        this.pool = new GraphPool();
+        set(polyline, winding);
+    }
+
+    /** Creates an empty instance for reuse, see {@link GraphPool#newLoop(GraphOutline, VectorUtil.Winding)}. */
+    /* pp */ Loop(final GraphPool pool) {
+        this.pool = pool;
+    }
+
+    /* pp */ void set(final GraphOutline polyline, final VectorUtil.Winding winding) {
+        box.reset();
         initialOutline = polyline;
         this.root = initFromPolyline(initialOutline, winding);
     }
 
+    /* pp */ void clear() {
+        root = null;
+        initialOutline = null;
+    }
+
     public HEdge getHEdge(){
         return root;
     }
 
-    public Triangle cut(final boolean delaunay){
+    /**
+     * Cuts one triangle off this loop and passes it to the given sink.
+     * @return {@code true} if a triangle has been cut, otherwise {@code false}
+     */
+    public boolean cut(final boolean delaunay, final Triangulator.Sink sink){
         if(isSimplex()){
-            return new Triangle(root.getGraphPoint().getPoint(), root.getNext().getGraphPoint().getPoint(),
-                                root.getNext().getNext().getGraphPoint().getPoint(), checkVerticesBoundary(root));
+            emitTriangle(root, sink);
+            return true;
         }
         final HEdge prev = root.getPrev();
         final HEdge next1 = root.getNext();
@@ -60,30 +81,28 @@ public class Loop {
         final HEdge next2 = findClosestValidNeighbor(next1.getNext(), delaunay);
         if(next2 == null){
             root = root.getNext();
-            return null;
+            return false;
         }
 
-        final GraphVertex v1 = root.getGraphPoint();
-        final GraphVertex v2 = next1.getGraphPoint();
         final GraphVertex v3 = next2.getGraphPoint();
 
-        final HEdge v3Edge = new HEdge(v3, HEdge.INNER);
+        final HEdge v3Edge = pool.newHEdge(v3, HEdge.INNER);
 
         HEdge.connect(v3Edge, root);
         HEdge.connect(next1, v3Edge);
 
         HEdge v3EdgeSib = v3Edge.getSibling();
         if(v3EdgeSib == null){
-            v3EdgeSib = new HEdge(v3Edge.getNext().getGraphPoint(), HEdge.INNER);
+            v3EdgeSib = pool.newHEdge(v3Edge.getNext().getGraphPoint(), HEdge.INNER);
             HEdge.makeSiblings(v3Edge, v3EdgeSib);
         }
 
         HEdge.connect(prev, v3EdgeSib);
         HEdge.connect(v3EdgeSib, next2);
 
-        final Triangle t = createTriangle(v1.getPoint(), v2.getPoint(), v3.getPoint(), root);
+        emitTriangle(root, sink);
         this.root = next2;
-        return t;
+        return true;
     }
 
     public boolean isSimplex(){
@@ -127,7 +146,7 @@ public class Loop {
             final GraphVertex v1 = vertices.get(index);
             box.resize(v1.getX(), v1.getY(), v1.getZ());
 
-            final HEdge edge = new HEdge(v1, edgeType);
+            final HEdge edge = pool.newHEdge(v1, edgeType);
 
             v1.addEdge(edge);
             if(lastEdge != null) {
@@ -163,14 +182,14 @@ public class Loop {
         final GraphVertex v3 = locateClosestVertex(polyline);
         final HEdge v3Edge = v3.findBoundEdge();
         final HEdge v3EdgeP = v3Edge.getPrev();
-        final HEdge crossEdge = new HEdge(root.getGraphPoint(), HEdge.INNER);
+        final HEdge crossEdge = pool.newHEdge(root.getGraphPoint(), HEdge.INNER);
 
         HEdge.connect(root.getPrev(), crossEdge);
         HEdge.connect(crossEdge, v3Edge);
 
         HEdge crossEdgeSib = crossEdge.getSibling();
         if(crossEdgeSib == null) {
-            crossEdgeSib = new HEdge(crossEdge.getNext().getGraphPoint(), HEdge.INNER);
+            crossEdgeSib = pool.newHEdge(crossEdge.getNext().getGraphPoint(), HEdge.INNER);
             HEdge.makeSiblings(crossEdge, crossEdgeSib);
         }
 
@@ -261,30 +280,16 @@ public class Loop {
         return null;
     }
 
-    /** Create a triangle from the param vertices only if
-     * the triangle is valid. IE not outside region.
-     * @param v1 vertex 1
-     * @param v2 vertex 2
-     * @param v3 vertex 3
-     * @param root and edge of this triangle
-     * @return the triangle iff it satisfies, null otherwise
+    /** Passes the triangle starting with the given edge to the sink,
+     * including each vertex's boundary state.
+     * @param rootT an edge of this triangle
      */
-    private Triangle createTriangle(final Vertex v1, final Vertex v2, final Vertex v3, final HEdge rootT){
-        return new Triangle(v1, v2, v3, checkVerticesBoundary(rootT));
-    }
-
-    private boolean[] checkVerticesBoundary(final HEdge rootT) {
-        final boolean[] boundary = new boolean[3];
-        if(rootT.getGraphPoint().isBoundaryContained()){
-                boundary[0] = true;
-        }
-        if(rootT.getNext().getGraphPoint().isBoundaryContained()){
-                boundary[1] = true;
-        }
-        if(rootT.getNext().getNext().getGraphPoint().isBoundaryContained()){
-                boundary[2] = true;
-        }
-        return boundary;
+    private void emitTriangle(final HEdge rootT, final Triangulator.Sink sink) {
+        final GraphVertex v1 = rootT.getGraphPoint();
+        final GraphVertex v2 = rootT.getNext().getGraphPoint();
+        final GraphVertex v3 = rootT.getNext().getNext().getGraphPoint();
+        sink.addTriangle(v1.getPoint(), v2.getPoint(), v3.getPoint(),
+                         v1.isBoundaryContained(), v2.isBoundaryContained(), v3.isBoundaryContained());
     }
 
     public boolean checkInside(final Vertex v) {
@@ -39,6 +39,12 @@ public interface FontConstructor {
      */
     Font create(final File file) throws IOException;
 
+    /**
+     * @param file The font file
+     * @param memoryMapped if {@code true}, the font file is memory mapped and its tables are parsed on first access
+     */
+    Font create(final File file, final boolean memoryMapped) throws IOException;
+
     /**
      * @param istream The font input stream
      * @param streamLen the length of the font segment in the stream
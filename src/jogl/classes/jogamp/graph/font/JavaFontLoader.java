@@ -27,11 +27,8 @@
  */
 package jogamp.graph.font;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
@@ -157,14 +154,12 @@ public class JavaFontLoader implements FontSet {
     }
     private Font abspathImpl(final String fname, final int family, final int style) throws IOException {
         final Exception[] privErr = { null };
-        final int[] streamLen = { 0 };
-        final InputStream stream = AccessController.doPrivileged(new PrivilegedAction<InputStream>() {
+        final Font f = AccessController.doPrivileged(new PrivilegedAction<Font>() {
             @Override
-            public InputStream run() {
+            public Font run() {
                 try {
-                    final File file = new File(fname);
-                    streamLen[0] = (int) file.length();
-                    return new BufferedInputStream(new FileInputStream(file), streamLen[0]);
+                    // memory mapped and lazily parsed, system fonts may be large
+                    return FontFactory.get( new File(fname), true );
                 } catch (final Exception e) {
                     privErr[0] = e;
                     return null;
@@ -173,12 +168,9 @@ public class JavaFontLoader implements FontSet {
         if( null != privErr[0] ) {
             throw new IOException(privErr[0]);
         }
-        if(null != stream) {
-            final Font f= FontFactory.get ( stream, streamLen[0], true ) ;
-            if(null != f) {
-                fontMap.put( ( family << 8 ) | style, f );
-                return f;
-            }
+        if(null != f) {
+            fontMap.put( ( family << 8 ) | style, f );
+            return f;
         }
         return null;
     }
@@ -0,0 +1,254 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import jogamp.graph.font.typecast.ot.table.CmapFormat;
+import jogamp.graph.font.typecast.ot.table.CmapIndexEntry;
+import jogamp.graph.font.typecast.ot.table.CmapTable;
+import jogamp.graph.font.typecast.ot.table.ID;
+
+/**
+ * Compiled Unicode codepoint to glyph ID index,
+ * merging all suitable {@link CmapTable} subtables at font load time.
+ * <p>
+ * The index is a two-level page table of {@value #PAGE_SIZE} glyph IDs per page,
+ * allowing a constant time {@link #getGlyphID(int) lookup} for the whole Unicode range
+ * including supplementary planes, where only populated pages are allocated.
+ * Pages of uniform content, e.g. of a last resort font, are shared.
+ * </p>
+ * <p>
+ * Subtables are merged by priority, i.e. a codepoint is mapped by the first subtable in order:
+ * <ol>
+ *   <li>Full Unicode repertoire, i.e. Microsoft UCS-4 and Unicode 2.0 full or full repertoire.</li>
+ *   <li>Unicode BMP, i.e. Microsoft Unicode BMP and all other Unicode platform encodings.</li>
+ *   <li>Microsoft Symbol, where the symbols within <code>[0xF020..0xF0FF]</code>
+ *       are also mapped to their Latin-1 codepoints.</li>
+ *   <li>Any other subtable, only if none of the above exists.</li>
+ * </ol>
+ * </p>
+ * <p>
+ * The index is immutable and hence thread safe.
+ * </p>
+ */
+final class TypecastCmapIndex {
+    /** Maximum Unicode codepoint, {@value}. */
+    public static final int MAX_CODEPOINT = 0x10FFFF;
+
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private static final int RANK_UCS4 = 0;
+    private static final int RANK_BMP = 1;
+    private static final int RANK_SYMBOL = 2;
+    private static final int RANK_OTHER = 3;
+
+    /** Glyph IDs per page, {@code null} pages are unmapped. */
+    private final char[][] pages;
+    private final int size;
+    private final int pageCount;
+    private final String sources;
+
+    private TypecastCmapIndex(final char[][] pages, final int size, final int pageCount, final String sources) {
+        this.pages = pages;
+        this.size = size;
+        this.pageCount = pageCount;
+        this.sources = sources;
+    }
+
+    /**
+     * Returns the glyph ID of the given codepoint, or {@code 0}, i.e. the missing glyph, if not mapped.
+     */
+    public final int getGlyphID(final int codepoint) {
+        final int p = codepoint >>> PAGE_BITS; // negative codepoints exceed pages.length
+        if( p >= pages.length ) {
+            return 0;
+        }
+        final char[] page = pages[p];
+        return null != page ? page[codepoint & PAGE_MASK] : 0;
+    }
+
+    /** Returns the number of mapped codepoints. */
+    public final int size() { return size; }
+
+    /** Returns the number of distinct allocated pages. */
+    public final int getPageCount() { return pageCount; }
+
+    @Override
+    public final String toString() {
+        return "CmapIndex[codepoints "+size+", pages "+pageCount+"/"+pages.length+", sources "+sources+"]";
+    }
+
+    private static int getRank(final int platformId, final int encodingId) {
+        switch( platformId ) {
+            case ID.platformUnicode:
+                return ( 4 == encodingId || 6 == encodingId ) ? RANK_UCS4 : RANK_BMP;
+            case ID.platformMicrosoft:
+                switch( encodingId ) {
+                    case ID.encodingUCS4:    return RANK_UCS4;
+                    case ID.encodingUnicode: return RANK_BMP;
+                    case ID.encodingSymbol:  return RANK_SYMBOL;
+                    default:                 return RANK_OTHER;
+                }
+            default:
+                return RANK_OTHER;
+        }
+    }
+
+    /**
+     * Compiles the index of the given {@link CmapTable}.
+     * @param cmapTable the font's cmap table
+     * @param numGlyphs the font's number of glyphs, glyph IDs beyond are dropped
+     */
+    public static TypecastCmapIndex create(final CmapTable cmapTable, final int numGlyphs) {
+        // Collect distinct subtables, ordered by rank
+        final ArrayList<CmapFormat> formats = new ArrayList<CmapFormat>();
+        final ArrayList<CmapFormat> symbolFormats = new ArrayList<CmapFormat>();
+        final StringBuilder sources = new StringBuilder();
+        final int numTables = null != cmapTable ? cmapTable.getNumTables() : 0;
+        for(int rank = RANK_UCS4; rank <= RANK_OTHER; rank++) {
+            if( RANK_OTHER == rank && formats.size() > 0 ) {
+                break; // non unicode subtables only as a last resort
+            }
+            for(int i=0; i<numTables; i++) {
+                final CmapIndexEntry e = cmapTable.getCmapIndexEntry(i);
+                final CmapFormat cf = e.getFormat();
+                if( null != cf && rank == getRank(e.getPlatformId(), e.getEncodingId()) && !containsIdentity(formats, cf) ) {
+                    formats.add(cf);
+                    if( RANK_SYMBOL == rank ) {
+                        symbolFormats.add(cf);
+                    }
+                    if( sources.length() > 0 ) {
+                        sources.append(", ");
+                    }
+                    sources.append(e.getPlatformId()).append("/").append(e.getEncodingId()).append(":f").append(cf.getFormat());
+                }
+            }
+        }
+
+        final char[][] pages = new char[( MAX_CODEPOINT >>> PAGE_BITS ) + 1][];
+        int size = 0;
+        for(int i=0; i<formats.size(); i++) {
+            final CmapFormat cf = formats.get(i);
+            for(int j=0; j<cf.getRangeCount(); j++) {
+                final CmapFormat.Range range = cf.getRange(j);
+                final int start = Math.max(0, range.getStartCode());
+                final int end = Math.min(MAX_CODEPOINT, range.getEndCode());
+                for(int cp = start; cp <= end; cp++) {
+                    final int glyphID = cf.mapCharCode(cp);
+                    if( 0 < glyphID && glyphID < numGlyphs && put(pages, cp, glyphID) ) {
+                        size++;
+                    }
+                }
+            }
+        }
+        if( symbolFormats.size() > 0 ) {
+            // symbol fonts map their symbols to [0xF020..0xF0FF], also map them to Latin-1
+            for(int cp = 0x20; cp <= 0xFF; cp++) {
+                final int glyphID = getGlyphID(pages, 0xF000 | cp);
+                if( 0 < glyphID && put(pages, cp, glyphID) ) {
+                    size++;
+                }
+            }
+        }
+        return new TypecastCmapIndex(compact(pages), size, countPages(pages), sources.toString());
+    }
+
+    private static boolean containsIdentity(final ArrayList<CmapFormat> formats, final CmapFormat cf) {
+        for(int i=0; i<formats.size(); i++) {
+            if( formats.get(i) == cf ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int getGlyphID(final char[][] pages, final int codepoint) {
+        final char[] page = pages[codepoint >>> PAGE_BITS];
+        return null != page ? page[codepoint & PAGE_MASK] : 0;
+    }
+
+    /** Maps the codepoint if not yet mapped and returns true, otherwise returns false. */
+    private static boolean put(final char[][] pages, final int codepoint, final int glyphID) {
+        final int p = codepoint >>> PAGE_BITS;
+        char[] page = pages[p];
+        if( null == page ) {
+            page = new char[PAGE_SIZE];
+            pages[p] = page;
+        }
+        final int i = codepoint & PAGE_MASK;
+        if( 0 != page[i] ) {
+            return false;
+        }
+        page[i] = (char)glyphID;
+        return true;
+    }
+
+    /** Shares uniform pages and trims the page table to the last populated page. */
+    private static char[][] compact(final char[][] pages) {
+        final HashMap<Integer, char[]> uniformPages = new HashMap<Integer, char[]>();
+        int last = -1;
+        for(int p=0; p<pages.length; p++) {
+            final char[] page = pages[p];
+            if( null == page ) {
+                continue;
+            }
+            last = p;
+            final char v = page[0];
+            boolean uniform = true;
+            for(int i=1; uniform && i<PAGE_SIZE; i++) {
+                uniform = v == page[i];
+            }
+            if( uniform ) {
+                final Integer key = Integer.valueOf(v);
+                final char[] shared = uniformPages.get(key);
+                if( null != shared ) {
+                    pages[p] = shared;
+                } else {
+                    uniformPages.put(key, page);
+                }
+            }
+        }
+        final char[][] res = new char[last + 1][];
+        System.arraycopy(pages, 0, res, 0, res.length);
+        return res;
+    }
+
+    private static int countPages(final char[][] pages) {
+        final HashMap<char[], Boolean> distinct = new HashMap<char[], Boolean>();
+        for(int p=0; p<pages.length; p++) {
+            if( null != pages[p] ) {
+                distinct.put(pages[p], Boolean.TRUE);
+            }
+        }
+        return distinct.size();
+    }
+}
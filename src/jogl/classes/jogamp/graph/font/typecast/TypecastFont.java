@@ -27,13 +27,18 @@
  */
 package jogamp.graph.font.typecast;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Executor;
+
 import jogamp.graph.font.typecast.ot.OTFont;
 import jogamp.graph.font.typecast.ot.OTFontCollection;
-import jogamp.graph.font.typecast.ot.table.CmapFormat;
 import jogamp.graph.font.typecast.ot.table.CmapIndexEntry;
 import jogamp.graph.font.typecast.ot.table.CmapTable;
 import jogamp.graph.font.typecast.ot.table.HdmxTable;
-import jogamp.graph.font.typecast.ot.table.ID;
 import jogamp.graph.geom.plane.AffineTransform;
 
 import com.jogamp.common.util.IntObjectHashMap;
@@ -50,101 +55,66 @@ class TypecastFont implements Font {
 
     // private final OTFontCollection fontset;
     /* pp */ final OTFont font;
-    private final CmapFormat cmapFormat;
-    private final int cmapentries;
-    private final IntObjectHashMap char2Glyph;
+    private final TypecastCmapIndex cmapIndex;
     private final TypecastHMetrics metrics;
-    private final float[] tmpV3 = new float[3];
-    // FIXME: Add cache size to limit memory usage ??
+
+    /** Number of symbols built per {@link #prewarm(CharSequence, Executor) prewarm} task. */
+    private static final int PREWARM_CHUNK_SIZE = 64;
+
+    /** Guards {@link #char2Glyph}, {@link #glyphClock} and related state. */
+    private final Object glyphLock = new Object();
+    private final IntObjectHashMap char2Glyph;
+    /**
+     * Cached symbols in insertion order, used as a circular queue for CLOCK eviction,
+     * i.e. a recently used glyph gets a second chance before being evicted.
+     */
+    private char[] glyphClock = new char[64];
+    private int glyphClockHead = 0;
+    private int glyphClockSize = 0;
+    private int glyphCacheLimit = DEFAULT_GLYPH_CACHE_LIMIT;
+
+    /** Access ordered measured run cache, guarded by itself. */
+    private final LinkedHashMap<RunKey, TypecastMeasuredRun> runCache = new LinkedHashMap<RunKey, TypecastMeasuredRun>(64, 0.75f, true);
+    /** Reused lookup key avoiding a text copy for cache hits, guarded by {@link #runCache}. */
+    private final RunKey runLookupKey = new RunKey();
+    private int runCacheLimit = DEFAULT_MEASURED_RUN_CACHE_LIMIT;
+
+    /** Cached ligature glyphs keyed by glyph ID and character count, guarded by {@link #glyphLock}. */
+    private final IntObjectHashMap ligature2Glyph = new IntObjectHashMap();
+    /** Enabled layout features, see {@link #setLayoutFeatures(int)}. */
+    private volatile int layoutFeatures = 0;
+    /** Compiled kerning and ligature tables, created when a layout feature is enabled the first time. */
+    private volatile TypecastLayout layout = null;
+
+    /** Optional persisted glyph shapes, see {@link #loadShapeCache(File)}. */
+    private volatile TypecastShapeCache shapeCache = null;
 
     public TypecastFont(final OTFontCollection fontset) {
         // this.fontset = fontset;
         this.font = fontset.getFont(0);
 
-        // FIXME: Generic attempt to find the best CmapTable,
-        // which is assumed to be the one with the most entries (stupid 'eh?)
         final CmapTable cmapTable = font.getCmapTable();
-        final CmapFormat[] _cmapFormatP = { null, null, null, null };
-        int platform = -1;
-        int platformLength = -1;
-        int encoding = -1;
-        for(int i=0; i<cmapTable.getNumTables(); i++) {
-            final CmapIndexEntry cmapIdxEntry = cmapTable.getCmapIndexEntry(i);
-            final int pidx = cmapIdxEntry.getPlatformId();
-            final CmapFormat cf = cmapIdxEntry.getFormat();
-            if(DEBUG) {
-                System.err.println("CmapFormat["+i+"]: platform " + pidx +
-                                   ", encoding "+cmapIdxEntry.getEncodingId() + ": "+cf);
-            }
-            if( _cmapFormatP[pidx] == null ||
-                _cmapFormatP[pidx].getLength() < cf.getLength() ) {
-                _cmapFormatP[pidx] = cf;
-                if( cf.getLength() > platformLength ) {
-                    platformLength = cf.getLength() ;
-                    platform = pidx;
-                    encoding = cmapIdxEntry.getEncodingId();
-                }
-            }
-        }
-        if(0 <= platform) {
-            cmapFormat = _cmapFormatP[platform];
-            if(DEBUG) {
-                System.err.println("Selected CmapFormat: platform " + platform +
-                                   ", encoding "+encoding + ": "+cmapFormat);
-            }
-        } else {
-            CmapFormat _cmapFormat = null;
-            /*if(null == _cmapFormat) {
-                platform = ID.platformMacintosh;
-                encoding = ID.encodingASCII;
-                _cmapFormat = cmapTable.getCmapFormat(platform, encoding);
-            } */
-            if(null == _cmapFormat) {
-                // default unicode
-                platform = ID.platformMicrosoft;
-                encoding = ID.encodingUnicode;
-                _cmapFormat = cmapTable.getCmapFormat((short)platform, (short)encoding);
-            }
-            if(null == _cmapFormat) {
-                // maybe a symbol font ?
-                platform = ID.platformMicrosoft;
-                encoding = ID.encodingSymbol;
-                _cmapFormat = cmapTable.getCmapFormat((short)platform, (short)encoding);
-            }
-            if(null == _cmapFormat) {
-                throw new RuntimeException("Cannot find a suitable cmap table for font "+font);
-            }
-            cmapFormat = _cmapFormat;
-            if(DEBUG) {
-                System.err.println("Selected CmapFormat (2): platform " + platform + ", encoding "+encoding + ": "+cmapFormat);
-            }
-        }
-
-        {
-            int _cmapentries = 0;
-            for (int i = 0; i < cmapFormat.getRangeCount(); ++i) {
-                final CmapFormat.Range range = cmapFormat.getRange(i);
-                _cmapentries += range.getEndCode() - range.getStartCode() + 1; // end included
-            }
-            cmapentries = _cmapentries;
+        if( null == cmapTable || 0 == cmapTable.getNumTables() ) {
+            throw new RuntimeException("Cannot find a suitable cmap table for font "+font);
         }
+        cmapIndex = TypecastCmapIndex.create(cmapTable, font.getNumGlyphs());
         if(DEBUG) {
+            for(int i=0; i<cmapTable.getNumTables(); i++) {
+                final CmapIndexEntry cmapIdxEntry = cmapTable.getCmapIndexEntry(i);
+                System.err.println("CmapFormat["+i+"]: platform " + cmapIdxEntry.getPlatformId() +
+                                   ", encoding "+cmapIdxEntry.getEncodingId() + ": "+cmapIdxEntry.getFormat());
+            }
             System.err.println("font direction hint: "+font.getHeadTable().getFontDirectionHint());
             System.err.println("num glyphs: "+font.getNumGlyphs());
-            System.err.println("num cmap entries: "+cmapentries);
-            System.err.println("num cmap ranges: "+cmapFormat.getRangeCount());
-
-            for (int i = 0; i < cmapFormat.getRangeCount(); ++i) {
-                final CmapFormat.Range range = cmapFormat.getRange(i);
-                for (int j = range.getStartCode(); j <= range.getEndCode(); ++j) {
-                    final int code = cmapFormat.mapCharCode(j);
-                    if(code < 15) {
-                        System.err.println(" char: " + j + " ( " + (char)j +" ) -> " + code);
-                    }
+            System.err.println("cmap index: "+cmapIndex);
+            for (int j = 0; j < 0x80; ++j) {
+                final int code = cmapIndex.getGlyphID(j);
+                if(code < 15) {
+                    System.err.println(" char: " + j + " ( " + (char)j +" ) -> " + code);
                 }
             }
         }
-        char2Glyph = new IntObjectHashMap(cmapentries + cmapentries/4);
+        char2Glyph = new IntObjectHashMap(Math.min(cmapIndex.size(), DEFAULT_GLYPH_CACHE_LIMIT) + 16);
         metrics = new TypecastHMetrics(this);
     }
 
@@ -177,54 +147,299 @@ class TypecastFont implements Font {
         return metrics;
     }
 
+    @Override
+    public int getGlyphID(final int codepoint) {
+        return cmapIndex.getGlyphID(codepoint);
+    }
+
     @Override
     public Glyph getGlyph(final char symbol) {
-        TypecastGlyph result = (TypecastGlyph) char2Glyph.get(symbol);
-        if (null == result) {
-            // final short code = (short) char2Code.get(symbol);
-            short code = (short) cmapFormat.mapCharCode(symbol);
-            if(0 == code && 0 != symbol) {
-                // reserved special glyph IDs by convention
-                switch(symbol) {
-                    case ' ':  code = Glyph.ID_SPACE; break;
-                    case '\n': code = Glyph.ID_CR; break;
-                    default:   code = Glyph.ID_UNKNOWN;
-                }
+        synchronized( glyphLock ) {
+            final TypecastGlyph result = (TypecastGlyph) char2Glyph.get(symbol);
+            if( null != result ) {
+                result.cacheReferenced = true;
+                return result;
+            }
+        }
+        // build outside of lock, allowing concurrent glyph creation
+        final TypecastGlyph result = buildGlyph(symbol);
+        synchronized( glyphLock ) {
+            final TypecastGlyph other = (TypecastGlyph) char2Glyph.get(symbol);
+            if( null != other ) {
+                // lost the race against a concurrent thread
+                other.cacheReferenced = true;
+                return other;
+            }
+            char2Glyph.put(symbol, result);
+            glyphClockAdd(symbol);
+            validateGlyphCache();
+        }
+        return result;
+    }
+
+    private TypecastGlyph buildGlyph(final char symbol) {
+        int code = cmapIndex.getGlyphID(symbol);
+        if(0 == code && 0 != symbol) {
+            // reserved special glyph IDs by convention
+            switch(symbol) {
+                case ' ':  code = Glyph.ID_SPACE; break;
+                case '\n': code = Glyph.ID_CR; break;
+                default:   code = Glyph.ID_UNKNOWN;
             }
+        }
+        return buildGlyph(symbol, code);
+    }
 
-            jogamp.graph.font.typecast.ot.OTGlyph glyph = font.getGlyph(code);
-            if(null == glyph) {
-                glyph = font.getGlyph(Glyph.ID_UNKNOWN);
+    private TypecastGlyph buildGlyph(final char symbol, final int code) {
+        final TypecastShapeCache sc = shapeCache;
+        if( null != sc ) {
+            final TypecastGlyph result = sc.createGlyph(this, symbol, code, OutlineShape.DEFAULT_SHARPNESS, vertexFactory);
+            if( null != result ) {
+                addHdmxAdvances(result, code);
+                return result;
             }
-            if(null == glyph) {
-                throw new RuntimeException("Could not retrieve glyph for symbol: <"+symbol+"> "+(int)symbol+" -> glyph id "+code);
+        }
+
+        jogamp.graph.font.typecast.ot.OTGlyph glyph = font.getGlyph(code);
+        if(null == glyph) {
+            glyph = font.getGlyph(Glyph.ID_UNKNOWN);
+        }
+        if(null == glyph) {
+            throw new RuntimeException("Could not retrieve glyph for symbol: <"+symbol+"> "+(int)symbol+" -> glyph id "+code);
+        }
+        final OutlineShape shape = TypecastRenderer.buildShape(symbol, glyph, vertexFactory);
+        final TypecastGlyph result = new TypecastGlyph(this, symbol, code, glyph.getBBox(), glyph.getAdvanceWidth(), shape);
+        if(DEBUG) {
+            System.err.println("New glyph: " + (int)symbol + " ( " + symbol +" ) -> " + code + ", contours " + glyph.getPointCount() + ": " + shape);
+        }
+        glyph.clearPointData();
+        addHdmxAdvances(result, code);
+        return result;
+    }
+
+    private void addHdmxAdvances(final TypecastGlyph result, final int code) {
+        final HdmxTable hdmx = font.getHdmxTable();
+        if (null != hdmx) {
+            /*if(DEBUG) {
+                System.err.println("hdmx "+hdmx);
+            }*/
+            for (int i=0; i<hdmx.getNumberOfRecords(); i++)
+            {
+                final HdmxTable.DeviceRecord dr = hdmx.getRecord(i);
+                result.addAdvance(dr.getWidth(code), dr.getPixelSize());
+                /* if(DEBUG) {
+                    System.err.println("hdmx advance : pixelsize = "+dr.getWidth(code)+" : "+ dr.getPixelSize());
+                } */
             }
-            final OutlineShape shape = TypecastRenderer.buildShape(symbol, glyph, vertexFactory);
-            result = new TypecastGlyph(this, symbol, code, glyph.getBBox(), glyph.getAdvanceWidth(), shape);
+        }
+    }
+
+    @Override
+    public void setLayoutFeatures(final int features) {
+        if( 0 != features && null == layout ) {
+            // concurrent callers may compile twice, the result is identical
+            layout = TypecastLayout.create(font);
             if(DEBUG) {
-                System.err.println("New glyph: " + (int)symbol + " ( " + symbol +" ) -> " + code + ", contours " + glyph.getPointCount() + ": " + shape);
+                System.err.println("Compiled "+layout);
             }
-            glyph.clearPointData();
-
-            final HdmxTable hdmx = font.getHdmxTable();
-            if (null!= result && null != hdmx) {
-                /*if(DEBUG) {
-                    System.err.println("hdmx "+hdmx);
-                }*/
-                for (int i=0; i<hdmx.getNumberOfRecords(); i++)
-                {
-                    final HdmxTable.DeviceRecord dr = hdmx.getRecord(i);
-                    result.addAdvance(dr.getWidth(code), dr.getPixelSize());
-                    /* if(DEBUG) {
-                        System.err.println("hdmx advance : pixelsize = "+dr.getWidth(code)+" : "+ dr.getPixelSize());
-                    } */
-                }
+        }
+        layoutFeatures = features;
+        synchronized( runCache ) {
+            // measured runs depend on the layout features
+            runCache.clear();
+        }
+    }
+
+    @Override
+    public int getLayoutFeatures() {
+        return layoutFeatures;
+    }
+
+    @Override
+    public float getKerning(final int leftGlyphID, final int rightGlyphID, final float pixelSize) {
+        if( 0 == ( layoutFeatures & LAYOUT_KERNING ) ) {
+            return 0f;
+        }
+        final int value = layout.getKerning(leftGlyphID & 0xffff, rightGlyphID & 0xffff);
+        return 0 != value ? value * metrics.getScale(pixelSize) : 0f;
+    }
+
+    @Override
+    public Glyph getLigature(final CharSequence text, final int start, final int end) {
+        if( 0 == ( layoutFeatures & LAYOUT_LIGATURES ) || start + 1 >= end ) {
+            return null;
+        }
+        final char first = text.charAt(start);
+        final int[] records = layout.getLigatures(cmapIndex.getGlyphID(first));
+        if( null == records ) {
+            return null;
+        }
+        // records in lookup order: { ligatureGlyphID, componentCount, component[1], .., component[componentCount-1] }
+        for(int i=0; i<records.length; i += records[i+1] + 1) {
+            final int count = records[i+1];
+            boolean match = start + count <= end;
+            for(int j=1; match && j<count; j++) {
+                match = records[i+1+j] == cmapIndex.getGlyphID(text.charAt(start+j));
+            }
+            if( match ) {
+                return getLigatureGlyph(first, records[i], count);
+            }
+        }
+        return null;
+    }
+
+    private Glyph getLigatureGlyph(final char first, final int glyphID, final int charCount) {
+        final int key = glyphID | ( charCount << 16 );
+        synchronized( glyphLock ) {
+            final TypecastGlyph result = (TypecastGlyph) ligature2Glyph.get(key);
+            if( null != result ) {
+                return result;
             }
-            char2Glyph.put(symbol, result);
+        }
+        final TypecastGlyph result = buildGlyph(first, glyphID);
+        result.charCount = charCount;
+        synchronized( glyphLock ) {
+            final TypecastGlyph other = (TypecastGlyph) ligature2Glyph.get(key);
+            if( null != other ) {
+                return other;
+            }
+            ligature2Glyph.put(key, result);
         }
         return result;
     }
 
+    /** Appends the symbol to the {@link #glyphClock}, must hold {@link #glyphLock}. */
+    private void glyphClockAdd(final char symbol) {
+        if( glyphClockSize == glyphClock.length ) {
+            final char[] newClock = new char[glyphClock.length * 2];
+            for(int i=0; i<glyphClockSize; i++) {
+                newClock[i] = glyphClock[ ( glyphClockHead + i ) % glyphClock.length ];
+            }
+            glyphClock = newClock;
+            glyphClockHead = 0;
+        }
+        glyphClock[ ( glyphClockHead + glyphClockSize ) % glyphClock.length ] = symbol;
+        glyphClockSize++;
+    }
+
+    /** Removes and returns the oldest symbol of the {@link #glyphClock}, must hold {@link #glyphLock}. */
+    private char glyphClockRemove() {
+        final char symbol = glyphClock[glyphClockHead];
+        glyphClockHead = ( glyphClockHead + 1 ) % glyphClock.length;
+        glyphClockSize--;
+        return symbol;
+    }
+
+    /**
+     * Evicts glyphs not referenced since their last visit until a positive {@link #getGlyphCacheLimit() limit} is met,
+     * a limit &le; 0 is unlimited. Must hold {@link #glyphLock}.
+     */
+    private void validateGlyphCache() {
+        if( 0 < glyphCacheLimit ) {
+            while( glyphClockSize > glyphCacheLimit ) {
+                final char symbol = glyphClockRemove();
+                final TypecastGlyph g = (TypecastGlyph) char2Glyph.get(symbol);
+                if( g.cacheReferenced ) {
+                    // second chance
+                    g.cacheReferenced = false;
+                    glyphClockAdd(symbol);
+                } else {
+                    char2Glyph.remove(symbol);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void setGlyphCacheLimit(final int limit) {
+        synchronized( glyphLock ) {
+            glyphCacheLimit = limit;
+            validateGlyphCache();
+        }
+    }
+
+    @Override
+    public int getGlyphCacheLimit() {
+        synchronized( glyphLock ) {
+            return glyphCacheLimit;
+        }
+    }
+
+    @Override
+    public int getGlyphCacheSize() {
+        synchronized( glyphLock ) {
+            return char2Glyph.size();
+        }
+    }
+
+    @Override
+    public void prewarm(final CharSequence symbols, final Executor executor) {
+        if( null == executor ) {
+            prewarmImpl(symbols, 0, symbols.length());
+        } else {
+            final String s = symbols.toString();
+            final int len = s.length();
+            for(int i=0; i<len; i+=PREWARM_CHUNK_SIZE) {
+                final int start = i;
+                final int end = Math.min(len, i + PREWARM_CHUNK_SIZE);
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        prewarmImpl(s, start, end);
+                    } } );
+            }
+        }
+    }
+
+    @Override
+    public void prewarm(final char first, final char last, final Executor executor) {
+        if( first > last ) {
+            return;
+        }
+        final StringBuilder sb = new StringBuilder( last - first + 1 );
+        for(int c=first; c<=last; c++) {
+            sb.append((char)c);
+        }
+        prewarm(sb, executor);
+    }
+
+    private void prewarmImpl(final CharSequence symbols, final int start, final int end) {
+        for(int i=start; i<end; i++) {
+            final char c = symbols.charAt(i);
+            if( '\n' != c ) {
+                getGlyph(c);
+            }
+        }
+    }
+
+    @Override
+    public boolean loadShapeCache(final File file) throws IOException {
+        final TypecastShapeCache sc = TypecastShapeCache.map(file, getName(Font.NAME_UNIQUNAME),
+                font.getHeadTable().getCheckSumAdjustment(), font.getHeadTable().getFontRevision());
+        if( null != sc ) {
+            shapeCache = sc;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void storeShapeCache(final File file) throws IOException {
+        final ArrayList<TypecastGlyph> glyphs;
+        synchronized( glyphLock ) {
+            glyphs = new ArrayList<TypecastGlyph>(glyphClockSize);
+            for(int i=0; i<glyphClockSize; i++) {
+                final TypecastGlyph g = (TypecastGlyph) char2Glyph.get(glyphClock[ ( glyphClockHead + i ) % glyphClock.length ]);
+                if( null != g.getShape() ) {
+                    glyphs.add(g);
+                }
+            }
+        }
+        TypecastShapeCache.store(file, getName(Font.NAME_UNIQUNAME),
+                font.getHeadTable().getCheckSumAdjustment(), font.getHeadTable().getFontRevision(),
+                glyphs, shapeCache);
+    }
+
     @Override
     public final float getPixelSize(final float fontSize /* points per inch */, final float resolution) {
         return fontSize * resolution / ( 72f /* points per inch */ );
@@ -241,63 +456,157 @@ class TypecastFont implements Font {
     }
 
     @Override
-    public float getMetricWidth(final CharSequence string, final float pixelSize) {
-        float width = 0;
-        final int len = string.length();
-        for (int i=0; i< len; i++) {
-            final char character = string.charAt(i);
-            if (character == '\n') {
-                width = 0;
-            } else {
-                final Glyph glyph = getGlyph(character);
-                width += glyph.getAdvance(pixelSize, false);
+    public MeasuredRun getMeasuredRun(final CharSequence string, final float pixelSize) {
+        synchronized( runCache ) {
+            final TypecastMeasuredRun run = runCache.get(runLookupKey.set(string, pixelSize));
+            runLookupKey.clear();
+            if( null != run ) {
+                return run;
             }
         }
-        return (int)(width + 0.5f);
-    }
-
-    @Override
-    public float getMetricHeight(final CharSequence string, final float pixelSize, final AABBox tmp) {
-        int height = 0;
-
-        for (int i=0; i<string.length(); i++) {
-            final char character = string.charAt(i);
-            if (character != ' ') {
-                final Glyph glyph = getGlyph(character);
-                final AABBox bbox = glyph.getBBox(tmp, pixelSize, tmpV3);
-                height = (int)Math.ceil(Math.max(bbox.getHeight(), height));
+        // measure outside of lock, glyph lookup is thread safe
+        final TypecastMeasuredRun run = measureRun(string.toString(), pixelSize);
+        synchronized( runCache ) {
+            if( 0 != runCacheLimit ) {
+                runCache.put(new RunKey().set(run.text, pixelSize), run);
+                validateRunCache();
             }
         }
-        return height;
+        return run;
     }
 
-    @Override
-    public AABBox getMetricBounds(final CharSequence string, final float pixelSize) {
-        if (string == null) {
-            return new AABBox();
-        }
+    private TypecastMeasuredRun measureRun(final String string, final float pixelSize) {
         final int charCount = string.length();
         final float lineHeight = getLineHeight(pixelSize);
+        final float[] advances = new float[charCount];
+        final AABBox tmpBox = new AABBox();
+        final float[] tmpV3 = new float[3];
+        float width = 0;
+        int height = 0;
         float totalHeight = 0;
         float totalWidth = 0;
         float curLineWidth = 0;
+        int prevID = -1, prevIdx = -1;
         for (int i=0; i<charCount; i++) {
             final char character = string.charAt(i);
+            Glyph glyph = getLigature(string, i, charCount);
+            if( null == glyph ) {
+                glyph = getGlyph(character);
+            }
+            if (character != ' ') {
+                final AABBox bbox = glyph.getBBox(tmpBox, pixelSize, tmpV3);
+                height = (int)Math.ceil(Math.max(bbox.getHeight(), height));
+            }
             if (character == '\n') {
+                width = 0;
                 totalWidth = Math.max(curLineWidth, totalWidth);
                 curLineWidth = 0;
                 totalHeight += lineHeight;
-                continue;
+                advances[i] = 0;
+                prevID = -1;
+            } else {
+                final int id = ' ' != character ? glyph.getID() & 0xffff : -1;
+                if( 0 <= prevID && 0 <= id ) {
+                    final float kerning = getKerning(prevID, id, pixelSize);
+                    advances[prevIdx] += kerning;
+                    curLineWidth += kerning;
+                    width += kerning;
+                }
+                width += glyph.getAdvance(pixelSize, false);
+                advances[i] = glyph.getAdvance(pixelSize, true);
+                curLineWidth += advances[i];
+                prevID = id;
+                prevIdx = i;
+                i += glyph.getCharCount() - 1; // substituted characters have a zero advance
             }
-            final Glyph glyph = getGlyph(character);
-            curLineWidth += glyph.getAdvance(pixelSize, true);
         }
         if (curLineWidth > 0) {
             totalHeight += lineHeight;
             totalWidth = Math.max(curLineWidth, totalWidth);
         }
-        return new AABBox(0, 0, 0, totalWidth, totalHeight,0);
+        return new TypecastMeasuredRun(this, string, pixelSize, (int)(width + 0.5f), height, totalWidth, totalHeight, advances);
+    }
+
+    /** Evicts least recently used runs until the {@link #getMeasuredRunCacheLimit() limit} is met, must hold {@link #runCache}. */
+    private void validateRunCache() {
+        if( 0 <= runCacheLimit ) {
+            final Iterator<RunKey> it = runCache.keySet().iterator();
+            while( runCache.size() > runCacheLimit && it.hasNext() ) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    @Override
+    public void setMeasuredRunCacheLimit(final int limit) {
+        synchronized( runCache ) {
+            runCacheLimit = limit;
+            validateRunCache();
+        }
+    }
+
+    @Override
+    public int getMeasuredRunCacheLimit() {
+        synchronized( runCache ) {
+            return runCacheLimit;
+        }
+    }
+
+    @Override
+    public float getAdvances(final CharSequence string, final float pixelSize, final boolean useFrationalMetrics,
+                             final float[] advances, final int advancesOffset) {
+        float width = 0;
+        final int len = string.length();
+        int prevID = -1, prevIdx = -1;
+        for (int i=0; i<len; i++) {
+            final char character = string.charAt(i);
+            if (character == '\n') {
+                advances[advancesOffset+i] = 0;
+                width = 0;
+                prevID = -1;
+            } else {
+                Glyph glyph = getLigature(string, i, len);
+                if( null == glyph ) {
+                    glyph = getGlyph(character);
+                }
+                final int id = ' ' != character ? glyph.getID() & 0xffff : -1;
+                if( 0 <= prevID && 0 <= id ) {
+                    final float kerning = getKerning(prevID, id, pixelSize);
+                    advances[advancesOffset+prevIdx] += kerning;
+                    width += kerning;
+                }
+                final float a = glyph.getAdvance(pixelSize, useFrationalMetrics);
+                advances[advancesOffset+i] = a;
+                width += a;
+                prevID = id;
+                prevIdx = i;
+                for(int j=1; j<glyph.getCharCount(); j++) {
+                    advances[advancesOffset+(++i)] = 0; // substituted characters
+                }
+            }
+        }
+        return width;
+    }
+
+    @Override
+    public float getMetricWidth(final CharSequence string, final float pixelSize) {
+        return getMeasuredRun(string, pixelSize).getMetricWidth();
+    }
+
+    @Override
+    public float getMetricHeight(final CharSequence string, final float pixelSize, final AABBox tmp) {
+        return getMeasuredRun(string, pixelSize).getMetricHeight();
     }
+
+    @Override
+    public AABBox getMetricBounds(final CharSequence string, final float pixelSize) {
+        if (string == null) {
+            return new AABBox();
+        }
+        return getMeasuredRun(string, pixelSize).getMetricBounds(new AABBox());
+    }
+
     @Override
     public AABBox getPointsBounds(final AffineTransform transform, final CharSequence string, final float pixelSize,
                                   final AffineTransform temp1, final AffineTransform temp2) {
@@ -312,15 +621,29 @@ class TypecastFont implements Font {
 
         float y = 0;
         float advanceTotal = 0;
+        int prevID = -1;
 
         for(int i=0; i< charCount; i++) {
             final char character = string.charAt(i);
             if( '\n' == character ) {
                 y -= lineHeight;
                 advanceTotal = 0;
+                prevID = -1;
             } else if (character == ' ') {
                 advanceTotal += getAdvanceWidth(Glyph.ID_SPACE, pixelSize);
+                prevID = -1;
             } else {
+                Font.Glyph glyph = getLigature(string, i, charCount);
+                if( null == glyph ) {
+                    glyph = getGlyph(character);
+                }
+                final int id = glyph.getID() & 0xffff;
+                if( 0 <= prevID ) {
+                    advanceTotal += getKerning(prevID, id, pixelSize);
+                }
+                prevID = id;
+                i += glyph.getCharCount() - 1;
+
                 // reset transform
                 if( null != transform ) {
                     temp1.setTransform(transform);
@@ -331,7 +654,6 @@ class TypecastFont implements Font {
                 temp1.scale(scale, scale, temp2);
                 tbox.reset();
 
-                final Font.Glyph glyph = getGlyph(character);
                 res.resize(temp1.transform(glyph.getBBox(), tbox));
 
                 final OutlineShape glyphShape = glyph.getShape();
@@ -358,4 +680,94 @@ class TypecastFont implements Font {
     public String toString() {
         return getFullFamilyName(null).toString();
     }
+
+    /** Measured run cache key of pixel size and text, comparing the text char by char. */
+    private static final class RunKey {
+        CharSequence text;
+        int pixelSizeBits;
+        int hash;
+
+        RunKey set(final CharSequence text, final float pixelSize) {
+            this.text = text;
+            this.pixelSizeBits = Float.floatToIntBits(pixelSize);
+            // 31 * x == (x << 5) - x
+            int h = 31 + pixelSizeBits;
+            final int len = text.length();
+            for(int i=0; i<len; i++) {
+                h = ((h << 5) - h) + text.charAt(i);
+            }
+            this.hash = h;
+            return this;
+        }
+        void clear() {
+            text = null;
+        }
+        @Override
+        public int hashCode() { return hash; }
+
+        @Override
+        public boolean equals(final Object o) {
+            if( this == o ) {
+                return true;
+            }
+            if( !( o instanceof RunKey ) ) {
+                return false;
+            }
+            final RunKey other = (RunKey)o;
+            if( hash != other.hash || pixelSizeBits != other.pixelSizeBits ) {
+                return false;
+            }
+            final int len = text.length();
+            if( len != other.text.length() ) {
+                return false;
+            }
+            for(int i=0; i<len; i++) {
+                if( text.charAt(i) != other.text.charAt(i) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class TypecastMeasuredRun implements MeasuredRun {
+        final Font font;
+        final String text;
+        final float pixelSize;
+        final float metricWidth;
+        final float metricHeight;
+        final float boundsWidth;
+        final float boundsHeight;
+        final float[] advances;
+
+        TypecastMeasuredRun(final Font font, final String text, final float pixelSize,
+                            final float metricWidth, final float metricHeight,
+                            final float boundsWidth, final float boundsHeight, final float[] advances) {
+            this.font = font;
+            this.text = text;
+            this.pixelSize = pixelSize;
+            this.metricWidth = metricWidth;
+            this.metricHeight = metricHeight;
+            this.boundsWidth = boundsWidth;
+            this.boundsHeight = boundsHeight;
+            this.advances = advances;
+        }
+
+        @Override
+        public Font getFont() { return font; }
+        @Override
+        public String getText() { return text; }
+        @Override
+        public float getPixelSize() { return pixelSize; }
+        @Override
+        public float getMetricWidth() { return metricWidth; }
+        @Override
+        public float getMetricHeight() { return metricHeight; }
+        @Override
+        public AABBox getMetricBounds(final AABBox dest) {
+            return dest.setSize(0, 0, 0, boundsWidth, boundsHeight, 0);
+        }
+        @Override
+        public float[] getAdvances() { return advances; }
+    }
 }
@@ -43,6 +43,11 @@ public class TypecastFontConstructor implements FontConstructor  {
         return new TypecastFont( OTFontCollection.create(ffile) );
     }
 
+    @Override
+    public Font create(final File ffile, final boolean memoryMapped) throws IOException {
+        return new TypecastFont( OTFontCollection.create(ffile, memoryMapped) );
+    }
+
     @Override
     public Font create(final InputStream istream, final int streamLen) throws IOException {
         return new TypecastFont( OTFontCollection.create(istream, streamLen) );
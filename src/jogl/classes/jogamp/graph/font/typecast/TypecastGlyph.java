@@ -47,7 +47,9 @@ public final class TypecastGlyph implements Font.Glyph {
         }
 
         public final void reset() {
-            size2advanceI.clear();
+            synchronized( size2advanceI ) {
+                size2advanceI.clear();
+            }
         }
 
         public final Font getFont() { return font; }
@@ -59,13 +61,18 @@ public final class TypecastGlyph implements Font.Glyph {
 
         public final void add(final float advance, final float size)
         {
-            size2advanceI.put(Float.floatToIntBits(size), Float.floatToIntBits(advance));
+            synchronized( size2advanceI ) {
+                size2advanceI.put(Float.floatToIntBits(size), Float.floatToIntBits(advance));
+            }
         }
 
         public final float get(final float pixelSize, final boolean useFrationalMetrics)
         {
             final int sI = Float.floatToIntBits(pixelSize);
-            final int aI = size2advanceI.get(sI);
+            final int aI;
+            synchronized( size2advanceI ) {
+                aI = size2advanceI.get(sI);
+            }
             if( 0 != aI ) {
                 return Float.intBitsToFloat(aI);
             }
@@ -76,7 +83,9 @@ public final class TypecastGlyph implements Font.Glyph {
                 // a = Math.ceil(this.advance * getScale(pixelSize));
                 a = Math.round(this.advance * getScale(pixelSize)); // TODO: check whether ceil should be used instead?
             }
-            size2advanceI.put(sI, Float.floatToIntBits(a));
+            synchronized( size2advanceI ) {
+                size2advanceI.put(sI, Float.floatToIntBits(a));
+            }
             return a;
         }
 
@@ -142,12 +151,21 @@ public final class TypecastGlyph implements Font.Glyph {
     private final OutlineShape shape; // in EM units
     private final short id;
     private final Metrics metrics;
-
-    protected TypecastGlyph(final Font font, final char symbol, final short id, final AABBox bbox, final int advance, final OutlineShape shape) {
+    private final int advanceUnsized;
+    /** Number of represented characters, greater than one for a ligature. */
+    /* pp */ int charCount = 1;
+    /** Glyph cache CLOCK reference bit, guarded by the owning {@link TypecastFont}. */
+    /* pp */ boolean cacheReferenced = false;
+
+    /**
+     * @param id unsigned 16 bit glyph ID, {@link #getID()} returns it as a signed short
+     */
+    protected TypecastGlyph(final Font font, final char symbol, final int id, final AABBox bbox, final int advance, final OutlineShape shape) {
         this.symbol = symbol;
         this.shape = shape;
-        this.id = id;
+        this.id = (short) id;
         this.metrics = new Metrics(font, bbox, advance);
+        this.advanceUnsized = advance;
     }
 
     @Override
@@ -164,6 +182,10 @@ public final class TypecastGlyph implements Font.Glyph {
         return this.metrics.getBBox();
     }
 
+    final int getAdvanceUnsized() {
+        return this.advanceUnsized;
+    }
+
     @Override
     public final AABBox getBBox() {
         return this.metrics.getBBox();
@@ -197,6 +219,11 @@ public final class TypecastGlyph implements Font.Glyph {
         return this.metrics.getAdvance(pixelSize, useFrationalMetrics);
     }
 
+    @Override
+    public final int getCharCount() {
+        return this.charCount;
+    }
+
     @Override
     public final OutlineShape getShape() {
         return this.shape;
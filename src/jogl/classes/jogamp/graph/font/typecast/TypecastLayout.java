@@ -0,0 +1,327 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast;
+
+import java.util.Arrays;
+
+import jogamp.graph.font.typecast.ot.OTFont;
+import jogamp.graph.font.typecast.ot.table.Coverage;
+import jogamp.graph.font.typecast.ot.table.Feature;
+import jogamp.graph.font.typecast.ot.table.FeatureList;
+import jogamp.graph.font.typecast.ot.table.FeatureTags;
+import jogamp.graph.font.typecast.ot.table.GsubTable;
+import jogamp.graph.font.typecast.ot.table.KernSubtable;
+import jogamp.graph.font.typecast.ot.table.KernTable;
+import jogamp.graph.font.typecast.ot.table.KerningPair;
+import jogamp.graph.font.typecast.ot.table.LangSys;
+import jogamp.graph.font.typecast.ot.table.Ligature;
+import jogamp.graph.font.typecast.ot.table.LigatureSet;
+import jogamp.graph.font.typecast.ot.table.LigatureSubstFormat1;
+import jogamp.graph.font.typecast.ot.table.Lookup;
+import jogamp.graph.font.typecast.ot.table.LookupList;
+import jogamp.graph.font.typecast.ot.table.LookupSubtable;
+import jogamp.graph.font.typecast.ot.table.Script;
+import jogamp.graph.font.typecast.ot.table.ScriptList;
+import jogamp.graph.font.typecast.ot.table.ScriptTags;
+import jogamp.graph.font.typecast.ot.table.Table;
+
+import com.jogamp.common.util.IntObjectHashMap;
+
+/**
+ * Compiled text layout tables of a font, i.e. pairwise kerning and ligature substitution.
+ * <p>
+ * Kerning pairs of all horizontal {@link KernTable} subtables are merged into an open addressing
+ * hash table of packed <code>left &lt;&lt; 16 | right</code> glyph ID keys.
+ * </p>
+ * <p>
+ * The {@link LigatureSubstFormat1 ligature} lookups of the {@link GsubTable GSUB} 'liga' and 'rlig' features
+ * of the default or latin script are merged into a coverage bitset of all first glyphs
+ * and flat ligature records per first glyph, preserving the lookup order.
+ * Lookup flags and contextual substitution are not supported.
+ * </p>
+ * <p>
+ * All lookups are allocation free and the instance is immutable, hence thread safe.
+ * </p>
+ */
+final class TypecastLayout {
+    private static final int EMPTY_KEY = -1;
+
+    private final int[] kernKeys;
+    private final int[] kernValues;
+    private final int kernMask;
+    private final int kernPairCount;
+
+    /** Coverage bitset of the first glyph of all ligatures. */
+    private final long[] ligatureCoverage;
+    /**
+     * Ligature records per first glyph, each record is
+     * <code>{ ligatureGlyphID, componentCount, component[1], .., component[componentCount-1] }</code>.
+     */
+    private final IntObjectHashMap ligatures;
+    private final int ligatureCount;
+
+    private TypecastLayout(final int[] kernKeys, final int[] kernValues, final int kernPairCount,
+                           final long[] ligatureCoverage, final IntObjectHashMap ligatures, final int ligatureCount) {
+        this.kernKeys = kernKeys;
+        this.kernValues = kernValues;
+        this.kernMask = kernKeys.length - 1;
+        this.kernPairCount = kernPairCount;
+        this.ligatureCoverage = ligatureCoverage;
+        this.ligatures = ligatures;
+        this.ligatureCount = ligatureCount;
+    }
+
+    /** Returns the number of distinct kerning pairs. */
+    public final int getKerningPairCount() { return kernPairCount; }
+
+    /** Returns the number of ligatures. */
+    public final int getLigatureCount() { return ligatureCount; }
+
+    private static int hash(final int key) {
+        final int h = key * 0x9E3779B1;
+        return h ^ ( h >>> 16 );
+    }
+
+    /**
+     * Returns the horizontal kerning in font units between the given glyph pair, or zero.
+     */
+    public final int getKerning(final int leftGlyphID, final int rightGlyphID) {
+        if( 0 == kernPairCount ) {
+            return 0;
+        }
+        final int key = ( leftGlyphID << 16 ) | ( rightGlyphID & 0xffff );
+        int i = hash(key) & kernMask;
+        while( true ) {
+            final int k = kernKeys[i];
+            if( key == k ) {
+                return kernValues[i];
+            } else if( EMPTY_KEY == k ) {
+                return 0;
+            }
+            i = ( i + 1 ) & kernMask;
+        }
+    }
+
+    /** Returns true if the given glyph starts at least one ligature. */
+    public final boolean isLigatureStart(final int glyphID) {
+        final int w = glyphID >>> 6;
+        return w < ligatureCoverage.length && 0 != ( ligatureCoverage[w] & ( 1L << glyphID ) );
+    }
+
+    /**
+     * Returns the ligature records of the given first glyph, see {@link #ligatures}, or {@code null}.
+     * The returned array shall not be modified.
+     */
+    public final int[] getLigatures(final int glyphID) {
+        return isLigatureStart(glyphID) ? (int[]) ligatures.get(glyphID) : null;
+    }
+
+    @Override
+    public final String toString() {
+        return "Layout[kerning pairs "+kernPairCount+", ligatures "+ligatureCount+"]";
+    }
+
+    /**
+     * Compiles the kern and GSUB table of the given font.
+     */
+    public static TypecastLayout create(final OTFont font) {
+        final int numGlyphs = font.getNumGlyphs();
+
+        //
+        // Kerning
+        //
+        final KernTable kern = (KernTable) font.getTable(Table.kern);
+        int maxPairs = 0;
+        if( null != kern ) {
+            for(int i=0; i<kern.getSubtableCount(); i++) {
+                final KernSubtable st = kern.getSubtable(i);
+                if( null != st && st.isHorizontalKerning() ) {
+                    maxPairs += st.getKerningPairCount();
+                }
+            }
+        }
+        int capacity = 16;
+        while( capacity < maxPairs * 2 ) {
+            capacity <<= 1;
+        }
+        final int[] kernKeys = new int[capacity];
+        final int[] kernValues = new int[capacity];
+        Arrays.fill(kernKeys, EMPTY_KEY);
+        int kernPairCount = 0;
+        if( 0 < maxPairs ) {
+            final int mask = capacity - 1;
+            for(int i=0; i<kern.getSubtableCount(); i++) {
+                final KernSubtable st = kern.getSubtable(i);
+                if( null == st || !st.isHorizontalKerning() ) {
+                    continue;
+                }
+                final boolean override = st.isOverride();
+                for(int j=0; j<st.getKerningPairCount(); j++) {
+                    final KerningPair p = st.getKerningPair(j);
+                    final int key = ( p.getLeft() << 16 ) | p.getRight();
+                    if( EMPTY_KEY == key ) {
+                        continue;
+                    }
+                    int k = hash(key) & mask;
+                    while( EMPTY_KEY != kernKeys[k] && key != kernKeys[k] ) {
+                        k = ( k + 1 ) & mask;
+                    }
+                    if( EMPTY_KEY == kernKeys[k] ) {
+                        kernKeys[k] = key;
+                        kernPairCount++;
+                        kernValues[k] = p.getValue();
+                    } else if( override ) {
+                        kernValues[k] = p.getValue();
+                    } else {
+                        kernValues[k] += p.getValue();
+                    }
+                }
+            }
+        }
+
+        //
+        // Ligatures
+        //
+        final long[] ligatureCoverage = new long[( numGlyphs + 63 ) >>> 6];
+        final IntObjectHashMap ligatures = new IntObjectHashMap();
+        int ligatureCount = 0;
+        final GsubTable gsub = (GsubTable) font.getTable(Table.GSUB);
+        if( null != gsub ) {
+            final LookupList lookupList = gsub.getLookupList();
+            final boolean[] lookups = getLigatureLookups(gsub);
+            for(int i=0; i<lookups.length; i++) {
+                if( !lookups[i] ) {
+                    continue;
+                }
+                final Lookup lookup = lookupList.getLookup(i);
+                if( 4 != lookup.getType() ) {
+                    continue;
+                }
+                for(int j=0; j<lookup.getSubtableCount(); j++) {
+                    final LookupSubtable st = lookup.getSubtable(j);
+                    if( !( st instanceof LigatureSubstFormat1 ) ) {
+                        continue;
+                    }
+                    final LigatureSubstFormat1 ls = (LigatureSubstFormat1) st;
+                    final Coverage coverage = ls.getCoverage();
+                    if( null == coverage ) {
+                        continue;
+                    }
+                    final int[] firstGlyphs = coverage.getGlyphIds();
+                    for(int k=0; k<firstGlyphs.length && k<ls.getLigatureSetCount(); k++) {
+                        final int first = firstGlyphs[k];
+                        if( first >= numGlyphs ) {
+                            continue;
+                        }
+                        final int added = addLigatures(ligatures, first, ls.getLigatureSet(k), numGlyphs);
+                        if( 0 < added ) {
+                            ligatureCoverage[first >>> 6] |= 1L << first;
+                            ligatureCount += added;
+                        }
+                    }
+                }
+            }
+        }
+        return new TypecastLayout(kernKeys, kernValues, kernPairCount, ligatureCoverage, ligatures, ligatureCount);
+    }
+
+    /**
+     * Returns the lookup list indices of the 'liga' and 'rlig' features
+     * of the default or latin script, or of all scripts if none of both exists.
+     */
+    private static boolean[] getLigatureLookups(final GsubTable gsub) {
+        final ScriptList scriptList = gsub.getScriptList();
+        final FeatureList featureList = gsub.getFeatureList();
+        final boolean[] res = new boolean[gsub.getLookupList().getLookupCount()];
+        Script script = scriptList.findScript(ScriptTags.SCRIPT_TAG_DFLT);
+        if( null == script ) {
+            script = scriptList.findScript(ScriptTags.SCRIPT_TAG_LATN);
+        }
+        final LangSys langSys = null != script ? script.getDefaultLangSys() : null;
+        final int liga = toTag(FeatureTags.FEATURE_TAG_LIGA);
+        final int rlig = toTag(FeatureTags.FEATURE_TAG_RLIG);
+        for(int i=0; i<featureList.getFeatureCount(); i++) {
+            final int tag = featureList.getFeatureRecord(i).getTag();
+            if( ( liga == tag || rlig == tag ) && ( null == langSys || isFeatureIndexed(langSys, i) ) ) {
+                final Feature feature = featureList.getFeature(i);
+                for(int j=0; j<feature.getLookupCount(); j++) {
+                    final int l = feature.getLookupListIndex(j);
+                    if( l < res.length ) {
+                        res[l] = true;
+                    }
+                }
+            }
+        }
+        return res;
+    }
+
+    private static boolean isFeatureIndexed(final LangSys langSys, final int featureIndex) {
+        if( langSys.getReqFeatureIndex() == featureIndex ) {
+            return true;
+        }
+        for(int i=0; i<langSys.getFeatureCount(); i++) {
+            if( langSys.getFeatureIndex(i) == featureIndex ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int toTag(final String tag) {
+        return ( tag.charAt(0) << 24 ) | ( tag.charAt(1) << 16 ) | ( tag.charAt(2) << 8 ) | tag.charAt(3);
+    }
+
+    /** Appends the ligature records of the given set to the records of the first glyph, returns the number of added ligatures. */
+    private static int addLigatures(final IntObjectHashMap ligatures, final int first, final LigatureSet set, final int numGlyphs) {
+        final int[] old = (int[]) ligatures.get(first);
+        int size = null != old ? old.length : 0;
+        int[] records = null != old ? Arrays.copyOf(old, size + 16) : new int[16];
+        int added = 0;
+        for(int i=0; i<set.getLigatureCount(); i++) {
+            final Ligature l = set.getLigature(i);
+            final int count = l.getGlyphCount();
+            final int ligGlyph = l.getGlyphId(0);
+            if( count < 2 || ligGlyph >= numGlyphs ) {
+                continue; // single glyph 'ligatures' are not supported
+            }
+            if( size + count + 1 > records.length ) {
+                records = Arrays.copyOf(records, Math.max(records.length * 2, size + count + 1));
+            }
+            records[size++] = ligGlyph;
+            records[size++] = count;
+            for(int j=1; j<count; j++) {
+                records[size++] = l.getGlyphId(j);
+            }
+            added++;
+        }
+        if( 0 < added ) {
+            ligatures.put(first, Arrays.copyOf(records, size));
+        }
+        return added;
+    }
+}
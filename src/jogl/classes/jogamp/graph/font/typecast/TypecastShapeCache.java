@@ -0,0 +1,454 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.geom.Outline;
+import com.jogamp.graph.geom.Triangle;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.math.geom.AABBox;
+
+/**
+ * Persistent, memory mapped cache of triangulated {@link TypecastGlyph} shapes,
+ * allowing a warm start to skip font outline decoding and triangulation.
+ * <p>
+ * The file is bound to the font's identity, i.e. its unique name, checksum and revision,
+ * entries are keyed by glyph ID and {@link OutlineShape#getSharpness() sharpness}.
+ * </p>
+ * <p>
+ * Binary format, big endian:
+ * <pre>
+ *   int magic, int version
+ *   int nameLength, byte[nameLength] name (UTF-8), int checksum, int revision
+ *   int entryCount, entryCount * { int glyphID, int sharpnessBits, int offset, int length }, sorted by glyphID and sharpnessBits
+ *   entries: float[6] bbox, int advance, int addedVerticeCount,
+ *            int outlineCount, outlineCount * { int vertexCount, vertexCount * vertex },
+ *            int triangleCount, triangleCount * { byte boundaryFlags, 3 * { int vertexIndex, vertex if vertexIndex is -1 } }
+ *   vertex: float[3] coord, float[3] texCoord, byte onCurve
+ * </pre>
+ * </p>
+ * <p>
+ * Entries are decoded lazily from the mapped file using absolute reads only, hence instances are thread safe.
+ * </p>
+ * <p>
+ * A mapped file is never rewritten, since platforms like Windows don't allow to delete or replace it.
+ * Instead each {@link #store(File, String, int, int, ArrayList, TypecastShapeCache) store} writes a new generation file
+ * <code>file.generation</code>, while {@link #map(File, String, int, int) map} picks the newest one.
+ * </p>
+ */
+final class TypecastShapeCache {
+    private static final int MAGIC = 0x4A475343; // 'JGSC'
+    private static final int VERSION = 1;
+    private static final int INLINE_VERTEX = -1;
+    private static final int HAS_VERTEX_BOUNDARY = 1 << 6;
+
+    private final ByteBuffer data;
+    private final int[] glyphIDs;
+    private final int[] sharpnessBits;
+    private final int[] offsets;
+    private final int[] lengths;
+
+    private TypecastShapeCache(final ByteBuffer data, final int count) {
+        this.data = data;
+        this.glyphIDs = new int[count];
+        this.sharpnessBits = new int[count];
+        this.offsets = new int[count];
+        this.lengths = new int[count];
+    }
+
+    /** Returns the number of persisted glyph shapes. */
+    int getEntryCount() { return glyphIDs.length; }
+
+    /** Returns the file of the given generation of the shape cache file. */
+    private static File getGenerationFile(final File file, final int generation) {
+        return new File(file.getPath()+"."+generation);
+    }
+
+    /**
+     * Returns the generations of the shape cache file found in its directory, unsorted.
+     */
+    private static ArrayList<Integer> getGenerations(final File file) {
+        final ArrayList<Integer> generations = new ArrayList<Integer>();
+        final File dir = file.getAbsoluteFile().getParentFile();
+        final String[] names = null != dir ? dir.list() : null;
+        if( null == names ) {
+            return generations;
+        }
+        final String prefix = file.getName()+".";
+        for(int i=0; i<names.length; i++) {
+            final String n = names[i];
+            if( n.startsWith(prefix) && n.length() > prefix.length() && n.length() <= prefix.length() + 9 ) {
+                boolean digits = true;
+                for(int j=prefix.length(); digits && j<n.length(); j++) {
+                    digits = Character.isDigit(n.charAt(j));
+                }
+                if( digits ) {
+                    generations.add(Integer.valueOf(n.substring(prefix.length())));
+                }
+            }
+        }
+        return generations;
+    }
+
+    /** Returns the newest generation of the shape cache file, or zero if none exists. */
+    private static int getNewestGeneration(final File file) {
+        final ArrayList<Integer> generations = getGenerations(file);
+        int newest = 0;
+        for(int i=0; i<generations.size(); i++) {
+            newest = Math.max(newest, generations.get(i).intValue());
+        }
+        return newest;
+    }
+
+    /**
+     * Memory maps the newest generation of the given shape cache file.
+     * @return the shape cache or {@code null} if the file doesn't exist or doesn't match the font identity.
+     * @throws IOException if the file is corrupt or cannot be read
+     */
+    static TypecastShapeCache map(final File cacheFile, final String name, final int checksum, final int revision) throws IOException {
+        final int generation = getNewestGeneration(cacheFile);
+        final File file = getGenerationFile(cacheFile, generation);
+        if( 0 == generation || !file.isFile() ) {
+            return null;
+        }
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        final ByteBuffer data;
+        try {
+            final FileChannel fc = raf.getChannel();
+            data = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+        } finally {
+            raf.close(); // mapping stays valid
+        }
+        try {
+            if( MAGIC != data.getInt(0) || VERSION != data.getInt(4) ) {
+                return null;
+            }
+            final int nameLen = data.getInt(8);
+            final byte[] nameBytes = new byte[nameLen];
+            for(int i=0; i<nameLen; i++) {
+                nameBytes[i] = data.get(12+i);
+            }
+            int p = 12 + nameLen;
+            if( !name.equals(new String(nameBytes, "UTF-8")) || checksum != data.getInt(p) || revision != data.getInt(p+4) ) {
+                return null;
+            }
+            final int count = data.getInt(p+8);
+            p += 12;
+            final TypecastShapeCache cache = new TypecastShapeCache(data, count);
+            for(int i=0; i<count; i++, p+=16) {
+                cache.glyphIDs[i] = data.getInt(p);
+                cache.sharpnessBits[i] = data.getInt(p+4);
+                cache.offsets[i] = data.getInt(p+8);
+                cache.lengths[i] = data.getInt(p+12);
+            }
+            return cache;
+        } catch (final IndexOutOfBoundsException e) {
+            throw new IOException("Corrupt shape cache "+file, e);
+        }
+    }
+
+    private int indexOf(final int glyphID, final int sharpBits) {
+        int i = Arrays.binarySearch(glyphIDs, glyphID);
+        if( 0 > i ) {
+            return -1;
+        }
+        while( 0 < i && glyphIDs[i-1] == glyphID ) {
+            i--;
+        }
+        for(; i<glyphIDs.length && glyphIDs[i] == glyphID; i++) {
+            if( sharpnessBits[i] == sharpBits ) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new {@link TypecastGlyph} decoded from the persisted entry
+     * with its triangulated {@link OutlineShape}, or {@code null} if no entry exists.
+     */
+    TypecastGlyph createGlyph(final Font font, final char symbol, final int glyphID, final float sharpness,
+                              final Vertex.Factory<? extends Vertex> vertexFactory) {
+        final int idx = indexOf(glyphID & 0xffff, Float.floatToIntBits(sharpness));
+        if( 0 > idx ) {
+            return null;
+        }
+        final ByteBuffer d = data;
+        int p = offsets[idx];
+        final AABBox bbox = new AABBox(d.getFloat(p),    d.getFloat(p+4),  d.getFloat(p+8),
+                                       d.getFloat(p+12), d.getFloat(p+16), d.getFloat(p+20));
+        final int advance = d.getInt(p+24);
+        final int addedVerticeCount = d.getInt(p+28);
+        final int outlineCount = d.getInt(p+32);
+        p += 36;
+
+        final OutlineShape shape = new OutlineShape(vertexFactory);
+        shape.setSharpness(sharpness);
+        final ArrayList<Vertex> vertices = new ArrayList<Vertex>();
+        for(int i=0; i<outlineCount; i++) {
+            final int vertexCount = d.getInt(p);
+            p += 4;
+            final Outline outline = new Outline();
+            for(int j=0; j<vertexCount; j++) {
+                final Vertex v = readVertex(d, p, vertexFactory);
+                p += VERTEX_SIZE;
+                v.setId(vertices.size());
+                vertices.add(v);
+                outline.addVertex(v);
+            }
+            shape.addOutline(outline);
+        }
+        final int triangleCount = d.getInt(p);
+        p += 4;
+        final ArrayList<Triangle> triangles = new ArrayList<Triangle>(triangleCount);
+        final Vertex[] tv = new Vertex[3];
+        for(int i=0; i<triangleCount; i++) {
+            final int flags = d.get(p++);
+            for(int j=0; j<3; j++) {
+                final int vIdx = d.getInt(p);
+                p += 4;
+                if( INLINE_VERTEX == vIdx ) {
+                    tv[j] = readVertex(d, p, vertexFactory);
+                    p += VERTEX_SIZE;
+                } else {
+                    tv[j] = vertices.get(vIdx);
+                }
+            }
+            final boolean[] boundaryVertices;
+            if( 0 != ( flags & HAS_VERTEX_BOUNDARY ) ) {
+                boundaryVertices = new boolean[] { 0 != ( flags & 1 << 3 ), 0 != ( flags & 1 << 4 ), 0 != ( flags & 1 << 5 ) };
+            } else {
+                boundaryVertices = null;
+            }
+            final Triangle t = new Triangle(tv[0], tv[1], tv[2], boundaryVertices);
+            final boolean[] boundaryEdges = t.getEdgeBoundary();
+            for(int j=0; j<3; j++) {
+                boundaryEdges[j] = 0 != ( flags & 1 << j );
+            }
+            triangles.add(t);
+        }
+        shape.setTriangles(triangles, addedVerticeCount);
+        return new TypecastGlyph(font, symbol, glyphID, bbox, advance, shape);
+    }
+
+    /** Size of a persisted vertex in bytes. */
+    private static final int VERTEX_SIZE = 6 * 4 + 1;
+
+    private static Vertex readVertex(final ByteBuffer d, final int p, final Vertex.Factory<? extends Vertex> vertexFactory) {
+        final Vertex v = vertexFactory.create(d.getFloat(p), d.getFloat(p+4), d.getFloat(p+8), 0 != d.get(p+24));
+        v.setTexCoord(d.getFloat(p+12), d.getFloat(p+16), d.getFloat(p+20));
+        return v;
+    }
+
+    private static void writeVertex(final DataOutputStream out, final Vertex v) throws IOException {
+        final float[] c = v.getCoord();
+        final float[] t = v.getTexCoord();
+        out.writeFloat(c[0]);
+        out.writeFloat(c[1]);
+        out.writeFloat(c[2]);
+        out.writeFloat(t[0]);
+        out.writeFloat(t[1]);
+        out.writeFloat(t[2]);
+        out.writeByte(v.isOnCurve() ? 1 : 0);
+    }
+
+    /**
+     * Encodes the given glyph, triangulating its {@link OutlineShape} if required.
+     */
+    private static byte[] encode(final TypecastGlyph glyph) throws IOException {
+        final OutlineShape shape = glyph.getShape();
+        final ArrayList<Triangle> triangles = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+        final ArrayList<Vertex> vertices = shape.getVertices();
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        final DataOutputStream out = new DataOutputStream(bytes);
+        final AABBox bbox = glyph.getBBoxUnsized();
+        final float[] low = bbox.getLow();
+        final float[] high = bbox.getHigh();
+        for(int i=0; i<3; i++) {
+            out.writeFloat(low[i]);
+        }
+        for(int i=0; i<3; i++) {
+            out.writeFloat(high[i]);
+        }
+        out.writeInt(glyph.getAdvanceUnsized());
+        out.writeInt(shape.getAddedVerticeCount());
+        final int outlineCount = shape.getOutlineNumber();
+        out.writeInt(outlineCount);
+        int vertexCount = 0;
+        for(int i=0; i<outlineCount; i++) {
+            final Outline outline = shape.getOutline(i);
+            out.writeInt(outline.getVertexCount());
+            for(int j=0; j<outline.getVertexCount(); j++) {
+                final Vertex v = outline.getVertex(j);
+                if( v != vertices.get(vertexCount++) ) {
+                    throw new IllegalStateException("Outline vertices and shape vertices differ, glyph "+glyph.getID());
+                }
+                writeVertex(out, v);
+            }
+        }
+        out.writeInt(triangles.size());
+        for(int i=0; i<triangles.size(); i++) {
+            final Triangle t = triangles.get(i);
+            final Vertex[] tv = t.getVertices();
+            final boolean[] boundaryEdges = t.getEdgeBoundary();
+            final boolean[] boundaryVertices = t.getVerticesBoundary();
+            int flags = 0;
+            for(int j=0; j<3; j++) {
+                if( boundaryEdges[j] ) {
+                    flags |= 1 << j;
+                }
+                if( null != boundaryVertices && boundaryVertices[j] ) {
+                    flags |= 1 << ( 3 + j );
+                }
+            }
+            if( null != boundaryVertices ) {
+                flags |= HAS_VERTEX_BOUNDARY;
+            }
+            out.writeByte(flags);
+            for(int j=0; j<3; j++) {
+                final int id = tv[j].getId();
+                if( 0 <= id && id < vertexCount && vertices.get(id) == tv[j] ) {
+                    out.writeInt(id);
+                } else {
+                    out.writeInt(INLINE_VERTEX);
+                    writeVertex(out, tv[j]);
+                }
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static Long key(final int glyphID, final int sharpBits) {
+        return Long.valueOf( ( (long)glyphID << 32 ) | ( sharpBits & 0xffffffffL ) );
+    }
+
+    private static final Comparator<long[]> keyComparator = new Comparator<long[]>() {
+        @Override
+        public int compare(final long[] a, final long[] b) {
+            return a[0] < b[0] ? -1 : ( a[0] == b[0] ? 0 : 1 );
+        } };
+
+    /**
+     * Writes a new generation of the shape cache file containing the given glyphs and all entries of the optional previous cache
+     * not superseded by the given glyphs, each glyph is stored with its current {@link OutlineShape#getSharpness() sharpness}.
+     * <p>
+     * The new generation is written to a temporary file first, which is renamed thereafter.
+     * Older generations are deleted if possible, i.e. unless still memory mapped on platforms like Windows,
+     * in which case they are deleted by a later store.
+     * The previous cache's mapping stays alive as long as it is referenced, since concurrent readers may still decode from it.
+     * </p>
+     * @throws IOException if the file cannot be written
+     */
+    static void store(final File cacheFile, final String name, final int checksum, final int revision,
+                      final ArrayList<TypecastGlyph> glyphs,
+                      final TypecastShapeCache previous) throws IOException {
+        final HashSet<Long> stored = new HashSet<Long>();
+        final ArrayList<long[]> keys = new ArrayList<long[]>(); // { key, source index }
+        final ArrayList<byte[]> encoded = new ArrayList<byte[]>();
+        for(int i=0; i<glyphs.size(); i++) {
+            final TypecastGlyph g = glyphs.get(i);
+            final Long key = key(g.getID() & 0xffff, Float.floatToIntBits(g.getShape().getSharpness()));
+            if( stored.add(key) ) {
+                keys.add(new long[] { key.longValue(), encoded.size() });
+                encoded.add(encode(g));
+            }
+        }
+        if( null != previous ) {
+            for(int i=0; i<previous.glyphIDs.length; i++) {
+                final Long key = key(previous.glyphIDs[i], previous.sharpnessBits[i]);
+                if( stored.add(key) ) {
+                    final byte[] e = new byte[previous.lengths[i]];
+                    for(int j=0; j<e.length; j++) {
+                        e[j] = previous.data.get(previous.offsets[i]+j);
+                    }
+                    keys.add(new long[] { key.longValue(), encoded.size() });
+                    encoded.add(e);
+                } // else superseded
+            }
+        }
+        final long[][] sorted = keys.toArray(new long[keys.size()][]);
+        Arrays.sort(sorted, keyComparator);
+        final byte[] nameBytes = name.getBytes("UTF-8");
+        int offset = 12 + nameBytes.length + 12 + sorted.length * 16;
+
+        final int generation = getNewestGeneration(cacheFile) + 1;
+        final File file = getGenerationFile(cacheFile, generation);
+        final File tmp = new File(file.getPath()+".tmp");
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(nameBytes.length);
+            out.write(nameBytes);
+            out.writeInt(checksum);
+            out.writeInt(revision);
+            out.writeInt(sorted.length);
+            for(int i=0; i<sorted.length; i++) {
+                final int len = encoded.get((int)sorted[i][1]).length;
+                out.writeInt((int)( sorted[i][0] >>> 32 ));
+                out.writeInt((int)sorted[i][0]);
+                out.writeInt(offset);
+                out.writeInt(len);
+                offset += len;
+            }
+            for(int i=0; i<sorted.length; i++) {
+                out.write(encoded.get((int)sorted[i][1]));
+            }
+        } finally {
+            out.close();
+        }
+        if( !tmp.renameTo(file) ) {
+            tmp.delete();
+            throw new IOException("Could not rename "+tmp+" to "+file);
+        }
+        final ArrayList<Integer> generations = getGenerations(cacheFile);
+        for(int i=0; i<generations.size(); i++) {
+            final int g = generations.get(i).intValue();
+            if( g < generation ) {
+                getGenerationFile(cacheFile, g).delete(); // fails if still memory mapped, e.g. on Windows
+            }
+        }
+    }
+}
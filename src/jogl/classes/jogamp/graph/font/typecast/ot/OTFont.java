@@ -52,6 +52,7 @@ package jogamp.graph.font.typecast.ot;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import jogamp.graph.font.typecast.ot.table.CmapTable;
 import jogamp.graph.font.typecast.ot.table.DirectoryEntry;
@@ -95,6 +96,20 @@ public class OTFont {
     private PostTable _post;
     private VheaTable _vhea;
 
+    /** Memory mapped font data if tables are read lazily, otherwise {@code null}. */
+    private ByteBuffer _data = null;
+    private int _tablesOrigin = 0;
+    /** Lazily read tables per directory index, guarded by {@link #_fc}. */
+    private boolean[] _tableRead = null;
+
+    /** Slots of {@link #_hotTables}, i.e. the tables used per glyph. */
+    private static final int HOT_CMAP = 0, HOT_HDMX = 1, HOT_HMTX = 2, HOT_LOCA = 3, HOT_GLYF = 4;
+    private static final int[] HOT_TAGS = { Table.cmap, Table.hdmx, Table.hmtx, Table.loca, Table.glyf };
+    /** Marks an absent table in {@link #_hotTables}. */
+    private static final Object ABSENT = new Object();
+    /** Copy-on-write array of resolved lazily read tables per HOT_* slot, read without locking. */
+    private volatile Object[] _hotTables = new Object[HOT_TAGS.length];
+
     /**
      * Constructor
      */
@@ -120,7 +135,14 @@ public class OTFont {
         return sb;
     }
 
+    /**
+     * Returns the table of the given type, which is read on first access if this font is read lazily.
+     * @throws RuntimeException if a lazily read table could not be parsed
+     */
     public Table getTable(final int tableType) {
+        if( null != _data ) {
+            return getTableLazy(tableType);
+        }
         for (int i = 0; i < _tables.length; i++) {
             if ((_tables[i] != null) && (_tables[i].getType() == tableType)) {
                 return _tables[i];
@@ -133,8 +155,13 @@ public class OTFont {
         return _os2;
     }
 
+    /** Returns {@code true} if this font's tables are read on first access from memory mapped data. */
+    public boolean isLazy() {
+        return null != _data;
+    }
+
     public CmapTable getCmapTable() {
-        return _cmap;
+        return null != _data ? (CmapTable) getHotTable(HOT_CMAP) : _cmap;
     }
 
     public HeadTable getHeadTable() {
@@ -146,15 +173,15 @@ public class OTFont {
     }
 
     public HdmxTable getHdmxTable() {
-        return _hdmx;
+        return null != _data ? (HdmxTable) getHotTable(HOT_HDMX) : _hdmx;
     }
 
     public HmtxTable getHmtxTable() {
-        return _hmtx;
+        return null != _data ? (HmtxTable) getHotTable(HOT_HMTX) : _hmtx;
     }
 
     public LocaTable getLocaTable() {
-        return _loca;
+        return null != _data ? (LocaTable) getHotTable(HOT_LOCA) : _loca;
     }
 
     public MaxpTable getMaxpTable() {
@@ -186,13 +213,14 @@ public class OTFont {
     }
 
     public OTGlyph getGlyph(final int i) {
-
-        final GlyfDescript _glyfDescr = _glyf.getDescription(i);
+        final GlyfTable glyf = null != _data ? (GlyfTable) getHotTable(HOT_GLYF) : _glyf;
+        final HmtxTable hmtx = getHmtxTable();
+        final GlyfDescript _glyfDescr = glyf.getDescription(i);
         return (null != _glyfDescr)
             ? new OTGlyph(
                 _glyfDescr,
-                _hmtx.getLeftSideBearing(i),
-                _hmtx.getAdvanceWidth(i))
+                hmtx.getLeftSideBearing(i),
+                hmtx.getAdvanceWidth(i))
             : null;
     }
 
@@ -213,6 +241,50 @@ public class OTFont {
         return TableFactory.create(_fc, this, entry, dis);
     }
 
+    private Table getTableLazy(final int tag) {
+        synchronized( _fc ) {
+            for (int i = 0; i < _tables.length; i++) {
+                final DirectoryEntry entry = _tableDirectory.getEntry(i);
+                if (entry.getTag() == tag) {
+                    if (!_tableRead[i]) {
+                        final ByteBuffer tableData = _data.duplicate();
+                        tableData.position(_tablesOrigin + entry.getOffset());
+                        tableData.limit(_tablesOrigin + entry.getOffset() + entry.getLength());
+                        try {
+                            _tables[i] = TableFactory.create(_fc, this, entry, tableData.slice());
+                        } catch (final IOException e) {
+                            throw new RuntimeException("Could not read table "+entry, e);
+                        }
+                        _tableRead[i] = true; // only if parsed, a failure is rethrown on next access
+                    }
+                    return _tables[i];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Returns the lazily read table of the given HOT_* slot,
+     * resolved once and read without locking thereafter.
+     */
+    private Table getHotTable(final int slot) {
+        Object t = _hotTables[slot];
+        if( null == t ) {
+            synchronized( _fc ) {
+                t = _hotTables[slot];
+                if( null == t ) {
+                    final Table table = getTableLazy(HOT_TAGS[slot]);
+                    t = null != table ? table : ABSENT;
+                    final Object[] hotTables = _hotTables.clone();
+                    hotTables[slot] = t;
+                    _hotTables = hotTables;
+                }
+            }
+        }
+        return ABSENT != t ? (Table) t : null;
+    }
+
     /**
      * @param dis OpenType/TrueType font file data.
      * @param directoryOffset The Table Directory offset within the file.  For a
@@ -223,11 +295,15 @@ public class OTFont {
      * Once again, in a regular TTF file, this will be zero.  In a TTC is is
      * also zero, but within a Mac resource, it is the beggining of the
      * individual font resource data.
+     * @param data if not {@code null}, the memory mapped font data the
+     * tables are read from on first access. Only the table directory and small header tables
+     * are read eagerly.
      */
     protected void read(
             final DataInputStream dis,
             final int directoryOffset,
-            final int tablesOrigin) throws IOException {
+            final int tablesOrigin,
+            final ByteBuffer data) throws IOException {
 
         // Load the table directory
         dis.reset();
@@ -235,6 +311,23 @@ public class OTFont {
         _tableDirectory = new TableDirectory(dis);
         _tables = new Table[_tableDirectory.getNumTables()];
 
+        if (null != data) {
+            _data = data;
+            _tablesOrigin = tablesOrigin;
+            _tableRead = new boolean[_tables.length];
+
+            // Load the small prerequisite and naming tables,
+            // all other tables are read on first access.
+            _head = (HeadTable) getTableLazy(Table.head);
+            _hhea = (HheaTable) getTableLazy(Table.hhea);
+            _maxp = (MaxpTable) getTableLazy(Table.maxp);
+            _vhea = (VheaTable) getTableLazy(Table.vhea);
+            _name = (NameTable) getTableLazy(Table.name);
+            _os2 = (Os2Table) getTableLazy(Table.OS_2);
+            _post = (PostTable) getTableLazy(Table.post);
+            return;
+        }
+
         // Load some prerequisite tables
         _head = (HeadTable) readTable(dis, tablesOrigin, Table.head);
         _hhea = (HheaTable) readTable(dis, tablesOrigin, Table.hhea);
@@ -26,6 +26,9 @@ import java.io.DataInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import java.util.ArrayList;
 
@@ -37,6 +40,8 @@ import jogamp.graph.font.typecast.ot.table.DirectoryEntry;
 import jogamp.graph.font.typecast.ot.table.TTCHeader;
 import jogamp.graph.font.typecast.ot.table.Table;
 
+import com.jogamp.common.nio.ByteBufferInputStream;
+
 
 /**
  *
@@ -65,6 +70,23 @@ public class OTFontCollection {
         return fc;
     }
 
+    /**
+     * @param file The OpenType font file
+     * @param memoryMapped if {@code true}, the font file is memory mapped and only the table directories
+     *        and small header tables are parsed eagerly, all other tables are parsed on first access
+     *        and glyph outlines are decoded per glyph on demand.
+     *        Otherwise the whole font is read and parsed, same as {@link #create(File)}.
+     */
+    public static OTFontCollection create(final File file, final boolean memoryMapped) throws IOException {
+        final OTFontCollection fc = new OTFontCollection();
+        if( memoryMapped ) {
+            fc.readMapped(file);
+        } else {
+            fc.read(file);
+        }
+        return fc;
+    }
+
     /**
      * @param istream The OpenType font input stream
      * @param streamLen the length of the OpenType font segment in the stream
@@ -95,6 +117,12 @@ public class OTFontCollection {
         return _ttcHeader;
     }
 
+    /**
+     * Returns the shared table of the given directory entry, if already read.
+     * <p>
+     * Lazily reading fonts of this collection synchronize on this instance.
+     * </p>
+     */
     public Table getTable(final DirectoryEntry de) {
         for (int i = 0; i < _tables.size(); i++) {
             final Table table = _tables.get(i);
@@ -133,12 +161,39 @@ public class OTFontCollection {
         final int streamLen = (int) file.length();
         final BufferedInputStream bis = new BufferedInputStream(new FileInputStream(file), streamLen);
         try {
-            readImpl(bis, streamLen);
+            readImpl(bis, streamLen, null);
         } finally {
             bis.close();
         }
     }
 
+    /**
+     * @param file The OpenType font file, memory mapped and lazily parsed
+     */
+    protected void readMapped(final File file) throws IOException {
+        if (!file.exists()) {
+            throw new IOException("File <"+file.getName()+"> doesn't exist.");
+        }
+        if (file.length() == 0) {
+            // Mac resource fork, not mappable
+            read(file);
+            return;
+        }
+        _pathName = file.getPath();
+        _fileName = file.getName();
+
+        final ByteBuffer data;
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel fc = raf.getChannel();
+            // the mapping stays valid after closing the channel
+            data = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+        } finally {
+            raf.close();
+        }
+        readImpl(new ByteBufferInputStream(data.duplicate()), data.capacity(), data);
+    }
+
     /**
      * @param is The OpenType font stream
      * @param streamLen the length of the OpenType font segment in the stream
@@ -152,13 +207,14 @@ public class OTFontCollection {
         } else {
             bis = new BufferedInputStream(is, streamLen);
         }
-        readImpl(bis, streamLen);
+        readImpl(bis, streamLen, null);
     }
 
     /**
      * @param is The OpenType font stream, must {@link InputStream#markSupported() support mark}!
+     * @param data the memory mapped font data for lazily parsed fonts, otherwise {@code null}
      */
-    private void readImpl(final InputStream bis, final int streamLen) throws IOException {
+    private void readImpl(final InputStream bis, final int streamLen, final ByteBuffer data) throws IOException {
         if( !bis.markSupported() ) {
             throw new IllegalArgumentException("stream of type "+bis.getClass().getName()+" doesn't support mark");
         }
@@ -184,7 +240,7 @@ public class OTFontCollection {
                 _fonts[i] = new OTFont(this);
                 final int offset = resourceHeader.getDataOffset() +
                         resourceReference.getDataOffset() + 4;
-                _fonts[i].read(dis, offset, offset);
+                _fonts[i].read(dis, offset, offset, data);
             }
 
         } else if (TTCHeader.isTTC(dis)) {
@@ -195,14 +251,14 @@ public class OTFontCollection {
             _fonts = new OTFont[_ttcHeader.getDirectoryCount()];
             for (int i = 0; i < _ttcHeader.getDirectoryCount(); i++) {
                 _fonts[i] = new OTFont(this);
-                _fonts[i].read(dis, _ttcHeader.getTableDirectory(i), 0);
+                _fonts[i].read(dis, _ttcHeader.getTableDirectory(i), 0, data);
             }
         } else {
 
             // This is a standalone font file
             _fonts = new OTFont[1];
             _fonts[0] = new OTFont(this);
-            _fonts[0].read(dis, 0, 0);
+            _fonts[0].read(dis, 0, 0, data);
         }
     }
 }
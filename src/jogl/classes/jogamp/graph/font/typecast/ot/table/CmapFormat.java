@@ -87,6 +87,22 @@ public abstract class CmapFormat {
         _language = di.readUnsignedShort();
     }
 
+    /** Constructor leaving the header to be read by the specialization. */
+    protected CmapFormat(final int format) {
+        _format = format;
+    }
+
+    /**
+     * Constructor for the 32-bit formats 8, 10, 12 and 13,
+     * reading the reserved field, the 32-bit length and language.
+     */
+    protected CmapFormat(final int format, final DataInput di) throws IOException {
+        this(format);
+        di.readUnsignedShort(); // reserved
+        _length = di.readInt();
+        _language = di.readInt();
+    }
+
     protected static CmapFormat create(final int format, final DataInput di)
     throws IOException {
         switch(format) {
@@ -98,6 +114,10 @@ public abstract class CmapFormat {
                 return new CmapFormat4(di);
             case 6:
                 return new CmapFormat6(di);
+            case 12:
+                return new CmapFormat12(di);
+            case 13:
+                return new CmapFormat13(di);
             default:
                 return new CmapFormatUnknown(format, di);
         }
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast.ot.table;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * Segmented coverage, mapping 32-bit character codes via sequential map groups,
+ * used for Unicode fonts supporting supplementary plane characters.
+ */
+public class CmapFormat12 extends CmapFormat {
+
+    protected final int _numGroups;
+    protected final int[] _startCharCode;
+    protected final int[] _endCharCode;
+    protected final int[] _startGlyphId;
+
+    protected CmapFormat12(final DataInput di) throws IOException {
+        this(12, di);
+    }
+
+    protected CmapFormat12(final int format, final DataInput di) throws IOException {
+        super(format, di); // 14
+        _numGroups = di.readInt(); // +4 (16)
+        _startCharCode = new int[_numGroups];
+        _endCharCode = new int[_numGroups];
+        _startGlyphId = new int[_numGroups];
+        for (int i = 0; i < _numGroups; i++) {
+            _startCharCode[i] = di.readInt();
+            _endCharCode[i] = di.readInt();
+            _startGlyphId[i] = di.readInt();
+        } // + 12*numGroups (12*numGroups + 16)
+    }
+
+    @Override
+    public int getRangeCount() {
+        return _numGroups;
+    }
+
+    @Override
+    public Range getRange(final int index) throws ArrayIndexOutOfBoundsException {
+        if (index < 0 || index >= _numGroups) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        return new Range(_startCharCode[index], _endCharCode[index]);
+    }
+
+    /**
+     * Returns the index of the group containing the given character code, or -1.
+     * <p>
+     * Groups are sorted by increasing character code, hence a binary search is performed.
+     * </p>
+     */
+    protected final int findGroup(final int charCode) {
+        int lo = 0;
+        int hi = _numGroups - 1;
+        while (lo <= hi) {
+            final int mid = ( lo + hi ) >>> 1;
+            if (_endCharCode[mid] < charCode) {
+                lo = mid + 1;
+            } else if (_startCharCode[mid] > charCode) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int mapCharCode(final int charCode) {
+        final int i = findGroup(charCode);
+        return 0 <= i ? _startGlyphId[i] + ( charCode - _startCharCode[i] ) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder()
+            .append(super.toString())
+            .append(", numGroups: ")
+            .append(_numGroups).toString();
+    }
+}
@@ -125,19 +125,27 @@ public class CmapFormat4 extends CmapFormat {
 
     @Override
     public int mapCharCode(final int charCode) {
+        // segments are sorted by increasing endCode,
+        // binary search the first segment with endCode >= charCode
+        int lo = 0;
+        int hi = _segCount - 1;
+        while (lo < hi) {
+            final int mid = ( lo + hi ) >>> 1;
+            if (_endCode[mid] < charCode) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        if (lo >= _segCount || _endCode[lo] < charCode || _startCode[lo] > charCode) {
+            return 0;
+        }
         try {
-            for (int i = 0; i < _segCount; i++) {
-                if (_endCode[i] >= charCode) {
-                    if (_startCode[i] <= charCode) {
-                        if (_idRangeOffset[i] > 0) {
-                            return _glyphIdArray[_idRangeOffset[i]/2 + (charCode - _startCode[i]) - (_segCount - i)];
-                        } else {
-                            return (_idDelta[i] + charCode) % 65536;
-                        }
-                    } else {
-                        break;
-                    }
-                }
+            if (_idRangeOffset[lo] > 0) {
+                final int glyphId = _glyphIdArray[_idRangeOffset[lo]/2 + (charCode - _startCode[lo]) - (_segCount - lo)];
+                return 0 != glyphId ? (_idDelta[lo] + glyphId) % 65536 : 0;
+            } else {
+                return (_idDelta[lo] + charCode) % 65536;
             }
         } catch (final ArrayIndexOutOfBoundsException e) {
             System.err.println("error: Array out of bounds - " + e.getMessage());
@@ -54,37 +54,47 @@ import java.io.DataInput;
 import java.io.IOException;
 
 /**
- * TODO: To be implemented
+ * Trimmed table mapping, i.e. a dense array of glyph IDs for a single range of character codes.
  * @version $Id: CmapFormat6.java,v 1.2 2004-12-21 10:22:56 davidsch Exp $
  * @author <a href="mailto:davidsch@dev.java.net">David Schweinsberg</a>
  */
 public class CmapFormat6 extends CmapFormat {
 
-    private short _firstCode;
-    private short _entryCount;
-    private short[] _glyphIdArray;
+    private final int _firstCode;
+    private final int _entryCount;
+    private final int[] _glyphIdArray;
 
     protected CmapFormat6(final DataInput di) throws IOException {
-        super(di);
+        super(di); // 6
         _format = 6;
-
-        // HACK: As this is not yet implemented, we need to skip over the bytes
-        // we should be consuming
-        //di.skipBytes(_length - 4);
+        _firstCode = di.readUnsignedShort(); // +2 (8)
+        _entryCount = di.readUnsignedShort(); // +2 (10)
+        _glyphIdArray = new int[_entryCount];
+        for (int i = 0; i < _entryCount; i++) {
+            _glyphIdArray[i] = di.readUnsignedShort();
+        } // + 2*entryCount (2*entryCount + 10)
     }
 
     @Override
     public int getRangeCount() {
-        return 0;
+        return 0 < _entryCount ? 1 : 0;
     }
 
     @Override
     public Range getRange(final int index) throws ArrayIndexOutOfBoundsException {
-        throw new ArrayIndexOutOfBoundsException();
+        if (index != 0 || 0 == _entryCount) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        return new Range(_firstCode, _firstCode + _entryCount - 1);
     }
 
     @Override
     public int mapCharCode(final int charCode) {
-        return 0;
+        final int i = charCode - _firstCode;
+        if (0 <= i && i < _entryCount) {
+            return _glyphIdArray[i];
+        } else {
+            return 0;
+        }
     }
 }
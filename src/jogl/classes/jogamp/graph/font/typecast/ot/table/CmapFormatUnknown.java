@@ -33,11 +33,26 @@ public class CmapFormatUnknown extends CmapFormat {
 
     /** Creates a new instance of CmapFormatUnknown */
     protected CmapFormatUnknown(final int format, final DataInput di) throws IOException {
-        super(di);
-        _format = format;
+        super(format);
+        final int headerLength;
+        if (14 == format) {
+            // Unicode variation sequences: 32-bit length w/o language
+            _length = di.readInt();
+            headerLength = 6;
+        } else if (8 <= format) {
+            // 32-bit formats 8 and 10
+            di.readUnsignedShort(); // reserved
+            _length = di.readInt();
+            _language = di.readInt();
+            headerLength = 12;
+        } else {
+            _length = di.readUnsignedShort();
+            _language = di.readUnsignedShort();
+            headerLength = 6;
+        }
 
         // We don't know how to handle this data, so we'll just skip over it
-        di.skipBytes(_length - 4);
+        di.skipBytes(_length - headerLength);
     }
 
     @Override
@@ -69,6 +69,11 @@ public abstract class Coverage {
      */
     public abstract int findGlyph(int glyphId);
 
+    /**
+     * @return A new array of all covered glyph IDs, ordered by their coverage index.
+     */
+    public abstract int[] getGlyphIds();
+
     protected static Coverage read(final DataInput di) throws IOException {
         Coverage c = null;
         final int format = di.readUnsignedShort();
@@ -87,4 +87,11 @@ public class CoverageFormat1 extends Coverage {
         return -1;
     }
 
+    @Override
+    public int[] getGlyphIds() {
+        final int[] res = new int[_glyphCount];
+        System.arraycopy(_glyphIds, 0, res, 0, _glyphCount);
+        return res;
+    }
+
 }
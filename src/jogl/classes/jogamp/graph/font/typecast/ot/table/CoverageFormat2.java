@@ -88,4 +88,20 @@ public class CoverageFormat2 extends Coverage {
         return -1;
     }
 
+    @Override
+    public int[] getGlyphIds() {
+        int count = 0;
+        for (int i = 0; i < _rangeCount; i++) {
+            count = Math.max(count, _rangeRecords[i].getStartCoverageIndex() + _rangeRecords[i].getEnd() - _rangeRecords[i].getStart() + 1);
+        }
+        final int[] res = new int[count];
+        for (int i = 0; i < _rangeCount; i++) {
+            final RangeRecord r = _rangeRecords[i];
+            for (int g = r.getStart(); g <= r.getEnd(); g++) {
+                res[r.getCoverageIndex(g)] = g;
+            }
+        }
+        return res;
+    }
+
 }
@@ -60,4 +60,6 @@ public interface FeatureTags {
     public static final String FEATURE_TAG_INIT = "init";
     public static final String FEATURE_TAG_MEDI = "medi";
     public static final String FEATURE_TAG_FINA = "fina";
+    public static final String FEATURE_TAG_LIGA = "liga";
+    public static final String FEATURE_TAG_RLIG = "rlig";
 }
@@ -54,6 +54,10 @@ import java.io.ByteArrayInputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.jogamp.common.nio.ByteBufferInputStream;
+import com.jogamp.common.util.IntObjectHashMap;
 
 /**
  * @version $Id: GlyfTable.java,v 1.6 2010-08-10 11:46:30 davidsch Exp $
@@ -64,6 +68,15 @@ public class GlyfTable implements Table {
     private final DirectoryEntry _de;
     private final GlyfDescript[] _descript;
 
+    /** Memory mapped table data for on demand decoding, otherwise {@code null}. */
+    private final ByteBuffer _data;
+    private final LocaTable _loca;
+    private final int _numGlyphs;
+    /** Decoded glyph descriptions of memory mapped table data, guarded by this instance. */
+    private final IntObjectHashMap _lazyDescript;
+    /** Marks a decoded empty glyph within {@link #_lazyDescript}. */
+    private static final Object EMPTY_GLYPH = new Object();
+
     protected GlyfTable(
             final DirectoryEntry de,
             final DataInput di,
@@ -71,6 +84,10 @@ public class GlyfTable implements Table {
             final LocaTable loca) throws IOException {
         _de = (DirectoryEntry) de.clone();
         _descript = new GlyfDescript[maxp.getNumGlyphs()];
+        _data = null;
+        _loca = null;
+        _numGlyphs = maxp.getNumGlyphs();
+        _lazyDescript = null;
 
         // Buffer the whole table so we can randomly access it
         final byte[] buf = new byte[de.getLength()];
@@ -108,7 +125,32 @@ public class GlyfTable implements Table {
         }
     }
 
+    /**
+     * Memory mapped 'glyf' table, glyph descriptions are decoded on demand,
+     * hence retained memory is proportional to the number of glyphs used.
+     * @param data the table's data, position 0 being the table start
+     */
+    protected GlyfTable(
+            final DirectoryEntry de,
+            final ByteBuffer data,
+            final MaxpTable maxp,
+            final LocaTable loca) throws IOException {
+        _de = (DirectoryEntry) de.clone();
+        _descript = null;
+        _data = data;
+        _loca = loca;
+        _numGlyphs = maxp.getNumGlyphs();
+        _lazyDescript = new IntObjectHashMap();
+    }
+
     public GlyfDescript getDescription(final int i) {
+        if (null != _data) {
+            if (i < _numGlyphs) {
+                return getLazyDescription(i);
+            } else {
+                return null;
+            }
+        }
         if (i < _descript.length) {
             return _descript[i];
         } else {
@@ -116,6 +158,40 @@ public class GlyfTable implements Table {
         }
     }
 
+    private synchronized GlyfDescript getLazyDescription(final int i) {
+        final Object o = _lazyDescript.get(i);
+        if (EMPTY_GLYPH == o) {
+            return null;
+        } else if (null != o) {
+            return (GlyfDescript) o;
+        }
+        final GlyfDescript d;
+        final int offset = _loca.getOffset(i);
+        final int len = _loca.getOffset(i + 1) - offset;
+        if (len > 0) {
+            // guard against cyclic composite references while decoding
+            _lazyDescript.put(i, EMPTY_GLYPH);
+            final ByteBuffer bb = _data.duplicate();
+            bb.position(offset);
+            final DataInputStream dis = new DataInputStream(new ByteBufferInputStream(bb));
+            try {
+                final short numberOfContours = dis.readShort();
+                if (numberOfContours >= 0) {
+                    d = new GlyfSimpleDescript(this, i, numberOfContours, dis);
+                } else {
+                    // composite components are decoded recursively on demand
+                    d = new GlyfCompositeDescript(this, i, dis);
+                }
+            } catch (final IOException e) {
+                throw new RuntimeException("Could not read glyph "+i, e);
+            }
+        } else {
+            d = null;
+        }
+        _lazyDescript.put(i, null != d ? d : EMPTY_GLYPH);
+        return d;
+    }
+
     @Override
     public int getType() {
         return glyf;
@@ -8,7 +8,9 @@
 
 package jogamp.graph.font.typecast.ot.table;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.IOException;
 
 /**
@@ -18,10 +20,33 @@ import java.io.IOException;
  */
 public abstract class KernSubtable {
 
+    // Coverage bit enumeration
+    public static final int COVERAGE_HORIZONTAL = 0x0001;
+    public static final int COVERAGE_MINIMUM = 0x0002;
+    public static final int COVERAGE_CROSS_STREAM = 0x0004;
+    public static final int COVERAGE_OVERRIDE = 0x0008;
+
+    private int coverage;
+
     /** Creates new KernSubtable */
     protected KernSubtable() {
     }
 
+    /** Returns the coverage bits, see {@link #COVERAGE_HORIZONTAL} etc. */
+    public int getCoverage() {
+        return coverage & 0xff;
+    }
+
+    /** Returns true if this subtable holds horizontal kerning values, neither minimum nor cross-stream values. */
+    public boolean isHorizontalKerning() {
+        return COVERAGE_HORIZONTAL == ( getCoverage() & ( COVERAGE_HORIZONTAL | COVERAGE_MINIMUM | COVERAGE_CROSS_STREAM ) );
+    }
+
+    /** Returns true if this subtable's values replace the accumulated values of previous subtables. */
+    public boolean isOverride() {
+        return 0 != ( getCoverage() & COVERAGE_OVERRIDE );
+    }
+
     public abstract int getKerningPairCount();
 
     public abstract KerningPair getKerningPair(int i);
@@ -29,20 +54,31 @@ public abstract class KernSubtable {
     public static KernSubtable read(final DataInput di) throws IOException {
         KernSubtable table = null;
         /* final int version = */ di.readUnsignedShort();
-        /* final int length = */ di.readUnsignedShort();
+        final int length = di.readUnsignedShort();
         final int coverage = di.readUnsignedShort();
         final int format = coverage >> 8;
 
         switch (format) {
         case 0:
+            // Read sequentially, as the 16-bit length overflows for large tables
             table = new KernSubtableFormat0(di);
             break;
-        case 2:
-            table = new KernSubtableFormat2(di);
+        case 2: {
+            // Class table and array offsets are relative to the subtable
+            final byte[] buf = new byte[length];
+            di.readFully(buf, 6, length - 6);
+            final DataInputStream dis = new DataInputStream(new ByteArrayInputStream(buf));
+            dis.skipBytes(6);
+            table = new KernSubtableFormat2(dis, buf.length);
             break;
+        }
         default:
+            di.skipBytes(length - 6);
             break;
         }
+        if (null != table) {
+            table.coverage = coverage;
+        }
         return table;
     }
 
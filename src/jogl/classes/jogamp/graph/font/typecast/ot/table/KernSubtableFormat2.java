@@ -8,8 +8,9 @@
 
 package jogamp.graph.font.typecast.ot.table;
 
-import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 
 /**
  *
@@ -22,23 +23,72 @@ public class KernSubtableFormat2 extends KernSubtable {
     private final int leftClassTable;
     private final int rightClassTable;
     private final int array;
+    private final KerningPair[] kerningPairs;
 
-    /** Creates new KernSubtableFormat2 */
-    protected KernSubtableFormat2(final DataInput di) throws IOException {
-        rowWidth = di.readUnsignedShort();
-        leftClassTable = di.readUnsignedShort();
-        rightClassTable = di.readUnsignedShort();
-        array = di.readUnsignedShort();
+    /**
+     * Creates new KernSubtableFormat2
+     * @param dis stream of the whole subtable incl. its header, positioned after the header
+     * @param length the subtable length
+     */
+    protected KernSubtableFormat2(final DataInputStream dis, final int length) throws IOException {
+        dis.mark(length);
+        rowWidth = dis.readUnsignedShort();
+        leftClassTable = dis.readUnsignedShort();
+        rightClassTable = dis.readUnsignedShort();
+        array = dis.readUnsignedShort();
+
+        // Class values are pre-multiplied offsets, i.e. the left value includes the array offset
+        // and the row, the right value the column, their sum being the offset of the kerning value.
+        final int[] left = readClassTable(dis, leftClassTable);
+        final int[] right = readClassTable(dis, rightClassTable);
+        final ArrayList<KerningPair> pairs = new ArrayList<KerningPair>();
+        for (int l = 2; l < left.length; l++) {
+            for (int r = 2; r < right.length; r++) {
+                final int offset = left[l] + right[r];
+                if (offset < array || offset + 2 > length) {
+                    continue;
+                }
+                dis.reset();
+                dis.skipBytes(offset - 6);
+                final short value = dis.readShort();
+                if (0 != value) {
+                    pairs.add(new KerningPair(left[0] + l - 2, right[0] + r - 2, value));
+                }
+            }
+        }
+        kerningPairs = pairs.toArray(new KerningPair[pairs.size()]);
+    }
+
+    /**
+     * Returns the class table at the given subtable offset as
+     * <code>{ firstGlyph, glyphCount, value[0], .., value[glyphCount-1] }</code>.
+     */
+    private static int[] readClassTable(final DataInputStream dis, final int offset) throws IOException {
+        dis.reset();
+        dis.skipBytes(offset - 6);
+        final int firstGlyph = dis.readUnsignedShort();
+        final int nGlyphs = dis.readUnsignedShort();
+        final int[] res = new int[2 + nGlyphs];
+        res[0] = firstGlyph;
+        res[1] = nGlyphs;
+        for (int i = 0; i < nGlyphs; i++) {
+            res[2 + i] = dis.readUnsignedShort();
+        }
+        return res;
+    }
+
+    public int getRowWidth() {
+        return rowWidth;
     }
 
     @Override
     public int getKerningPairCount() {
-        return 0;
+        return kerningPairs.length;
     }
 
     @Override
     public KerningPair getKerningPair(final int i) {
-        return null;
+        return kerningPairs[i];
     }
 
 }
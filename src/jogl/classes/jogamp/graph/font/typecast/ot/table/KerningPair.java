@@ -22,6 +22,12 @@ public class KerningPair {
     private final int right;
     private final short value;
 
+    protected KerningPair(final int left, final int right, final short value) {
+        this.left = left;
+        this.right = right;
+        this.value = value;
+    }
+
     /** Creates new KerningPair */
     protected KerningPair(final DataInput di) throws IOException {
         left = di.readUnsignedShort();
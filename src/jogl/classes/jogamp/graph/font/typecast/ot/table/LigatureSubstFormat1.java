@@ -89,6 +89,21 @@ public class LigatureSubstFormat1 extends LigatureSubst {
         return 1;
     }
 
+    public Coverage getCoverage() {
+        return _coverage;
+    }
+
+    public int getLigatureSetCount() {
+        return _ligSetCount;
+    }
+
+    /**
+     * @param i the coverage index of the ligature's first glyph
+     */
+    public LigatureSet getLigatureSet(final int i) {
+        return _ligatureSets[i];
+    }
+
     @Override
     public String getTypeAsString() {
         return "LigatureSubstFormat1";
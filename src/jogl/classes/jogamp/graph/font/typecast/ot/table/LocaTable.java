@@ -10,6 +10,7 @@ package jogamp.graph.font.typecast.ot.table;
 
 import java.io.DataInput;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * @version $Id: LocaTable.java,v 1.4 2010-08-10 11:45:43 davidsch Exp $
@@ -20,6 +21,9 @@ public class LocaTable implements Table {
     private final DirectoryEntry _de;
     private int[] _offsets = null;
     private short _factor = 0;
+    /** Memory mapped table data for in place access, otherwise {@code null}. */
+    private ByteBuffer _data = null;
+    private int _count = 0;
 
     protected LocaTable(
             final DirectoryEntry de,
@@ -27,7 +31,8 @@ public class LocaTable implements Table {
             final HeadTable head,
             final MaxpTable maxp) throws IOException {
         _de = (DirectoryEntry) de.clone();
-        _offsets = new int[maxp.getNumGlyphs() + 1];
+        _count = maxp.getNumGlyphs() + 1;
+        _offsets = new int[_count];
         final boolean shortEntries = head.getIndexToLocFormat() == 0;
         if (shortEntries) {
             _factor = 2;
@@ -42,7 +47,33 @@ public class LocaTable implements Table {
         }
     }
 
+    /**
+     * Memory mapped 'loca' table, offsets are read in place.
+     * @param data the table's data, position 0 being the table start
+     */
+    protected LocaTable(
+            final DirectoryEntry de,
+            final ByteBuffer data,
+            final HeadTable head,
+            final MaxpTable maxp) throws IOException {
+        _de = (DirectoryEntry) de.clone();
+        _data = data;
+        _count = maxp.getNumGlyphs() + 1;
+        _factor = head.getIndexToLocFormat() == 0 ? (short)2 : (short)1;
+        if (_data.capacity() < _count * ( 2 == _factor ? 2 : 4 )) {
+            throw new IOException("'loca' table too short: "+_data.capacity()+" bytes, "+_count+" entries");
+        }
+    }
+
     public int getOffset(final int i) {
+        if (_data != null) {
+            // absolute reads are safe for concurrent use
+            if (2 == _factor) {
+                return ( _data.getShort(i * 2) & 0xffff ) * 2;
+            } else {
+                return _data.getInt(i * 4);
+            }
+        }
         if (_offsets == null) {
             return 0;
         }
@@ -59,8 +90,8 @@ public class LocaTable implements Table {
         final StringBuilder sb = new StringBuilder();
         sb.append("'loca' Table - Index To Location Table\n--------------------------------------\n")
             .append("Size = ").append(_de.getLength()).append(" bytes, ")
-            .append(_offsets.length).append(" entries\n");
-        for (int i = 0; i < _offsets.length; i++) {
+            .append(_count).append(" entries\n");
+        for (int i = 0; i < _count; i++) {
             sb.append("        Idx ").append(i)
                 .append(" -> glyfOff 0x").append(getOffset(i)).append("\n");
         }
@@ -58,4 +58,6 @@ package jogamp.graph.font.typecast.ot.table;
  */
 public interface ScriptTags {
     public static final String SCRIPT_TAG_ARAB = "arab";
+    public static final String SCRIPT_TAG_DFLT = "DFLT";
+    public static final String SCRIPT_TAG_LATN = "latn";
 }
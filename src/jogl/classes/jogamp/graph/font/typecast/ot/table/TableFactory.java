@@ -52,10 +52,13 @@ package jogamp.graph.font.typecast.ot.table;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import jogamp.graph.font.typecast.ot.OTFont;
 import jogamp.graph.font.typecast.ot.OTFontCollection;
 
+import com.jogamp.common.nio.ByteBufferInputStream;
+
 /**
  *
  * @version $Id: TableFactory.java,v 1.7 2007-02-05 12:39:51 davidsch Exp $
@@ -63,6 +66,42 @@ import jogamp.graph.font.typecast.ot.OTFontCollection;
  */
 public class TableFactory {
 
+    /**
+     * Creates the table from its memory mapped data.
+     * <p>
+     * The 'loca' table is accessed in place and 'glyf' glyph descriptions are decoded on demand,
+     * all other tables are parsed from the data at once.
+     * </p>
+     * @param data the table's data, position 0 being the table start
+     */
+    public static Table create(
+            final OTFontCollection fc,
+            final OTFont font,
+            final DirectoryEntry de,
+            final ByteBuffer data) throws IOException {
+        Table t = null;
+        if (fc != null) {
+            t = fc.getTable(de);
+            if (t != null) {
+                return t;
+            }
+        }
+        switch (de.getTag()) {
+        case Table.glyf:
+            t = new GlyfTable(de, data, font.getMaxpTable(), font.getLocaTable());
+            break;
+        case Table.loca:
+            t = new LocaTable(de, data, font.getHeadTable(), font.getMaxpTable());
+            break;
+        default:
+            return create(fc, font, de, new DataInputStream(new ByteBufferInputStream(data)));
+        }
+        if (fc != null) {
+            fc.addTable(t);
+        }
+        return t;
+    }
+
     public static Table create(
             final OTFontCollection fc,
             final OTFont font,
@@ -49,6 +49,7 @@ import com.jogamp.opengl.GLOffscreenAutoDrawable;
 import com.jogamp.opengl.GLProfile;
 import com.jogamp.opengl.GLRunnable;
 import com.jogamp.opengl.GLSharedContextSetter;
+import com.jogamp.opengl.util.FrameTimeProfiler;
 
 import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.util.RunnableTask;
@@ -413,7 +414,14 @@ public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeepe
         _lock.lock();
         try {
             if(null != drawable) {
-                drawable.swapBuffers();
+                final FrameTimeProfiler profiler = helper.getFrameTimeProfiler();
+                if( null != profiler ) {
+                    final long t0 = System.nanoTime();
+                    drawable.swapBuffers();
+                    profiler.record(FrameTimeProfiler.Phase.SWAP_BUFFERS, System.nanoTime() - t0);
+                } else {
+                    drawable.swapBuffers();
+                }
             }
         } finally {
             _lock.unlock();
@@ -739,6 +747,29 @@ public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeepe
         return fpsCounter.getTotalFPS();
     }
 
+    //
+    // FrameTimeProfiler
+    //
+
+    /**
+     * Enables the opt-in per-frame timing instrumentation, recording the durations of
+     * the {@link GLEventListener#display(GLAutoDrawable) display} listener phase,
+     * {@link #swapBuffers()} and queued {@link GLRunnable} execution into the given {@link FrameTimeProfiler}.
+     * <p>
+     * Percentile snapshots complement the averages of the {@link FPSCounter},
+     * see {@link FrameTimeProfiler#addListener(FrameTimeProfiler.Listener)} for periodic export.
+     * </p>
+     * @param profiler the profiler, or <code>null</code> to disable the instrumentation (default)
+     */
+    public final void setFrameTimeProfiler(final FrameTimeProfiler profiler) {
+        helper.setFrameTimeProfiler(profiler);
+    }
+
+    /** Returns the {@link FrameTimeProfiler} or <code>null</code>, see {@link #setFrameTimeProfiler(FrameTimeProfiler)}. */
+    public final FrameTimeProfiler getFrameTimeProfiler() {
+        return helper.getFrameTimeProfiler();
+    }
+
     //
     // GLDrawable delegation
     //
@@ -59,6 +59,7 @@ import com.jogamp.opengl.GLEventListener;
 import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.GLFBODrawable;
 import com.jogamp.opengl.GLRunnable;
+import com.jogamp.opengl.util.FrameTimeProfiler;
 
 import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.util.InterruptedRuntimeException;
@@ -89,6 +90,9 @@ public class GLDrawableHelper {
   /** -1 release, 0 nop, 1 claim */
   private volatile int exclusiveContextSwitch;
   private GLAnimatorControl animatorCtrl;
+  private volatile FrameTimeProfiler frameTimeProfiler;
+  /** Set by {@link #display(GLAutoDrawable)} while profiled, marking the enclosing {@link #invokeGL(GLDrawable, GLContext, Runnable, Runnable) invokeGL} as a frame. */
+  private boolean frameDisplayed;
   private static Runnable nop = new Runnable() { @Override public void run() {} };
 
   private GLContext sharedContext;
@@ -671,6 +675,11 @@ public class GLDrawableHelper {
   }
 
   public final void display(final GLAutoDrawable drawable) {
+    final FrameTimeProfiler _profiler = frameTimeProfiler;
+    if( null != _profiler ) {
+        displayProfiled(drawable, _profiler);
+        return;
+    }
     displayImpl(drawable);
     // runForAllGLEventListener(drawable, displayAction);
     if( glRunnableCount > 0 && !execGLRunnables(drawable) ) { // glRunnableCount volatile OK; execGL.. only executed if size > 0
@@ -678,6 +687,23 @@ public class GLDrawableHelper {
         // runForAllGLEventListener(drawable, displayAction);
     }
   }
+  private final void displayProfiled(final GLAutoDrawable drawable, final FrameTimeProfiler profiler) {
+    frameDisplayed = true;
+    final long t0 = System.nanoTime();
+    displayImpl(drawable);
+    long tdD = System.nanoTime() - t0; // display
+    if( glRunnableCount > 0 ) { // glRunnableCount volatile OK; execGL.. only executed if size > 0
+        final long t1 = System.nanoTime();
+        final boolean res = execGLRunnables(drawable);
+        final long t2 = System.nanoTime();
+        profiler.record(FrameTimeProfiler.Phase.GL_RUNNABLES, t2 - t1);
+        if( !res ) {
+            displayImpl(drawable);
+            tdD += System.nanoTime() - t2;
+        }
+    }
+    profiler.record(FrameTimeProfiler.Phase.DISPLAY, tdD);
+  }
   private final void displayImpl(final GLAutoDrawable drawable) {
       synchronized(listenersLock) {
           final ArrayList<GLEventListener> _listeners = listeners;
@@ -790,6 +816,24 @@ public class GLDrawableHelper {
     }
   }
 
+  /**
+   * Sets the {@link FrameTimeProfiler} recording the timings of {@link #display(GLAutoDrawable)},
+   * the auto {@link GLDrawable#swapBuffers() swapBuffers} and each frame of {@link #invokeGL(GLDrawable, GLContext, Runnable, Runnable) invokeGL}.
+   * <p>
+   * Only an {@link #invokeGL(GLDrawable, GLContext, Runnable, Runnable) invokeGL} whose runnable issues {@link #display(GLAutoDrawable)}
+   * is recorded as a frame incl. its swapBuffers, other runnables are not.
+   * </p>
+   * @param profiler the profiler, or <code>null</code> to disable the instrumentation (default)
+   */
+  public final void setFrameTimeProfiler(final FrameTimeProfiler profiler) {
+    frameTimeProfiler = profiler;
+  }
+
+  /** Returns the {@link FrameTimeProfiler} or <code>null</code>, see {@link #setFrameTimeProfiler(FrameTimeProfiler)}. */
+  public final FrameTimeProfiler getFrameTimeProfiler() {
+    return frameTimeProfiler;
+  }
+
   public final GLAnimatorControl getAnimator() {
     synchronized(glRunnablesLock) {
         return animatorCtrl;
@@ -1290,9 +1334,27 @@ public class GLDrawableHelper {
                       }
                       initAction.run();
                   }
-                  runnable.run();
-                  if ( autoSwapBufferMode ) {
-                      drawable.swapBuffers();
+                  final FrameTimeProfiler _profiler = frameTimeProfiler;
+                  if( null == _profiler ) {
+                      runnable.run();
+                      if ( autoSwapBufferMode ) {
+                          drawable.swapBuffers();
+                      }
+                  } else {
+                      final long t0 = System.nanoTime();
+                      frameDisplayed = false;
+                      runnable.run();
+                      final boolean frame = frameDisplayed;
+                      if ( autoSwapBufferMode ) {
+                          final long t1 = System.nanoTime();
+                          drawable.swapBuffers();
+                          if( frame ) {
+                              _profiler.record(FrameTimeProfiler.Phase.SWAP_BUFFERS, System.nanoTime() - t1);
+                          }
+                      }
+                      if( frame ) {
+                          _profiler.endFrame(System.nanoTime() - t0);
+                      }
                   }
               } catch (final Throwable t) {
                   glEventListenerCaught = t;
@@ -1403,15 +1465,26 @@ public class GLDrawableHelper {
                       }
                       initAction.run();
                   }
+                  final FrameTimeProfiler _profiler = frameTimeProfiler;
+                  final long tnR = null != _profiler ? System.nanoTime() : 0;
                   tdR = System.currentTimeMillis();
                   tdA = tdR - t0; // makeCurrent
+                  frameDisplayed = false;
                   runnable.run();
+                  final boolean frame = null != _profiler && frameDisplayed;
+                  final long tnS = null != _profiler ? System.nanoTime() : 0;
                   tdS = System.currentTimeMillis();
                   tdR = tdS - tdR; // render time
                   if ( autoSwapBufferMode ) {
                       drawable.swapBuffers();
                       tdX = System.currentTimeMillis();
                       tdS = tdX - tdS; // swapBuffers
+                      if( frame ) {
+                          _profiler.record(FrameTimeProfiler.Phase.SWAP_BUFFERS, System.nanoTime() - tnS);
+                      }
+                  }
+                  if( frame ) {
+                      _profiler.endFrame(System.nanoTime() - tnR);
                   }
               } catch (final Throwable t) {
                   glEventListenerCaught = t;
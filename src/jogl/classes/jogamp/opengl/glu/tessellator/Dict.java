@@ -56,6 +56,7 @@ class Dict {
     DictNode head;
     Object frame;
     DictLeq leq;
+    GLUmeshPool pool;    /* node storage, null to allocate from the heap */
 
     private Dict() {
     }
@@ -74,6 +75,11 @@ class Dict {
         return dict;
     }
 
+    static void dictReset(final Dict dict) {
+        dict.head.next = dict.head;
+        dict.head.prev = dict.head;
+    }
+
     static void dictDeleteDict(final Dict dict) {
         dict.head = null;
         dict.frame = null;
@@ -89,7 +95,7 @@ class Dict {
             node = node.prev;
         } while (node.key != null && !dict.leq.leq(dict.frame, node.key, key));
 
-        final DictNode newNode = new DictNode();
+        final DictNode newNode = null != dict.pool ? dict.pool.newDictNode() : new DictNode();
         newNode.key = key;
         newNode.next = node.next;
         node.next.prev = newNode;
@@ -64,6 +64,7 @@ class GLUhalfEdge {
     public jogamp.opengl.glu.tessellator.ActiveRegion activeRegion;    /* a region with this upper edge (sweep.c) */
     public int winding;    /* change in winding number when crossing */
     public boolean first;
+    public GLUmeshPool pool;    /* storage for new mesh elements, null to allocate from the heap */
 
     public GLUhalfEdge(final boolean first) {
         this.first = first;
@@ -0,0 +1,218 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.glu.tessellator;
+
+/**
+ * Arena storage for the mesh, sweep-line and priority queue structures
+ * of one polygon.
+ * <p>
+ * Objects are handed out sequentially and are never freed individually,
+ * hence structures deleted by the sweep stay untouched until {@link #reset()}
+ * recycles the whole arena for the next polygon.
+ * Each handed out object is reinitialized, the arrays only grow.
+ * </p>
+ * <p>
+ * A pool is owned by a single tessellator and is not thread safe.
+ * </p>
+ */
+final class GLUmeshPool {
+    private static final int INIT_SIZE = 64;
+
+    private final GLUmesh mesh = new GLUmesh();
+
+    private GLUvertex[] vertices = new GLUvertex[INIT_SIZE];
+    private int vertexCount;
+
+    private GLUface[] faces = new GLUface[INIT_SIZE];
+    private int faceCount;
+
+    /** First half-edge of each pair, the second one is reachable via {@link GLUhalfEdge#Sym}. */
+    private GLUhalfEdge[] edges = new GLUhalfEdge[INIT_SIZE];
+    private int edgeCount;
+
+    private ActiveRegion[] regions = new ActiveRegion[INIT_SIZE];
+    private int regionCount;
+
+    private DictNode[] dictNodes = new DictNode[INIT_SIZE];
+    private int dictNodeCount;
+
+    /** Reused sweep-line dictionary, lazily created by the sweep. */
+    Dict dict;
+    /** Reused vertex event queue, lazily created by the sweep. */
+    PriorityQ pq;
+
+    GLUmeshPool() {
+    }
+
+    /** Recycles all objects handed out since the last reset. */
+    void reset() {
+        vertexCount = 0;
+        faceCount = 0;
+        edgeCount = 0;
+        regionCount = 0;
+        dictNodeCount = 0;
+    }
+
+    /**
+     * Drops the reused dictionary and priority queue,
+     * used after an aborted sweep may have left them in an inconsistent state.
+     */
+    void discardSweepState() {
+        dict = null;
+        pq = null;
+    }
+
+    GLUmesh newMesh() {
+        return mesh;
+    }
+
+    GLUvertex newVertex() {
+        if (vertexCount == vertices.length) {
+            final GLUvertex[] a = new GLUvertex[vertices.length * 2];
+            System.arraycopy(vertices, 0, a, 0, vertices.length);
+            vertices = a;
+        }
+        GLUvertex v = vertices[vertexCount];
+        if (null == v) {
+            v = new GLUvertex();
+            vertices[vertexCount] = v;
+        } else {
+            v.next = null;
+            v.prev = null;
+            v.anEdge = null;
+            v.data = null;
+            v.coords[0] = v.coords[1] = v.coords[2] = 0;
+            v.s = v.t = 0;
+            v.pqHandle = 0;
+            v.index = 0;
+        }
+        ++vertexCount;
+        return v;
+    }
+
+    GLUface newFace() {
+        if (faceCount == faces.length) {
+            final GLUface[] a = new GLUface[faces.length * 2];
+            System.arraycopy(faces, 0, a, 0, faces.length);
+            faces = a;
+        }
+        GLUface f = faces[faceCount];
+        if (null == f) {
+            f = new GLUface();
+            faces[faceCount] = f;
+        } else {
+            f.next = null;
+            f.prev = null;
+            f.anEdge = null;
+            f.data = null;
+            f.trail = null;
+            f.marked = false;
+            f.inside = false;
+        }
+        ++faceCount;
+        return f;
+    }
+
+    /**
+     * Returns the first half-edge of a pair, its {@link GLUhalfEdge#Sym} is the second one.
+     * All other links are cleared and the pool is attached to both half-edges.
+     */
+    GLUhalfEdge newEdgePair() {
+        if (edgeCount == edges.length) {
+            final GLUhalfEdge[] a = new GLUhalfEdge[edges.length * 2];
+            System.arraycopy(edges, 0, a, 0, edges.length);
+            edges = a;
+        }
+        GLUhalfEdge e = edges[edgeCount];
+        if (null == e) {
+            e = new GLUhalfEdge(true);
+            e.Sym = new GLUhalfEdge(false);
+            e.Sym.Sym = e;
+            e.pool = this;
+            e.Sym.pool = this;
+            edges[edgeCount] = e;
+        } else {
+            clearHalfEdge(e);
+            clearHalfEdge(e.Sym);
+        }
+        ++edgeCount;
+        return e;
+    }
+
+    private static void clearHalfEdge(final GLUhalfEdge e) {
+        e.next = null;
+        e.Onext = null;
+        e.Lnext = null;
+        e.Org = null;
+        e.Lface = null;
+        e.activeRegion = null;
+        e.winding = 0;
+    }
+
+    ActiveRegion newRegion() {
+        if (regionCount == regions.length) {
+            final ActiveRegion[] a = new ActiveRegion[regions.length * 2];
+            System.arraycopy(regions, 0, a, 0, regions.length);
+            regions = a;
+        }
+        ActiveRegion r = regions[regionCount];
+        if (null == r) {
+            r = new ActiveRegion();
+            regions[regionCount] = r;
+        } else {
+            r.eUp = null;
+            r.nodeUp = null;
+            r.windingNumber = 0;
+            r.inside = false;
+            r.sentinel = false;
+            r.dirty = false;
+            r.fixUpperEdge = false;
+        }
+        ++regionCount;
+        return r;
+    }
+
+    DictNode newDictNode() {
+        if (dictNodeCount == dictNodes.length) {
+            final DictNode[] a = new DictNode[dictNodes.length * 2];
+            System.arraycopy(dictNodes, 0, a, 0, dictNodes.length);
+            dictNodes = a;
+        }
+        DictNode n = dictNodes[dictNodeCount];
+        if (null == n) {
+            n = new DictNode();
+            dictNodes[dictNodeCount] = n;
+        } else {
+            n.key = null;
+            n.next = null;
+            n.prev = null;
+        }
+        ++dictNodeCount;
+        return n;
+    }
+}
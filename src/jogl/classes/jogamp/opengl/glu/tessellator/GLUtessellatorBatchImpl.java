@@ -0,0 +1,304 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.glu.tessellator;
+
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.glu.GLU;
+import com.jogamp.opengl.glu.GLUtessellatorBatch;
+
+/**
+ * {@link GLUtessellatorBatch} implementation driving the {@link GLUtessellatorImpl} sweep
+ * on a {@link GLUmeshPool} backed mesh.
+ * <p>
+ * Input vertices carry their index in {@link GLUvertex#index},
+ * intersection vertices are numbered by {@link #combine(GLUvertex, GLUvertex, GLUvertex, GLUvertex, GLUvertex)}
+ * and the interior faces, all triangles after {@link TessMono#__gl_meshTessellateInterior(GLUmesh, boolean)},
+ * are read back directly from the mesh.
+ * </p>
+ */
+public class GLUtessellatorBatchImpl implements GLUtessellatorBatch {
+    private static final int INIT_SIZE = 64;
+
+    private final GLUtessellatorImpl tess;
+    private final GLUmeshPool pool = new GLUmeshPool();
+    private final double[] normal = new double[3];
+    private final float[] weights1 = new float[2];
+    private final float[] weights2 = new float[2];
+
+    private int vertexCount;
+    private int[] indices = new int[INIT_SIZE * 3];
+    private int indexCount;
+    private double[] combinedCoords = new double[INIT_SIZE * 3];
+    private int[] combinedSources = new int[INIT_SIZE * 4];
+    private float[] combinedWeights = new float[INIT_SIZE * 4];
+    private int combinedCount;
+
+    public static GLUtessellatorBatch gluNewTessBatch() {
+        return new GLUtessellatorBatchImpl();
+    }
+
+    private GLUtessellatorBatchImpl() {
+        tess = (GLUtessellatorImpl) GLUtessellatorImpl.gluNewTess();
+        tess.pool = pool;
+        tess.batch = this;
+    }
+
+    @Override
+    public void setWindingRule(final int rule) {
+        switch (rule) {
+            case GLU.GLU_TESS_WINDING_ODD:
+            case GLU.GLU_TESS_WINDING_NONZERO:
+            case GLU.GLU_TESS_WINDING_POSITIVE:
+            case GLU.GLU_TESS_WINDING_NEGATIVE:
+            case GLU.GLU_TESS_WINDING_ABS_GEQ_TWO:
+                tess.windingRule = rule;
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid winding rule "+rule);
+        }
+    }
+
+    @Override
+    public int getWindingRule() {
+        return tess.windingRule;
+    }
+
+    @Override
+    public void setNormal(final double x, final double y, final double z) {
+        normal[0] = x;
+        normal[1] = y;
+        normal[2] = z;
+    }
+
+    @Override
+    public int tessellate(final double[] coords, final int components, final int vertexCount, final int[] contourStarts, final int contourCount) {
+        return tessellateImpl(coords, null, coords.length, components, vertexCount, contourStarts, contourCount);
+    }
+
+    @Override
+    public int tessellate(final float[] coords, final int components, final int vertexCount, final int[] contourStarts, final int contourCount) {
+        return tessellateImpl(null, coords, coords.length, components, vertexCount, contourStarts, contourCount);
+    }
+
+    @Override
+    public int[] getIndices() { return indices; }
+
+    @Override
+    public int getIndexCount() { return indexCount; }
+
+    @Override
+    public int getCombinedVertexCount() { return combinedCount; }
+
+    @Override
+    public double[] getCombinedCoords() { return combinedCoords; }
+
+    @Override
+    public int[] getCombinedSources() { return combinedSources; }
+
+    @Override
+    public float[] getCombinedWeights() { return combinedWeights; }
+
+    private int tessellateImpl(final double[] dcoords, final float[] fcoords, final int coordsLength,
+                               final int components, final int vertexCount, final int[] contourStarts, final int contourCount) {
+        if (2 != components && 3 != components) {
+            throw new IllegalArgumentException("Components must be 2 or 3, has "+components);
+        }
+        if (0 > vertexCount || vertexCount * components > coordsLength) {
+            throw new IllegalArgumentException("Vertex count "+vertexCount+" exceeds coords length "+coordsLength);
+        }
+        if (0 > contourCount || contourCount > contourStarts.length) {
+            throw new IllegalArgumentException("Contour count "+contourCount+" exceeds contour starts length "+contourStarts.length);
+        }
+        for (int i = 0; i < contourCount; i++) {
+            final int start = contourStarts[i];
+            final int end = i + 1 < contourCount ? contourStarts[i + 1] : vertexCount;
+            if (0 > start || start > end || end > vertexCount) {
+                throw new IllegalArgumentException("Contour "+i+" range ["+start+".."+end+") invalid for vertex count "+vertexCount);
+            }
+        }
+        this.vertexCount = vertexCount;
+        indexCount = 0;
+        combinedCount = 0;
+        if (3 > vertexCount) {
+            return 0;
+        }
+
+        if (2 == components && 0 == normal[0] && 0 == normal[1] && 0 == normal[2]) {
+            tess.normal[0] = 0;
+            tess.normal[1] = 0;
+            tess.normal[2] = 1;
+        } else {
+            System.arraycopy(normal, 0, tess.normal, 0, 3);
+        }
+
+        pool.reset();
+        try {
+            final GLUmesh mesh = Mesh.__gl_meshNewMesh(pool);
+            tess.mesh = mesh;
+            for (int i = 0; i < contourCount; i++) {
+                final int end = i + 1 < contourCount ? contourStarts[i + 1] : vertexCount;
+                GLUhalfEdge e = null;
+                for (int v = contourStarts[i]; v < end; v++) {
+                    final int o = v * components;
+                    final double x, y, z;
+                    if (null != dcoords) {
+                        x = dcoords[o];
+                        y = dcoords[o + 1];
+                        z = 3 == components ? dcoords[o + 2] : 0;
+                    } else {
+                        x = fcoords[o];
+                        y = fcoords[o + 1];
+                        z = 3 == components ? fcoords[o + 2] : 0;
+                    }
+                    e = addVertex(mesh, e, x, y, z, v);
+                }
+            }
+
+            Normal.__gl_projectPolygon(tess);
+            if (!Sweep.__gl_computeInterior(tess) || tess.fatalError) {
+                throw new GLException("GLUtessellatorBatch: Sweep failed");
+            }
+            if (!TessMono.__gl_meshTessellateInterior(mesh, false)) {
+                throw new GLException("GLUtessellatorBatch: Interior tessellation failed");
+            }
+            addTriangles(mesh);
+        } catch (final RuntimeException re) {
+            /* The reused dictionary and queue may be left inconsistent */
+            pool.discardSweepState();
+            indexCount = 0;
+            combinedCount = 0;
+            if (re instanceof GLException) {
+                throw re;
+            }
+            throw new GLException("GLUtessellatorBatch: Tessellation failed", re);
+        } finally {
+            tess.mesh = null;
+            tess.dict = null;
+            tess.pq = null;
+            tess.event = null;
+        }
+        return indexCount / 3;
+    }
+
+    private static double clamp(final double c) {
+        /* gluTessVertex reports GLU_TESS_COORD_TOO_LARGE and continues with the clamped value */
+        return Math.max(-GLU.GLU_TESS_MAX_COORD, Math.min(GLU.GLU_TESS_MAX_COORD, c));
+    }
+
+    /** See {@link GLUtessellatorImpl}'s addVertex, appends a vertex after e to e's contour. */
+    private static GLUhalfEdge addVertex(final GLUmesh mesh, GLUhalfEdge e,
+                                         final double x, final double y, final double z, final int index) {
+        if (null == e) {
+            /* Make a self-loop (one vertex, one edge). */
+            e = Mesh.__gl_meshMakeEdge(mesh);
+            Mesh.__gl_meshSplice(e, e.Sym);
+        } else {
+            /* Create a new vertex and edge which immediately follow e
+             * in the ordering around the left face.
+             */
+            Mesh.__gl_meshSplitEdge(e);
+            e = e.Lnext;
+        }
+        final GLUvertex v = e.Org;
+        v.index = index;
+        v.coords[0] = clamp(x);
+        v.coords[1] = clamp(y);
+        v.coords[2] = clamp(z);
+
+        /* A CCW contour adds +1 to the winding number of its interior */
+        e.winding = 1;
+        e.Sym.winding = -1;
+        return e;
+    }
+
+    /**
+     * Called by the sweep for each new intersection vertex instead of the combine callback,
+     * computes its coordinates and assigns it the next combined index.
+     */
+    void combine(final GLUvertex isect, final GLUvertex orgUp, final GLUvertex dstUp,
+                 final GLUvertex orgLo, final GLUvertex dstLo) {
+        isect.coords[0] = isect.coords[1] = isect.coords[2] = 0;
+        Sweep.VertexWeights(isect, orgUp, dstUp, weights1);
+        Sweep.VertexWeights(isect, orgLo, dstLo, weights2);
+
+        final int k = combinedCount;
+        if (k * 3 + 3 > combinedCoords.length) {
+            final int n = Math.max(INIT_SIZE, k * 2);
+            combinedCoords = grow(combinedCoords, n * 3);
+            combinedSources = grow(combinedSources, n * 4);
+            combinedWeights = grow(combinedWeights, n * 4);
+        }
+        System.arraycopy(isect.coords, 0, combinedCoords, k * 3, 3);
+        final int o = k * 4;
+        combinedSources[o    ] = orgUp.index;
+        combinedSources[o + 1] = dstUp.index;
+        combinedSources[o + 2] = orgLo.index;
+        combinedSources[o + 3] = dstLo.index;
+        combinedWeights[o    ] = weights1[0];
+        combinedWeights[o + 1] = weights1[1];
+        combinedWeights[o + 2] = weights2[0];
+        combinedWeights[o + 3] = weights2[1];
+
+        isect.index = vertexCount + k;
+        combinedCount = k + 1;
+    }
+
+    private void addTriangles(final GLUmesh mesh) {
+        final GLUface fHead = mesh.fHead;
+        for (GLUface f = fHead.next; f != fHead; f = f.next) {
+            if (f.inside) {
+                final GLUhalfEdge e = f.anEdge;
+                assert (e.Lnext.Lnext.Lnext == e);
+                if (indexCount + 3 > indices.length) {
+                    indices = grow(indices, indices.length * 2);
+                }
+                indices[indexCount++] = e.Org.index;
+                indices[indexCount++] = e.Lnext.Org.index;
+                indices[indexCount++] = e.Lnext.Lnext.Org.index;
+            }
+        }
+    }
+
+    private static double[] grow(final double[] a, final int size) {
+        final double[] b = new double[size];
+        System.arraycopy(a, 0, b, 0, a.length);
+        return b;
+    }
+
+    private static int[] grow(final int[] a, final int size) {
+        final int[] b = new int[size];
+        System.arraycopy(a, 0, b, 0, a.length);
+        return b;
+    }
+
+    private static float[] grow(final float[] a, final int size) {
+        final float[] b = new float[size];
+        System.arraycopy(a, 0, b, 0, a.length);
+        return b;
+    }
+}
@@ -81,6 +81,11 @@ public class GLUtessellatorImpl implements GLUtessellator {
     PriorityQ pq;        /* priority queue of vertex events */
     GLUvertex event;        /* current sweep event being processed */
 
+    /*** state needed for batch tessellation (see GLUtessellatorBatchImpl) ***/
+
+    GLUmeshPool pool;        /* storage reused across polygons, null if heap allocated */
+    GLUtessellatorBatchImpl batch;    /* receives combined vertices instead of the callbacks */
+
     /*** state needed for rendering callbacks (see render.c) ***/
 
     boolean flagBoundary;    /* mark boundary edges (use EdgeFlag) */
@@ -57,6 +57,15 @@ class Mesh {
     }
 
     /************************ Utility Routines ************************/
+/* NewVertex and NewFace allocate from the given pool, if any. */
+    static jogamp.opengl.glu.tessellator.GLUvertex NewVertex(final GLUmeshPool pool) {
+        return null != pool ? pool.newVertex() : new jogamp.opengl.glu.tessellator.GLUvertex();
+    }
+
+    static jogamp.opengl.glu.tessellator.GLUface NewFace(final GLUmeshPool pool) {
+        return null != pool ? pool.newFace() : new jogamp.opengl.glu.tessellator.GLUface();
+    }
+
 /* MakeEdge creates a new pair of half-edges which form their own loop.
  * No vertex or face structures are allocated, but these must be assigned
  * before the current edge operation is completed.
@@ -71,9 +80,14 @@ class Mesh {
 //        if (pair == NULL) return NULL;
 //
 //        e = &pair - > e;
-        e = new jogamp.opengl.glu.tessellator.GLUhalfEdge(true);
-//        eSym = &pair - > eSym;
-        eSym = new jogamp.opengl.glu.tessellator.GLUhalfEdge(false);
+        if (null != eNext.pool) {
+            e = eNext.pool.newEdgePair();
+            eSym = e.Sym;
+        } else {
+            e = new jogamp.opengl.glu.tessellator.GLUhalfEdge(true);
+//            eSym = &pair - > eSym;
+            eSym = new jogamp.opengl.glu.tessellator.GLUhalfEdge(false);
+        }
 
 
         /* Make sure eNext points to the first edge of the edge pair */
@@ -266,9 +280,10 @@ class Mesh {
  * The loop consists of the two new half-edges.
  */
     public static jogamp.opengl.glu.tessellator.GLUhalfEdge __gl_meshMakeEdge(final jogamp.opengl.glu.tessellator.GLUmesh mesh) {
-        final jogamp.opengl.glu.tessellator.GLUvertex newVertex1 = new jogamp.opengl.glu.tessellator.GLUvertex();
-        final jogamp.opengl.glu.tessellator.GLUvertex newVertex2 = new jogamp.opengl.glu.tessellator.GLUvertex();
-        final jogamp.opengl.glu.tessellator.GLUface newFace = new jogamp.opengl.glu.tessellator.GLUface();
+        final GLUmeshPool pool = mesh.eHead.pool;
+        final jogamp.opengl.glu.tessellator.GLUvertex newVertex1 = NewVertex(pool);
+        final jogamp.opengl.glu.tessellator.GLUvertex newVertex2 = NewVertex(pool);
+        final jogamp.opengl.glu.tessellator.GLUface newFace = NewFace(pool);
         jogamp.opengl.glu.tessellator.GLUhalfEdge e;
 
         e = MakeEdge(mesh.eHead);
@@ -325,7 +340,7 @@ class Mesh {
         Splice(eDst, eOrg);
 
         if (!joiningVertices) {
-            final jogamp.opengl.glu.tessellator.GLUvertex newVertex = new jogamp.opengl.glu.tessellator.GLUvertex();
+            final jogamp.opengl.glu.tessellator.GLUvertex newVertex = NewVertex(eOrg.pool);
 
             /* We split one vertex into two -- the new vertex is eDst.Org.
              * Make sure the old vertex points to a valid half-edge.
@@ -334,7 +349,7 @@ class Mesh {
             eOrg.Org.anEdge = eOrg;
         }
         if (!joiningLoops) {
-            final jogamp.opengl.glu.tessellator.GLUface newFace = new jogamp.opengl.glu.tessellator.GLUface();
+            final jogamp.opengl.glu.tessellator.GLUface newFace = NewFace(eOrg.pool);
 
             /* We split one loop into two -- the new loop is eDst.Lface.
              * Make sure the old face points to a valid half-edge.
@@ -379,7 +394,7 @@ class Mesh {
 
             Splice(eDel, eDel.Sym.Lnext);
             if (!joiningLoops) {
-                final jogamp.opengl.glu.tessellator.GLUface newFace = new jogamp.opengl.glu.tessellator.GLUface();
+                final jogamp.opengl.glu.tessellator.GLUface newFace = NewFace(eDel.pool);
 
                 /* We are splitting one loop into two -- create a new loop for eDel. */
                 MakeFace(newFace, eDel, eDel.Lface);
@@ -429,7 +444,7 @@ class Mesh {
         /* Set the vertex and face information */
         eNew.Org = eOrg.Sym.Org;
         {
-            final jogamp.opengl.glu.tessellator.GLUvertex newVertex = new jogamp.opengl.glu.tessellator.GLUvertex();
+            final jogamp.opengl.glu.tessellator.GLUvertex newVertex = NewVertex(eOrg.pool);
 
             MakeVertex(newVertex, eNewSym, eNew.Org);
         }
@@ -500,7 +515,7 @@ class Mesh {
         eOrg.Lface.anEdge = eNewSym;
 
         if (!joiningLoops) {
-            final jogamp.opengl.glu.tessellator.GLUface newFace = new jogamp.opengl.glu.tessellator.GLUface();
+            final jogamp.opengl.glu.tessellator.GLUface newFace = NewFace(eOrg.pool);
 
             /* We split one loop into two -- the new loop is eNew.Lface */
             MakeFace(newFace, eNew, eOrg.Lface);
@@ -564,11 +579,18 @@ class Mesh {
  * and no loops (what we usually call a "face").
  */
     public static jogamp.opengl.glu.tessellator.GLUmesh __gl_meshNewMesh() {
+        return __gl_meshNewMesh(null);
+    }
+
+/* __gl_meshNewMesh( pool ) creates an empty mesh whose elements are all
+ * taken from the given pool; the mesh is only valid until the pool is reset.
+ */
+    static jogamp.opengl.glu.tessellator.GLUmesh __gl_meshNewMesh(final GLUmeshPool pool) {
         jogamp.opengl.glu.tessellator.GLUvertex v;
         jogamp.opengl.glu.tessellator.GLUface f;
         jogamp.opengl.glu.tessellator.GLUhalfEdge e;
         jogamp.opengl.glu.tessellator.GLUhalfEdge eSym;
-        final jogamp.opengl.glu.tessellator.GLUmesh mesh = new jogamp.opengl.glu.tessellator.GLUmesh();
+        final jogamp.opengl.glu.tessellator.GLUmesh mesh = null != pool ? pool.newMesh() : new jogamp.opengl.glu.tessellator.GLUmesh();
 
         v = mesh.vHead;
         f = mesh.fHead;
@@ -594,6 +616,7 @@ class Mesh {
         e.Lface = null;
         e.winding = 0;
         e.activeRegion = null;
+        e.pool = pool;
 
         eSym.next = eSym;
         eSym.Sym = e;
@@ -603,6 +626,7 @@ class Mesh {
         eSym.Lface = null;
         eSym.winding = 0;
         eSym.activeRegion = null;
+        eSym.pool = pool;
 
         return mesh;
     }
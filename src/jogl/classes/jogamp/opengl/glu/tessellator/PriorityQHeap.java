@@ -87,6 +87,19 @@ class PriorityQHeap extends jogamp.opengl.glu.tessellator.PriorityQ {
         nodes = null;
     }
 
+    @Override
+    void pqReset() {
+        for (int i = 0; i < handles.length; i++) {
+            handles[i].key = null;
+        }
+        size = 0;
+        max = nodes.length - 1;
+        initialized = false;
+        freeList = 0;
+
+        nodes[1].handle = 1;    /* so that Minimum() returns NULL */
+    }
+
     void FloatDown(int curr) {
         final jogamp.opengl.glu.tessellator.PriorityQ.PQnode[] n = nodes;
         final jogamp.opengl.glu.tessellator.PriorityQ.PQhandleElem[] h = handles;
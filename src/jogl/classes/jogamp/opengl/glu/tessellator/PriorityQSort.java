@@ -58,6 +58,7 @@ class PriorityQSort extends jogamp.opengl.glu.tessellator.PriorityQ {
     int size, max;
     boolean initialized;
     jogamp.opengl.glu.tessellator.PriorityQ.Leq leq;
+    private final Stack[] stack;
 
     public PriorityQSort(final jogamp.opengl.glu.tessellator.PriorityQ.Leq leq) {
         heap = new jogamp.opengl.glu.tessellator.PriorityQHeap(leq);
@@ -68,6 +69,11 @@ class PriorityQSort extends jogamp.opengl.glu.tessellator.PriorityQ {
         max = jogamp.opengl.glu.tessellator.PriorityQ.INIT_SIZE;
         initialized = false;
         this.leq = leq;
+
+        stack = new Stack[50];
+        for (int k = 0; k < stack.length; k++) {
+            stack[k] = new Stack();
+        }
     }
 
 /* really __gl_pqSortDeletePriorityQ */
@@ -78,6 +84,15 @@ class PriorityQSort extends jogamp.opengl.glu.tessellator.PriorityQ {
         keys = null;
     }
 
+    @Override
+    void pqReset() {
+        heap.pqReset();
+        java.util.Arrays.fill(keys, null);
+        size = 0;
+        max = keys.length;
+        initialized = false;
+    }
+
     private static boolean LT(final jogamp.opengl.glu.tessellator.PriorityQ.Leq leq, final Object x, final Object y) {
         return (!PriorityQ.LEQ(leq, y, x));
     }
@@ -105,10 +120,7 @@ class PriorityQSort extends jogamp.opengl.glu.tessellator.PriorityQ {
     boolean pqInit() {
         int p, r, i, j;
         int piv;
-        final Stack[] stack = new Stack[50];
-        for (int k = 0; k < stack.length; k++) {
-            stack[k] = new Stack();
-        }
+        final Stack[] stack = this.stack;
         int top = 0;
 
         int seed = 2016473283;
@@ -116,7 +128,9 @@ class PriorityQSort extends jogamp.opengl.glu.tessellator.PriorityQ {
         /* Create an array of indirect pointers to the keys, so that we
          * the handles we have returned are still valid.
          */
-        order = new int[size + 1];
+        if (order == null || order.length < size + 1) {
+            order = new int[size + 1];
+        }
 /* the previous line is a patch to compensate for the fact that IBM */
 /* machines return a null on a malloc of zero bytes (unlike SGI),   */
 /* so we have to put in this defense to guard against a memory      */
@@ -67,6 +67,15 @@ class Sweep {
     }
 //    #endif
 
+/* NewRegion and NewVertex allocate from the tessellator's pool, if any. */
+    private static ActiveRegion NewRegion(final GLUtessellatorImpl tess) {
+        return null != tess.pool ? tess.pool.newRegion() : new ActiveRegion();
+    }
+
+    private static GLUvertex NewVertex(final GLUtessellatorImpl tess) {
+        return null != tess.pool ? tess.pool.newVertex() : new GLUvertex();
+    }
+
 /*
  * Invariants for the Edge Dictionary.
  * - each pair of adjacent edges e2=Succ(e1) satisfies EdgeLeq(e1,e2)
@@ -222,7 +231,7 @@ class Sweep {
  * The upper edge of the new region will be "eNewUp".
  * Winding number and "inside" flag are not updated.
  */ {
-        final ActiveRegion regNew = new ActiveRegion();
+        final ActiveRegion regNew = NewRegion(tess);
         if (regNew == null) throw new RuntimeException();
 
         regNew.eUp = eNewUp;
@@ -438,6 +447,11 @@ class Sweep {
  * Two vertices with idential coordinates are combined into one.
  * e1.Org is kept, while e2.Org is discarded.
  */ {
+        if (null != tess.batch) {
+            /* Batch mode: e1.Org keeps its index, there is no client data to combine. */
+            if (!Mesh.__gl_meshSplice(e1, e2)) throw new RuntimeException();
+            return;
+        }
         final Object[] data = new Object[4];
         final float[] weights = new float[]{0.5f, 0.5f, 0.0f, 0.0f};
 
@@ -475,6 +489,10 @@ class Sweep {
  * from the user so that we can refer to this new vertex in the
  * rendering callbacks.
  */ {
+        if (null != tess.batch) {
+            tess.batch.combine(isect, orgUp, dstUp, orgLo, dstLo);
+            return;
+        }
         final Object[] data = new Object[4];
         final float[] weights = new float[4];
         final float[] weights1 = new float[2];
@@ -617,7 +635,7 @@ class Sweep {
         final GLUvertex dstUp = eUp.Sym.Org;
         final GLUvertex dstLo = eLo.Sym.Org;
         double tMinUp, tMaxLo;
-        final GLUvertex isect = new GLUvertex();
+        final GLUvertex isect = NewVertex(tess);
         GLUvertex orgMin;
         GLUhalfEdge e;
 
@@ -1007,7 +1025,7 @@ class Sweep {
  */ {
         ActiveRegion regUp, regLo, reg;
         GLUhalfEdge eUp, eLo, eNew;
-        final ActiveRegion tmp = new ActiveRegion();
+        final ActiveRegion tmp = NewRegion(tess);
 
         /* assert ( vEvent.anEdge.Onext.Onext == vEvent.anEdge ); */
 
@@ -1120,7 +1138,7 @@ class Sweep {
  * to avoid special cases at the top and bottom.
  */ {
         GLUhalfEdge e;
-        final ActiveRegion reg = new ActiveRegion();
+        final ActiveRegion reg = NewRegion(tess);
         if (reg == null) throw new RuntimeException();
 
         e = Mesh.__gl_meshMakeEdge(tess.mesh);
@@ -1148,14 +1166,24 @@ class Sweep {
  * We maintain an ordering of edge intersections with the sweep line.
  * This order is maintained in a dynamic dictionary.
  */ {
-        /* __gl_dictListNewDict */
-        tess.dict = Dict.dictNewDict(tess, new Dict.DictLeq() {
-            @Override
-            public boolean leq(final Object frame, final Object key1, final Object key2) {
-                return EdgeLeq(tess, (ActiveRegion) key1, (ActiveRegion) key2);
+        final GLUmeshPool pool = tess.pool;
+        if (null != pool && null != pool.dict) {
+            tess.dict = pool.dict;
+            Dict.dictReset(tess.dict);
+        } else {
+            /* __gl_dictListNewDict */
+            tess.dict = Dict.dictNewDict(tess, new Dict.DictLeq() {
+                @Override
+                public boolean leq(final Object frame, final Object key1, final Object key2) {
+                    return EdgeLeq(tess, (ActiveRegion) key1, (ActiveRegion) key2);
+                }
+            });
+            if (tess.dict == null) throw new RuntimeException();
+            if (null != pool) {
+                tess.dict.pool = pool;
+                pool.dict = tess.dict;
             }
-        });
-        if (tess.dict == null) throw new RuntimeException();
+        }
 
         AddSentinel(tess, -SENTINEL_COORD);
         AddSentinel(tess, SENTINEL_COORD);
@@ -1181,7 +1209,9 @@ class Sweep {
             DeleteRegion(tess, reg);
 /*    __gl_meshDelete( reg.eUp );*/
         }
-        Dict.dictDeleteDict(tess.dict);    /* __gl_dictListDeleteDict */
+        if (null == tess.pool) {
+            Dict.dictDeleteDict(tess.dict);    /* __gl_dictListDeleteDict */
+        }
     }
 
 
@@ -1230,13 +1260,21 @@ class Sweep {
         PriorityQ pq;
         GLUvertex v, vHead;
 
-        /* __gl_pqSortNewPriorityQ */
-        pq = tess.pq = PriorityQ.pqNewPriorityQ(new PriorityQ.Leq() {
-            @Override
-            public boolean leq(final Object key1, final Object key2) {
-                return Geom.VertLeq(((GLUvertex) key1), (GLUvertex) key2);
+        final GLUmeshPool pool = tess.pool;
+        if (null != pool && null != pool.pq) {
+            pq = tess.pq = pool.pq;    /* emptied by DonePriorityQ */
+        } else {
+            /* __gl_pqSortNewPriorityQ */
+            pq = tess.pq = PriorityQ.pqNewPriorityQ(new PriorityQ.Leq() {
+                @Override
+                public boolean leq(final Object key1, final Object key2) {
+                    return Geom.VertLeq(((GLUvertex) key1), (GLUvertex) key2);
+                }
+            });
+            if (null != pool) {
+                pool.pq = pq;
             }
-        });
+        }
 
         vHead = tess.mesh.vHead;
         for (v = vHead.next; v != vHead; v = v.next) {
@@ -1246,6 +1284,9 @@ class Sweep {
         if (v != vHead || !pq.pqInit()) { /* __gl_pqSortInit */
             tess.pq.pqDeletePriorityQ();    /* __gl_pqSortDeletePriorityQ */
             tess.pq = null;
+            if (null != pool) {
+                pool.pq = null;
+            }
             return false;
         }
 
@@ -1254,7 +1295,11 @@ class Sweep {
 
 
     static void DonePriorityQ(final GLUtessellatorImpl tess) {
-        tess.pq.pqDeletePriorityQ(); /* __gl_pqSortDeletePriorityQ */
+        if (null != tess.pool && tess.pool.pq == tess.pq) {
+            tess.pq.pqReset();    /* keep the storage for the next polygon */
+        } else {
+            tess.pq.pqDeletePriorityQ(); /* __gl_pqSortDeletePriorityQ */
+        }
     }
 
 
@@ -60,7 +60,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.Executor;
 
+import jogamp.nativewindow.ParallelBands;
 import jogamp.opengl.Debug;
 
 import com.jogamp.common.util.ArrayHashSet;
@@ -105,6 +107,32 @@ public class JPEGDecoder {
         public void storeYCbCr(int x, int y, byte Y, byte Cb, byte Cr);
     }
 
+    /**
+     * Bulk pixel storage receiving whole converted scanlines,
+     * see {@link JPEGDecoder#getPixel(ScanlineSink, int, int, Executor)}.
+     */
+    public static interface ScanlineSink {
+        /**
+         * @param width
+         * @param height
+         * @param sourceCS the color-space of the decoded JPEG
+         * @param sourceComponents number of components used for the given source color-space
+         * @return Either {@link TextureData.ColorSpace#RGB} or {@link TextureData.ColorSpace#YCbCr}. {@link TextureData.ColorSpace#YCCK} and {@link TextureData.ColorSpace#CMYK} will throw an exception!
+         * @throws RuntimeException
+         */
+        public TextureData.ColorSpace allocate(int width, int height, TextureData.ColorSpace sourceCS, int sourceComponents) throws RuntimeException;
+
+        /**
+         * Stores one scanline of 3-component pixels in the allocated storage color-space.
+         * <p>
+         * May be called concurrently for distinct scanlines if an {@link Executor} is being used.
+         * </p>
+         * @param y scanline, starting w/ 0 at the top of the image
+         * @param line <code>width * 3</code> bytes, only valid while this method is running
+         */
+        public void storeScanline(int y, byte[] line);
+    }
+
     public static class JFIF {
         final VersionNumber version;
         final int densityUnits;
@@ -393,6 +421,20 @@ public class JPEGDecoder {
             this.qttIdx = qttIdx;
         }
 
+        /** Shallow copy sharing the blocks, but w/ its own {@link #pred} for concurrent restart interval decoding. */
+        ComponentIn(final ComponentIn src) {
+            this.h = src.h;
+            this.v = src.v;
+            this.qttIdx = src.qttIdx;
+            this.blocksPerColumn = src.blocksPerColumn;
+            this.blocksPerColumnForMcu = src.blocksPerColumnForMcu;
+            this.blocksPerLine = src.blocksPerLine;
+            this.blocksPerLineForMcu = src.blocksPerLineForMcu;
+            this.blocks = src.blocks;
+            this.huffmanTableAC = src.huffmanTableAC;
+            this.huffmanTableDC = src.huffmanTableDC;
+        }
+
         public final void allocateBlocks(final int blocksPerColumn, final int blocksPerColumnForMcu, final int blocksPerLine, final int blocksPerLineForMcu) {
             this.blocksPerColumn = blocksPerColumn;
             this.blocksPerColumnForMcu = blocksPerColumnForMcu;
@@ -515,6 +557,45 @@ public class JPEGDecoder {
         components = null;
     }
     public synchronized JPEGDecoder parse(final InputStream inputStream) throws IOException {
+        return parse(inputStream, null);
+    }
+
+    /**
+     * Parses and decodes the given JPEG stream.
+     * <p>
+     * If an {@link Executor} is given, the inverse DCT is performed in bands of block rows
+     * and restart intervals of baseline scans are entropy decoded concurrently.
+     * The latter buffers each such scan's entropy coded segment in memory.
+     * </p>
+     * @param inputStream the JPEG stream
+     * @param executor {@link Executor} running the bands, if {@code null} decoding is performed on the current thread.
+     */
+    public synchronized JPEGDecoder parse(final InputStream inputStream, final Executor executor) throws IOException {
+        return parse(inputStream, executor, 1);
+    }
+
+    /**
+     * Parses and decodes the given JPEG stream at a reduced size.
+     * <p>
+     * A scale denominator of 2, 4 or 8 produces an image of
+     * <code>ceil(width / scaleDenom) x ceil(height / scaleDenom)</code> pixels
+     * directly from the DCT coefficients using reduced 4x4, 2x2 or DC only inverse DCTs,
+     * i.e. the inverse DCT work and the decoded component memory shrink by the scale factor squared.
+     * Subsampled components use accordingly larger inverse DCTs, up to 8x8, to retain their relative resolution.
+     * Entropy decoding is still performed for all coefficients.
+     * </p>
+     * <p>
+     * A scale denominator of 1 decodes at full size, see {@link #parse(InputStream, Executor)}.
+     * </p>
+     * @param inputStream the JPEG stream
+     * @param executor {@link Executor} running the bands, if {@code null} decoding is performed on the current thread.
+     * @param scaleDenom scale denominator, either 1, 2, 4 or 8
+     * @throws IllegalArgumentException if scaleDenom is not 1, 2, 4 or 8
+     */
+    public synchronized JPEGDecoder parse(final InputStream inputStream, final Executor executor, final int scaleDenom) throws IOException {
+        if( 1 != scaleDenom && 2 != scaleDenom && 4 != scaleDenom && 8 != scaleDenom ) {
+            throw new IllegalArgumentException("Scale denominator not 1, 2, 4 or 8: "+scaleDenom);
+        }
         clear(inputStream);
 
         final int[][] quantizationTables = new int[0x0F][]; // 4 bits
@@ -691,7 +772,7 @@ public class JPEGDecoder {
                 }
                 fileMarker = decoder.decodeScan(frame, components, resetInterval,
                                                 spectralStart, spectralEnd,
-                                                successiveApproximation >> 4, successiveApproximation & 15);
+                                                successiveApproximation >> 4, successiveApproximation & 15, executor);
                 if(DEBUG) { System.err.println("JPG.parse.SOS.decode result "+toHexString(fileMarker)); }
             }
             break;
@@ -726,9 +807,22 @@ public class JPEGDecoder {
             final ComponentIn component = frame.getCompByIndex(i);
             // System.err.println("JPG.parse.buildComponentData["+i+"]: "+component); // JAU
             // System.err.println("JPG.parse.buildComponentData["+i+"]: "+frame); // JAU
-            this.components[i] = new ComponentOut( output.buildComponentData(frame, component),
-                                                   (float)component.h / (float)frame.maxH,
-                                                   (float)component.v / (float)frame.maxV );
+            if( 1 == scaleDenom ) {
+                this.components[i] = new ComponentOut( buildComponentData(frame, component, executor, 8, 8),
+                                                       (float)component.h / (float)frame.maxH,
+                                                       (float)component.v / (float)frame.maxV );
+            } else {
+                // subsampled components keep their resolution relative to the reduced image, if possible
+                final int blockWidth = Math.min(8, 8 / scaleDenom * frame.maxH / component.h);
+                final int blockHeight = Math.min(8, 8 / scaleDenom * frame.maxV / component.v);
+                this.components[i] = new ComponentOut( buildComponentData(frame, component, executor, blockWidth, blockHeight),
+                                                       (float)( blockWidth * scaleDenom * component.h ) / (float)( 8 * frame.maxH ),
+                                                       (float)( blockHeight * scaleDenom * component.v ) / (float)( 8 * frame.maxV ) );
+            }
+        }
+        if( 1 < scaleDenom ) {
+            width = ( frame.samplesPerLine + scaleDenom - 1 ) / scaleDenom;
+            height = ( frame.scanLines + scaleDenom - 1 ) / scaleDenom;
         }
         if(DEBUG) { System.err.println("JPG.parse.X: End of processing input "+this); }
         return this;
@@ -768,10 +862,21 @@ public class JPEGDecoder {
             this.index = 0;
         }
     }
+    /** Number of bits resolved by a single {@link BinObj#lookup} table access. */
+    static final int HUFFMAN_LOOKAHEAD = 9;
+
     static class BinObj {
         final boolean isValue;
         final BinObj[] tree;
         final byte b;
+        /**
+         * Root node only: {@link #HUFFMAN_LOOKAHEAD} bit lookahead table,
+         * entry <code>(codeLength &lt;&lt; 8) | value</code> for codes up to {@link #HUFFMAN_LOOKAHEAD} bits,
+         * otherwise <code>0</code> and {@link #lookupNext} holds the tree node to continue from.
+         */
+        int[] lookup;
+        /** Root node only: tree nodes reached after {@link #HUFFMAN_LOOKAHEAD} bits for longer codes, may be <code>null</code>. */
+        BinObj[] lookupNext;
 
         BinObj(final byte b) {
             this.isValue= true;
@@ -787,6 +892,29 @@ public class JPEGDecoder {
         final BinObj get(final int i) { return tree[i]; }
         final void set(final byte i, final byte v) { tree[i] = new BinObj(v); }
         final void set(final byte i, final BinObj v) { tree[i] = v; }
+
+        /**
+         * Builds the {@link #lookup} table of this root node by walking the tree,
+         * hence decoding via the table is identical to decoding bit-by-bit.
+         */
+        final void buildLookup() {
+            final int size = 1 << HUFFMAN_LOOKAHEAD;
+            lookup = new int[size];
+            lookupNext = new BinObj[size];
+            for(int code = 0; code < size; code++) {
+                BinObj node = this;
+                int len = 0;
+                while( len < HUFFMAN_LOOKAHEAD && null != node && !node.isValue ) {
+                    node = node.get( ( code >> ( HUFFMAN_LOOKAHEAD - 1 - len ) ) & 1 );
+                    len++;
+                }
+                if( null != node && node.isValue ) {
+                    lookup[code] = ( len << 8 ) | ( 0x000000FF & node.getValue() );
+                } else if( len == HUFFMAN_LOOKAHEAD ) {
+                    lookupNext[code] = node;
+                }
+            }
+        }
     }
 
     private BinObj buildHuffmanTable(final int[] codeLengths, final byte[] values) {
@@ -823,43 +951,134 @@ public class JPEGDecoder {
                 p = q;
             }
         }
-        return code.get(0).children;
+        final BinObj root = code.get(0).children;
+        root.buildLookup();
+        return root;
+    }
+
+    /** Minimum number of block rows per concurrent inverse DCT band. */
+    private static final int MIN_BAND_BLOCK_ROWS = 4;
+    /** Minimum number of scanlines per concurrent color conversion band. */
+    private static final int MIN_BAND_SCANLINES = 32;
+
+    /**
+     * @param blockWidth 8 for full size, [1..8) for reduced size output
+     * @param blockHeight 8 for full size, [1..8) for reduced size output
+     */
+    private static ArrayList<byte[]> buildComponentData(final Frame frame, final ComponentIn component, final Executor executor,
+                                                        final int blockWidth, final int blockHeight) {
+        final int blocksPerColumn = component.blocksPerColumn;
+        final int samplesPerLine = component.blocksPerLine * blockWidth;
+        final ArrayList<byte[]> lines = new ArrayList<byte[]>(blocksPerColumn * blockHeight);
+        for (int i = 0; i < blocksPerColumn * blockHeight; i++) {
+            lines.add(new byte[samplesPerLine]);
+        }
+        final int bands = ParallelBands.getBandCount(executor, 0, blocksPerColumn, MIN_BAND_BLOCK_ROWS);
+        ParallelBands.run(executor, bands, new ParallelBands.Band() {
+            @Override
+            public void run(final int band) {
+                Output.buildComponentRows(frame, component, lines, blockWidth, blockHeight,
+                                          (int) ( (long)blocksPerColumn *  band    / bands ),
+                                          (int) ( (long)blocksPerColumn * (band+1) / bands ));
+            } } );
+        return lines;
     }
 
-    private final Output output = new Output();
     static class Output {
-        private int blocksPerLine;
-        private int blocksPerColumn;
-        private int samplesPerLine;
-
-        private ArrayList<byte[]> buildComponentData(final Frame frame, final ComponentIn component) {
-            final ArrayList<byte[]> lines = new ArrayList<byte[]>();
-            blocksPerLine = component.blocksPerLine;
-            blocksPerColumn = component.blocksPerColumn;
-            samplesPerLine = blocksPerLine << 3;
+        /**
+         * Inverse DCT of the given component's block rows [blockRowStart..blockRowEnd) into the preallocated lines,
+         * each block producing blockWidth x blockHeight samples.
+         */
+        static void buildComponentRows(final Frame frame, final ComponentIn component, final ArrayList<byte[]> lines,
+                                       final int blockWidth, final int blockHeight,
+                                       final int blockRowStart, final int blockRowEnd) {
+            final int blocksPerLine = component.blocksPerLine;
             final int[] R = new int[64];
-            final byte[] r = new byte[64];
+            final byte[][] blockLines = new byte[blockHeight][];
+            final int[] qt = frame.qtt[component.qttIdx];
 
-            for (int blockRow = 0; blockRow < blocksPerColumn; blockRow++) {
-                final int scanLine = blockRow << 3;
-                // System.err.println("JPG.buildComponentData: row "+blockRow+"/"+blocksPerColumn+" -> scanLine "+scanLine); // JAU
-                for (int i = 0; i < 8; i++) {
-                    lines.add(new byte[samplesPerLine]);
+            for (int blockRow = blockRowStart; blockRow < blockRowEnd; blockRow++) {
+                // System.err.println("JPG.buildComponentData: row "+blockRow+"/"+component.blocksPerColumn+" -> scanLine "+(blockRow * blockHeight)); // JAU
+                for (int i = 0; i < blockHeight; i++) {
+                    blockLines[i] = lines.get( blockRow * blockHeight + i );
                 }
                 for (int blockCol = 0; blockCol < blocksPerLine; blockCol++) {
                     // System.err.println("JPG.buildComponentData: col "+blockCol+"/"+blocksPerLine+", comp.qttIdx "+component.qttIdx+", qtt "+frame.qtt[component.qttIdx]); // JAU
-                    quantizeAndInverse(component.getBlock(blockRow, blockCol), r, R, frame.qtt[component.qttIdx]);
-
-                    final int sample = blockCol << 3;
-                    int offset = 0;
-                    for (int j = 0; j < 8; j++) {
-                        final byte[] line = lines.get(scanLine + j);
-                        for (int i = 0; i < 8; i++)
-                            line[sample + i] = r[offset++];
+                    final int[] zz = component.getBlock(blockRow, blockCol);
+                    if( 8 == blockWidth && 8 == blockHeight ) {
+                        quantizeAndInverse(zz, blockLines, blockCol << 3, R, qt);
+                    } else if( 1 == blockWidth && 1 == blockHeight ) {
+                        quantizeAndInverseDC(zz, blockLines[0], blockCol, qt);
+                    } else {
+                        quantizeAndInverseReduced(zz, blockLines, blockCol * blockWidth, R, qt, blockWidth, blockHeight);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Reduced size inverse DCT of the DC coefficient only, i.e. the block's average,
+         * using the same fixed-point arithmetic as {@link #quantizeAndInverse(int[], byte[][], int, int[], int[])}
+         * for blocks w/o AC coefficients.
+         */
+        private static void quantizeAndInverseDC(final int[] zz, final byte[] lineOut, final int sample, final int[] qt) {
+            int t = (dctSqrt2 * ( zz[0] * qt[0] ) + 512) >> 10;
+            t = (dctSqrt2 * t + 8192) >> 14;
+            final int v = 128 + ((t + 8) >> 4);
+            lineOut[sample] = (byte) ( v < 0 ? 0 : v > 0xFF ? 0xFF : v );
+        }
+
+        /** n-point inverse DCT matrices for n = [1..8], <code>[n][x * n + u] = 4096 * C(u) / 2 * cos( (2x+1) * u * PI / 2n )</code>. */
+        private static final int[][] idctReduced = new int[9][];
+        static {
+            for (int n = 1; n <= 8; n++) {
+                idctReduced[n] = buildReducedIDCT(n);
+            }
+        }
+
+        private static int[] buildReducedIDCT(final int n) {
+            final int[] m = new int[n * n];
+            for (int x = 0; x < n; x++) {
+                for (int u = 0; u < n; u++) {
+                    final double c = 0 == u ? 1.0 / Math.sqrt(2.0) : 1.0;
+                    m[x * n + u] = (int) Math.round( 4096.0 * c / 2.0 * Math.cos( ( 2 * x + 1 ) * u * Math.PI / ( 2 * n ) ) );
+                }
+            }
+            return m;
+        }
+
+        /**
+         * Reduced size nx x ny inverse DCT for nx, ny in [1..8], using the block's lowest nx x ny frequencies only.
+         */
+        private static void quantizeAndInverseReduced(final int[] zz, final byte[][] linesOut, final int sample, final int[] dataIn,
+                                                      final int[] qt, final int nx, final int ny) {
+            final int[] mx = idctReduced[nx];
+            final int[] my = idctReduced[ny];
+            final int[] p = dataIn;
+
+            // dequant and inverse DCT on rows, keeping 3 fractional bits
+            for (int v = 0; v < ny; v++) {
+                final int row = 8 * v;
+                for (int x = 0; x < nx; x++) {
+                    int s = 0;
+                    for (int u = 0; u < nx; u++) {
+                        s += zz[row + u] * qt[row + u] * mx[x * nx + u];
+                    }
+                    p[v * nx + x] = (s + 256) >> 9;
+                }
+            }
+            // inverse DCT on columns and convert to 8-bit integers
+            for (int y = 0; y < ny; y++) {
+                final byte[] line = linesOut[y];
+                for (int x = 0; x < nx; x++) {
+                    int s = 0;
+                    for (int v = 0; v < ny; v++) {
+                        s += p[v * nx + x] * my[y * ny + v];
                     }
+                    final int val = 128 + ((s + 16384) >> 15);
+                    line[sample + x] = (byte) ( val < 0 ? 0 : val > 0xFF ? 0xFF : val );
                 }
             }
-            return lines;
         }
 
         // A port of poppler's IDCT method which in turn is taken from:
@@ -867,7 +1086,9 @@ public class JPEGDecoder {
         //   "Practical Fast 1-D DCT Algorithms with 11 Multiplications",
         //   IEEE Intl. Conf. on Acoustics, Speech & Signal Processing, 1989,
         //   988-991.
-        private void quantizeAndInverse(final int[] zz, final byte[] dataOut, final int[] dataIn, final int[] qt) {
+        //
+        // The 8x8 result is stored directly into the 8 given scanlines starting at sample.
+        private static void quantizeAndInverse(final int[] zz, final byte[][] linesOut, final int sample, final int[] dataIn, final int[] qt) {
             int v0, v1, v2, v3, v4, v5, v6, v7, t;
             final int[] p = dataIn;
             int i;
@@ -1016,9 +1237,13 @@ public class JPEGDecoder {
             }
 
             // convert to 8-bit integers
-            for (i = 0; i < 64; ++i) {
-                final int sample = 128 + ((p[i] + 8) >> 4);
-                dataOut[i] = (byte) ( sample < 0 ? 0 : sample > 0xFF ? 0xFF : sample );
+            for (i = 0; i < 8; ++i) {
+                final byte[] line = linesOut[i];
+                final int row = 8 * i;
+                for (int j = 0; j < 8; ++j) {
+                    final int v = 128 + ((p[row + j] + 8) >> 4);
+                    line[sample + j] = (byte) ( v < 0 ? 0 : v > 0xFF ? 0xFF : v );
+                }
             }
         }
     }
@@ -1039,8 +1264,81 @@ public class JPEGDecoder {
         private int eobrun;
         private int successiveACState, successiveACNextValue;
 
-        private int decodeScan(final Frame frame, final ArrayList<ComponentIn> components, int resetInterval,
-                final int spectralStart, final int spectralEnd, final int successivePrev, final int successive) throws IOException {
+        /** Entropy coded segment source, bypassing {@link #bstream}'s bit buffer which is kept byte aligned. */
+        private Bitstream.ByteStream<InputStream> in;
+        /** If not <code>null</code>, buffered entropy coded segment source [{@link #segmentPos}..{@link #segmentEnd}) used instead of {@link #in}. */
+        private byte[] segment;
+        private int segmentPos, segmentEnd;
+        /** Buffered bit window, valid are the lower {@link #bitCount} bits, MSB first. */
+        private int bitBuffer;
+        private int bitCount;
+        /** Marker encountered while filling the {@link #bitBuffer}, both marker bytes are consumed. */
+        private int pendingMarker;
+        /** EOS encountered while filling the {@link #bitBuffer}. */
+        private boolean eos;
+        /** EOS encountered after a marker prefix <code>0xFF</code> while filling the {@link #bitBuffer}. */
+        private boolean eosAfterPrefix;
+
+        private final void resetBits() {
+            bitBuffer = 0;
+            bitCount = 0;
+            pendingMarker = 0;
+            eos = false;
+            eosAfterPrefix = false;
+        }
+
+        /**
+         * Fills the {@link #bitBuffer} with at least 25 bits if available,
+         * unstuffing <code>0xFF00</code> and stopping at the first marker or EOS.
+         */
+        private final void fillBits() throws IOException {
+            while( bitCount <= 24 && 0 == pendingMarker && !eos ) {
+                final int b = readByte();
+                if( -1 == b ) {
+                    eos = true;
+                    return;
+                }
+                if( 0xFF == b ) {
+                    final int nextByte = readByte(); // snoop marker signature
+                    if( -1 == nextByte ) {
+                        eos = true;
+                        eosAfterPrefix = true;
+                        return;
+                    }
+                    if( 0 != nextByte ) {
+                        pendingMarker = ( b << 8 ) | nextByte;
+                        return;
+                    }
+                    // unstuff 0
+                }
+                bitBuffer = ( bitBuffer << 8 ) | b;
+                bitCount += 8;
+            }
+        }
+
+        private final int readByte() throws IOException {
+            if( null != segment ) {
+                return segmentPos < segmentEnd ? 0xFF & segment[segmentPos++] : -1;
+            }
+            return in.read();
+        }
+
+        /** Signals exhausted entropy coded data, i.e. throws a {@link MarkerException} if the data ended at a marker. */
+        private final void noMoreBits() throws MarkerException {
+            if( 0 != pendingMarker ) {
+                throw new MarkerException(pendingMarker, "Marker at readBit pos " + bstream);
+            }
+            if( eosAfterPrefix ) {
+                throw new CodecException("marked prefix 0xFF, then EOF");
+            }
+        }
+
+        /** Drops the remaining bits of the current byte. */
+        private final void alignBits() {
+            bitCount &= ~7;
+        }
+
+        private DecoderFunction setup(final Frame frame, final int spectralStart, final int spectralEnd, final int successivePrev, final int successive) {
             // this.precision = frame.precision;
             // this.samplesPerLine = frame.samplesPerLine;
             // this.scanLines = frame.scanLines;
@@ -1048,23 +1346,31 @@ public class JPEGDecoder {
             this.progressive = frame.progressive;
             // this.maxH = frame.maxH;
             // this.maxV = frame.maxV;
-            bstream.skip( bstream.getBitCount() ); // align to next byte
             this.spectralStart = spectralStart;
             this.spectralEnd = spectralEnd;
             this.successive = successive;
 
-            final int componentsLength = components.size();
-
-            final DecoderFunction decodeFn;
             if (progressive) {
                 if (spectralStart == 0) {
-                    decodeFn = successivePrev == 0 ? decodeDCFirst : decodeDCSuccessive;
+                    return successivePrev == 0 ? decodeDCFirst : decodeDCSuccessive;
                 } else {
-                    decodeFn = successivePrev == 0 ? decodeACFirst : decodeACSuccessive;
+                    return successivePrev == 0 ? decodeACFirst : decodeACSuccessive;
                 }
             } else {
-                decodeFn = decodeBaseline;
+                return decodeBaseline;
             }
+        }
+
+        private int decodeScan(final Frame frame, final ArrayList<ComponentIn> components, int resetInterval,
+                final int spectralStart, final int spectralEnd, final int successivePrev, final int successive,
+                final Executor executor) throws IOException {
+            final DecoderFunction decodeFn = setup(frame, spectralStart, spectralEnd, successivePrev, successive);
+            bstream.skip( bstream.getBitCount() ); // align to next byte
+            this.in = bstream.getStream();
+            this.segment = null;
+            resetBits();
+
+            final int componentsLength = components.size();
 
             int mcu = 0;
             int mcuExpected;
@@ -1074,12 +1380,15 @@ public class JPEGDecoder {
             } else {
                 mcuExpected = mcusPerLine * frame.mcusPerColumn;
             }
-            if (0 == resetInterval) {
-                resetInterval = mcuExpected;
-            }
             if(DEBUG) {
                 System.err.println("JPEG.decodeScan.1 resetInterval "+resetInterval+", mcuExpected "+mcuExpected+", sA "+spectralStart+", sP "+successivePrev+", sE "+spectralEnd+", suc "+successive+", decodeFn "+decodeFn.getClass().getSimpleName());
             }
+            if ( null != executor && !progressive && 0 < resetInterval && resetInterval < mcuExpected ) {
+                return decodeIntervalsParallel(frame, components, resetInterval, mcuExpected, spectralStart, spectralEnd, successivePrev, successive, executor);
+            }
+            if (0 == resetInterval) {
+                resetInterval = mcuExpected;
+            }
             int marker = 0;
             while ( /* untilMarker || */ mcu < mcuExpected) {
                 // reset interval stuff
@@ -1089,27 +1398,7 @@ public class JPEGDecoder {
                 eobrun = 0;
 
                 try {
-                    if (componentsLength == 1) {
-                        final ComponentIn component = components.get(0);
-                        for (int n = 0; n < resetInterval; n++) {
-                            decodeBlock(component, decodeFn, mcu);
-                            mcu++;
-                        }
-                    } else {
-                        for (int n = 0; n < resetInterval; n++) {
-                            for (int i = 0; i < componentsLength; i++) {
-                                final ComponentIn component = components.get(i);
-                                final int h = component.h;
-                                final int v = component.v;
-                                for (int j = 0; j < v; j++) {
-                                    for (int k = 0; k < h; k++) {
-                                        decodeMcu(component, decodeFn, mcu, j, k);
-                                    }
-                                }
-                            }
-                            mcu++;
-                        }
-                    }
+                    mcu = decodeMCUs(components, decodeFn, mcu, resetInterval);
                 } catch (final MarkerException markerException) {
                     if(DEBUG) { System.err.println("JPEG.decodeScan: Marker exception: "+markerException.getMessage()); markerException.printStackTrace(); }
                     return markerException.getMarker();
@@ -1120,12 +1409,20 @@ public class JPEGDecoder {
                 }
 
                 // find marker
-                bstream.skip( bstream.getBitCount() ); // align to next byte
-                bstream.mark(2);
-                marker = readUInt16();
-                if( marker < 0xFF00 ) {
-                    bstream.reset();
-                    throw new CodecException("marker not found @ mcu "+mcu+"/"+mcuExpected+", u16: "+toHexString(marker));
+                alignBits(); // align to next byte
+                if( 0 != pendingMarker ) {
+                    // already consumed while filling the bit window
+                    marker = pendingMarker;
+                    pendingMarker = 0;
+                } else if( 0 < bitCount ) {
+                    throw new CodecException("marker not found @ mcu "+mcu+"/"+mcuExpected+", "+(bitCount>>3)+" bytes pending");
+                } else {
+                    bstream.mark(2);
+                    marker = readUInt16();
+                    if( marker < 0xFF00 ) {
+                        bstream.reset();
+                        throw new CodecException("marker not found @ mcu "+mcu+"/"+mcuExpected+", u16: "+toHexString(marker));
+                    }
                 }
                 final boolean isRSTx = 0xFFD0 <= marker && marker <= 0xFFD7; // !RSTx
                 if(DEBUG) {
@@ -1138,29 +1435,154 @@ public class JPEGDecoder {
             return marker;
         }
 
-        private final int readBit() throws MarkerException, IOException {
-            final int bit = bstream.readBit(true /* msbFirst */);
-            if( Bitstream.EOS == bit || 7 != bstream.getBitCount() ) {
-                return bit;
-            }
-            // new byte read, i.e. bitCount == 7
-            final int bitsData = bstream.getBitBuffer(); // peek for marker
-            if ( 0xFF == bitsData ) { // marker prefix
-                final int nextByte = bstream.getStream().read(); // snoop marker signature, will be dropped!
-                if( -1 == nextByte ) {
-                    throw new CodecException("marked prefix 0xFF, then EOF");
+        /** Decodes <code>count</code> MCUs starting with <code>mcu</code>, returns the next MCU. */
+        private int decodeMCUs(final ArrayList<ComponentIn> components, final DecoderFunction decodeFn, int mcu, final int count) throws IOException {
+            final int componentsLength = components.size();
+            if (componentsLength == 1) {
+                final ComponentIn component = components.get(0);
+                for (int n = 0; n < count; n++) {
+                    decodeBlock(component, decodeFn, mcu);
+                    mcu++;
+                }
+            } else {
+                for (int n = 0; n < count; n++) {
+                    for (int i = 0; i < componentsLength; i++) {
+                        final ComponentIn component = components.get(i);
+                        final int h = component.h;
+                        final int v = component.v;
+                        for (int j = 0; j < v; j++) {
+                            for (int k = 0; k < h; k++) {
+                                decodeMcu(component, decodeFn, mcu, j, k);
+                            }
+                        }
+                    }
+                    mcu++;
+                }
+            }
+            return mcu;
+        }
+
+        /**
+         * Buffers the baseline scan's entropy coded segment up to the first non RSTx marker
+         * and decodes its independent restart intervals concurrently, each band using its own {@link Decoder}.
+         * <p>
+         * A corrupt restart interval only stops decoding of itself, not of the following intervals.
+         * </p>
+         * @return the consumed terminating marker or {@link #M_EOI} if EOS has been reached
+         */
+        private int decodeIntervalsParallel(final Frame frame, final ArrayList<ComponentIn> components,
+                                            final int resetInterval, final int mcuExpected,
+                                            final int spectralStart, final int spectralEnd, final int successivePrev, final int successive,
+                                            final Executor executor) throws IOException {
+            byte[] data = new byte[1 << 16];
+            int size = 0;
+            int[] intervalStart = new int[1 + ( mcuExpected + resetInterval - 1 ) / resetInterval];
+            int intervalCount = 1;
+            int marker = M_EOI;
+            while( true ) {
+                final int b = in.read();
+                if( -1 == b ) {
+                    break;
+                }
+                if( 0xFF == b ) {
+                    final int nextByte = in.read(); // snoop marker signature
+                    if( -1 == nextByte ) {
+                        break;
+                    }
+                    if( 0 != nextByte ) {
+                        final int m = ( b << 8 ) | nextByte;
+                        if( 0xFFD0 <= m && m <= 0xFFD7 ) { // RSTx
+                            if( intervalCount == intervalStart.length ) {
+                                intervalStart = Arrays.copyOf(intervalStart, intervalCount * 2);
+                            }
+                            intervalStart[intervalCount++] = size;
+                            continue;
+                        }
+                        marker = m;
+                        break;
+                    }
+                }
+                if( size + 2 > data.length ) {
+                    data = Arrays.copyOf(data, data.length * 2);
                 }
-                if (0 != nextByte) {
-                    final int marker = (bitsData << 8) | nextByte;
-                    throw new MarkerException(marker, "Marker at readBit pos " + bstream);
+                data[size++] = (byte)b;
+                if( 0xFF == b ) {
+                    data[size++] = 0; // keep stuffing for Decoder
+                }
+            }
+            final byte[] segments = data;
+            final int[] segmentStart = intervalStart;
+            final int segmentsSize = size;
+            final int segmentCount = intervalCount;
+            final int intervals = Math.min(intervalCount, ( mcuExpected + resetInterval - 1 ) / resetInterval);
+            if(DEBUG) {
+                System.err.println("JPEG.decodeScan.P: bytes "+size+", intervals "+intervalCount+"/"+intervals+", marker "+toHexString(marker));
+            }
+            final int bands = ParallelBands.getBandCount(executor, 0, intervals, 1);
+            ParallelBands.run(executor, bands, new ParallelBands.Band() {
+                @Override
+                public void run(final int band) {
+                    final Decoder d = 0 == band ? Decoder.this : new Decoder();
+                    final DecoderFunction decodeFn = d.setup(frame, spectralStart, spectralEnd, successivePrev, successive);
+                    final ArrayList<ComponentIn> comps = new ArrayList<ComponentIn>(components.size());
+                    for(int i=0; i<components.size(); i++) {
+                        comps.add(new ComponentIn(components.get(i)));
+                    }
+                    final int i0 = (int) ( (long)intervals *  band    / bands );
+                    final int i1 = (int) ( (long)intervals * (band+1) / bands );
+                    for(int i=i0; i<i1; i++) {
+                        for(int j=0; j<comps.size(); j++) {
+                            comps.get(j).pred = 0;
+                        }
+                        d.eobrun = 0;
+                        d.segment = segments;
+                        d.segmentPos = segmentStart[i];
+                        d.segmentEnd = i + 1 < segmentCount ? segmentStart[i+1] : segmentsSize;
+                        d.resetBits();
+                        final int mcu = i * resetInterval;
+                        try {
+                            d.decodeMCUs(comps, decodeFn, mcu, Math.min(resetInterval, mcuExpected - mcu));
+                        } catch (final CodecException codecException) {
+                            if(DEBUG) { System.err.println("JPEG.decodeScan.P: Interval "+i+": Codec exception: "+codecException.getMessage()); }
+                        } catch (final IOException ioe) {
+                            throw new RuntimeException(ioe); // should not happen, buffered segment
+                        }
+                    }
+                    d.segment = null;
+                } } );
+            return marker;
+        }
+
+        private final int readBit() throws MarkerException, IOException {
+            if( 0 == bitCount ) {
+                fillBits();
+                if( 0 == bitCount ) {
+                    noMoreBits();
+                    return Bitstream.EOS;
                 }
-                // unstuff 0
             }
-            return bit;
+            return ( bitBuffer >>> --bitCount ) & 1;
         }
 
         private int decodeHuffman(final BinObj tree) throws IOException {
             BinObj node = tree;
+            if( bitCount < HUFFMAN_LOOKAHEAD ) {
+                fillBits();
+            }
+            if( bitCount >= HUFFMAN_LOOKAHEAD ) {
+                final int code = ( bitBuffer >>> ( bitCount - HUFFMAN_LOOKAHEAD ) ) & ( ( 1 << HUFFMAN_LOOKAHEAD ) - 1 );
+                final int entry = tree.lookup[code];
+                if( 0 != entry ) {
+                    bitCount -= entry >>> 8;
+                    return entry & 0xFF;
+                }
+                final BinObj next = tree.lookupNext[code];
+                if( null != next ) {
+                    bitCount -= HUFFMAN_LOOKAHEAD;
+                    node = next;
+                }
+            }
+            // long codes, invalid codes or end of entropy coded data
             int bit;
             while ( ( bit = readBit() ) != -1 ) {
                 node = node.get(bit);
@@ -1171,6 +1593,13 @@ public class JPEGDecoder {
             throw new CodecException("EOF reached at "+bstream);
         }
         private int receive(int length) throws IOException {
+            if( bitCount < length ) {
+                fillBits();
+            }
+            if( bitCount >= length ) {
+                bitCount -= length;
+                return ( bitBuffer >>> bitCount ) & ( ( 1 << length ) - 1 );
+            }
             int n = 0;
             while (length > 0) {
                 final int bit = readBit();
@@ -1510,6 +1939,181 @@ public class JPEGDecoder {
         }
     }
 
+    /**
+     * Stores the decoded image as whole scanlines in the given {@link ScanlineSink},
+     * producing the same pixels as {@link #getPixel(ColorSink, int, int)}.
+     * <p>
+     * Two component images are not supported.
+     * </p>
+     * @param sink the {@link ScanlineSink}
+     * @param width
+     * @param height
+     * @param executor {@link Executor} converting bands of scanlines, if {@code null} the conversion is performed on the current thread.
+     */
+    public synchronized void getPixel(final JPEGDecoder.ScanlineSink sink, final int width, final int height, final Executor executor) {
+        final int scaleX = this.width / width, scaleY = this.height / height;
+
+        final int componentCount = this.components.length;
+        final ColorSpace sourceCS = ( null != adobe ) ? adobe.colorSpace : ColorSpace.YCbCr;
+        final ColorSpace storageCS = sink.allocate(width, height, sourceCS, componentCount);
+        if( ColorSpace.RGB != storageCS && ColorSpace.YCbCr != storageCS ) {
+            throw new IllegalArgumentException("Unsupported storage color space: "+storageCS);
+        }
+        switch (componentCount) {
+        case 1:
+            break;
+        case 3:
+            if (ColorSpace.YCbCr != sourceCS) {
+                throw new CodecException("Unsupported source color space w 3 components: "+sourceCS);
+            }
+            break;
+        case 4:
+            if (ColorSpace.YCCK != sourceCS && ColorSpace.CMYK != sourceCS) {
+                throw new CodecException("Unsupported source color space w 4 components: "+sourceCS);
+            }
+            if( ColorSpace.YCbCr == storageCS && ColorSpace.YCCK != sourceCS ) {
+                throw new CodecException("Unsupported storage color space "+storageCS+" with source color space "+sourceCS);
+            }
+            break;
+        default:
+            throw new CodecException("Unsupported color model: Space "+sourceCS+", components "+componentCount);
+        }
+        // sample index per destination column, as calculated by getPixel(ColorSink, ..)
+        final int[][] xIndices = new int[componentCount][width];
+        for (int i = 0; i < componentCount; i++) {
+            final ComponentOut component = this.components[i];
+            final int[] xIndex = xIndices[i];
+            for (int x = 0; x < width; x++) {
+                xIndex[x] = 1 == componentCount ? (int)(x * component.scaleX * scaleX) : (int)(x * scaleX * component.scaleX);
+            }
+        }
+        final int bands = ParallelBands.getBandCount(executor, 0, height, MIN_BAND_SCANLINES);
+        ParallelBands.run(executor, bands, new ParallelBands.Band() {
+            @Override
+            public void run(final int band) {
+                storeScanlines(sink, sourceCS, storageCS, xIndices, scaleY, width,
+                               (int) ( (long)height *  band    / bands ),
+                               (int) ( (long)height * (band+1) / bands ));
+            } } );
+    }
+
+    private void storeScanlines(final ScanlineSink sink, final ColorSpace sourceCS, final ColorSpace storageCS,
+                                final int[][] xIndices, final int scaleY, final int width, final int y0, final int y1) {
+        final byte[] line = new byte[width * 3];
+        final ComponentOut component1 = this.components[0];
+        final int[] xIndex1 = xIndices[0];
+        switch (this.components.length) {
+        case 1: {
+            // Grayscale
+            final boolean storeYCbCr = ColorSpace.YCbCr == storageCS;
+            for (int y = y0; y < y1; y++) {
+                final byte[] component1Line = component1.getLine((int)(y * component1.scaleY * scaleY));
+                for (int x = 0, i = 0; x < width; x++) {
+                    final byte Y = component1Line[xIndex1[x]];
+                    line[i++] = Y;
+                    line[i++] = storeYCbCr ? 0 : Y;
+                    line[i++] = storeYCbCr ? 0 : Y;
+                }
+                sink.storeScanline(y, line);
+            }
+        }
+        break;
+        case 3: {
+            final ComponentOut component2 = this.components[1];
+            final ComponentOut component3 = this.components[2];
+            final int[] xIndex2 = xIndices[1], xIndex3 = xIndices[2];
+            final boolean storeYCbCr = ColorSpace.YCbCr == storageCS;
+            for (int y = y0; y < y1; y++) {
+                final int ys = y * scaleY;
+                final byte[] component1Line = component1.getLine((int)(ys * component1.scaleY));
+                final byte[] component2Line = component2.getLine((int)(ys * component2.scaleY));
+                final byte[] component3Line = component3.getLine((int)(ys * component3.scaleY));
+                if( storeYCbCr ) {
+                    for (int x = 0, i = 0; x < width; x++) {
+                        line[i++] = component1Line[xIndex1[x]];
+                        line[i++] = component2Line[xIndex2[x]];
+                        line[i++] = component3Line[xIndex3[x]];
+                    }
+                } else {
+                    for (int x = 0, i = 0; x < width; x++) {
+                        final int Y  = 0x000000FF & component1Line[xIndex1[x]];
+                        final int Cb = 0x000000FF & component2Line[xIndex2[x]];
+                        final int Cr = 0x000000FF & component3Line[xIndex3[x]];
+                        line[i++] = clampTo8bit(Y + crToR[Cr]);
+                        line[i++] = clampTo8bit(Y - cbToG[Cb] - crToG[Cr]);
+                        line[i++] = clampTo8bit(Y + cbToB[Cb]);
+                    }
+                }
+                sink.storeScanline(y, line);
+            }
+        }
+        break;
+        case 4: {
+            final ComponentOut component2 = this.components[1];
+            final ComponentOut component3 = this.components[2];
+            final ComponentOut component4 = this.components[3];
+            final int[] xIndex2 = xIndices[1], xIndex3 = xIndices[2], xIndex4 = xIndices[3];
+            for (int y = y0; y < y1; y++) {
+                final int ys = y * scaleY;
+                final byte[] component1Line = component1.getLine((int)(ys * component1.scaleY));
+                final byte[] component2Line = component2.getLine((int)(ys * component2.scaleY));
+                final byte[] component3Line = component3.getLine((int)(ys * component3.scaleY));
+                final byte[] component4Line = component4.getLine((int)(ys * component4.scaleY));
+                if( ColorSpace.YCbCr == storageCS ) {
+                    // FIXME: YCCK is not really YCbCr, since K (black) is missing!
+                    for (int x = 0, i = 0; x < width; x++) {
+                        line[i++] = component1Line[xIndex1[x]];
+                        line[i++] = component2Line[xIndex2[x]];
+                        line[i++] = component3Line[xIndex3[x]];
+                    }
+                } else if (ColorSpace.CMYK == sourceCS) {
+                    for (int x = 0, i = 0; x < width; x++) {
+                        final int cC = 0x000000FF & component1Line[xIndex1[x]];
+                        final int cM = 0x000000FF & component2Line[xIndex2[x]];
+                        final int cY = 0x000000FF & component3Line[xIndex3[x]];
+                        final int cK = 0x000000FF & component4Line[xIndex4[x]];
+                        // CMYK -> RGB
+                        line[i++] = clampTo8bit( ( cC * cK ) / 255f );
+                        line[i++] = clampTo8bit( ( cM * cK ) / 255f );
+                        line[i++] = clampTo8bit( ( cY * cK ) / 255f );
+                    }
+                } else { // ColorModel.YCCK == sourceCM
+                    for (int x = 0, i = 0; x < width; x++) {
+                        final int Y  = 0x000000FF & component1Line[xIndex1[x]];
+                        final int Cb = 0x000000FF & component2Line[xIndex2[x]];
+                        final int Cr = 0x000000FF & component3Line[xIndex3[x]];
+                        final int cK = 0x000000FF & component4Line[xIndex4[x]];
+                        // YCCK -> 255f - [ R'G'B' ] -> CMYK
+                        final float cC = 255f - ( Y + crToR[Cr] );
+                        final float cM = 255f - ( Y - cbToG[Cb] - crToG[Cr] );
+                        final float cY = 255f - ( Y + cbToB[Cb] );
+                        // CMYK -> RGB
+                        line[i++] = clampTo8bit( ( cC * cK ) / 255f );
+                        line[i++] = clampTo8bit( ( cM * cK ) / 255f );
+                        line[i++] = clampTo8bit( ( cY * cK ) / 255f );
+                    }
+                }
+                sink.storeScanline(y, line);
+            }
+        }
+        break;
+        }
+    }
+
+    /** YCbCr -> RGB products of {@link #getPixel(ColorSink, int, int)} per 8-bit Cb and Cr value, yielding identical float results. */
+    private static final float[] crToR = new float[256];
+    private static final float[] crToG = new float[256];
+    private static final float[] cbToG = new float[256];
+    private static final float[] cbToB = new float[256];
+    static {
+        for (int i = 0; i < 256; i++) {
+            crToR[i] = 1.402f * (i - 128f);
+            crToG[i] = 0.71413636f * (i - 128f);
+            cbToG[i] = 0.3441363f * (i - 128f);
+            cbToB[i] = 1.772f * (i - 128f);
+        }
+    }
+
     private static byte clampTo8bit(final float a) {
         return (byte) ( a < 0f ? 0 : a > 255f ? 255 : a );
     }
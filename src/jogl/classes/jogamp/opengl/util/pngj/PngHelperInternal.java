@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.zip.CRC32;
 
 /**
@@ -218,6 +219,71 @@ public class PngHelperInternal {
 		return (r - filterPaethPredictor(left, up, upleft)) & 0xFF;
 	}
 
+	/**
+	 * Filters a whole row, element 0 of all arrays is the filter type and
+	 * is not touched. <tt>rowbprev</tt> must be zero for the first row.
+	 */
+	static void filterRow(final FilterType filterType, final byte[] rowb, final byte[] rowbprev, final byte[] rowbfilter,
+			final ImageInfo imgInfo) {
+		final int imax = imgInfo.bytesPerRow;
+		final int bpp = imgInfo.bytesPixel;
+		int i, j;
+		switch (filterType) {
+		case FILTER_NONE:
+			for (i = 1; i <= imax; i++) {
+				rowbfilter[i] = rowb[i];
+			}
+			break;
+		case FILTER_SUB:
+			for (i = 1; i <= bpp; i++)
+				rowbfilter[i] = rowb[i];
+			for (j = 1, i = bpp + 1; i <= imax; i++, j++) {
+				// !!! rowbfilter[i] = (byte) (rowb[i] - rowb[j]);
+				rowbfilter[i] = (byte) filterRowSub(rowb[i], rowb[j]);
+			}
+			break;
+		case FILTER_UP:
+			for (i = 1; i <= imax; i++) {
+				// rowbfilter[i] = (byte) (rowb[i] - rowbprev[i]); !!!
+				rowbfilter[i] = (byte) filterRowUp(rowb[i], rowbprev[i]);
+			}
+			break;
+		case FILTER_AVERAGE:
+			for (j = 1 - bpp, i = 1; i <= imax; i++, j++) {
+				rowbfilter[i] = (byte) (rowb[i] - ((rowbprev[i] & 0xFF) + (j > 0 ? (rowb[j] & 0xFF) : 0)) / 2);
+			}
+			break;
+		case FILTER_PAETH:
+			for (j = 1 - bpp, i = 1; i <= imax; i++, j++) {
+				// rowbfilter[i] = (byte) (rowb[i] - PngHelperInternal.filterPaethPredictor(j > 0 ? (rowb[j] & 0xFF) : 0,
+				// rowbprev[i] & 0xFF, j > 0 ? (rowbprev[j] & 0xFF) : 0));
+				rowbfilter[i] = (byte) filterRowPaeth(rowb[i], j > 0 ? (rowb[j] & 0xFF) : 0,
+						rowbprev[i] & 0xFF, j > 0 ? (rowbprev[j] & 0xFF) : 0);
+			}
+			break;
+		default:
+			throw new PngjUnsupportedException("Filter type " + filterType + " not implemented");
+		}
+	}
+
+	/**
+	 * Sum of absolute values of a filtered row, fills the histogram of its
+	 * bytes (cleared first). Used by {@link FilterWriteStrategy}
+	 */
+	static int filterRowStats(final byte[] rowbfilter, final int bytesPerRow, final int[] histox) {
+		Arrays.fill(histox, 0);
+		int s = 0, v;
+		for (int i = 1; i <= bytesPerRow; i++) {
+			v = rowbfilter[i];
+			if (v < 0)
+				s -= v;
+			else
+				s += v;
+			histox[v & 0xFF]++;
+		}
+		return s;
+	}
+
 	public static int unfilterRowNone(final int r) {
 		return r & 0xFF;
 	}
@@ -0,0 +1,378 @@
+package jogamp.opengl.util.pngj;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+/**
+ * Filters and compresses the IDAT stream in bands of rows concurrently, pigz
+ * style.
+ * <p>
+ * Each band is filtered with its own {@link FilterWriteStrategy} and
+ * compressed as raw deflate data by its own {@link Deflater}, primed with the
+ * last 32k of the previous band as dictionary. All but the last band end with
+ * a sync flush, i.e. on a byte boundary, hence the bands are concatenated in
+ * order into one valid zlib stream. The zlib header is written upfront, the
+ * Adler32 trailer is combined from the per-band checksums.
+ * <p>
+ * Requires <code>Deflater.deflate(byte[], int, int, int)</code> with
+ * <code>SYNC_FLUSH</code>, available since Java 7, see {@link #isAvailable()}.
+ */
+class PngParallelEncoder {
+	/** Uncompressed bytes per band, as pigz */
+	private static final int BAND_SIZE = 128 * 1024;
+	/** Deflate window size, the dictionary size */
+	private static final int DICT_SIZE = 32768;
+	/** Deflater.SYNC_FLUSH, Java 7 */
+	private static final int SYNC_FLUSH = 2;
+	private static final Method deflateFlush;
+
+	static {
+		Method m = null;
+		try {
+			m = Deflater.class.getMethod("deflate", byte[].class, int.class, int.class, int.class);
+		} catch (final NoSuchMethodException e) {
+		} catch (final SecurityException e) {
+		}
+		deflateFlush = m;
+	}
+
+	/**
+	 * Returns true if the runtime supports sync flushing deflate, required for
+	 * parallel encoding
+	 */
+	static boolean isAvailable() {
+		return null != deflateFlush;
+	}
+
+	private static final AtomicInteger threadNum = new AtomicInteger(0);
+
+	private final ImageInfo imgInfo;
+	private final ProgressiveOutputStream datStream;
+	private final int compLevel;
+	private final int deflaterStrategy;
+	private final FilterType filterType;
+	private final int rowLen; // including filter byte
+	private final int bandRows;
+	private final int maxPendingBands;
+	private final ThreadPoolExecutor executor;
+	private final ArrayDeque<Band> pending = new ArrayDeque<Band>();
+
+	private Band current = null;
+	private Band previous = null;
+	private int bandCount = 0;
+	private long adler = 1;
+	private final byte[] lastRow; // last raw row of the previous band
+	private boolean finished = false;
+
+	/**
+	 * @param threads
+	 *            number of worker threads, at least 1
+	 * @param datStream
+	 *            receives the zlib stream
+	 */
+	PngParallelEncoder(final ImageInfo imgInfo, final ProgressiveOutputStream datStream, final int threads,
+			final int compLevel, final int deflaterStrategy, final FilterType filterType) {
+		if (!isAvailable())
+			throw new PngjOutputException("parallel encoding requires Java 7 Deflater.SYNC_FLUSH");
+		this.imgInfo = imgInfo;
+		this.datStream = datStream;
+		this.compLevel = compLevel;
+		this.deflaterStrategy = deflaterStrategy;
+		this.filterType = filterType;
+		this.rowLen = imgInfo.bytesPerRow + 1;
+		this.bandRows = Math.max(1, BAND_SIZE / rowLen);
+		this.maxPendingBands = 2 * Math.max(1, threads);
+		this.lastRow = new byte[rowLen];
+		final int n = Math.max(1, threads);
+		this.executor = new ThreadPoolExecutor(n, n, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactory() {
+					@Override
+					public Thread newThread(final Runnable r) {
+						final Thread t = new Thread(r, "PngParallelEncoder-" + threadNum.getAndIncrement());
+						t.setDaemon(true);
+						return t;
+					}
+				});
+		this.executor.allowCoreThreadTimeOut(true); // writers not ended release their threads
+		writeZlibHeader();
+	}
+
+	/** Returns the number of rows per band */
+	int getBandRows() {
+		return bandRows;
+	}
+
+	private void writeZlibHeader() {
+		final int cmf = 0x78; // deflate, 32k window
+		final int flevel = compLevel < 2 ? 0 : (compLevel < 6 ? 1 : (compLevel == 6 ? 2 : 3));
+		int flg = flevel << 6;
+		flg += 31 - ((cmf << 8) + flg) % 31;
+		datStream.write(cmf);
+		datStream.write(flg);
+	}
+
+	/**
+	 * Queues the unfiltered row (element 0 is ignored), which is copied
+	 *
+	 * @param rowb
+	 *            row as prepared by PngWriter, bytesPerRow+1 bytes
+	 */
+	void addRow(final byte[] rowb) {
+		if (current == null) {
+			current = new Band(bandCount++, previous, lastRow);
+			previous = null;
+		}
+		System.arraycopy(rowb, 1, current.raw, current.rowCount * rowLen + 1, rowLen - 1);
+		current.rowCount++;
+		if (current.rowCount == bandRows)
+			submit(false);
+	}
+
+	private void submit(final boolean last) {
+		final Band b = current;
+		current = null;
+		b.last = last;
+		if (b.rowCount > 0)
+			System.arraycopy(b.raw, (b.rowCount - 1) * rowLen, lastRow, 0, rowLen);
+		previous = b;
+		pending.addLast(b);
+		try {
+			executor.execute(b);
+		} catch (final RuntimeException e) {
+			abort();
+			throw new PngjOutputException(e);
+		}
+		while (pending.size() >= maxPendingBands)
+			writeBand(pending.removeFirst());
+		while (!pending.isEmpty() && pending.peekFirst().isDone())
+			writeBand(pending.removeFirst());
+	}
+
+	private void writeBand(final Band b) {
+		final Throwable t = b.await();
+		if (t != null) {
+			abort();
+			throw t instanceof PngjException ? (PngjException) t : new PngjOutputException(t);
+		}
+		datStream.write(b.compressed, 0, b.compressedLen);
+		adler = adler32Combine(adler, b.adler, b.filteredLen);
+		b.compressed = null;
+	}
+
+	/**
+	 * Compresses the remaining rows, waits for all bands and writes the
+	 * Adler32 trailer
+	 */
+	void finish() {
+		if (finished)
+			return;
+		if (current == null) // empty last band, so that one band finishes the stream
+			current = new Band(bandCount++, previous, lastRow);
+		submit(true);
+		while (!pending.isEmpty())
+			writeBand(pending.removeFirst());
+		final byte[] trailer = new byte[4];
+		PngHelperInternal.writeInt4tobytes((int) adler, trailer, 0);
+		datStream.write(trailer, 0, 4);
+		finished = true;
+		executor.shutdown();
+	}
+
+	/** Stops all workers, pending output is discarded */
+	void abort() {
+		finished = true;
+		pending.clear();
+		executor.shutdownNow();
+	}
+
+	/** zlib's adler32_combine */
+	static long adler32Combine(final long adler1, final long adler2, final long len2) {
+		final long BASE = 65521;
+		final long rem = len2 % BASE;
+		long sum1 = adler1 & 0xffff;
+		long sum2 = (rem * sum1) % BASE;
+		sum1 += (adler2 & 0xffff) + BASE - 1;
+		sum2 += ((adler1 >>> 16) & 0xffff) + ((adler2 >>> 16) & 0xffff) + BASE - rem;
+		if (sum1 >= BASE)
+			sum1 -= BASE;
+		if (sum1 >= BASE)
+			sum1 -= BASE;
+		if (sum2 >= (BASE << 1))
+			sum2 -= (BASE << 1);
+		if (sum2 >= BASE)
+			sum2 -= BASE;
+		return sum1 | (sum2 << 16);
+	}
+
+	private static int deflate(final Deflater def, final byte[] b, final int off, final int len, final int flush) {
+		try {
+			return ((Integer) deflateFlush.invoke(def, b, off, len, flush)).intValue();
+		} catch (final IllegalAccessException e) {
+			throw new PngjOutputException(e);
+		} catch (final InvocationTargetException e) {
+			throw new PngjOutputException(e.getCause());
+		}
+	}
+
+	/** A band of rows, filtered and compressed by a worker */
+	private final class Band implements Runnable {
+		final int index;
+		byte[] raw; // rows including (unused) filter byte, released after filtering
+		final byte[] prevRow; // raw row preceding this band, zeros for the first band
+		int rowCount = 0;
+		boolean last;
+		/** previous band, source of the dictionary, released after use */
+		Band previous;
+		byte[] filtered;
+		int filteredLen;
+		byte[] compressed;
+		int compressedLen;
+		long adler;
+		private boolean filterDone = false;
+		private boolean done = false;
+		private Throwable error = null;
+
+		Band(final int index, final Band previous, final byte[] prevRow) {
+			this.index = index;
+			this.previous = previous;
+			this.raw = new byte[bandRows * rowLen];
+			this.prevRow = prevRow.clone();
+		}
+
+		@Override
+		public void run() {
+			try {
+				filter();
+				compress();
+				setDone(null);
+			} catch (final Throwable t) {
+				setDone(t);
+			}
+		}
+
+		private void filter() {
+			final FilterWriteStrategy strat = new FilterWriteStrategy(imgInfo, filterType);
+			final int[] histox = new int[256];
+			final int firstRow = index * bandRows;
+			byte[] rowb = new byte[rowLen];
+			byte[] rowbprev = prevRow;
+			filtered = new byte[rowCount * rowLen];
+			final byte[] rowbfilter = new byte[rowLen];
+			for (int r = 0; r < rowCount; r++) {
+				final int rown = firstRow + r;
+				System.arraycopy(raw, r * rowLen, rowb, 0, rowLen);
+				if (strat.shouldTestAll(rown)) {
+					for (int f = 0; f < 5; f++) {
+						final FilterType ft = FilterType.getByVal(f);
+						PngHelperInternal.filterRow(ft, rowb, rowbprev, rowbfilter, imgInfo);
+						strat.fillResultsForFilter(rown, ft,
+								PngHelperInternal.filterRowStats(rowbfilter, imgInfo.bytesPerRow, histox), histox, true);
+					}
+				}
+				final FilterType ft = strat.gimmeFilterType(rown, true);
+				rowbfilter[0] = (byte) ft.val;
+				PngHelperInternal.filterRow(ft, rowb, rowbprev, rowbfilter, imgInfo);
+				strat.fillResultsForFilter(rown, ft,
+						PngHelperInternal.filterRowStats(rowbfilter, imgInfo.bytesPerRow, histox), histox, false);
+				System.arraycopy(rowbfilter, 0, filtered, r * rowLen, rowLen);
+				// swap, prevRow is our own copy
+				final byte[] tmp = rowb;
+				rowb = rowbprev;
+				rowbprev = tmp;
+			}
+			raw = null;
+			filteredLen = rowCount * rowLen;
+			final Adler32 a = new Adler32();
+			a.update(filtered, 0, filteredLen);
+			adler = a.getValue();
+			synchronized (this) {
+				filterDone = true;
+				notifyAll();
+			}
+		}
+
+		private void compress() throws InterruptedException {
+			final Deflater def = new Deflater(compLevel, true);
+			try {
+				def.setStrategy(deflaterStrategy);
+				final Band p = previous;
+				previous = null;
+				if (p != null) {
+					// The previous band's task has been started before this one and
+					// does not wait during filtering, hence no deadlock.
+					p.awaitFiltered();
+					final int dictLen = Math.min(DICT_SIZE, p.filteredLen);
+					def.setDictionary(p.filtered, p.filteredLen - dictLen, dictLen);
+				}
+				def.setInput(filtered, 0, filteredLen);
+				byte[] out = new byte[Math.max(1024, filteredLen / 2)];
+				int len = 0;
+				if (last) {
+					def.finish();
+					while (!def.finished()) {
+						if (len == out.length)
+							out = grow(out);
+						len += def.deflate(out, len, out.length - len);
+					}
+				} else {
+					while (true) {
+						if (len == out.length)
+							out = grow(out);
+						final int avail = out.length - len;
+						final int n = deflate(def, out, len, avail, SYNC_FLUSH);
+						len += n;
+						// a pending strategy change returns early, keeping input
+						if (n < avail && def.needsInput())
+							break;
+					}
+				}
+				compressed = out;
+				compressedLen = len;
+			} finally {
+				def.end();
+			}
+		}
+
+		private byte[] grow(final byte[] b) {
+			final byte[] n = new byte[b.length * 2];
+			System.arraycopy(b, 0, n, 0, b.length);
+			return n;
+		}
+
+		synchronized void awaitFiltered() throws InterruptedException {
+			while (!filterDone && !done)
+				wait();
+			if (!filterDone)
+				throw new PngjOutputException("previous band failed", error);
+		}
+
+		private synchronized void setDone(final Throwable t) {
+			error = t;
+			done = true;
+			notifyAll();
+		}
+
+		synchronized boolean isDone() {
+			return done;
+		}
+
+		/** Waits until done, returns the error or null */
+		synchronized Throwable await() {
+			try {
+				while (!done)
+					wait();
+			} catch (final InterruptedException e) {
+				return e;
+			}
+			return error;
+		}
+	}
+}
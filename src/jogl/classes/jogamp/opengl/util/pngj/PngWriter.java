@@ -2,7 +2,6 @@ package jogamp.opengl.util.pngj;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.Arrays;
 import java.util.List;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
@@ -59,6 +58,10 @@ public class PngWriter {
 
 	private DeflaterOutputStream datStreamDeflated;
 
+	private int parallelThreads = 0; // <= 1: sequential
+
+	private PngParallelEncoder parallelEncoder;
+
 	/**
 	 * Deflate algortithm compression strategy
 	 */
@@ -111,24 +114,20 @@ public class PngWriter {
 
 	private void init() {
 		datStream = new PngIDatChunkOutputStream(this.os, idatMaxSize);
-		final Deflater def = new Deflater(compLevel);
-		def.setStrategy(deflaterStrategy);
-		datStreamDeflated = new DeflaterOutputStream(datStream, def);
 		writeSignatureAndIHDR();
 		writeFirstChunks();
+		if (parallelThreads > 1 && PngParallelEncoder.isAvailable()) {
+			parallelEncoder = new PngParallelEncoder(imgInfo, datStream, parallelThreads, compLevel, deflaterStrategy,
+					filterStrat.configuredType);
+		} else {
+			final Deflater def = new Deflater(compLevel);
+			def.setStrategy(deflaterStrategy);
+			datStreamDeflated = new DeflaterOutputStream(datStream, def);
+		}
 	}
 
 	private void reportResultsForFilter(final int rown, final FilterType type, final boolean tentative) {
-		Arrays.fill(histox, 0);
-		int s = 0, v;
-		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
-			v = rowbfilter[i];
-			if (v < 0)
-				s -= v;
-			else
-				s += v;
-			histox[v & 0xFF]++;
-		}
+		final int s = PngHelperInternal.filterRowStats(rowbfilter, imgInfo.bytesPerRow, histox);
 		filterStrat.fillResultsForFilter(rown, type, s, histox, tentative);
 	}
 
@@ -305,6 +304,10 @@ public class PngWriter {
 	}
 
 	private void filterAndSend(final int rown) {
+		if (parallelEncoder != null) {
+			parallelEncoder.addRow(rowb); // filtered by the encoder
+			return;
+		}
 		filterRow(rown);
 		try {
 			datStreamDeflated.write(rowbfilter, 0, imgInfo.bytesPerRow + 1);
@@ -314,45 +317,23 @@ public class PngWriter {
 	}
 
 	protected void filterRowAverage() {
-		int i, j, imax;
-		imax = imgInfo.bytesPerRow;
-		for (j = 1 - imgInfo.bytesPixel, i = 1; i <= imax; i++, j++) {
-			rowbfilter[i] = (byte) (rowb[i] - ((rowbprev[i] & 0xFF) + (j > 0 ? (rowb[j] & 0xFF) : 0)) / 2);
-		}
+		PngHelperInternal.filterRow(FilterType.FILTER_AVERAGE, rowb, rowbprev, rowbfilter, imgInfo);
 	}
 
 	protected void filterRowNone() {
-		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
-			rowbfilter[i] = rowb[i];
-		}
+		PngHelperInternal.filterRow(FilterType.FILTER_NONE, rowb, rowbprev, rowbfilter, imgInfo);
 	}
 
 	protected void filterRowPaeth() {
-		int i, j, imax;
-		imax = imgInfo.bytesPerRow;
-		for (j = 1 - imgInfo.bytesPixel, i = 1; i <= imax; i++, j++) {
-			// rowbfilter[i] = (byte) (rowb[i] - PngHelperInternal.filterPaethPredictor(j > 0 ? (rowb[j] & 0xFF) : 0,
-			// rowbprev[i] & 0xFF, j > 0 ? (rowbprev[j] & 0xFF) : 0));
-			rowbfilter[i] = (byte) PngHelperInternal.filterRowPaeth(rowb[i], j > 0 ? (rowb[j] & 0xFF) : 0,
-					rowbprev[i] & 0xFF, j > 0 ? (rowbprev[j] & 0xFF) : 0);
-		}
+		PngHelperInternal.filterRow(FilterType.FILTER_PAETH, rowb, rowbprev, rowbfilter, imgInfo);
 	}
 
 	protected void filterRowSub() {
-		int i, j;
-		for (i = 1; i <= imgInfo.bytesPixel; i++)
-			rowbfilter[i] = rowb[i];
-		for (j = 1, i = imgInfo.bytesPixel + 1; i <= imgInfo.bytesPerRow; i++, j++) {
-			// !!! rowbfilter[i] = (byte) (rowb[i] - rowb[j]);
-			rowbfilter[i] = (byte) PngHelperInternal.filterRowSub(rowb[i], rowb[j]);
-		}
+		PngHelperInternal.filterRow(FilterType.FILTER_SUB, rowb, rowbprev, rowbfilter, imgInfo);
 	}
 
 	protected void filterRowUp() {
-		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
-			// rowbfilter[i] = (byte) (rowb[i] - rowbprev[i]); !!!
-			rowbfilter[i] = (byte) PngHelperInternal.filterRowUp(rowb[i], rowbprev[i]);
-		}
+		PngHelperInternal.filterRow(FilterType.FILTER_UP, rowb, rowbprev, rowbfilter, imgInfo);
 	}
 
 	protected int sumRowbfilter() { // sums absolute value
@@ -474,7 +455,10 @@ public class PngWriter {
 		if (rowNum != imgInfo.rows - 1)
 			throw new PngjOutputException("all rows have not been written");
 		try {
-			datStreamDeflated.finish();
+			if (parallelEncoder != null)
+				parallelEncoder.finish();
+			else
+				datStreamDeflated.finish();
 			datStream.flush();
 			writeLastChunks();
 			writeEndChunk();
@@ -522,6 +506,33 @@ public class PngWriter {
 		this.compLevel = compLevel;
 	}
 
+	/**
+	 * Enables parallel encoding with the given number of threads, if
+	 * {@link #isParallelEncodingAvailable() available}.
+	 * <p>
+	 * Row bands are filtered and compressed concurrently into independent
+	 * deflate blocks, concatenated into one zlib stream. Adaptive filter
+	 * strategies operate per band.
+	 * <p>
+	 * This must be called just after constructor, before starting writing.
+	 *
+	 * @param threads
+	 *            number of threads, 0 or 1 (default) for sequential encoding
+	 */
+	public void setParallelEncoding(final int threads) {
+		if (threads < 0)
+			throw new PngjOutputException("Thread count invalid (" + threads + ")");
+		this.parallelThreads = threads;
+	}
+
+	/**
+	 * Returns true if {@link #setParallelEncoding(int) parallel encoding} is
+	 * supported by the runtime, i.e. Java 7 or later.
+	 */
+	public static boolean isParallelEncodingAvailable() {
+		return PngParallelEncoder.isAvailable();
+	}
+
 	/**
 	 * Sets internal prediction filter type, or strategy to choose it.
 	 * <p>
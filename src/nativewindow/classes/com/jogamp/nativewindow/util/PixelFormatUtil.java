@@ -29,10 +29,15 @@ package com.jogamp.nativewindow.util;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+import jogamp.nativewindow.ParallelBands;
 
 import com.jogamp.common.nio.Buffers;
 import com.jogamp.common.util.Bitstream;
+import com.jogamp.common.util.InterruptedRuntimeException;
 
 /**
  * Pixel Rectangle Utilities.
@@ -353,6 +358,17 @@ public class PixelFormatUtil {
     public static PixelRectangle convert(final PixelRectangle src,
                                          final PixelFormat destFmt, final int ddestStride, final boolean isGLOriented,
                                          final boolean destIsDirect) {
+        return convert(src, destFmt, ddestStride, isGLOriented, destIsDirect, null, 1);
+    }
+
+    /**
+     * Returns a new {@link PixelRectangle} holding the converted {@code src},
+     * see {@link #convert(int, int, ByteBuffer, PixelFormat, boolean, int, ByteBuffer, PixelFormat, boolean, int, Executor, int)}
+     * for the parallel operation using given {@code executor} and {@code bandCount}.
+     */
+    public static PixelRectangle convert(final PixelRectangle src,
+                                         final PixelFormat destFmt, final int ddestStride, final boolean isGLOriented,
+                                         final boolean destIsDirect, final Executor executor, final int bandCount) {
         final int width = src.getSize().getWidth();
         final int height = src.getSize().getHeight();
         final int bpp = destFmt.comp.bytesPerPixel();
@@ -364,7 +380,7 @@ public class PixelFormatUtil {
         }
         final int capacity = destStride*height;
         final ByteBuffer destBB = destIsDirect ? Buffers.newDirectByteBuffer(capacity) : ByteBuffer.allocate(capacity).order(src.getPixels().order());
-        convert(src, destBB, destFmt, isGLOriented, destStride);
+        convert(src, destBB, destFmt, isGLOriented, destStride, executor, bandCount);
         return new PixelRectangle.GenericPixelRect(destFmt, src.getSize(), destStride, isGLOriented, destBB);
     }
 
@@ -384,10 +400,36 @@ public class PixelFormatUtil {
     public static void convert(final PixelRectangle src,
                                final ByteBuffer dst_bb, final PixelFormat dst_fmt, final boolean dst_glOriented, final int dst_lineStride)
            throws IllegalStateException
+    {
+        convert(src, dst_bb, dst_fmt, dst_glOriented, dst_lineStride, null, 1);
+    }
+
+    /**
+     * Parallel variant of {@link #convert(PixelRectangle, ByteBuffer, PixelFormat, boolean, int)},
+     * see {@link #convert(int, int, ByteBuffer, PixelFormat, boolean, int, ByteBuffer, PixelFormat, boolean, int, Executor, int)}.
+     *
+     * @param src
+     * @param dst_bb  {@link ByteBuffer} sink
+     * @param dst_fmt destination {@link PixelFormat}
+     * @param dst_glOriented if true, the source memory is laid out in OpenGL's coordinate system, <i>origin at bottom left</i>,
+     *                       otherwise <i>origin at top left</i>.
+     * @param dst_lineStride line stride in byte-size for destination, i.e. byte count from one line to the next.
+     *                       Must be >= {@link PixelFormat.Composition#bytesPerPixel() dst_fmt.comp.bytesPerPixel()} * width
+     *                       or {@code zero} for default stride.
+     * @param executor {@link Executor} running the row bands, if {@code null} the conversion is performed on the current thread.
+     * @param bandCount maximum number of row bands, if {@code zero} the number of available processors is used.
+     *
+     * @throws IllegalStateException
+     * @throws IllegalArgumentException if {@code src_lineStride} or {@code dst_lineStride} is invalid
+     */
+    public static void convert(final PixelRectangle src,
+                               final ByteBuffer dst_bb, final PixelFormat dst_fmt, final boolean dst_glOriented, final int dst_lineStride,
+                               final Executor executor, final int bandCount)
+           throws IllegalStateException
     {
         convert(src.getSize().getWidth(), src.getSize().getHeight(),
                 src.getPixels(), src.getPixelformat(), src.isGLOriented(), src.getStride(),
-                dst_bb, dst_fmt, dst_glOriented, dst_lineStride);
+                dst_bb, dst_fmt, dst_glOriented, dst_lineStride, executor, bandCount);
     }
 
 
@@ -413,9 +455,52 @@ public class PixelFormatUtil {
      * @throws IllegalArgumentException if {@code src_lineStride} or {@code dst_lineStride} is invalid
      */
     public static void convert(final int width, final int height,
-                               final ByteBuffer src_bb, final PixelFormat src_fmt, final boolean src_glOriented, int src_lineStride,
-                               final ByteBuffer dst_bb, final PixelFormat dst_fmt, final boolean dst_glOriented, int dst_lineStride
+                               final ByteBuffer src_bb, final PixelFormat src_fmt, final boolean src_glOriented, final int src_lineStride,
+                               final ByteBuffer dst_bb, final PixelFormat dst_fmt, final boolean dst_glOriented, final int dst_lineStride
                               ) throws IllegalStateException, IllegalArgumentException {
+        convert(width, height, src_bb, src_fmt, src_glOriented, src_lineStride, dst_bb, dst_fmt, dst_glOriented, dst_lineStride, null, 1);
+    }
+
+    /**
+     * Parallel variant of {@link #convert(int, int, ByteBuffer, PixelFormat, boolean, int, ByteBuffer, PixelFormat, boolean, int)}.
+     * <p>
+     * The pixel rectangle is split into up to {@code bandCount} bands of consecutive destination rows,
+     * each converted by a task issued to the given {@code executor}, while the last band is converted on the current thread.
+     * This method returns after all bands have been converted.
+     * </p>
+     * <p>
+     * Line strides and vertical flipping are handled per row, hence the result is byte-identical
+     * to the serial conversion. Compositions requiring the generic {@link Bitstream} path are converted serially.
+     * </p>
+     * @param width width of the to be converted pixel rectangle
+     * @param height height of the to be converted pixel rectangle
+     * @param src_bb  {@link ByteBuffer} source
+     * @param src_fmt source {@link PixelFormat}
+     * @param src_glOriented if true, the source memory is laid out in OpenGL's coordinate system, <i>origin at bottom left</i>,
+     *                       otherwise <i>origin at top left</i>.
+     * @param src_lineStride line stride in byte-size for source, i.e. byte count from one line to the next.
+     *                       Must be >= {@link PixelFormat.Composition#bytesPerPixel() src_fmt.comp.bytesPerPixel()} * width
+     *                       or {@code zero} for default stride.
+     * @param dst_bb  {@link ByteBuffer} sink
+     * @param dst_fmt destination {@link PixelFormat}
+     * @param dst_glOriented if true, the source memory is laid out in OpenGL's coordinate system, <i>origin at bottom left</i>,
+     *                       otherwise <i>origin at top left</i>.
+     * @param dst_lineStride line stride in byte-size for destination, i.e. byte count from one line to the next.
+     *                       Must be >= {@link PixelFormat.Composition#bytesPerPixel() dst_fmt.comp.bytesPerPixel()} * width
+     *                       or {@code zero} for default stride.
+     * @param executor {@link Executor} running the row bands, if {@code null} the conversion is performed on the current thread.
+     *                 Bands rejected by the executor are converted on the current thread.
+     * @param bandCount maximum number of row bands, if {@code zero} the number of available processors is used.
+     *
+     * @throws IllegalStateException
+     * @throws IllegalArgumentException if {@code src_lineStride} or {@code dst_lineStride} is invalid
+     * @throws InterruptedRuntimeException if interrupted while waiting for the row bands, thrown after all bands have completed
+     */
+    public static void convert(final int width, final int height,
+                               final ByteBuffer src_bb, final PixelFormat src_fmt, final boolean src_glOriented, int src_lineStride,
+                               final ByteBuffer dst_bb, final PixelFormat dst_fmt, final boolean dst_glOriented, int dst_lineStride,
+                               final Executor executor, final int bandCount
+                              ) throws IllegalStateException, IllegalArgumentException, InterruptedRuntimeException {
         final PixelFormat.Composition src_comp = src_fmt.comp;
         final PixelFormat.Composition dst_comp = dst_fmt.comp;
         final int src_bpp = src_comp.bytesPerPixel();
@@ -442,34 +527,24 @@ public class PixelFormatUtil {
         final int dst_comp_bitStride = dst_comp.bitStride();
         final boolean vert_flip = src_glOriented != dst_glOriented;
         final boolean fast_copy = src_comp.equals(dst_comp) && 0 == dst_comp_bitStride%8;
+        final RowConverter rowConverter = fast_copy ? null : getRowConverter(src_fmt, dst_fmt);
         if( DEBUG ) {
-            System.err.println("XXX: size "+width+"x"+height+", fast_copy "+fast_copy);
+            System.err.println("XXX: size "+width+"x"+height+", fast_copy "+fast_copy+", rowConverter "+rowConverter);
             System.err.println("XXX: SRC fmt "+src_fmt+", "+src_comp+", stride "+src_lineStride+", isGLOrient "+src_glOriented);
             System.err.println("XXX: DST fmt "+dst_fmt+", "+dst_comp+", stride "+dst_lineStride+", isGLOrient "+dst_glOriented);
         }
 
-        if( fast_copy ) {
-            // Fast copy
-            for(int y=0; y<height; y++) {
-                int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride : y * src_lineStride;
-                int dst_off = dst_lineStride*y;
-                for(int x=0; x<width; x++) {
-                    dst_bb.put(dst_off+0, src_bb.get(src_off+0)); // 1
-                    if( 2 <= dst_bpp ) {
-                        dst_bb.put(dst_off+1, src_bb.get(src_off+1)); // 2
-                        if( 3 <= dst_bpp ) {
-                            dst_bb.put(dst_off+2, src_bb.get(src_off+2)); // 3
-                            if( 4 <= dst_bpp ) {
-                                dst_bb.put(dst_off+3, src_bb.get(src_off+3)); // 4
-                            }
-                        }
-                    }
-                    src_off += src_bpp;
-                    dst_off += dst_bpp;
-                }
+        if( fast_copy || null != rowConverter ) {
+            final int bands = ParallelBands.getBandCount(executor, bandCount, height, MIN_BAND_ROWS);
+            if( 1 >= bands ) {
+                convertRows(0, height, width, height,
+                            src_bb, src_lineStride, dst_bb, dst_lineStride, dst_bpp, vert_flip, rowConverter);
+            } else {
+                convertRowsParallel(executor, bands, width, height,
+                                    src_bb, src_lineStride, dst_bb, dst_lineStride, dst_bpp, vert_flip, rowConverter);
             }
         } else {
-            // Conversion
+            // Generic conversion via Bitstream, used for exotic compositions only
             final ComponentMap cmap = new ComponentMap(src_fmt.comp, dst_fmt.comp);
 
             final Bitstream.ByteBufferStream srcBBS = new Bitstream.ByteBufferStream(src_bb);
@@ -508,6 +583,53 @@ public class PixelFormatUtil {
         }
     }
 
+    /** Minimum number of rows per band for parallel conversion. */
+    private static final int MIN_BAND_ROWS = 16;
+
+    /**
+     * Converts destination rows [{@code y0}..{@code y1}) via bulk row copy if {@code rowConverter} is {@code null},
+     * otherwise via the given {@link RowConverter}.
+     */
+    private static void convertRows(final int y0, final int y1, final int width, final int height,
+                                    final ByteBuffer src_bb, final int src_lineStride,
+                                    final ByteBuffer dst_bb, final int dst_lineStride, final int dst_bpp,
+                                    final boolean vert_flip, final RowConverter rowConverter) {
+        if( null == rowConverter ) {
+            // Fast copy, bulk row-wise
+            final int rowBytes = dst_bpp * width;
+            final ByteBuffer src_row = src_bb.duplicate();
+            final ByteBuffer dst_row = dst_bb.duplicate();
+            for(int y=y0; y<y1; y++) {
+                final int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride : y * src_lineStride;
+                final int dst_off = dst_lineStride*y;
+                src_row.limit(src_off + rowBytes).position(src_off);
+                dst_row.limit(dst_off + rowBytes).position(dst_off);
+                dst_row.put(src_row);
+            }
+        } else {
+            // Specialized conversion, row-wise
+            final ByteBuffer src_le = src_bb.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            final ByteBuffer dst_le = dst_bb.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            for(int y=y0; y<y1; y++) {
+                final int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride : y * src_lineStride;
+                rowConverter.convertRow(src_le, src_off, dst_le, dst_lineStride*y, width);
+            }
+        }
+    }
+
+    private static void convertRowsParallel(final Executor executor, final int bands, final int width, final int height,
+                                            final ByteBuffer src_bb, final int src_lineStride,
+                                            final ByteBuffer dst_bb, final int dst_lineStride, final int dst_bpp,
+                                            final boolean vert_flip, final RowConverter rowConverter) {
+        ParallelBands.run(executor, bands, new ParallelBands.Band() {
+            @Override
+            public void run(final int band) {
+                final int y0 = (int) ( (long)height *  band    / bands );
+                final int y1 = (int) ( (long)height * (band+1) / bands );
+                convertRows(y0, y1, width, height, src_bb, src_lineStride, dst_bb, dst_lineStride, dst_bpp, vert_flip, rowConverter);
+            } } );
+    }
+
     public static void convert(final ComponentMap cmap,
                                final PixelFormat.Composition dstComp,
                                final Bitstream<ByteBuffer> dstBitStream,
@@ -596,5 +718,311 @@ public class PixelFormatUtil {
         dstBitStream.skip(dstComp.bitStride() - dstComp.bitsPerPixel());
         return;
     }
-}
 
+    /**
+     * Specialized converter of one pixel row between two {@link PixelFormat}s,
+     * used by {@link PixelFormatUtil#convert(int, int, ByteBuffer, PixelFormat, boolean, int, ByteBuffer, PixelFormat, boolean, int) convert(..)}
+     * instead of the generic {@link Bitstream} path.
+     * <p>
+     * Pixels are read and written as little-endian integers of up to 4 bytes,
+     * hence given buffers must be {@link ByteOrder#LITTLE_ENDIAN little-endian} views.
+     * Padding bits of the destination pixel, i.e. {@link PixelFormat.Composition#bitStride()} - {@link PixelFormat.Composition#bitsPerPixel()},
+     * are left untouched as with the {@link Bitstream} path.
+     * </p>
+     * <p>
+     * Results are identical to the {@link Bitstream} path, since all component conversions
+     * are derived from {@link PixelFormat.Composition#toFloat(int, int, boolean)}
+     * and {@link PixelFormat.Composition#fromFloat(float, int, boolean)}.
+     * </p>
+     */
+    static abstract class RowConverter {
+        /** Source bytes to read and source byte stride per pixel */
+        final int srcBytes, srcBpp;
+        /** Destination bytes to write and destination byte stride per pixel */
+        final int dstBytes, dstBpp;
+
+        RowConverter(final PixelFormat.Composition srcComp, final PixelFormat.Composition dstComp) {
+            srcBytes = srcComp.bitsPerPixel() / 8;
+            srcBpp = srcComp.bytesPerPixel();
+            dstBytes = dstComp.bitsPerPixel() / 8;
+            dstBpp = dstComp.bytesPerPixel();
+        }
+
+        /**
+         * Converts {@code width} pixels from {@code src} at byte offset {@code srcOff}
+         * to {@code dst} at byte offset {@code dstOff}.
+         * @param src little-endian source view
+         * @param srcOff absolute byte offset of the first source pixel
+         * @param dst little-endian destination view
+         * @param dstOff absolute byte offset of the first destination pixel
+         * @param width number of pixels
+         */
+        abstract void convertRow(final ByteBuffer src, int srcOff, final ByteBuffer dst, int dstOff, final int width);
+
+        static final int getPixel(final ByteBuffer bb, final int off, final int bytes) {
+            switch( bytes ) {
+                case 4:  return bb.getInt(off);
+                case 3:  return ( 0xffff & bb.getShort(off) ) | ( 0xff & bb.get(off+2) ) << 16;
+                case 2:  return   0xffff & bb.getShort(off);
+                default: return   0xff   & bb.get(off);
+            }
+        }
+        static final void putPixel(final ByteBuffer bb, final int off, final int bytes, final int v) {
+            switch( bytes ) {
+                case 4:  bb.putInt(off, v); break;
+                case 3:  bb.putShort(off, (short)v); bb.put(off+2, (byte)( v >>> 16 )); break;
+                case 2:  bb.putShort(off, (short)v); break;
+                default: bb.put(off, (byte)v); break;
+            }
+        }
+        @Override
+        public String toString() {
+            return getClass().getSimpleName()+"[src "+srcBytes+"/"+srcBpp+", dst "+dstBytes+"/"+dstBpp+"]";
+        }
+    }
+
+    /**
+     * Moves 8 bit components between uniform 8 bit compositions
+     * using int-wide shifts, i.e. a pure swizzle w/o value conversion.
+     * Unmapped destination components are set to their {@link PixelFormat.Composition#defaultValue(int, boolean) default value}.
+     */
+    static final class Swizzle8RowConverter extends RowConverter {
+        /** Source bit-shift per destination component, -1 if unmapped */
+        final int s0, s1, s2, s3;
+        /** Shifted default value of all unmapped destination components */
+        final int dstDefault;
+
+        Swizzle8RowConverter(final ComponentMap cmap, final PixelFormat.Composition dstComp, final PixelFormat.Composition srcComp) {
+            super(srcComp, dstComp);
+            final int dCompCount = dstComp.componentCount();
+            final int[] s = { -1, -1, -1, -1 };
+            int def = 0;
+            for(int dIdx=0; dIdx<dCompCount; dIdx++) {
+                final int sIdx = cmap.dst2src[dIdx];
+                if( 0 <= sIdx ) {
+                    s[dIdx] = 8 * sIdx;
+                } else {
+                    def |= dstComp.defaultValue(dIdx, false) << ( 8 * dIdx );
+                }
+            }
+            s0 = s[0]; s1 = s[1]; s2 = s[2]; s3 = s[3];
+            dstDefault = def;
+        }
+        private final int swizzle(final int p) {
+            int v = dstDefault;
+            if( 0 <= s0 ) { v |=   ( p >>> s0 ) & 0xff;         }
+            if( 0 <= s1 ) { v |= ( ( p >>> s1 ) & 0xff ) <<  8; }
+            if( 0 <= s2 ) { v |= ( ( p >>> s2 ) & 0xff ) << 16; }
+            if( 0 <= s3 ) { v |= ( ( p >>> s3 ) & 0xff ) << 24; }
+            return v;
+        }
+        @Override
+        void convertRow(final ByteBuffer src, int srcOff, final ByteBuffer dst, int dstOff, final int width) {
+            if( 4 == srcBytes && 4 == dstBytes ) {
+                for(int x=0; x<width; x++) {
+                    dst.putInt(dstOff, swizzle(src.getInt(srcOff)));
+                    srcOff += srcBpp;
+                    dstOff += dstBpp;
+                }
+            } else {
+                for(int x=0; x<width; x++) {
+                    putPixel(dst, dstOff, dstBytes, swizzle(getPixel(src, srcOff, srcBytes)));
+                    srcOff += srcBpp;
+                    dstOff += dstBpp;
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts between arbitrary packed compositions of up to 4 bytes per pixel
+     * using precomputed per component lookup tables, e.g. {@link PixelFormat#RGB565} to {@link PixelFormat#RGBA8888}.
+     */
+    static final class LookupRowConverter extends RowConverter {
+        final int dCompCount;
+        /** Source bit-shift and bit-mask per destination component */
+        final int[] srcShift, srcMask;
+        /** Shifted destination value per destination component indexed by source component value, {@code null} if unmapped */
+        final int[][] lut;
+        /** Shifted default value of all unmapped destination components */
+        final int dstDefault;
+
+        LookupRowConverter(final ComponentMap cmap, final PixelFormat.Composition dstComp, final PixelFormat.Composition srcComp) {
+            super(srcComp, dstComp);
+            final int[] srcCompBitMask = srcComp.componentBitMask();
+            final int[] dstCompBitMask = dstComp.componentBitMask();
+            final int[] srcPos = bitPositions(srcComp.componentBitCount());
+            final int[] dstPos = bitPositions(dstComp.componentBitCount());
+            dCompCount = dstComp.componentCount();
+            srcShift = new int[dCompCount];
+            srcMask = new int[dCompCount];
+            lut = new int[dCompCount][];
+            int def = 0;
+            for(int dIdx=0; dIdx<dCompCount; dIdx++) {
+                final int sIdx = cmap.dst2src[dIdx];
+                if( 0 <= sIdx ) {
+                    final int sMask = srcCompBitMask[sIdx];
+                    final int[] l = new int[sMask+1];
+                    for(int v=0; v<=sMask; v++) {
+                        final float f = srcComp.toFloat(v, sIdx, false);
+                        l[v] = ( dstComp.fromFloat(f, dIdx, false) & dstCompBitMask[dIdx] ) << dstPos[dIdx];
+                    }
+                    srcShift[dIdx] = srcPos[sIdx];
+                    srcMask[dIdx] = sMask;
+                    lut[dIdx] = l;
+                } else {
+                    def |= ( dstComp.defaultValue(dIdx, false) & dstCompBitMask[dIdx] ) << dstPos[dIdx];
+                }
+            }
+            dstDefault = def;
+        }
+        @Override
+        void convertRow(final ByteBuffer src, int srcOff, final ByteBuffer dst, int dstOff, final int width) {
+            for(int x=0; x<width; x++) {
+                final int p = getPixel(src, srcOff, srcBytes);
+                int v = dstDefault;
+                for(int dIdx=0; dIdx<dCompCount; dIdx++) {
+                    final int[] l = lut[dIdx];
+                    if( null != l ) {
+                        v |= l[ ( p >>> srcShift[dIdx] ) & srcMask[dIdx] ];
+                    }
+                }
+                putPixel(dst, dstOff, dstBytes, v);
+                srcOff += srcBpp;
+                dstOff += dstBpp;
+            }
+        }
+    }
+
+    /**
+     * Converts RGB[A] compositions to a single {@link PixelFormat.CType#Y} component
+     * using the same float computation as the {@link Bitstream} path.
+     */
+    static final class LuminanceRowConverter extends RowConverter {
+        final int rShift, gShift, bShift;
+        final int rMask, gMask, bMask;
+        /** Normalized float value per source component value */
+        final float[] rF, gF, bF;
+        final int yMask;
+        final float yMaskF;
+
+        LuminanceRowConverter(final ComponentMap cmap, final PixelFormat.Composition dstComp, final PixelFormat.Composition srcComp) {
+            super(srcComp, dstComp);
+            final int[] srcCompBitMask = srcComp.componentBitMask();
+            final int[] srcPos = bitPositions(srcComp.componentBitCount());
+            final int rIdx = cmap.srcRGBA[0], gIdx = cmap.srcRGBA[1], bIdx = cmap.srcRGBA[2];
+            rShift = srcPos[rIdx]; rMask = srcCompBitMask[rIdx]; rF = toFloatTable(srcComp, rIdx);
+            gShift = srcPos[gIdx]; gMask = srcCompBitMask[gIdx]; gF = toFloatTable(srcComp, gIdx);
+            bShift = srcPos[bIdx]; bMask = srcCompBitMask[bIdx]; bF = toFloatTable(srcComp, bIdx);
+            yMask = dstComp.componentBitMask()[0];
+            yMaskF = yMask;
+        }
+        private static float[] toFloatTable(final PixelFormat.Composition comp, final int cIdx) {
+            final int mask = comp.componentBitMask()[cIdx];
+            final float[] t = new float[mask+1];
+            for(int v=0; v<=mask; v++) {
+                t[v] = comp.toFloat(v, cIdx, false);
+            }
+            return t;
+        }
+        @Override
+        void convertRow(final ByteBuffer src, int srcOff, final ByteBuffer dst, int dstOff, final int width) {
+            for(int x=0; x<width; x++) {
+                final int p = getPixel(src, srcOff, srcBytes);
+                // premultiplied-alpha disabled, see Bitstream path
+                final float lF = ( rF[ ( p >>> rShift ) & rMask ] +
+                                   gF[ ( p >>> gShift ) & gMask ] +
+                                   bF[ ( p >>> bShift ) & bMask ] ) / 3f;
+                putPixel(dst, dstOff, dstBytes, yMask & (int)( lF * yMaskF + 0.5f ));
+                srcOff += srcBpp;
+                dstOff += dstBpp;
+            }
+        }
+    }
+
+    /** Returns the bit position of each component within the pixel as laid out by the {@link Bitstream} path. */
+    private static int[] bitPositions(final int[] compBitCount) {
+        final int[] pos = new int[compBitCount.length];
+        for(int i=1; i<compBitCount.length; i++) {
+            pos[i] = pos[i-1] + compBitCount[i-1];
+        }
+        return pos;
+    }
+
+    private static final int FMT_COUNT = PixelFormat.values().length;
+    /** Lazily populated {@link RowConverter} table indexed by {@code src.ordinal() * FMT_COUNT + dst.ordinal()}. */
+    private static final RowConverter[] rowConverters = new RowConverter[FMT_COUNT*FMT_COUNT];
+    /** Marks {@link #rowConverters} entries w/o specialized {@link RowConverter}, i.e. requiring the {@link Bitstream} path. */
+    private static final boolean[] rowConvertersNone = new boolean[FMT_COUNT*FMT_COUNT];
+
+    /**
+     * Returns the cached specialized {@link RowConverter} for the given pair of {@link PixelFormat}s,
+     * or {@code null} if the {@link Bitstream} path is required.
+     */
+    static RowConverter getRowConverter(final PixelFormat src_fmt, final PixelFormat dst_fmt) {
+        final int idx = src_fmt.ordinal() * FMT_COUNT + dst_fmt.ordinal();
+        synchronized( rowConverters ) {
+            RowConverter rc = rowConverters[idx];
+            if( null == rc && !rowConvertersNone[idx] ) {
+                rc = createRowConverter(src_fmt.comp, dst_fmt.comp);
+                rowConverters[idx] = rc;
+                rowConvertersNone[idx] = null == rc;
+            }
+            return rc;
+        }
+    }
+
+    private static boolean isRowConvertible(final PixelFormat.Composition comp) {
+        if( !comp.isInterleaved() || 4 < comp.bytesPerPixel() ||
+            0 != comp.bitsPerPixel() % 8 || 0 != comp.bitStride() % 8 ) {
+            return false;
+        }
+        final int[] bitCount = comp.componentBitCount();
+        for(int i=0; i<bitCount.length; i++) {
+            if( 16 < bitCount[i] ) {
+                return false; // lookup table too large
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUniform8(final PixelFormat.Composition comp) {
+        if( !comp.isUniform() ) {
+            return false;
+        }
+        final int[] bitCount = comp.componentBitCount();
+        for(int i=0; i<bitCount.length; i++) {
+            if( 8 != bitCount[i] ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns true if the float round-trip of all 8 bit values is lossless, i.e. a swizzle is sufficient. */
+    private static boolean isLossless8(final PixelFormat.Composition srcComp, final PixelFormat.Composition dstComp) {
+        for(int v=0; v<256; v++) {
+            if( v != dstComp.fromFloat(srcComp.toFloat(v, 0, false), 0, false) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static RowConverter createRowConverter(final PixelFormat.Composition srcComp, final PixelFormat.Composition dstComp) {
+        if( !isRowConvertible(srcComp) || !isRowConvertible(dstComp) ) {
+            return null;
+        }
+        final ComponentMap cmap = new ComponentMap(srcComp, dstComp);
+        if( 1 == dstComp.componentCount() &&
+            PixelFormat.CType.Y == dstComp.componentOrder()[0] &&
+            cmap.hasSrcRGB )
+        {
+            return new LuminanceRowConverter(cmap, dstComp, srcComp);
+        } else if( isUniform8(srcComp) && isUniform8(dstComp) && isLossless8(srcComp, dstComp) ) {
+            return new Swizzle8RowConverter(cmap, dstComp, srcComp);
+        } else {
+            return new LookupRowConverter(cmap, dstComp, srcComp);
+        }
+    }
+}
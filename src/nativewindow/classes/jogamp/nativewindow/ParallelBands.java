@@ -0,0 +1,161 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.nativewindow;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.jogamp.common.util.InterruptedRuntimeException;
+
+/**
+ * Runs a number of independent bands of work concurrently via an {@link Executor},
+ * e.g. row bands of an image, used by NativeWindow and JOGL.
+ * <p>
+ * The last band and all bands rejected by the {@link Executor} run on the current thread.
+ * {@link #run(Executor, int, Band)} returns only after all bands have completed,
+ * even if a band failed or the current thread got interrupted,
+ * hence no band accesses the caller's data thereafter.
+ * </p>
+ */
+public class ParallelBands {
+    /** A band of work, see {@link ParallelBands#run(Executor, int, Band)}. */
+    public static interface Band {
+        /**
+         * Runs the given band.
+         * @param band the band index within [0..bands)
+         */
+        void run(int band);
+    }
+
+    /**
+     * Returns the number of bands to use for the given amount of work.
+     * @param executor optional {@link Executor}, if {@code null} one band is returned
+     * @param maxBands maximum number of bands, if {@code zero} the number of available processors is used
+     * @param workSize amount of work, e.g. rows
+     * @param minBandSize minimum amount of work per band
+     */
+    public static int getBandCount(final Executor executor, final int maxBands, final int workSize, final int minBandSize) {
+        if( null == executor ) {
+            return 1;
+        }
+        final int n = 0 < maxBands ? maxBands : Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(n, workSize / Math.max(1, minBandSize)));
+    }
+
+    /**
+     * Runs the given number of bands, see {@link ParallelBands}.
+     * <p>
+     * If {@code executor} is {@code null} or {@code bands} &le; 1, all bands run on the current thread.
+     * </p>
+     * @param executor optional {@link Executor} running all but the last band
+     * @param bands number of bands
+     * @param task the {@link Band} task
+     * @throws RuntimeException the first failure of a band, wrapped if not a {@link RuntimeException} or {@link Error}
+     * @throws InterruptedRuntimeException if interrupted while waiting for the bands,
+     *                                     thrown after all bands have completed while keeping the interrupt status
+     */
+    public static void run(final Executor executor, final int bands, final Band task) {
+        if( null == executor || 1 >= bands ) {
+            for(int i=0; i<bands; i++) {
+                task.run(i);
+            }
+            return;
+        }
+        final CountDownLatch pending = new CountDownLatch(bands-1);
+        final Throwable[] failure = { null };
+        boolean rejected = false;
+        for(int i=0; i<bands-1; i++) {
+            final int band = i;
+            final Runnable r = new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        task.run(band);
+                    } catch (final Throwable t) {
+                        synchronized( failure ) {
+                            if( null == failure[0] ) {
+                                failure[0] = t;
+                            }
+                        }
+                    } finally {
+                        pending.countDown();
+                    }
+                } };
+            if( !rejected ) {
+                try {
+                    executor.execute(r);
+                    continue;
+                } catch (final RejectedExecutionException ree) {
+                    rejected = true; // run this and all remaining bands on the current thread
+                }
+            }
+            r.run();
+        }
+        InterruptedException interrupted = null;
+        try {
+            task.run(bands-1);
+        } finally {
+            interrupted = await(pending);
+            if( null != interrupted ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized( failure ) {
+            final Throwable t = failure[0];
+            if( t instanceof RuntimeException ) {
+                throw (RuntimeException)t;
+            } else if( t instanceof Error ) {
+                throw (Error)t;
+            } else if( null != t ) {
+                throw new RuntimeException(t);
+            }
+        }
+        if( null != interrupted ) {
+            throw new InterruptedRuntimeException(interrupted);
+        }
+    }
+
+    /**
+     * Waits until all bands have completed, even if interrupted.
+     * @return the first {@link InterruptedException} caught while waiting, otherwise {@code null}
+     */
+    private static InterruptedException await(final CountDownLatch pending) {
+        InterruptedException interrupted = null;
+        while( true ) {
+            try {
+                pending.await();
+                return interrupted;
+            } catch (final InterruptedException ie) {
+                if( null == interrupted ) {
+                    interrupted = ie;
+                }
+            }
+        }
+    }
+}
@@ -357,6 +357,19 @@ public abstract class Display {
 
     public abstract void dispatchMessages();
 
+    /**
+     * Returns the default pointer motion coalescing mode for windows of this display,
+     * see {@link Window#setPointerMotionCoalescing(boolean)}.
+     */
+    public abstract boolean isPointerMotionCoalescing();
+
+    /**
+     * Sets the default pointer motion coalescing mode for windows of this display
+     * not {@link Window#setPointerMotionCoalescing(boolean) setting} it explicitly.
+     * @param enable defaults to <code>false</code>, unless property <code>newt.event.coalesce_motion</code> is set.
+     */
+    public abstract void setPointerMotionCoalescing(boolean enable);
+
     // Global Displays
     protected static final ArrayList<WeakReference<Display>> displayList = new ArrayList<WeakReference<Display>>();
     protected static int displaysActive = 0;
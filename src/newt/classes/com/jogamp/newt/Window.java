@@ -38,6 +38,7 @@ import com.jogamp.newt.event.KeyListener;
 import com.jogamp.newt.event.KeyEvent;
 import com.jogamp.newt.event.InputEvent;
 import com.jogamp.newt.event.MouseListener;
+import com.jogamp.newt.event.MouseEvent;
 
 import jogamp.newt.Debug;
 import jogamp.newt.WindowImpl;
@@ -802,6 +803,28 @@ public interface Window extends NativeWindow, WindowClosingProtocol, ScalableSur
      */
     void setPointerIcon(final PointerIcon pi);
 
+    /**
+     * Returns <code>true</code> if pointer motion coalescing is enabled for this window,
+     * either {@link #setPointerMotionCoalescing(boolean) explicitly} or by its {@link Display#isPointerMotionCoalescing() display's default}.
+     * @see #setPointerMotionCoalescing(boolean)
+     */
+    boolean isPointerMotionCoalescing();
+
+    /**
+     * Enables or disables pointer motion coalescing for this window, overriding the {@link Display#setPointerMotionCoalescing(boolean) display's default}.
+     * <p>
+     * If enabled, consecutive {@link MouseEvent#EVENT_MOUSE_MOVED} or {@link MouseEvent#EVENT_MOUSE_DRAGGED} samples
+     * of the same pointer[s], type and modifiers are merged into one pending event carrying the latest position,
+     * while the preceding samples are available as its {@link MouseEvent#getHistorySize() history}.
+     * Hence the listener work on the EDT scales with the event dispatch rate instead of the device polling rate.
+     * </p>
+     * <p>
+     * While enabled, all pointer events are enqueued to preserve their order.
+     * </p>
+     * @param enable defaults to <code>false</code>, unless property <code>newt.event.coalesce_motion</code> is set.
+     */
+    void setPointerMotionCoalescing(boolean enable);
+
     /** @see #confinePointer(boolean) */
     boolean isPointerConfined();
 
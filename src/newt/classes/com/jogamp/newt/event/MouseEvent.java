@@ -68,6 +68,13 @@ import java.util.Arrays;
  * If representing a single-pointer {@link PointerType#Mouse} event, {@link #getPointerId(int) pointer-ID} is <code>0</code>
  * and a {@link #getButton() button value} of <code>0</code> denotes no button activity, i.e. {@link PointerType#Mouse} move.
  * </p>
+ * <a name="history"><h5>Coalesced Motion History</h5></a>
+ * <p>
+ * If {@link com.jogamp.newt.Window#setPointerMotionCoalescing(boolean) motion coalescing} is enabled,
+ * consecutive {@link #EVENT_MOUSE_MOVED} or {@link #EVENT_MOUSE_DRAGGED} samples are merged into one event
+ * carrying the latest position. The preceding samples are available in chronological order
+ * via {@link #getHistorySize()}, {@link #getHistoricalWhen(int)}, {@link #getHistoricalX(int, int)} etc.
+ * </p>
  */
 @SuppressWarnings("serial")
 public class MouseEvent extends InputEvent
@@ -262,6 +269,41 @@ public class MouseEvent extends InputEvent
         this.pointerType = pointerType;
     }
 
+    /**
+     * Constructor for a multiple-pointer event with a <a href="#history">coalesced motion history</a>.
+     * <p>
+     * The history arrays hold <code>historySize</code> samples preceding this event in chronological order,
+     * where the multiple-pointer data of sample <code>pos</code> and pointer <code>index</code>
+     * is stored at <code>pos * pointerCount + index</code>.
+     * </p>
+     *
+     * @param historySize number of historical samples
+     * @param historyWhen timestamp of each historical sample
+     * @param historyX X-axis of each historical sample and pointer
+     * @param historyY Y-axis of each historical sample and pointer
+     * @param historyPressure Pressure of each historical sample and pointer
+     * @see #MouseEvent(short, Object, long, int, PointerType[], short[], int[], int[], float[], float, short, short, float[], float)
+     */
+    public MouseEvent(final short eventType, final Object source, final long when, final int modifiers,
+                      final PointerType pointerType[], final short[] pointerID,
+                      final int[] x, final int[] y, final float[] pressure, final float maxPressure,
+                      final short button, final short clickCount, final float[] rotationXYZ, final float rotationScale,
+                      final int historySize, final long[] historyWhen, final int[] historyX, final int[] historyY, final float[] historyPressure)
+    {
+        this(eventType, source, when, modifiers, pointerType, pointerID, x, y, pressure, maxPressure,
+             button, clickCount, rotationXYZ, rotationScale);
+        final int n = historySize * pointerType.length;
+        if( 0 > historySize || historyWhen.length < historySize ||
+            historyX.length < n || historyY.length < n || historyPressure.length < n ) {
+            throw new IllegalArgumentException("History arrays too small for "+historySize+" samples");
+        }
+        this.historySize = historySize;
+        this.historyWhen = historyWhen;
+        this.historyX = historyX;
+        this.historyY = historyY;
+        this.historyPressure = historyPressure;
+    }
+
     public final MouseEvent createVariant(final short newEventType) {
         return new MouseEvent(newEventType, source, getWhen(), getModifiers(), pointerType, pointerID,
                               x, y, pressure, maxPressure, button, clickCount, rotationXYZ, rotationScale);
@@ -449,6 +491,58 @@ public class MouseEvent extends InputEvent
         return maxPressure;
     }
 
+    /**
+     * Returns the number of <a href="#history">coalesced historical samples</a> preceding this event,
+     * <code>0</code> if this event is not coalesced.
+     */
+    public final int getHistorySize() {
+        return historySize;
+    }
+
+    /**
+     * Returns the timestamp of the <a href="#history">historical sample</a> <code>pos</code>.
+     * @param pos sample index [0..{@link #getHistorySize()}-1], oldest first
+     */
+    public final long getHistoricalWhen(final int pos) {
+        return historyWhen[checkHistoryPos(pos)];
+    }
+
+    /**
+     * Returns the X-axis of the <a href="#history">historical sample</a> <code>pos</code> and pointer <code>index</code>.
+     * @param index pointer index [0..{@link #getPointerCount()}-1]
+     * @param pos sample index [0..{@link #getHistorySize()}-1], oldest first
+     */
+    public final int getHistoricalX(final int index, final int pos) {
+        return historyX[checkHistoryPos(pos) * pointerType.length + index];
+    }
+
+    /**
+     * Returns the Y-axis of the <a href="#history">historical sample</a> <code>pos</code> and pointer <code>index</code>.
+     * @param index pointer index [0..{@link #getPointerCount()}-1]
+     * @param pos sample index [0..{@link #getHistorySize()}-1], oldest first
+     */
+    public final int getHistoricalY(final int index, final int pos) {
+        return historyY[checkHistoryPos(pos) * pointerType.length + index];
+    }
+
+    /**
+     * Returns the pressure of the <a href="#history">historical sample</a> <code>pos</code> and pointer <code>index</code>.
+     * @param index pointer index [0..{@link #getPointerCount()}-1]
+     * @param pos sample index [0..{@link #getHistorySize()}-1], oldest first
+     * @param normalized if true, method returns the normalized pressure, i.e. <code>pressure / maxPressure</code>
+     */
+    public final float getHistoricalPressure(final int index, final int pos, final boolean normalized) {
+        final float p = historyPressure[checkHistoryPos(pos) * pointerType.length + index];
+        return normalized ? p / maxPressure : p;
+    }
+
+    private final int checkHistoryPos(final int pos) {
+        if( 0 > pos || pos >= historySize ) {
+            throw new IndexOutOfBoundsException("History position "+pos+" not within [0.."+(historySize-1)+"]");
+        }
+        return pos;
+    }
+
     /**
      * Returns a 3-component float array filled with the values of the rotational axis
      * in the following order: horizontal-, vertical- and z-axis.
@@ -536,6 +630,9 @@ public class MouseEvent extends InputEvent
             }
             sb.append("]");
         }
+        if( 0 < historySize ) {
+            sb.append(", history ").append(historySize);
+        }
         sb.append(", ");
         return super.toString(sb).append("]");
     }
@@ -578,6 +675,11 @@ public class MouseEvent extends InputEvent
     /** Rotation scale */
     private final float rotationScale;
     private final float maxPressure;
+    /** Coalesced motion history, see {@link #getHistorySize()}. */
+    private int historySize = 0;
+    private long[] historyWhen = null;
+    private int[] historyX = null, historyY = null;
+    private float[] historyPressure = null;
 
     private static final float[] constMousePressure0 = new float[]{0f};
     private static final float[] constMousePressure1 = new float[]{1f};
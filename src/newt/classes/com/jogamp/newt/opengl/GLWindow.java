@@ -321,6 +321,16 @@ public class GLWindow extends GLAutoDrawableBase implements GLAutoDrawable, Wind
         window.setPointerIcon(pi);
     }
 
+    @Override
+    public final boolean isPointerMotionCoalescing() {
+        return window.isPointerMotionCoalescing();
+    }
+
+    @Override
+    public final void setPointerMotionCoalescing(final boolean enable) {
+        window.setPointerMotionCoalescing(enable);
+    }
+
     @Override
     public final boolean isPointerConfined() {
         return window.isPointerConfined();
@@ -38,12 +38,14 @@ import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.nio.Buffers;
 import com.jogamp.common.util.IOUtil;
 import com.jogamp.common.util.InterruptedRuntimeException;
+import com.jogamp.common.util.PropertyAccess;
 import com.jogamp.common.util.ReflectionUtil;
 import com.jogamp.newt.Display;
 import com.jogamp.newt.NewtFactory;
 import com.jogamp.newt.event.NEWTEvent;
 import com.jogamp.newt.event.NEWTEventConsumer;
 
+import jogamp.newt.event.NEWTEventQueue;
 import jogamp.newt.event.NEWTEventTask;
 
 import com.jogamp.newt.util.EDTUtil;
@@ -53,6 +55,7 @@ import java.io.IOException;
 import java.net.URLConnection;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.concurrent.locks.LockSupport;
 
 import com.jogamp.nativewindow.AbstractGraphicsDevice;
 import com.jogamp.nativewindow.NativeWindowException;
@@ -662,9 +665,39 @@ public abstract class DisplayImpl extends Display {
     /** Dispatch native Toolkit messageges */
     protected abstract void dispatchMessagesNative();
 
-    private final Object eventsLock = new Object();
-    private ArrayList<NEWTEventTask> events = new ArrayList<NEWTEventTask>();
-    private volatile boolean haveEvents = false;
+    /** Capacity of the event queue, property <code>newt.event.queue.capacity</code>, default 4096. */
+    private static final int EVENT_QUEUE_CAPACITY = PropertyAccess.getIntProperty("newt.event.queue.capacity", true, 4096);
+    private final NEWTEventQueue events = new NEWTEventQueue(EVENT_QUEUE_CAPACITY);
+    /**
+     * Maximum time in milliseconds a non EDT thread waits for a free slot of the full event queue
+     * before using the overflow list, property <code>newt.event.queue.timeout</code>, default 10.
+     */
+    private static final long EVENT_QUEUE_TIMEOUT = 1000000L * PropertyAccess.getIntProperty("newt.event.queue.timeout", true, 10);
+    private final Object overflowLock = new Object();
+    /** Overflow list used after {@link #EVENT_QUEUE_TIMEOUT}, guarded by {@link #overflowLock}. */
+    private ArrayList<Object> overflowEvents = new ArrayList<Object>();
+    /** If <code>true</code>, all events are appended to {@link #overflowEvents} until the EDT has dispatched them. */
+    private volatile boolean overflowing = false;
+    private volatile long overflowCount = 0;
+
+    /**
+     * Returns the event queue for counter inspection, i.e. queue depth and enqueue-to-dispatch latency.
+     */
+    public final NEWTEventQueue getEventQueue() { return events; }
+
+    /**
+     * Returns the number of events enqueued via the overflow list,
+     * since the event queue was full longer than <code>newt.event.queue.timeout</code>.
+     */
+    public final long getEventQueueOverflowCount() { return overflowCount; }
+
+    private volatile boolean pointerMotionCoalescing = PropertyAccess.getBooleanProperty("newt.event.coalesce_motion", true);
+
+    @Override
+    public final boolean isPointerMotionCoalescing() { return pointerMotionCoalescing; }
+
+    @Override
+    public final void setPointerMotionCoalescing(final boolean enable) { pointerMotionCoalescing = enable; }
 
     final protected Runnable dispatchMessagesRunnable = new Runnable() {
         @Override
@@ -727,30 +760,120 @@ public abstract class DisplayImpl extends Display {
             return;
         }
 
-        ArrayList<NEWTEventTask> _events = null;
+        dispatchQueuedEvents();
 
-        if(haveEvents) { // volatile: ok
-            synchronized(eventsLock) {
-                if(haveEvents) {
-                    // swap events list to free ASAP
-                    _events = events;
-                    events = new ArrayList<NEWTEventTask>();
-                    haveEvents = false;
-                }
-                eventsLock.notifyAll();
+        // System.err.println("Display.dispatchMessages() NATIVE "+this+" "+getThreadName());
+        dispatchMessagesNative();
+    }
+
+    /**
+     * Dispatches the events queued before this call, on the EDT.
+     * <p>
+     * Events enqueued while dispatching, e.g. not yet consumed ones, are dispatched with the next call.
+     * </p>
+     * <p>
+     * If {@link #overflowing}, the queue is drained completely followed by the overflow list,
+     * since all events enqueued meanwhile went to the latter.
+     * </p>
+     */
+    private void dispatchQueuedEvents() {
+        int n = events.size();
+        while( 0 < n-- ) {
+            final Object e = events.poll();
+            if( null == e ) {
+                break; // oldest slot not yet published
+            }
+            dispatchQueuedEvent(e);
+        }
+        if( overflowing ) { // volatile: ok
+            Object e;
+            while( null != ( e = events.poll() ) ) {
+                dispatchQueuedEvent(e);
             }
-            if( null != _events ) {
-                for (int i=0; i < _events.size(); i++) {
-                    final NEWTEventTask e = _events.get(i);
-                    if( !e.isDispatched() ) {
-                        dispatchMessage(e);
+            final ArrayList<Object> _overflowEvents;
+            synchronized(overflowLock) {
+                // swap overflow list to free ASAP
+                _overflowEvents = overflowEvents;
+                overflowEvents = new ArrayList<Object>();
+                overflowing = false;
+            }
+            for (int i=0; i < _overflowEvents.size(); i++) {
+                dispatchQueuedEvent(_overflowEvents.get(i));
+            }
+        }
+    }
+
+    private void dispatchQueuedEvent(final Object e) {
+        if( e instanceof NEWTEventTask ) {
+            final NEWTEventTask eTask = (NEWTEventTask) e;
+            if( !eTask.isDispatched() ) {
+                dispatchMessage(eTask);
+            }
+        } else {
+            dispatchMessage((NEWTEvent) e);
+        }
+    }
+
+    /**
+     * Enqueues the given {@link NEWTEvent} or {@link NEWTEventTask}.
+     * <p>
+     * If the queue is full, the EDT dispatches the queued events right away preserving their order,
+     * other threads back off until the EDT has freed a slot.
+     * </p>
+     * <p>
+     * Other threads wait at most <code>newt.event.queue.timeout</code> milliseconds,
+     * since the EDT may itself wait for the enqueuing thread.
+     * Thereafter the event is appended to a locked overflow list instead of being dropped,
+     * as are all following events until the EDT has dispatched the overflow list, preserving their order.
+     * </p>
+     * @return <code>true</code> if enqueued, <code>false</code> if the EDT has been stopped.
+     */
+    private boolean offerEvent(final EDTUtil _edtUtil, final Object e) {
+        if( overflowing && offerOverflowEvent(e) ) { // volatile: ok
+            return true;
+        }
+        int spins = 0;
+        long t0 = 0;
+        while( !events.offer(e) ) {
+            if( _edtUtil.isCurrentThreadEDT() ) {
+                dispatchQueuedEvents();
+            } else if( !_edtUtil.isRunning() ) {
+                if(DEBUG) {
+                    System.err.println("Warning: EDT stopped while event queue full: "+e);
+                }
+                return false;
+            } else if( 100 > spins++ ) {
+                Thread.yield();
+            } else if( 0 == t0 ) {
+                t0 = System.nanoTime();
+            } else if( System.nanoTime() - t0 >= EVENT_QUEUE_TIMEOUT ) {
+                overflowing = true;
+                if( offerOverflowEvent(e) ) {
+                    if(DEBUG) {
+                        System.err.println("Warning: Event queue full for "+EVENT_QUEUE_TIMEOUT/1000000L+" ms, using overflow list: "+e);
                     }
+                    return true;
                 }
+            } else {
+                LockSupport.parkNanos(100000); // 0.1 ms
             }
         }
+        return true;
+    }
 
-        // System.err.println("Display.dispatchMessages() NATIVE "+this+" "+getThreadName());
-        dispatchMessagesNative();
+    /**
+     * Appends the given event to the overflow list while {@link #overflowing}.
+     * @return <code>true</code> if appended, otherwise <code>false</code> since the EDT has dispatched the overflow list meanwhile.
+     */
+    private boolean offerOverflowEvent(final Object e) {
+        synchronized(overflowLock) {
+            if( !overflowing ) {
+                return false;
+            }
+            overflowEvents.add(e);
+            overflowCount++;
+            return true;
+        }
     }
 
     public void enqueueEvent(final boolean wait, final NEWTEvent e) {
@@ -770,15 +893,19 @@ public abstract class DisplayImpl extends Display {
             return;
         }
 
+        if( !wait ) {
+            offerEvent(_edtUtil, e);
+            return;
+        }
+
+        // rare blocking handoff
         final Object lock = new Object();
-        final NEWTEventTask eTask = new NEWTEventTask(e, wait?lock:null);
+        final NEWTEventTask eTask = new NEWTEventTask(e, lock);
         synchronized(lock) {
-            synchronized(eventsLock) {
-                events.add(eTask);
-                haveEvents = true;
-                eventsLock.notifyAll();
+            if( !offerEvent(_edtUtil, eTask) ) {
+                return;
             }
-            while( wait && !eTask.isDispatched() ) {
+            while( !eTask.isDispatched() ) {
                 try {
                     lock.wait();
                 } catch (final InterruptedException ie) {
@@ -37,6 +37,7 @@ package jogamp.newt;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.jogamp.nativewindow.AbstractGraphicsConfiguration;
@@ -557,6 +558,82 @@ public abstract class WindowImpl implements Window, NEWTEventConsumer
     }
     private final PointerState1 pState1 = new PointerState1();
 
+    /**
+     * Consecutive coalesced {@link MouseEvent#EVENT_MOUSE_MOVED} or {@link MouseEvent#EVENT_MOUSE_DRAGGED} samples
+     * of one enqueued <i>head</i> event, see {@link #setPointerMotionCoalescing(boolean)}.
+     */
+    private static class MotionBatch {
+        MouseEvent head;
+        /** Number of samples including the head */
+        int size;
+        long[] when = new long[16];
+        int[] x = new int[16];
+        int[] y = new int[16];
+        float[] pressure = new float[16];
+
+        final void reset(final MouseEvent e) {
+            head = e;
+            size = 0;
+            add(e.getWhen(), e.getAllX(), e.getAllY(), e.getAllPressures());
+        }
+        final boolean isCompatible(final short eventType, final int modifiers, final PointerType[] pTypes, final short[] pID, final float maxPressure) {
+            if( head.getEventType() != eventType || head.getModifiers() != modifiers ||
+                head.getPointerCount() != pTypes.length || head.getMaxPressure() != maxPressure ) {
+                return false;
+            }
+            for(int i=0; i<pTypes.length; i++) {
+                if( head.getPointerType(i) != pTypes[i] || head.getPointerId(i) != pID[i] ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        final void add(final long t, final int[] pX, final int[] pY, final float[] pPressure) {
+            final int pCount = pX.length;
+            if( size >= when.length ) {
+                final int n = when.length * 2;
+                when = Arrays.copyOf(when, n);
+            }
+            final int o = size * pCount;
+            if( o + pCount > x.length ) {
+                final int n = Math.max(x.length * 2, o + pCount);
+                x = Arrays.copyOf(x, n);
+                y = Arrays.copyOf(y, n);
+                pressure = Arrays.copyOf(pressure, n);
+            }
+            when[size] = t;
+            System.arraycopy(pX, 0, x, o, pCount);
+            System.arraycopy(pY, 0, y, o, pCount);
+            System.arraycopy(pPressure, 0, pressure, o, pCount);
+            size++;
+        }
+        /** Returns the head event, if no samples have been added, otherwise a new event with the latest sample and history. */
+        final MouseEvent create() {
+            if( 1 >= size ) {
+                return head;
+            }
+            final int pCount = head.getPointerCount();
+            final int hSize = size - 1;
+            final int o = hSize * pCount;
+            return new MouseEvent(head.getEventType(), head.getSource(), when[hSize], head.getModifiers(),
+                                  head.getAllPointerTypes(), head.getAllPointerIDs(),
+                                  Arrays.copyOfRange(x, o, o + pCount), Arrays.copyOfRange(y, o, o + pCount),
+                                  Arrays.copyOfRange(pressure, o, o + pCount), head.getMaxPressure(),
+                                  head.getButton(), head.getClickCount(), head.getRotation(), head.getRotationScale(),
+                                  hSize, Arrays.copyOf(when, hSize), Arrays.copyOf(x, o), Arrays.copyOf(y, o), Arrays.copyOf(pressure, o));
+        }
+    }
+    /** Motion coalescing: -1 uses {@link Display#isPointerMotionCoalescing()}, 0 disabled, 1 enabled */
+    private volatile int pointerMotionCoalescing = -1;
+    private final Object motionLock = new Object();
+    /** Batch accepting samples, maybe <code>null</code> */
+    private MotionBatch openMotion = null;
+    /** Batches of enqueued head events in order, including {@link #openMotion} */
+    private final ArrayList<MotionBatch> queuedMotion = new ArrayList<MotionBatch>();
+    private final ArrayList<MotionBatch> freeMotion = new ArrayList<MotionBatch>();
+    /** Maximum number of pending batches, further motion events are enqueued uncoalesced, see {@link #beginMotionBatch(MouseEvent)}. */
+    private static final int MAX_QUEUED_MOTION = 64;
+
     /** Pointer names -> pointer ID (consecutive index, starting w/ 0) */
     private final ArrayHashSet<Integer> pName2pID = new ArrayHashSet<Integer>(false, ArrayHashSet.DEFAULT_INITIAL_CAPACITY, ArrayHashSet.DEFAULT_LOAD_FACTOR);
 
@@ -1491,6 +1568,7 @@ public abstract class WindowImpl implements Window, NEWTEventConsumer
                 minPixelScale[1] = ScalableSurface.IDENTITY_PIXELSCALE;
                 maxPixelScale[0] = ScalableSurface.IDENTITY_PIXELSCALE;
                 maxPixelScale[1] = ScalableSurface.IDENTITY_PIXELSCALE;
+                clearMotionBatches();
 
                 _lock.unlock();
             }
@@ -2495,6 +2573,25 @@ public abstract class WindowImpl implements Window, NEWTEventConsumer
         return false;
     }
 
+    @Override
+    public final boolean isPointerMotionCoalescing() {
+        final int c = pointerMotionCoalescing;
+        if( 0 > c ) {
+            final Screen _screen = screen;
+            return null != _screen && _screen.getDisplay().isPointerMotionCoalescing();
+        }
+        return 0 < c;
+    }
+    @Override
+    public final void setPointerMotionCoalescing(final boolean enable) {
+        pointerMotionCoalescing = enable ? 1 : 0;
+        if( !enable ) {
+            synchronized(motionLock) {
+                openMotion = null; // queued batches are still delivered
+            }
+        }
+    }
+
     @Override
     public final boolean isPointerConfined() {
         return stateMask.get(STATE_BIT_POINTERCONFINED);
@@ -3689,6 +3786,35 @@ public abstract class WindowImpl implements Window, NEWTEventConsumer
         pX[0] = x;
         pY[0] = y;
 
+        //
+        // - Coalesce consecutive MOVED/DRAGGED samples into the pending enqueued event
+        //
+        final boolean coalesce = !wait && isPointerMotionCoalescing();
+        final boolean motion = MouseEvent.EVENT_MOUSE_MOVED == eventType || MouseEvent.EVENT_MOUSE_DRAGGED == eventType;
+        if( coalesce ) {
+            if( motion ) {
+                final short motionType;
+                if( MouseEvent.EVENT_MOUSE_DRAGGED == eventType || 0 != pState1.buttonPressedMask ) {
+                    if( MouseEvent.EVENT_MOUSE_DRAGGED == eventType && 0 >= pPressure[0] ) {
+                        pPressure[0] = maxPressure;
+                    }
+                    motionType = MouseEvent.EVENT_MOUSE_DRAGGED;
+                } else {
+                    motionType = MouseEvent.EVENT_MOUSE_MOVED;
+                }
+                if( addMotionSample(motionType, modifiers, when, pTypes, pID, pX, pY, pPressure, maxPressure) ) {
+                    if( MouseEvent.EVENT_MOUSE_DRAGGED == motionType ) {
+                        pState1.dragging = true;
+                    }
+                    return; // merged
+                }
+            } else {
+                synchronized(motionLock) {
+                    openMotion = null;
+                }
+            }
+        }
+
         //
         // - Determine CLICK COUNT
         // - Ignore sent CLICKED
@@ -3764,7 +3890,95 @@ public abstract class WindowImpl implements Window, NEWTEventConsumer
                                    pX, pY, pPressure, maxPressure, button, (short)0, rotationXYZ, rotationScale);
         }
 
-        doEvent(enqueue, wait, e); // actual mouse event
+        if( coalesce ) {
+            if( motion ) {
+                beginMotionBatch(e);
+            }
+            doEvent(true, false, e); // keep order w/ the coalesced events
+        } else {
+            doEvent(enqueue, wait, e); // actual mouse event
+        }
+    }
+
+    /**
+     * Adds the given sample to the {@link #openMotion open batch} if compatible, i.e. consecutive and of same type, modifiers and pointer.
+     * @return <code>true</code> if added, otherwise <code>false</code> and a new event must be enqueued.
+     */
+    private boolean addMotionSample(final short eventType, final int modifiers, final long when,
+                                    final PointerType[] pTypes, final short[] pID,
+                                    final int[] pX, final int[] pY, final float[] pPressure, final float maxPressure) {
+        synchronized(motionLock) {
+            final MotionBatch batch = openMotion;
+            if( null != batch && batch.isCompatible(eventType, modifiers, pTypes, pID, maxPressure) ) {
+                batch.add(when, pX, pY, pPressure);
+                return true;
+            }
+            openMotion = null;
+            return false;
+        }
+    }
+
+    /**
+     * Opens a new batch with the given head event, which is about to be enqueued.
+     * <p>
+     * If {@link #MAX_QUEUED_MOTION} batches are pending, no batch is opened and the head is enqueued as is,
+     * i.e. coalescing stops until the EDT has dequeued pending batches. Pending batches are never evicted,
+     * hence their merged samples are never lost.
+     * </p>
+     */
+    private void beginMotionBatch(final MouseEvent head) {
+        synchronized(motionLock) {
+            if( MAX_QUEUED_MOTION <= queuedMotion.size() ) {
+                openMotion = null;
+                return;
+            }
+            final MotionBatch batch = freeMotion.isEmpty() ? new MotionBatch() : freeMotion.remove(freeMotion.size()-1);
+            batch.reset(head);
+            queuedMotion.add(batch);
+            openMotion = batch;
+        }
+    }
+
+    /** Drops all pending batches, their heads are never dispatched after destruction. */
+    private void clearMotionBatches() {
+        synchronized(motionLock) {
+            openMotion = null;
+            for(int i=0; i<queuedMotion.size(); i++) {
+                final MotionBatch batch = queuedMotion.get(i);
+                batch.head = null;
+                freeMotion.add(batch);
+            }
+            queuedMotion.clear();
+        }
+    }
+
+    /**
+     * Returns the coalesced event for the given dequeued head event including the merged samples,
+     * or the given event if not a batch head.
+     */
+    private MouseEvent takeMotionBatch(final MouseEvent pe) {
+        synchronized(motionLock) {
+            final int n = queuedMotion.size();
+            int i = 0;
+            while( i < n && queuedMotion.get(i).head != pe ) {
+                i++;
+            }
+            if( i == n ) {
+                return pe;
+            }
+            for(int j=0; j<i; j++) {
+                // stale batches, heads never dispatched
+                freeMotion.add(queuedMotion.remove(0));
+            }
+            final MotionBatch batch = queuedMotion.remove(0);
+            if( openMotion == batch ) {
+                openMotion = null;
+            }
+            final MouseEvent e = batch.create();
+            batch.head = null;
+            freeMotion.add(batch);
+            return e;
+        }
     }
 
     private static int step(final int lower, final int edge, final int value) {
@@ -3790,6 +4004,9 @@ public abstract class WindowImpl implements Window, NEWTEventConsumer
      * </p>
      */
     protected void consumePointerEvent(MouseEvent pe) {
+        if( MouseEvent.EVENT_MOUSE_MOVED == pe.getEventType() || MouseEvent.EVENT_MOUSE_DRAGGED == pe.getEventType() ) {
+            pe = takeMotionBatch(pe);
+        }
         if(DEBUG_MOUSE_EVENT) {
             System.err.println("consumePointerEvent.in: "+pe+", "+pState0+", pos "+pe.getX()+"/"+pe.getY()+", win["+getX()+"/"+getY()+" "+getWidth()+"x"+getHeight()+
                                "], pixel["+getSurfaceWidth()+"x"+getSurfaceHeight()+"]");
@@ -0,0 +1,176 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+
+package jogamp.newt.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multiple producer, single consumer ring of reusable event slots,
+ * holding {@link com.jogamp.newt.event.NEWTEvent}s or {@link NEWTEventTask}s.
+ * <p>
+ * Producers claim a slot by a CAS on the tail counter and publish it via the slot's sequence number,
+ * hence {@link #offer(Object)} neither locks nor allocates.
+ * The single consumer, i.e. the EDT, {@link #poll() polls} in order and frees the slot for reuse.
+ * </p>
+ * <p>
+ * The consumer also records the {@link #getMaxSize() maximum queue depth}
+ * and the enqueue-to-dispatch latency of polled events.
+ * </p>
+ */
+public class NEWTEventQueue {
+    private final int capacity;
+    private final int mask;
+    private final Object[] slots;
+    private final long[] enqueueTimes;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong(0);
+    private volatile long head = 0;
+
+    private volatile int maxSize = 0;
+    private volatile long pollCount = 0;
+    private volatile long latencySum = 0;
+    private volatile long latencyMax = 0;
+
+    /**
+     * @param capacity minimum capacity, rounded up to the next power of two
+     */
+    public NEWTEventQueue(final int capacity) {
+        if( 1 > capacity || 1 << 30 < capacity ) {
+            throw new IllegalArgumentException("Invalid capacity "+capacity);
+        }
+        int c = 1;
+        while( c < capacity ) {
+            c <<= 1;
+        }
+        this.capacity = c;
+        this.mask = c - 1;
+        this.slots = new Object[c];
+        this.enqueueTimes = new long[c];
+        this.sequences = new AtomicLongArray(c);
+        for(int i=0; i<c; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /** Returns the capacity. */
+    public final int capacity() { return capacity; }
+
+    /** Returns the number of queued elements, maybe including slots claimed but not yet published. */
+    public final int size() {
+        final long h = head;
+        final long s = tail.get() - h;
+        return 0 < s ? (int) Math.min(s, capacity) : 0;
+    }
+
+    /** Returns <code>true</code> if no element is queued. */
+    public final boolean isEmpty() { return tail.get() == head; }
+
+    /**
+     * Enqueues the given element, callable from any thread.
+     * @return <code>true</code> if enqueued, <code>false</code> if the queue is full.
+     */
+    public final boolean offer(final Object e) {
+        if( null == e ) {
+            throw new IllegalArgumentException("Null element");
+        }
+        long pos = tail.get();
+        while( true ) {
+            final int idx = (int)pos & mask;
+            final long dif = sequences.get(idx) - pos;
+            if( 0 == dif ) {
+                if( tail.compareAndSet(pos, pos + 1) ) {
+                    slots[idx] = e;
+                    enqueueTimes[idx] = System.nanoTime();
+                    sequences.lazySet(idx, pos + 1); // publish
+                    return true;
+                }
+                pos = tail.get();
+            } else if( 0 > dif ) {
+                return false; // full
+            } else {
+                pos = tail.get(); // claimed by another producer
+            }
+        }
+    }
+
+    /**
+     * Dequeues the oldest element, only callable from the consumer thread.
+     * @return the oldest element or <code>null</code> if empty or the oldest slot is not yet published.
+     */
+    public final Object poll() {
+        final long pos = head;
+        final int idx = (int)pos & mask;
+        if( sequences.get(idx) != pos + 1 ) {
+            return null;
+        }
+        final Object e = slots[idx];
+        final long latency = System.nanoTime() - enqueueTimes[idx];
+        final int size = (int) Math.min(tail.get() - pos, capacity);
+        slots[idx] = null;
+        head = pos + 1;
+        sequences.lazySet(idx, pos + capacity); // free slot for reuse
+
+        if( size > maxSize ) {
+            maxSize = size;
+        }
+        pollCount++;
+        latencySum += latency;
+        if( latency > latencyMax ) {
+            latencyMax = latency;
+        }
+        return e;
+    }
+
+    /** Returns the maximum queue depth seen by {@link #poll()} since the last {@link #resetCounter()}. */
+    public final int getMaxSize() { return maxSize; }
+    /** Returns the number of {@link #poll() polled} elements since the last {@link #resetCounter()}. */
+    public final long getPollCount() { return pollCount; }
+    /** Returns the average enqueue-to-dispatch latency in nanoseconds since the last {@link #resetCounter()}. */
+    public final long getAvgLatency() {
+        final long n = pollCount;
+        return 0 < n ? latencySum / n : 0;
+    }
+    /** Returns the maximum enqueue-to-dispatch latency in nanoseconds since the last {@link #resetCounter()}. */
+    public final long getMaxLatency() { return latencyMax; }
+
+    /** Resets the counter, only callable from the consumer thread for exact values. */
+    public final void resetCounter() {
+        maxSize = 0;
+        pollCount = 0;
+        latencySum = 0;
+        latencyMax = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "NEWTEventQueue[size "+size()+"/"+capacity+", max "+maxSize+", polled "+pollCount+
+               ", latency avg "+getAvgLatency()/1000+" us, max "+latencyMax/1000+" us]";
+    }
+}
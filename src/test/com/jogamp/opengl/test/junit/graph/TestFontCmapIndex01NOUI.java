@@ -0,0 +1,232 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import jogamp.graph.font.typecast.ot.OTFont;
+import jogamp.graph.font.typecast.ot.OTFontCollection;
+import jogamp.graph.font.typecast.ot.table.CmapFormat;
+import jogamp.graph.font.typecast.ot.table.ID;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+
+/**
+ * Validating the compiled codepoint to glyph ID index of {@link Font#getGlyphID(int)}
+ * against AWT's glyph mapping and a synthesized cmap w/ format 12 and 13 subtables,
+ * including a lookup benchmark against the cmap format 4 subtable.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontCmapIndex01NOUI {
+    static final String fontPath = "jogamp/graph/font/fonts/ubuntu/";
+    static final String[] fontNames = { "Ubuntu-R.ttf", "Ubuntu-B.ttf", "Ubuntu-LI.ttf" };
+    static int loops = 100;
+
+    public static void main(final String args[]) throws IOException {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestFontCmapIndex01NOUI.class.getName());
+    }
+
+    static byte[] readFont(final String name) throws IOException {
+        final InputStream stream = TestFontCmapIndex01NOUI.class.getClassLoader().getResourceAsStream(fontPath+name);
+        Assert.assertNotNull(stream);
+        try {
+            return IOUtil.copyStream2ByteArray(stream);
+        } finally {
+            stream.close();
+        }
+    }
+
+    static Font getFont(final byte[] data) throws IOException {
+        return FontFactory.get(new ByteArrayInputStream(data), data.length, true);
+    }
+
+    @Test
+    public void test01AgainstAWT() throws Exception {
+        final FontRenderContext frc = new FontRenderContext(null, false, false);
+        for(final String name : fontNames) {
+            final byte[] data = readFont(name);
+            final Font font = getFont(data);
+            final java.awt.Font awtFont = java.awt.Font.createFont(java.awt.Font.TRUETYPE_FONT, new ByteArrayInputStream(data));
+            int mapped = 0;
+            for(int cp = 0; cp <= 0xFFFF; cp++) {
+                if( Character.MIN_SURROGATE <= cp && cp <= Character.MAX_SURROGATE ) {
+                    continue;
+                }
+                final GlyphVector gv = awtFont.createGlyphVector(frc, new char[] { (char)cp });
+                final int expID = gv.getGlyphCode(0);
+                final int hasID = font.getGlyphID(cp);
+                if( 0xFFFE <= expID ) {
+                    continue; // AWT's invisible glyph, e.g. control characters
+                }
+                if( expID != hasID ) {
+                    Assert.assertEquals(name+": codepoint 0x"+Integer.toHexString(cp), expID, hasID);
+                }
+                if( 0 != hasID ) {
+                    mapped++;
+                }
+            }
+            System.err.println(name+": mapped "+mapped+" BMP codepoints");
+            Assert.assertTrue(mapped > 100);
+            Assert.assertEquals(Font.Glyph.ID_UNKNOWN, font.getGlyphID(-1));
+            Assert.assertEquals(Font.Glyph.ID_UNKNOWN, font.getGlyphID(0x110000));
+            Assert.assertEquals(Font.Glyph.ID_UNKNOWN, font.getGlyphID(Integer.MAX_VALUE));
+            Assert.assertEquals(Font.Glyph.ID_UNKNOWN, font.getGlyphID(Integer.MIN_VALUE));
+            Assert.assertEquals(font.getGlyphID('A'), font.getGlyph('A').getID());
+        }
+    }
+
+    /**
+     * Returns the font with its cmap table replaced by a format 12 subtable (3,10),
+     * followed by a format 13 subtable (0,6) and a format 14 subtable (0,5) to be skipped.
+     */
+    static byte[] replaceCmap(final byte[] data) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        final int[][] groups12 = { { 0x41, 0x5A, 36 }, { 0x61, 0x61, 68 }, { 0x1F600, 0x1F60F, 100 } };
+        final int[][] groups13 = { { 0x41, 0x41, 5 }, { 0x2000, 0x2FFF, 7 }, { 0x10FF00, 0x10FFFF, 8 } };
+        final int len12 = 16 + 12 * groups12.length;
+        final int len13 = 16 + 12 * groups13.length;
+        final int len14 = 10;
+        out.writeShort(0); // version
+        out.writeShort(3); // numTables
+        out.writeShort(ID.platformMicrosoft); out.writeShort(ID.encodingUCS4); out.writeInt(4 + 3*8);
+        out.writeShort(ID.platformUnicode); out.writeShort(6); out.writeInt(4 + 3*8 + len12);
+        out.writeShort(ID.platformUnicode); out.writeShort(5); out.writeInt(4 + 3*8 + len12 + len13);
+        writeFormat12(out, 12, groups12);
+        writeFormat12(out, 13, groups13);
+        out.writeShort(14); out.writeInt(len14); out.writeInt(0); // empty variation sequences
+        out.close();
+        final byte[] cmap = bytes.toByteArray();
+
+        // append the new cmap table and patch its table directory entry
+        final byte[] res = new byte[data.length + cmap.length];
+        System.arraycopy(data, 0, res, 0, data.length);
+        System.arraycopy(cmap, 0, res, data.length, cmap.length);
+        final ByteBuffer bb = ByteBuffer.wrap(res);
+        final int numTables = bb.getShort(4) & 0xffff;
+        for(int i=0; i<numTables; i++) {
+            final int e = 12 + i * 16;
+            if( 0x636d6170 == bb.getInt(e) ) { // 'cmap'
+                bb.putInt(e + 8, data.length);
+                bb.putInt(e + 12, cmap.length);
+                return res;
+            }
+        }
+        Assert.fail("no cmap table");
+        return null;
+    }
+
+    static void writeFormat12(final DataOutputStream out, final int format, final int[][] groups) throws IOException {
+        out.writeShort(format);
+        out.writeShort(0); // reserved
+        out.writeInt(16 + 12 * groups.length);
+        out.writeInt(0); // language
+        out.writeInt(groups.length);
+        for(final int[] g : groups) {
+            out.writeInt(g[0]);
+            out.writeInt(g[1]);
+            out.writeInt(g[2]);
+        }
+    }
+
+    @Test
+    public void test02Format12And13() throws IOException {
+        final Font font = getFont(replaceCmap(readFont(fontNames[0])));
+        // format 12
+        Assert.assertEquals(36, font.getGlyphID('A'));
+        Assert.assertEquals(36+25, font.getGlyphID('Z'));
+        Assert.assertEquals(68, font.getGlyphID('a'));
+        Assert.assertEquals(Font.Glyph.ID_UNKNOWN, font.getGlyphID('b'));
+        Assert.assertEquals(100, font.getGlyphID(0x1F600));
+        Assert.assertEquals(105, font.getGlyphID(0x1F605));
+        Assert.assertEquals(115, font.getGlyphID(0x1F60F));
+        Assert.assertEquals(Font.Glyph.ID_UNKNOWN, font.getGlyphID(0x1F610));
+        // format 13, lower priority for 'A'
+        Assert.assertEquals(7, font.getGlyphID(0x2000));
+        Assert.assertEquals(7, font.getGlyphID(0x2ABC));
+        Assert.assertEquals(7, font.getGlyphID(0x2FFF));
+        Assert.assertEquals(Font.Glyph.ID_UNKNOWN, font.getGlyphID(0x3000));
+        Assert.assertEquals(8, font.getGlyphID(0x10FFFF));
+        Assert.assertEquals(Font.Glyph.ID_UNKNOWN, font.getGlyphID(0x110000));
+        // BMP glyph
+        Assert.assertEquals(36, font.getGlyph('A').getID());
+    }
+
+    @Test
+    public void test03Benchmark() throws IOException {
+        final byte[] data = readFont(fontNames[0]);
+        final Font font = getFont(data);
+        final OTFont otFont = OTFontCollection.create(new ByteArrayInputStream(data), data.length).getFont(0);
+        final CmapFormat cf = otFont.getCmapTable().getCmapFormat(ID.platformMicrosoft, ID.encodingUnicode);
+        Assert.assertNotNull(cf);
+        final int n = 0x3000;
+        long sum0 = 0, sum1 = 0;
+        // warm up
+        for(int cp = 0; cp < n; cp++) {
+            sum0 += cf.mapCharCode(cp);
+            sum1 += font.getGlyphID(cp);
+        }
+        Assert.assertEquals(sum0, sum1);
+        final long t0 = System.nanoTime();
+        for(int l=0; l<loops; l++) {
+            for(int cp = 0; cp < n; cp++) {
+                sum0 += cf.mapCharCode(cp);
+            }
+        }
+        final long t1 = System.nanoTime();
+        for(int l=0; l<loops; l++) {
+            for(int cp = 0; cp < n; cp++) {
+                sum1 += font.getGlyphID(cp);
+            }
+        }
+        final long t2 = System.nanoTime();
+        Assert.assertEquals(sum0, sum1);
+        System.err.printf("Lookup %d codepoints, loops %d, %d cmap segments: format4 %.2f ns/cp, index %.2f ns/cp%n",
+                n, loops, cf.getRangeCount(), ( t1 - t0 ) / (double)( n * loops ), ( t2 - t1 ) / (double)( n * loops ));
+    }
+}
@@ -0,0 +1,280 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import jogamp.graph.font.typecast.ot.OTFont;
+import jogamp.graph.font.typecast.ot.OTFontCollection;
+import jogamp.graph.font.typecast.ot.table.KernSubtable;
+import jogamp.graph.font.typecast.ot.table.KernTable;
+import jogamp.graph.font.typecast.ot.table.KerningPair;
+import jogamp.graph.font.typecast.ot.table.Table;
+import jogamp.graph.geom.plane.AffineTransform;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.opengl.TextRegionUtil;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+
+/**
+ * Validating the {@link Font#setLayoutFeatures(int) layout features} kerning and ligatures
+ * against the font's kern table, the {@link TextRegionUtil#processString(TextRegionUtil.ShapeVisitor, AffineTransform, Font, float, CharSequence, AffineTransform, AffineTransform) text layout}
+ * and the font's metrics, including a kern format 2 subtable and a layout benchmark.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontLayout01NOUI {
+    static final String fontResource = "jogamp/graph/font/fonts/ubuntu/Ubuntu-R.ttf";
+    static final float pixelSize = 24f;
+    static int loops = 200;
+
+    public static void main(final String args[]) throws IOException {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestFontLayout01NOUI.class.getName());
+    }
+
+    static byte[] readFont() throws IOException {
+        final InputStream stream = TestFontLayout01NOUI.class.getClassLoader().getResourceAsStream(fontResource);
+        Assert.assertNotNull(stream);
+        try {
+            return IOUtil.copyStream2ByteArray(stream);
+        } finally {
+            stream.close();
+        }
+    }
+
+    static Font getFont(final byte[] data) throws IOException {
+        return FontFactory.get(new ByteArrayInputStream(data), data.length, true);
+    }
+
+    /** Returns the x-positions of all visited glyph shapes. */
+    static float[] layout(final Font font, final String text) {
+        final ArrayList<Float> xs = new ArrayList<Float>();
+        final TextRegionUtil.ShapeVisitor visitor = new TextRegionUtil.ShapeVisitor() {
+            @Override
+            public void visit(final OutlineShape shape, final AffineTransform t) {
+                xs.add(Float.valueOf(t.getTranslateX()));
+            } };
+        TextRegionUtil.processString(visitor, null, font, pixelSize, text, new AffineTransform(), new AffineTransform());
+        final float[] res = new float[xs.size()];
+        for(int i=0; i<res.length; i++) {
+            res[i] = xs.get(i).floatValue();
+        }
+        return res;
+    }
+
+    @Test
+    public void test01Kerning() throws IOException {
+        final byte[] data = readFont();
+        final Font font = getFont(data);
+        final OTFont otFont = OTFontCollection.create(new ByteArrayInputStream(data), data.length).getFont(0);
+        final KernTable kern = (KernTable) otFont.getTable(Table.kern);
+        Assert.assertNotNull(kern);
+        final KernSubtable st = kern.getSubtable(0);
+        Assert.assertTrue(st.isHorizontalKerning());
+        final float scale = font.getMetrics().getScale(pixelSize);
+
+        Assert.assertEquals(0, font.getLayoutFeatures());
+        final KerningPair p0 = st.getKerningPair(0);
+        Assert.assertEquals(0f, font.getKerning(p0.getLeft(), p0.getRight(), pixelSize), 0f);
+
+        font.setLayoutFeatures(Font.LAYOUT_KERNING);
+        for(int i=0; i<st.getKerningPairCount(); i++) {
+            final KerningPair p = st.getKerningPair(i);
+            Assert.assertEquals(p.getValue() * scale, font.getKerning(p.getLeft(), p.getRight(), pixelSize), 0.0001f);
+        }
+
+        // Layout of "AVAV" w/ and w/o kerning
+        final String text = "AVAVTo";
+        final int idA = font.getGlyphID('A');
+        final int idV = font.getGlyphID('V');
+        final float kernAV = font.getKerning(idA, idV, pixelSize);
+        Assert.assertTrue("No kerning for AV", kernAV < 0f);
+        final float[] kerned = layout(font, text);
+        final float kernedWidth = font.getMetricWidth(text, pixelSize);
+        final float[] kernedAdvances = font.getMeasuredRun(text, pixelSize).getAdvances();
+        font.setLayoutFeatures(0);
+        final float[] plain = layout(font, text);
+        final float plainWidth = font.getMetricWidth(text, pixelSize);
+        Assert.assertEquals(plain.length, kerned.length);
+        Assert.assertEquals(plain[1] + kernAV, kerned[1], 0.0001f);
+        Assert.assertTrue(kernedWidth < plainWidth);
+
+        // metrics are consistent w/ the layout
+        float x = 0;
+        for(int i=0; i<text.length(); i++) {
+            Assert.assertEquals(kerned[i], x, 0.001f);
+            x += kernedAdvances[i];
+        }
+        Assert.assertEquals(kernedWidth, x, 1f); // integer metric width
+    }
+
+    @Test
+    public void test02Ligatures() throws IOException {
+        final Font font = getFont(readFont());
+        final String text = "fifl fi";
+        Assert.assertNull(font.getLigature(text, 0, text.length()));
+        Assert.assertEquals(6, layout(font, text).length);
+
+        font.setLayoutFeatures(Font.LAYOUT_LIGATURES);
+        final Font.Glyph fi = font.getLigature(text, 0, text.length());
+        Assert.assertNotNull(fi);
+        Assert.assertEquals(2, fi.getCharCount());
+        Assert.assertEquals('f', fi.getSymbol());
+        Assert.assertNotEquals(font.getGlyphID('f'), fi.getID() & 0xffff);
+        Assert.assertNotNull(fi.getShape());
+        Assert.assertSame(fi, font.getLigature(text, 5, text.length()));
+        Assert.assertNull(font.getLigature(text, 0, 1)); // truncated
+        Assert.assertNull(font.getLigature(text, 1, text.length())); // 'i'
+        final Font.Glyph fl = font.getLigature(text, 2, text.length());
+        Assert.assertNotNull(fl);
+        Assert.assertNotSame(fi, fl);
+
+        final float[] xs = layout(font, text);
+        Assert.assertEquals(3, xs.length);
+        final float[] advances = font.getMeasuredRun(text, pixelSize).getAdvances();
+        Assert.assertEquals(fi.getAdvance(pixelSize, true), advances[0], 0.0001f);
+        Assert.assertEquals(0f, advances[1], 0f);
+        Assert.assertEquals(0f, advances[3], 0f);
+        Assert.assertEquals(advances[0], xs[1], 0.001f);
+
+        final float[] advances2 = new float[text.length() + 1];
+        final float width = font.getAdvances(text, pixelSize, true, advances2, 1);
+        float sum = 0;
+        for(int i=0; i<text.length(); i++) {
+            Assert.assertEquals(advances[i], advances2[i+1], 0.0001f);
+            sum += advances[i];
+        }
+        Assert.assertEquals(sum, width, 0.001f);
+    }
+
+    /**
+     * Returns the font with its kern table replaced by a single format 2 subtable, mapping
+     * <code>(36, 50) -> -10</code>, <code>(36, 51) -> 20</code> and <code>(37, 51) -> 30</code>.
+     */
+    static byte[] replaceKern(final byte[] data) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(0); // version
+        out.writeShort(1); // nTables
+        // subtable header
+        out.writeShort(0); // version
+        out.writeShort(38); // length
+        out.writeShort(0x0201); // format 2, horizontal
+        final int rowWidth = 4, leftClassTable = 14, rightClassTable = 22, array = 30;
+        out.writeShort(rowWidth);
+        out.writeShort(leftClassTable);
+        out.writeShort(rightClassTable);
+        out.writeShort(array);
+        out.writeShort(36); out.writeShort(2); out.writeShort(array); out.writeShort(array + rowWidth); // left classes
+        out.writeShort(50); out.writeShort(2); out.writeShort(0); out.writeShort(2); // right classes
+        out.writeShort(-10); out.writeShort(20); // row 0
+        out.writeShort(0); out.writeShort(30); // row 1
+        out.close();
+        final byte[] kern = bytes.toByteArray();
+        Assert.assertEquals(4 + 38, kern.length);
+
+        // append the new kern table and patch its table directory entry
+        final byte[] res = new byte[data.length + kern.length];
+        System.arraycopy(data, 0, res, 0, data.length);
+        System.arraycopy(kern, 0, res, data.length, kern.length);
+        final ByteBuffer bb = ByteBuffer.wrap(res);
+        final int numTables = bb.getShort(4) & 0xffff;
+        for(int i=0; i<numTables; i++) {
+            final int e = 12 + i * 16;
+            if( 0x6b65726e == bb.getInt(e) ) { // 'kern'
+                bb.putInt(e + 8, data.length);
+                bb.putInt(e + 12, kern.length);
+                return res;
+            }
+        }
+        Assert.fail("no kern table");
+        return null;
+    }
+
+    @Test
+    public void test03KernFormat2() throws IOException {
+        final Font font = getFont(replaceKern(readFont()));
+        font.setLayoutFeatures(Font.LAYOUT_KERNING);
+        final float scale = font.getMetrics().getScale(pixelSize);
+        Assert.assertEquals(-10 * scale, font.getKerning(36, 50, pixelSize), 0.0001f);
+        Assert.assertEquals( 20 * scale, font.getKerning(36, 51, pixelSize), 0.0001f);
+        Assert.assertEquals(  0 * scale, font.getKerning(37, 50, pixelSize), 0.0001f);
+        Assert.assertEquals( 30 * scale, font.getKerning(37, 51, pixelSize), 0.0001f);
+        Assert.assertEquals(0f, font.getKerning(50, 36, pixelSize), 0f);
+    }
+
+    @Test
+    public void test04Benchmark() throws IOException {
+        final Font font = getFont(readFont());
+        final StringBuilder sb = new StringBuilder();
+        for(int i=0; i<20; i++) {
+            sb.append("The office staff fixed the AVATAR typeface, fluffy waffles. ");
+        }
+        final String text = sb.toString();
+        final AffineTransform t1 = new AffineTransform(), t2 = new AffineTransform();
+        final float[] sum = { 0 };
+        final TextRegionUtil.ShapeVisitor visitor = new TextRegionUtil.ShapeVisitor() {
+            @Override
+            public void visit(final OutlineShape shape, final AffineTransform t) {
+                sum[0] += t.getTranslateX();
+            } };
+        final int[] features = { 0, Font.LAYOUT_KERNING | Font.LAYOUT_LIGATURES };
+        final double[] nsPerChar = new double[features.length];
+        for(int f=0; f<features.length; f++) {
+            font.setLayoutFeatures(features[f]);
+            for(int l=0; l<loops/4; l++) { // warm up
+                TextRegionUtil.processString(visitor, null, font, pixelSize, text, t1, t2);
+            }
+            final long t0 = System.nanoTime();
+            for(int l=0; l<loops; l++) {
+                TextRegionUtil.processString(visitor, null, font, pixelSize, text, t1, t2);
+            }
+            nsPerChar[f] = ( System.nanoTime() - t0 ) / (double)( loops * text.length() );
+        }
+        System.err.printf("Layout %d chars, loops %d: plain %.2f ns/char, kerning+ligatures %.2f ns/char (%s)%n",
+                text.length(), loops, nsPerChar[0], nsPerChar[1], sum[0] > 0 ? "ok" : "-");
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.font.FontSet;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Testing the bounded and thread safe {@link Font} glyph cache
+ * including {@link Font#prewarm(char, char, java.util.concurrent.Executor) prewarming}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontsNEWT01GlyphCache extends UITestCase {
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestFontsNEWT01GlyphCache.class.getName());
+    }
+
+    @Test
+    public void test01Prewarm() throws InterruptedException, IOException {
+        final Font font = FontFactory.get(FontFactory.UBUNTU).get(FontSet.FAMILY_REGULAR, FontSet.STYLE_NONE);
+        font.setGlyphCacheLimit(-1);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final long t0 = System.nanoTime();
+        font.prewarm(' ', '~', executor);
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        final long t1 = System.nanoTime();
+        final int size = font.getGlyphCacheSize();
+        System.err.println("Prewarm: "+size+" glyphs in "+( t1 - t0 ) / 1000000.0+" ms");
+        Assert.assertTrue(size >= '~' - ' ');
+        for(char c=' '; c<='~'; c++) {
+            final Font.Glyph g = font.getGlyph(c);
+            Assert.assertSame(g, font.getGlyph(c));
+            Assert.assertEquals(c, g.getSymbol());
+        }
+        Assert.assertEquals(size, font.getGlyphCacheSize());
+    }
+
+    @Test
+    public void test02Bounded() throws InterruptedException, IOException {
+        final Font font = FontFactory.get(FontFactory.UBUNTU).get(FontSet.FAMILY_LIGHT, FontSet.STYLE_NONE);
+        font.setGlyphCacheLimit(16);
+        font.prewarm(' ', '~', null);
+        Assert.assertEquals(16, font.getGlyphCacheSize());
+
+        // Recently used glyph survives eviction
+        final Font.Glyph a = font.getGlyph('A');
+        for(char c='a'; c<='z'; c++) {
+            font.getGlyph(a.getSymbol());
+            font.getGlyph(c);
+        }
+        Assert.assertSame(a, font.getGlyph('A'));
+        Assert.assertTrue(font.getGlyphCacheSize() <= 16);
+
+        font.setGlyphCacheLimit(4);
+        Assert.assertEquals(4, font.getGlyphCacheSize());
+        font.setGlyphCacheLimit(Font.DEFAULT_GLYPH_CACHE_LIMIT);
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.font.FontSet;
+import com.jogamp.opengl.math.geom.AABBox;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Testing the cached {@link Font.MeasuredRun} against the per glyph metrics
+ * and the allocation free {@link Font#getAdvances(CharSequence, float, boolean, float[], int) bulk advances},
+ * including a simple measurement benchmark.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontsNEWT02MeasuredRun extends UITestCase {
+    static final String text = "Hello JogAmp Community,\nthe quick brown fox jumps over the lazy dog.";
+    static final float pixelSize = 24f;
+    static int loops = 10000;
+
+    public static void main(final String args[]) throws IOException {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestFontsNEWT02MeasuredRun.class.getName());
+    }
+
+    @Test
+    public void test01Metrics() throws IOException {
+        final Font font = FontFactory.get(FontFactory.UBUNTU).get(FontSet.FAMILY_REGULAR, FontSet.STYLE_NONE);
+        final Font.MeasuredRun run = font.getMeasuredRun(text, pixelSize);
+        Assert.assertSame(run, font.getMeasuredRun(new StringBuilder(text), pixelSize));
+        Assert.assertNotSame(run, font.getMeasuredRun(text, pixelSize+1f));
+        Assert.assertEquals(text, run.getText());
+
+        final float[] advances = run.getAdvances();
+        Assert.assertEquals(text.length(), advances.length);
+        float lineWidth = 0, maxWidth = 0;
+        int lines = 1;
+        for(int i=0; i<text.length(); i++) {
+            final char c = text.charAt(i);
+            if( '\n' == c ) {
+                Assert.assertEquals(0f, advances[i], 0f);
+                maxWidth = Math.max(maxWidth, lineWidth);
+                lineWidth = 0;
+                lines++;
+            } else {
+                Assert.assertEquals(font.getGlyph(c).getAdvance(pixelSize, true), advances[i], 0f);
+                lineWidth += advances[i];
+            }
+        }
+        maxWidth = Math.max(maxWidth, lineWidth);
+        final AABBox bounds = font.getMetricBounds(text, pixelSize);
+        Assert.assertEquals(maxWidth, bounds.getWidth(), 0.0001f);
+        Assert.assertEquals(lines * font.getLineHeight(pixelSize), bounds.getHeight(), 0.0001f);
+        Assert.assertEquals(run.getMetricWidth(), font.getMetricWidth(text, pixelSize), 0f);
+
+        final float[] bulk = new float[text.length()+2];
+        final float lastLine = font.getAdvances(text, pixelSize, true, bulk, 2);
+        Assert.assertEquals(lineWidth, lastLine, 0.0001f);
+        for(int i=0; i<text.length(); i++) {
+            Assert.assertEquals(advances[i], bulk[2+i], 0f);
+        }
+    }
+
+    @Test
+    public void test02Bounded() throws IOException {
+        final Font font = FontFactory.get(FontFactory.UBUNTU).get(FontSet.FAMILY_LIGHT, FontSet.STYLE_NONE);
+        font.setMeasuredRunCacheLimit(2);
+        final Font.MeasuredRun r0 = font.getMeasuredRun("a", pixelSize);
+        font.getMeasuredRun("b", pixelSize);
+        Assert.assertSame(r0, font.getMeasuredRun("a", pixelSize));
+        font.getMeasuredRun("c", pixelSize); // evicts "b"
+        Assert.assertSame(r0, font.getMeasuredRun("a", pixelSize));
+
+        font.setMeasuredRunCacheLimit(0);
+        Assert.assertNotSame(r0, font.getMeasuredRun("a", pixelSize));
+        font.setMeasuredRunCacheLimit(Font.DEFAULT_MEASURED_RUN_CACHE_LIMIT);
+    }
+
+    @Test
+    public void test03Benchmark() throws IOException {
+        final Font font = FontFactory.get(FontFactory.UBUNTU).get(FontSet.FAMILY_REGULAR, FontSet.STYLE_NONE);
+        final float[] advances = new float[text.length()];
+        font.getMetricBounds(text, pixelSize);
+        float sum = 0;
+        final long t0 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            sum += font.getAdvances(text, pixelSize, true, advances, 0);
+        }
+        final long t1 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            sum += font.getMetricBounds(text, pixelSize).getWidth();
+        }
+        final long t2 = System.nanoTime();
+        System.err.printf("Measure %d chars, loops %d: bulk advances %.3f us/l, cached bounds %.3f us/l (%f)%n",
+                text.length(), loops, ( t1 - t0 ) / 1000.0 / loops, ( t2 - t1 ) / 1000.0 / loops, sum);
+    }
+}
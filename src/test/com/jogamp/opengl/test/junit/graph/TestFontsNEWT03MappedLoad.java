@@ -0,0 +1,147 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import jogamp.graph.font.typecast.ot.OTFont;
+import jogamp.graph.font.typecast.ot.OTFontCollection;
+import jogamp.graph.font.typecast.ot.OTGlyph;
+import jogamp.graph.font.typecast.ot.Point;
+import jogamp.graph.font.typecast.ot.table.Table;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validating memory mapped, lazily parsed font loading against the eagerly read font,
+ * including a simple load time benchmark.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontsNEWT03MappedLoad extends UITestCase {
+    static final String fontResource = "jogamp/graph/font/fonts/ubuntu/Ubuntu-R.ttf";
+    static int loops = 20;
+    static File fontFile;
+
+    public static void main(final String args[]) throws IOException {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestFontsNEWT03MappedLoad.class.getName());
+    }
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        final InputStream stream = TestFontsNEWT03MappedLoad.class.getClassLoader().getResourceAsStream(fontResource);
+        Assert.assertNotNull(stream);
+        fontFile = File.createTempFile("jogl.font", ".ttf");
+        try {
+            IOUtil.copyStream2File(stream, fontFile, -1);
+        } finally {
+            stream.close();
+        }
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        if( null != fontFile ) {
+            fontFile.delete();
+        }
+    }
+
+    @Test
+    public void test01Glyphs() throws IOException {
+        final OTFont eager = OTFontCollection.create(fontFile, false).getFont(0);
+        final OTFont lazy = OTFontCollection.create(fontFile, true).getFont(0);
+        Assert.assertFalse(eager.isLazy());
+        Assert.assertTrue(lazy.isLazy());
+        Assert.assertEquals(eager.getNumGlyphs(), lazy.getNumGlyphs());
+        Assert.assertEquals(eager.getAscent(), lazy.getAscent());
+        Assert.assertEquals(eager.getName(Font.NAME_UNIQUNAME, null).toString(), lazy.getName(Font.NAME_UNIQUNAME, null).toString());
+        Assert.assertEquals(null != eager.getTable(Table.kern), null != lazy.getTable(Table.kern));
+
+        for(int i=0; i<eager.getNumGlyphs(); i++) {
+            final OTGlyph g0 = eager.getGlyph(i);
+            final OTGlyph g1 = lazy.getGlyph(i);
+            if( null == g0 ) {
+                Assert.assertNull(g1);
+                continue;
+            }
+            Assert.assertNotNull(g1);
+            Assert.assertEquals(g0.getAdvanceWidth(), g1.getAdvanceWidth());
+            Assert.assertEquals(g0.getLeftSideBearing(), g1.getLeftSideBearing());
+            Assert.assertEquals(g0.getPointCount(), g1.getPointCount());
+            for(int j=0; j<g0.getPointCount(); j++) {
+                final Point p0 = g0.getPoint(j);
+                final Point p1 = g1.getPoint(j);
+                Assert.assertEquals(p0.x, p1.x);
+                Assert.assertEquals(p0.y, p1.y);
+                Assert.assertEquals(p0.onCurve, p1.onCurve);
+                Assert.assertEquals(p0.endOfContour, p1.endOfContour);
+            }
+        }
+    }
+
+    @Test
+    public void test02Font() throws IOException {
+        final Font font = FontFactory.get(fontFile, true);
+        final Font.Glyph g = font.getGlyph('A');
+        Assert.assertEquals('A', g.getSymbol());
+        Assert.assertNotNull(g.getShape());
+        Assert.assertEquals(FontFactory.get(fontFile).getMetricWidth("JogAmp", 24f), font.getMetricWidth("JogAmp", 24f), 0f);
+    }
+
+    @Test
+    public void test03Benchmark() throws IOException {
+        final long t0 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            FontFactory.get(fontFile).getGlyph('A');
+        }
+        final long t1 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            FontFactory.get(fontFile, true).getGlyph('A');
+        }
+        final long t2 = System.nanoTime();
+        System.err.printf("Load %s (%d bytes), loops %d: eager %.3f ms/l, mapped %.3f ms/l%n",
+                fontFile.getName(), fontFile.length(), loops, ( t1 - t0 ) / 1000000.0 / loops, ( t2 - t1 ) / 1000000.0 / loops);
+    }
+}
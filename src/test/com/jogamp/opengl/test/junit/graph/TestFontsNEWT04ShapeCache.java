@@ -0,0 +1,209 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.geom.Triangle;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validating the persisted glyph shape cache, {@link Font#storeShapeCache(File)} and {@link Font#loadShapeCache(File)},
+ * against freshly decoded and triangulated glyph shapes.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontsNEWT04ShapeCache extends UITestCase {
+    static final String fontResource = "jogamp/graph/font/fonts/ubuntu/Ubuntu-R.ttf";
+    static final String fontResource2 = "jogamp/graph/font/fonts/ubuntu/Ubuntu-B.ttf";
+    static final String text = "The quick brown fox jumps over the lazy dog 0123456789 !?&@";
+    static File fontFile, fontFile2, cacheFile;
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestFontsNEWT04ShapeCache.class.getName());
+    }
+
+    static File copyResource(final String resource) throws IOException {
+        final InputStream stream = TestFontsNEWT04ShapeCache.class.getClassLoader().getResourceAsStream(resource);
+        Assert.assertNotNull(stream);
+        final File file = File.createTempFile("jogl.font", ".ttf");
+        try {
+            IOUtil.copyStream2File(stream, file, -1);
+        } finally {
+            stream.close();
+        }
+        return file;
+    }
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        fontFile = copyResource(fontResource);
+        fontFile2 = copyResource(fontResource2);
+        cacheFile = File.createTempFile("jogl.font", ".shapes");
+        cacheFile.delete();
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        fontFile.delete();
+        fontFile2.delete();
+        final File[] files = getGenerationFiles();
+        for(int i=0; i<files.length; i++) {
+            files[i].delete();
+        }
+    }
+
+    /** Returns the existing generation files of {@link #cacheFile}, sorted by generation. */
+    static File[] getGenerationFiles() {
+        final String prefix = cacheFile.getName()+".";
+        final File[] files = cacheFile.getAbsoluteFile().getParentFile().listFiles(new FileFilter() {
+            @Override
+            public boolean accept(final File f) {
+                return f.getName().startsWith(prefix) && f.getName().substring(prefix.length()).matches("[0-9]+");
+            } });
+        final int plen = prefix.length();
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(final File a, final File b) {
+                return Integer.parseInt(a.getName().substring(plen)) - Integer.parseInt(b.getName().substring(plen));
+            } });
+        return files;
+    }
+
+    /** Returns the newest generation file of {@link #cacheFile} or {@code null}. */
+    static File getNewestGenerationFile() {
+        final File[] files = getGenerationFiles();
+        return 0 < files.length ? files[files.length-1] : null;
+    }
+
+    static void assertVertexEquals(final Vertex v0, final Vertex v1) {
+        Assert.assertArrayEquals(v0.getCoord(), v1.getCoord(), 0f);
+        Assert.assertArrayEquals(v0.getTexCoord(), v1.getTexCoord(), 0f);
+        Assert.assertEquals(v0.isOnCurve(), v1.isOnCurve());
+        Assert.assertEquals(v0.getId(), v1.getId());
+    }
+
+    @Test
+    public void test01StoreLoad() throws IOException {
+        final Font font0 = FontFactory.get(fontFile);
+        Assert.assertFalse(font0.loadShapeCache(cacheFile));
+        for(int i=0; i<text.length(); i++) {
+            font0.getGlyph(text.charAt(i)).getShape().getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+        }
+        final long t0 = System.nanoTime();
+        font0.storeShapeCache(cacheFile);
+        final long t1 = System.nanoTime();
+        Assert.assertNotNull(getNewestGenerationFile());
+
+        final Font font1 = FontFactory.get(fontFile);
+        Assert.assertTrue(font1.loadShapeCache(cacheFile));
+        final long t2 = System.nanoTime();
+        for(int i=0; i<text.length(); i++) {
+            final char c = text.charAt(i);
+            final Font.Glyph g0 = font0.getGlyph(c);
+            final Font.Glyph g1 = font1.getGlyph(c);
+            Assert.assertEquals(g0.getID(), g1.getID());
+            Assert.assertEquals(g0.getBBox(), g1.getBBox());
+            Assert.assertEquals(g0.getAdvance(24f, true), g1.getAdvance(24f, true), 0f);
+
+            final OutlineShape s0 = g0.getShape();
+            final OutlineShape s1 = g1.getShape();
+            Assert.assertEquals(s0.getBounds(), s1.getBounds());
+            Assert.assertEquals(s0.getAddedVerticeCount(), s1.getAddedVerticeCount());
+            final ArrayList<Triangle> tris0 = s0.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+            final ArrayList<Triangle> tris1 = s1.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+            final ArrayList<Vertex> verts0 = s0.getVertices();
+            final ArrayList<Vertex> verts1 = s1.getVertices();
+            Assert.assertEquals(verts0.size(), verts1.size());
+            for(int j=0; j<verts0.size(); j++) {
+                assertVertexEquals(verts0.get(j), verts1.get(j));
+            }
+            Assert.assertEquals(tris0.size(), tris1.size());
+            for(int j=0; j<tris0.size(); j++) {
+                final Triangle t0_ = tris0.get(j);
+                final Triangle t1_ = tris1.get(j);
+                for(int k=0; k<3; k++) {
+                    assertVertexEquals(t0_.getVertices()[k], t1_.getVertices()[k]);
+                    Assert.assertEquals(t0_.getEdgeBoundary()[k], t1_.getEdgeBoundary()[k]);
+                }
+            }
+        }
+        final long t3 = System.nanoTime();
+        System.err.println("Shape cache "+getNewestGenerationFile().length()+" bytes: store "+(t1-t0)/1000+" us, warm glyphs "+(t3-t2)/1000+" us");
+    }
+
+    @Test
+    public void test02Mismatch() throws IOException {
+        if( null == getNewestGenerationFile() ) {
+            test01StoreLoad();
+        }
+        final Font font = FontFactory.get(fontFile2);
+        Assert.assertFalse(font.loadShapeCache(cacheFile));
+    }
+
+    @Test
+    public void test03Merge() throws IOException {
+        if( null == getNewestGenerationFile() ) {
+            test01StoreLoad();
+        }
+        final File file0 = getNewestGenerationFile();
+        final long size0 = file0.length();
+        final Font font0 = FontFactory.get(fontFile);
+        Assert.assertTrue(font0.loadShapeCache(cacheFile));
+        final OutlineShape s0 = font0.getGlyph('X').getShape();
+        // replacing the loaded, still memory mapped shape cache
+        font0.storeShapeCache(cacheFile);
+        final File file1 = getNewestGenerationFile();
+        Assert.assertFalse(file0.equals(file1));
+        Assert.assertTrue(size0 < file1.length());
+
+        final Font font1 = FontFactory.get(fontFile);
+        Assert.assertTrue(font1.loadShapeCache(cacheFile));
+        Assert.assertEquals(s0.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size(),
+                            font1.getGlyph('X').getShape().getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size());
+        Assert.assertEquals(font0.getGlyph('q').getShape().getVertices().size(),
+                            font1.getGlyph('q').getShape().getVertices().size());
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.opengl.GLRegion;
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.curve.opengl.TextRegionUtil;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.opengl.GL2ES2;
+
+/**
+ * Validating the {@link GLRegion} cache of {@link TextRegionUtil} w/o GL,
+ * i.e. distinct regions for strings of equal hash code or differing font layout features,
+ * least recently used eviction, the entry and memory limits as well as the hit, miss and eviction counter.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextRegionCache01NOUI {
+    static final String fontResource = "jogamp/graph/font/fonts/ubuntu/Ubuntu-R.ttf";
+    static Font font;
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestTextRegionCache01NOUI.class.getName());
+    }
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        final InputStream stream = TestTextRegionCache01NOUI.class.getClassLoader().getResourceAsStream(fontResource);
+        Assert.assertNotNull(stream);
+        font = FontFactory.get(stream, true);
+    }
+
+    /** {@link GLRegion} w/o GL resources of a given estimated memory size, tracking its destruction. */
+    static class StubRegion extends GLRegion {
+        final int memorySize;
+        boolean destroyed = false;
+
+        StubRegion(final int memorySize) {
+            super(0, null);
+            this.memorySize = memorySize;
+        }
+        @Override
+        public int getEstimatedMemorySize() { return memorySize; }
+        @Override
+        protected void pushVertex(final float[] coords, final float[] texParams, final float[] rgba) { }
+        @Override
+        protected void pushIndex(final int idx) { }
+        @Override
+        protected void updateImpl(final GL2ES2 gl) { }
+        @Override
+        protected void destroyImpl(final GL2ES2 gl) { destroyed = true; }
+        @Override
+        protected void clearImpl(final GL2ES2 gl) { }
+        @Override
+        protected void drawImpl(final GL2ES2 gl, final RegionRenderer renderer, final int[] sampleCount) { }
+    }
+
+    /** Exposing the cache operations of {@link TextRegionUtil}, passing a <code>null</code> GL. */
+    static class CacheUtil extends TextRegionUtil {
+        CacheUtil() {
+            super(0);
+        }
+        GLRegion get(final String str) {
+            return getCachedRegion(font, str, 24f, 0);
+        }
+        StubRegion add(final String str, final int memorySize) {
+            final StubRegion region = new StubRegion(memorySize);
+            addCachedRegion(null, font, str, 24f, 0, region);
+            return region;
+        }
+    }
+
+    @Test
+    public void test01HashCollision() {
+        Assert.assertEquals("Aa".hashCode(), "BB".hashCode());
+        final CacheUtil util = new CacheUtil();
+        final StubRegion r0 = util.add("Aa", 100);
+        Assert.assertNull(util.get("BB"));
+        final StubRegion r1 = util.add("BB", 100);
+        Assert.assertEquals(2, util.getCacheSize());
+        Assert.assertSame(r0, util.get("Aa"));
+        Assert.assertSame(r1, util.get("BB"));
+        Assert.assertFalse(r0.destroyed);
+        Assert.assertFalse(r1.destroyed);
+        // same content as a different CharSequence
+        Assert.assertSame(r0, util.get(new StringBuilder("A").append('a').toString()));
+    }
+
+    @Test
+    public void test02LRUEviction() {
+        final CacheUtil util = new CacheUtil();
+        util.setCacheLimit(3);
+        final StubRegion r0 = util.add("hot", 100);
+        final StubRegion r1 = util.add("cold1", 100);
+        final StubRegion r2 = util.add("cold2", 100);
+        for(int i=0; i<3; i++) {
+            // frequently hit entry becomes most recently used, the least recently used one is evicted
+            Assert.assertSame(r0, util.get("hot"));
+            final StubRegion ri = util.add("new"+i, 100);
+            Assert.assertSame(ri, util.get("new"+i));
+        }
+        Assert.assertEquals(3, util.getCacheSize());
+        Assert.assertSame(r0, util.get("hot"));
+        Assert.assertFalse(r0.destroyed);
+        Assert.assertNull(util.get("cold1"));
+        Assert.assertNull(util.get("cold2"));
+        Assert.assertTrue(r1.destroyed);
+        Assert.assertTrue(r2.destroyed);
+    }
+
+    @Test
+    public void test03EntryLimit() {
+        final CacheUtil util = new CacheUtil();
+        util.setCacheLimit(4);
+        for(int i=0; i<10; i++) {
+            util.add("s"+i, 100);
+            Assert.assertTrue(util.getCacheSize() <= 4);
+        }
+        Assert.assertEquals(4, util.getCacheSize());
+        Assert.assertEquals(400, util.getCacheMemorySize());
+        for(int i=6; i<10; i++) {
+            Assert.assertNotNull(util.get("s"+i));
+        }
+        // shrinking the limit validates the cache right away
+        util.setCacheLimit(null, 2);
+        Assert.assertEquals(2, util.getCacheSize());
+        Assert.assertEquals(200, util.getCacheMemorySize());
+
+        util.setCacheLimit(0); // off
+        util.add("off", 100);
+        Assert.assertNull(util.get("off"));
+    }
+
+    @Test
+    public void test04MemoryLimit() {
+        final CacheUtil util = new CacheUtil();
+        util.setCacheMemoryLimit(1000);
+        for(int i=0; i<10; i++) {
+            util.add("s"+i, 300);
+            Assert.assertTrue(util.getCacheMemorySize() <= 1000);
+        }
+        Assert.assertEquals(3, util.getCacheSize());
+        Assert.assertEquals(900, util.getCacheMemorySize());
+
+        // replacing an entry accounts its new size and destroys the replaced region
+        final StubRegion r0 = util.add("big", 600);
+        Assert.assertEquals(2, util.getCacheSize());
+        Assert.assertEquals(900, util.getCacheMemorySize());
+        final StubRegion r1 = util.add("big", 100);
+        Assert.assertTrue(r0.destroyed);
+        Assert.assertFalse(r1.destroyed);
+        Assert.assertEquals(400, util.getCacheMemorySize());
+
+        util.setCacheMemoryLimit(null, 150);
+        Assert.assertEquals(1, util.getCacheSize());
+        Assert.assertSame(r1, util.get("big"));
+
+        util.clear(null);
+        Assert.assertEquals(0, util.getCacheSize());
+        Assert.assertEquals(0, util.getCacheMemorySize());
+        Assert.assertTrue(r1.destroyed);
+    }
+
+    @Test
+    public void test05Counter() {
+        final CacheUtil util = new CacheUtil();
+        util.setCacheLimit(2);
+        Assert.assertNull(util.get("a"));              // miss
+        util.add("a", 100);
+        Assert.assertNotNull(util.get("a"));           // hit
+        Assert.assertNull(util.get("b"));              // miss
+        util.add("b", 100);
+        Assert.assertNotNull(util.get("a"));           // hit
+        util.add("c", 100);                            // evicts b
+        Assert.assertNull(util.get("b"));              // miss
+        util.add("b", 100);                            // evicts a
+        Assert.assertEquals(2, util.getCacheHitCount());
+        Assert.assertEquals(3, util.getCacheMissCount());
+        Assert.assertEquals(2, util.getCacheEvictionCount());
+
+        util.resetCacheStats();
+        Assert.assertEquals(0, util.getCacheHitCount());
+        Assert.assertEquals(0, util.getCacheMissCount());
+        Assert.assertEquals(0, util.getCacheEvictionCount());
+    }
+
+    @Test
+    public void test06LayoutFeatures() {
+        final int features = font.getLayoutFeatures();
+        try {
+            final CacheUtil util = new CacheUtil();
+            font.setLayoutFeatures(Font.LAYOUT_KERNING | Font.LAYOUT_LIGATURES);
+            final StubRegion r0 = util.add("office AV", 100);
+            Assert.assertSame(r0, util.get("office AV"));
+
+            // same string w/ toggled features must not hit the region laid out before
+            font.setLayoutFeatures(0);
+            Assert.assertNull(util.get("office AV"));
+            final StubRegion r1 = util.add("office AV", 100);
+            Assert.assertEquals(2, util.getCacheSize());
+            Assert.assertSame(r1, util.get("office AV"));
+            Assert.assertFalse(r0.destroyed);
+
+            font.setLayoutFeatures(Font.LAYOUT_KERNING | Font.LAYOUT_LIGATURES);
+            Assert.assertSame(r0, util.get("office AV"));
+            Assert.assertFalse(r1.destroyed);
+        } finally {
+            font.setLayoutFeatures(features);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jogamp.graph.geom.plane.AffineTransform;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.curve.opengl.TextRegionUtil;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validating the concurrent triangulation of {@link Region#addOutlineShapes(java.util.List, java.util.List, float[], java.util.concurrent.Executor)}
+ * against the serial {@link Region#addOutlineShape(OutlineShape, AffineTransform, float[])},
+ * including a simple benchmark. No GL context is required.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextRegionNEWT01ParallelTess extends UITestCase {
+    static final String fontResource = "jogamp/graph/font/fonts/ubuntu/Ubuntu-R.ttf";
+    static final String text = "The quick brown fox jumps over the lazy dog\n"+
+                               "PACK MY BOX WITH FIVE DOZEN LIQUOR JUGS\n"+
+                               "0123456789 !\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+    static final float pixelSize = 24f;
+    static int loops = 5;
+    static int threads = 4;
+    static File fontFile;
+
+    public static void main(final String args[]) throws IOException {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            } else if(args[i].equals("-threads")) {
+                threads = MiscUtils.atoi(args[++i], threads);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestTextRegionNEWT01ParallelTess.class.getName());
+    }
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        final InputStream stream = TestTextRegionNEWT01ParallelTess.class.getClassLoader().getResourceAsStream(fontResource);
+        Assert.assertNotNull(stream);
+        fontFile = File.createTempFile("jogl.font", ".ttf");
+        try {
+            IOUtil.copyStream2File(stream, fontFile, -1);
+        } finally {
+            stream.close();
+        }
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        if( null != fontFile ) {
+            fontFile.delete();
+        }
+    }
+
+    /** Records the pushed vertices and indices, not requiring any GL resources. */
+    static class RecordingRegion extends Region {
+        final ArrayList<Float> vertices = new ArrayList<Float>();
+        final ArrayList<Integer> indices = new ArrayList<Integer>();
+
+        RecordingRegion() {
+            super(0);
+        }
+
+        @Override
+        protected void pushVertex(final float[] coords, final float[] texParams, final float[] rgba) {
+            for(int i=0; i<3; i++) {
+                vertices.add(coords[i]);
+            }
+            for(int i=0; i<3; i++) {
+                vertices.add(texParams[i]);
+            }
+        }
+
+        @Override
+        protected void pushIndex(final int idx) {
+            indices.add(idx);
+        }
+    }
+
+    static RecordingRegion addString(final Font font, final ExecutorService executor) {
+        final RecordingRegion region = new RecordingRegion();
+        final ArrayList<OutlineShape> shapes = new ArrayList<OutlineShape>();
+        final ArrayList<AffineTransform> transforms = new ArrayList<AffineTransform>();
+        TextRegionUtil.processString(new TextRegionUtil.ShapeVisitor() {
+            @Override
+            public void visit(final OutlineShape shape, final AffineTransform t) {
+                if( null == executor ) {
+                    region.addOutlineShape(shape, t, null);
+                } else {
+                    shapes.add(shape);
+                    transforms.add(new AffineTransform(t));
+                }
+            } }, null, font, pixelSize, text, new AffineTransform(), new AffineTransform());
+        if( null != executor ) {
+            region.addOutlineShapes(shapes, transforms, null, executor);
+        }
+        return region;
+    }
+
+    @Test
+    public void test01Identical() throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final RecordingRegion serial = addString(FontFactory.get(fontFile), null);
+            final RecordingRegion parallel = addString(FontFactory.get(fontFile), executor);
+            Assert.assertTrue(0 < serial.indices.size());
+            Assert.assertEquals(serial.vertices, parallel.vertices);
+            Assert.assertEquals(serial.indices, parallel.indices);
+            Assert.assertEquals(serial.getBounds(), parallel.getBounds());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test02Benchmark() throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long tSerial = 0, tParallel = 0;
+            for(int i=0; i<loops; i++) {
+                // fresh fonts, i.e. glyph shapes not yet triangulated
+                final Font font0 = FontFactory.get(fontFile);
+                final Font font1 = FontFactory.get(fontFile);
+                final long t0 = System.nanoTime();
+                addString(font0, null);
+                final long t1 = System.nanoTime();
+                addString(font1, executor);
+                final long t2 = System.nanoTime();
+                tSerial += t1 - t0;
+                tParallel += t2 - t1;
+            }
+            System.err.println("Tessellation of "+text.length()+" chars, "+loops+" loops: serial "+(tSerial/loops/1000)+" us, "+
+                               "parallel["+threads+"] "+(tParallel/loops/1000)+" us");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
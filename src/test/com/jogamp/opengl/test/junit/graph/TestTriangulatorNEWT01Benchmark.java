@@ -0,0 +1,195 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.tess.Triangulation;
+import com.jogamp.graph.curve.tess.Triangulator;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.font.FontSet;
+import com.jogamp.graph.geom.Triangle;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validating and benchmarking the {@link Triangulator.Sink} based triangulation
+ * reusing its graph storage against the {@link Triangle} list based triangulation
+ * over all printable ASCII glyphs of the bundled Ubuntu fonts.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTriangulatorNEWT01Benchmark extends UITestCase {
+    static int loops = 20;
+
+    public static void main(final String args[]) throws IOException {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestTriangulatorNEWT01Benchmark.class.getName());
+    }
+
+    /** Stores triangles into flat arrays, growing only if required. */
+    static class ArraySink implements Triangulator.Sink {
+        float[] coords = new float[3*3*256];
+        float[] texCoords = new float[3*3*256];
+        int triCount = 0;
+
+        @Override
+        public void addTriangle(final Vertex v1, final Vertex v2, final Vertex v3, final boolean b1, final boolean b2, final boolean b3) {
+            if( ( triCount + 1 ) * 9 > coords.length ) {
+                final float[] c = new float[coords.length*2];
+                System.arraycopy(coords, 0, c, 0, coords.length);
+                coords = c;
+                final float[] t = new float[texCoords.length*2];
+                System.arraycopy(texCoords, 0, t, 0, texCoords.length);
+                texCoords = t;
+            }
+            final int o = triCount * 9;
+            System.arraycopy(v1.getCoord(), 0, coords, o, 3);
+            System.arraycopy(v2.getCoord(), 0, coords, o+3, 3);
+            System.arraycopy(v3.getCoord(), 0, coords, o+6, 3);
+            System.arraycopy(v1.getTexCoord(), 0, texCoords, o, 3);
+            System.arraycopy(v2.getTexCoord(), 0, texCoords, o+3, 3);
+            System.arraycopy(v3.getTexCoord(), 0, texCoords, o+6, 3);
+            triCount++;
+        }
+    }
+
+    static ArrayList<OutlineShape> getShapes(final int family, final int style) throws IOException {
+        final Font font = FontFactory.get(FontFactory.UBUNTU).get(family, style);
+        final ArrayList<OutlineShape> shapes = new ArrayList<OutlineShape>();
+        for(char c='!'; c<='~'; c++) {
+            final OutlineShape shape = font.getGlyph(c).getShape();
+            if( null != shape ) {
+                shapes.add(shape);
+            }
+        }
+        return shapes;
+    }
+
+    static long getAllocatedBytes() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if( bean instanceof com.sun.management.ThreadMXBean ) {
+            return ((com.sun.management.ThreadMXBean)bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    @Test
+    public void test01Validate() throws IOException {
+        final ArrayList<OutlineShape> shapes = getShapes(FontSet.FAMILY_REGULAR, FontSet.STYLE_NONE);
+        final Triangulator triangulator = Triangulation.create();
+        final ArraySink sink = new ArraySink();
+        for(int i=0; i<shapes.size(); i++) {
+            final OutlineShape shape = shapes.get(i);
+            shape.clearCache();
+            final ArrayList<Triangle> tris = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+            // twice, validating reuse
+            for(int j=0; j<2; j++) {
+                sink.triCount = 0;
+                shape.triangulate(triangulator, sink);
+                Assert.assertEquals(tris.size(), sink.triCount);
+                for(int k=0; k<tris.size(); k++) {
+                    final Vertex[] vs = tris.get(k).getVertices();
+                    for(int l=0; l<3; l++) {
+                        for(int m=0; m<3; m++) {
+                            Assert.assertEquals(vs[l].getCoord()[m], sink.coords[k*9+l*3+m], 0f);
+                            Assert.assertEquals(vs[l].getTexCoord()[m], sink.texCoords[k*9+l*3+m], 0f);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test02Benchmark() throws IOException {
+        final int[] families = { FontSet.FAMILY_LIGHT, FontSet.FAMILY_REGULAR, FontSet.FAMILY_MEDIUM };
+        final ArrayList<OutlineShape> shapes = new ArrayList<OutlineShape>();
+        for(int i=0; i<families.length; i++) {
+            shapes.addAll(getShapes(families[i], FontSet.STYLE_NONE));
+            shapes.addAll(getShapes(families[i], FontSet.STYLE_ITALIC));
+        }
+        shapes.addAll(getShapes(FontSet.FAMILY_REGULAR, FontSet.STYLE_BOLD));
+        final Triangulator triangulator = Triangulation.create();
+        final ArraySink sink = new ArraySink();
+        // warm up
+        for(int i=0; i<shapes.size(); i++) {
+            shapes.get(i).triangulate(triangulator, sink);
+            shapes.get(i).clearTriangleCache();
+            shapes.get(i).getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+        }
+        final int glyphs = shapes.size() * loops;
+
+        long triCount = 0;
+        final long a0 = getAllocatedBytes();
+        final long t0 = System.nanoTime();
+        for(int l=0; l<loops; l++) {
+            for(int i=0; i<shapes.size(); i++) {
+                final OutlineShape shape = shapes.get(i);
+                shape.clearTriangleCache();
+                triCount += shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size();
+            }
+        }
+        final long t1 = System.nanoTime();
+        final long a1 = getAllocatedBytes();
+        for(int l=0; l<loops; l++) {
+            for(int i=0; i<shapes.size(); i++) {
+                sink.triCount = 0;
+                shapes.get(i).triangulate(triangulator, sink);
+                triCount -= sink.triCount;
+            }
+        }
+        final long t2 = System.nanoTime();
+        final long a2 = getAllocatedBytes();
+        Assert.assertEquals(0, triCount);
+
+        long tris = 0;
+        for(int i=0; i<shapes.size(); i++) {
+            tris += shapes.get(i).getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size();
+        }
+        tris *= loops;
+        System.err.printf("Triangulate %d glyphs, %d triangles: list %.0f tris/s, %d bytes/glyph; sink %.0f tris/s, %d bytes/glyph%n",
+                glyphs, tris,
+                tris / ( ( t1 - t0 ) / 1e9 ), ( a1 - a0 ) / glyphs,
+                tris / ( ( t2 - t1 ) / 1e9 ), ( a2 - a1 ) / glyphs);
+    }
+}
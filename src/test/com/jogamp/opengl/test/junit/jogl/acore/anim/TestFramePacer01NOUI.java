@@ -0,0 +1,156 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.util.FramePacer;
+
+/**
+ * Validating {@link FramePacer} schedules for fractional frame rates and its missed deadline policies.
+ * <p>
+ * Tolerances are generous to cope with loaded test machines.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFramePacer01NOUI {
+    static int frames = 72;
+
+    private static void sleep(final long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (final InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void testRate(final double fps) throws InterruptedException {
+        final FramePacer pacer = new FramePacer(fps, FramePacer.Policy.SKIP);
+        final long t0 = System.nanoTime();
+        long t1 = t0;
+        for(int i=0; i<frames; i++) {
+            t1 = pacer.awaitNextFrame();
+        }
+        final double expected = frames * pacer.getPeriod();
+        final double elapsed = t1 - t0;
+        System.err.printf("%.3f fps: elapsed %.3f ms, expected %.3f ms, %s%n", fps, elapsed/1e6, expected/1e6, pacer);
+        Assert.assertEquals(frames, pacer.getFrameCount() + pacer.getSkippedFrames());
+        // each wake-up is at or after its deadline, the last one being on schedule
+        Assert.assertTrue("Early: "+elapsed+" < "+expected, elapsed >= expected - pacer.getPeriod()/100);
+        if( 0 == pacer.getSkippedFrames() ) {
+            Assert.assertEquals(expected, elapsed, 2*pacer.getPeriod());
+        }
+    }
+
+    @Test
+    public void test01FractionalRates() throws InterruptedException {
+        testRate(143.856);
+        testRate(90);
+        testRate(59.94);
+    }
+
+    @Test
+    public void test02Skip() throws InterruptedException {
+        final FramePacer pacer = new FramePacer(100f, FramePacer.Policy.SKIP);
+        final long t0 = System.nanoTime();
+        long t1 = t0;
+        for(int i=0; i<20; i++) {
+            if( 10 == i ) {
+                sleep(35); // stall ~3.5 frames
+            }
+            t1 = pacer.awaitNextFrame();
+        }
+        System.err.println("Skip: "+pacer);
+        Assert.assertEquals(20, pacer.getFrameCount());
+        Assert.assertTrue(3 <= pacer.getSkippedFrames());
+        // schedule kept: elapsed spans rendered and skipped frames
+        final double expected = ( pacer.getFrameCount() + pacer.getSkippedFrames() ) * pacer.getPeriod();
+        Assert.assertTrue("Early: "+(t1-t0)+" < "+expected, t1 - t0 >= expected - pacer.getPeriod()/100);
+    }
+
+    @Test
+    public void test03CatchUp() throws InterruptedException {
+        final FramePacer pacer = new FramePacer(50f, FramePacer.Policy.CATCH_UP);
+        pacer.setMaxCatchUpFrames(5);
+        final long t0 = System.nanoTime();
+        long t1 = t0;
+        for(int i=0; i<20; i++) {
+            if( 10 == i ) {
+                sleep(50); // stall ~2.5 frames, caught up back to back
+            }
+            t1 = pacer.awaitNextFrame();
+        }
+        System.err.println("CatchUp: "+pacer);
+        Assert.assertEquals(20, pacer.getFrameCount());
+        Assert.assertEquals(0, pacer.getSkippedFrames());
+        final double expected = 20 * pacer.getPeriod();
+        Assert.assertTrue("Early: "+(t1-t0)+" < "+expected, t1 - t0 >= expected - pacer.getPeriod()/100);
+    }
+
+    @Test
+    public void test04CatchUpReAnchor() throws InterruptedException {
+        final FramePacer pacer = new FramePacer(100f, FramePacer.Policy.CATCH_UP);
+        pacer.setMaxCatchUpFrames(2);
+        for(int i=0; i<10; i++) {
+            if( 5 == i ) {
+                sleep(60); // stall ~6 frames, more than allowed to catch up
+            }
+            pacer.awaitNextFrame();
+        }
+        System.err.println("ReAnchor: "+pacer);
+        Assert.assertEquals(10, pacer.getFrameCount());
+        Assert.assertTrue(2 <= pacer.getSkippedFrames());
+    }
+
+    @Test
+    public void test05InvalidFPS() {
+        try {
+            new FramePacer(0, FramePacer.Policy.SKIP);
+            Assert.fail("No IllegalArgumentException");
+        } catch(final IllegalArgumentException iae) { }
+        try {
+            new FramePacer(60, FramePacer.Policy.SKIP).setPeriod(0);
+            Assert.fail("No IllegalArgumentException");
+        } catch(final IllegalArgumentException iae) { }
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-frames")) {
+                i++;
+                frames = MiscUtils.atoi(args[i], frames);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestFramePacer01NOUI.class.getName());
+    }
+}
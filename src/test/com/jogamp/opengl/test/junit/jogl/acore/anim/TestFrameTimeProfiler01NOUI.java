@@ -0,0 +1,194 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.util.FrameTimeHistogram;
+import com.jogamp.opengl.util.FrameTimeProfiler;
+
+/**
+ * Validating {@link FrameTimeHistogram} percentiles against exact values,
+ * concurrent recording and the {@link FrameTimeProfiler} report cycle.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFrameTimeProfiler01NOUI {
+    static int samples = 100000;
+
+    private static void assertWithinPrecision(final String msg, final long expected, final long actual, final int subBucketBits) {
+        final double tolerance = Math.max(1.0, expected / (double)( 1 << ( subBucketBits - 1 ) ));
+        Assert.assertTrue(msg+": expected "+expected+", has "+actual, Math.abs(actual - expected) <= tolerance);
+    }
+
+    @Test
+    public void test01ExactSmallValues() {
+        final FrameTimeHistogram h = new FrameTimeHistogram();
+        for(int i=1; i<=10; i++) {
+            h.record(i);
+        }
+        final FrameTimeHistogram.Snapshot s = h.snapshot();
+        Assert.assertEquals(10, s.getCount());
+        Assert.assertEquals(1, s.getMin());
+        Assert.assertEquals(10, s.getMax());
+        Assert.assertEquals(5.5, s.getMean(), 0.0001);
+        Assert.assertEquals(5, s.getP50());
+        Assert.assertEquals(10, s.getP95());
+        Assert.assertEquals(10, s.getP99());
+
+        h.reset();
+        h.snapshot(s);
+        Assert.assertEquals(0, s.getCount());
+        Assert.assertEquals(0, s.getMax());
+        Assert.assertEquals(0, s.getP99());
+    }
+
+    @Test
+    public void test02Percentiles() {
+        final int bits = FrameTimeHistogram.DEFAULT_SUB_BUCKET_BITS;
+        final FrameTimeHistogram h = new FrameTimeHistogram(bits);
+        final Random rnd = new Random(42);
+        final long[] values = new long[samples];
+        for(int i=0; i<samples; i++) {
+            // ~16ms frames with rare hitches up to 100ms
+            final long v = 0 == rnd.nextInt(100) ? 30000000L + rnd.nextInt(70000000) : 14000000L + rnd.nextInt(4000000);
+            values[i] = v;
+            h.record(v);
+        }
+        java.util.Arrays.sort(values);
+        final FrameTimeHistogram.Snapshot s = h.snapshot();
+        System.err.println(s);
+        Assert.assertEquals(samples, s.getCount());
+        Assert.assertEquals(values[0], s.getMin());
+        Assert.assertEquals(values[samples-1], s.getMax());
+        assertWithinPrecision("p50", values[samples/2 - 1], s.getP50(), bits);
+        assertWithinPrecision("p95", values[(int)Math.ceil(samples*0.95) - 1], s.getP95(), bits);
+        assertWithinPrecision("p99", values[(int)Math.ceil(samples*0.99) - 1], s.getP99(), bits);
+        Assert.assertTrue(s.getP99() > 30000000L);
+    }
+
+    @Test
+    public void test03ClampedValues() {
+        final FrameTimeHistogram h = new FrameTimeHistogram(2);
+        h.record(-5);
+        h.record(Long.MAX_VALUE);
+        Assert.assertEquals(2, h.getCount());
+        Assert.assertEquals(0, h.getMin());
+        Assert.assertEquals(FrameTimeHistogram.MAX_TRACKABLE_VALUE, h.getMax());
+        Assert.assertEquals(FrameTimeHistogram.MAX_TRACKABLE_VALUE, h.getValueAtPercentile(100.0));
+        try {
+            new FrameTimeHistogram(1);
+            Assert.fail("No IllegalArgumentException");
+        } catch(final IllegalArgumentException iae) { }
+    }
+
+    @Test
+    public void test04ConcurrentRecording() throws InterruptedException {
+        final FrameTimeHistogram h = new FrameTimeHistogram();
+        final int threadCount = 4;
+        final Thread[] threads = new Thread[threadCount];
+        for(int i=0; i<threadCount; i++) {
+            final long base = ( i + 1 ) * 1000000L;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for(int j=0; j<samples; j++) {
+                        h.record(base + j % 1000);
+                    }
+                } }, "Recorder-"+i);
+        }
+        for(int i=0; i<threadCount; i++) {
+            threads[i].start();
+        }
+        for(int i=0; i<threadCount; i++) {
+            threads[i].join();
+        }
+        final FrameTimeHistogram.Snapshot s = h.snapshot();
+        Assert.assertEquals(threadCount * samples, s.getCount());
+        Assert.assertEquals(1000000L, s.getMin());
+        Assert.assertEquals(threadCount * 1000000L + 999, s.getMax());
+    }
+
+    @Test
+    public void test05ProfilerReports() {
+        final FrameTimeProfiler p = new FrameTimeProfiler();
+        p.setReportInterval(10);
+        p.setResetOnReport(true);
+        final AtomicInteger reports = new AtomicInteger(0);
+        final long[] lastFrameCount = { 0 };
+        final FrameTimeHistogram.Snapshot lastSwap = new FrameTimeHistogram.Snapshot();
+        final FrameTimeProfiler.Listener l = new FrameTimeProfiler.Listener() {
+            @Override
+            public void frameTimesReported(final FrameTimeProfiler source, final long frameCount, final FrameTimeHistogram.Snapshot[] snapshots) {
+                reports.incrementAndGet();
+                lastFrameCount[0] = frameCount;
+                lastSwap.set(snapshots[FrameTimeProfiler.Phase.SWAP_BUFFERS.ordinal()]);
+                Assert.assertEquals(10, snapshots[FrameTimeProfiler.Phase.FRAME.ordinal()].getCount());
+                Assert.assertEquals(0, snapshots[FrameTimeProfiler.Phase.GL_RUNNABLES.ordinal()].getCount());
+            } };
+        p.addListener(l);
+        for(int i=0; i<25; i++) {
+            p.record(FrameTimeProfiler.Phase.DISPLAY, 1000 + i);
+            p.record(FrameTimeProfiler.Phase.SWAP_BUFFERS, 2000 + i);
+            p.endFrame(3000 + i);
+        }
+        Assert.assertEquals(2, reports.get());
+        Assert.assertEquals(20, lastFrameCount[0]);
+        Assert.assertEquals(10, lastSwap.getCount());
+        Assert.assertEquals(2010, lastSwap.getMin());
+        Assert.assertEquals(25, p.getFrameCount());
+        Assert.assertEquals(5, p.getHistogram(FrameTimeProfiler.Phase.DISPLAY).getCount());
+
+        Assert.assertTrue(p.removeListener(l));
+        Assert.assertFalse(p.removeListener(l));
+        for(int i=0; i<10; i++) {
+            p.endFrame(3000);
+        }
+        Assert.assertEquals(2, reports.get());
+
+        p.reset();
+        Assert.assertEquals(0, p.getFrameCount());
+        Assert.assertEquals(0, p.getHistogram(FrameTimeProfiler.Phase.FRAME).getCount());
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-samples")) {
+                i++;
+                samples = MiscUtils.atoi(args[i], samples);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestFrameTimeProfiler01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,462 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.glu;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.glu.GLU;
+import com.jogamp.opengl.glu.GLUtessellator;
+import com.jogamp.opengl.glu.GLUtessellatorBatch;
+import com.jogamp.opengl.glu.GLUtessellatorCallbackAdapter;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+
+/**
+ * Validating {@link GLUtessellatorBatch} by triangle area against the polygon area,
+ * generated intersection vertices and against the callback based {@link GLUtessellator},
+ * including reuse, parallel use and a benchmark of both.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLUtessellatorBatch01NOUI {
+    static final double EPSILON = 1e-9;
+    static int loops = 20;
+    static int polygons = 500;
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            } else if(args[i].equals("-polygons")) {
+                polygons = MiscUtils.atoi(args[++i], polygons);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestGLUtessellatorBatch01NOUI.class.getName());
+    }
+
+    /** One polygon: packed x/y coordinates and contour starts. */
+    static class Polygon {
+        final double[] coords;
+        final int[] contourStarts;
+        Polygon(final double[] coords, final int[] contourStarts) {
+            this.coords = coords;
+            this.contourStarts = contourStarts;
+        }
+        int vertexCount() { return coords.length / 2; }
+    }
+
+    static double contourArea(final double[] xy, final int start, final int end) {
+        double a = 0;
+        for(int i=start; i<end; i++) {
+            final int j = i + 1 < end ? i + 1 : start;
+            a += xy[i*2] * xy[j*2+1] - xy[j*2] * xy[i*2+1];
+        }
+        return a / 2;
+    }
+
+    static double x(final GLUtessellatorBatch tess, final double[] xy, final int idx) {
+        final int n = xy.length / 2;
+        return idx < n ? xy[idx*2] : tess.getCombinedCoords()[(idx-n)*3];
+    }
+    static double y(final GLUtessellatorBatch tess, final double[] xy, final int idx) {
+        final int n = xy.length / 2;
+        return idx < n ? xy[idx*2+1] : tess.getCombinedCoords()[(idx-n)*3+1];
+    }
+
+    /** Returns the summed triangle area, asserting each triangle is counter-clockwise. */
+    static double triangleArea(final GLUtessellatorBatch tess, final double[] xy) {
+        final int[] idx = tess.getIndices();
+        final int vertexCount = xy.length / 2 + tess.getCombinedVertexCount();
+        double sum = 0;
+        for(int i=0; i<tess.getIndexCount(); i+=3) {
+            for(int j=0; j<3; j++) {
+                Assert.assertTrue(0 <= idx[i+j] && idx[i+j] < vertexCount);
+            }
+            final double ax = x(tess, xy, idx[i]),   ay = y(tess, xy, idx[i]);
+            final double bx = x(tess, xy, idx[i+1]), by = y(tess, xy, idx[i+1]);
+            final double cx = x(tess, xy, idx[i+2]), cy = y(tess, xy, idx[i+2]);
+            final double a = ( ( bx - ax ) * ( cy - ay ) - ( cx - ax ) * ( by - ay ) ) / 2;
+            Assert.assertTrue("triangle "+i/3+" not CCW: "+a, a >= -EPSILON);
+            sum += a;
+        }
+        return sum;
+    }
+
+    static int tessellate(final GLUtessellatorBatch tess, final Polygon p) {
+        return tess.tessellate(p.coords, 2, p.vertexCount(), p.contourStarts, p.contourStarts.length);
+    }
+
+    /** Returns triangles with each rotated to start at its lowest index, sorted. */
+    static long[] canonicalTriangles(final int[] idx, final int count) {
+        final long[] r = new long[count/3];
+        for(int i=0; i<count; i+=3) {
+            int a = idx[i], b = idx[i+1], c = idx[i+2];
+            while( a > b || a > c ) {
+                final int t = a; a = b; b = c; c = t;
+            }
+            r[i/3] = ( (long)a << 42 ) | ( (long)b << 21 ) | c;
+        }
+        Arrays.sort(r);
+        return r;
+    }
+
+    /** Star shaped contour around the origin, counter-clockwise unless reversed. */
+    static double[] star(final Random rnd, final int n, final double rMin, final double rMax, final boolean reverse) {
+        final double[] xy = new double[n*2];
+        for(int i=0; i<n; i++) {
+            final double a = 2 * Math.PI * i / n;
+            final double r = rMin + rnd.nextDouble() * ( rMax - rMin );
+            final int k = reverse ? n - 1 - i : i;
+            xy[k*2] = r * Math.cos(a);
+            xy[k*2+1] = r * Math.sin(a);
+        }
+        return xy;
+    }
+
+    static Polygon concat(final double[]... contours) {
+        int len = 0;
+        for(final double[] c : contours) { len += c.length; }
+        final double[] xy = new double[len];
+        final int[] starts = new int[contours.length];
+        int o = 0;
+        for(int i=0; i<contours.length; i++) {
+            starts[i] = o / 2;
+            System.arraycopy(contours[i], 0, xy, o, contours[i].length);
+            o += contours[i].length;
+        }
+        return new Polygon(xy, starts);
+    }
+
+    /** Random polygons: stars with holes, every 4th one self intersecting by random vertices. */
+    static Polygon[] randomPolygons(final long seed, final int count) {
+        final Random rnd = new Random(seed);
+        final Polygon[] r = new Polygon[count];
+        for(int i=0; i<count; i++) {
+            final int n = 8 + rnd.nextInt(56);
+            if( 3 == i % 4 ) {
+                final double[] xy = new double[n*2];
+                for(int j=0; j<xy.length; j++) {
+                    xy[j] = rnd.nextDouble() * 100.0;
+                }
+                r[i] = new Polygon(xy, new int[] { 0 });
+            } else {
+                r[i] = concat(star(rnd, n, 50, 100, false), star(rnd, 3 + rnd.nextInt(12), 10, 40, true));
+            }
+        }
+        return r;
+    }
+
+    /** Callback tessellation into an indexed triangle list, numbering combined vertices as the batch does. */
+    static class CallbackTriangulator extends GLUtessellatorCallbackAdapter {
+        final GLUtessellator tess = GLU.gluNewTess();
+        int[] indices = new int[1024];
+        int indexCount;
+        int nextIndex;
+
+        CallbackTriangulator() {
+            GLU.gluTessCallback(tess, GLU.GLU_TESS_BEGIN, this);
+            GLU.gluTessCallback(tess, GLU.GLU_TESS_VERTEX, this);
+            GLU.gluTessCallback(tess, GLU.GLU_TESS_END, this);
+            GLU.gluTessCallback(tess, GLU.GLU_TESS_COMBINE, this);
+            GLU.gluTessCallback(tess, GLU.GLU_TESS_EDGE_FLAG, this);  // forces GL_TRIANGLES
+            GLU.gluTessNormal(tess, 0, 0, 1);
+        }
+
+        int tessellate(final Polygon p, final Integer[] vertexData, final double[] xyz) {
+            indexCount = 0;
+            nextIndex = p.vertexCount();
+            GLU.gluTessBeginPolygon(tess, null);
+            for(int i=0; i<p.contourStarts.length; i++) {
+                final int end = i + 1 < p.contourStarts.length ? p.contourStarts[i+1] : p.vertexCount();
+                GLU.gluTessBeginContour(tess);
+                for(int v=p.contourStarts[i]; v<end; v++) {
+                    xyz[v*3] = p.coords[v*2];
+                    xyz[v*3+1] = p.coords[v*2+1];
+                    xyz[v*3+2] = 0;
+                    GLU.gluTessVertex(tess, xyz, v*3, vertexData[v]);
+                }
+                GLU.gluTessEndContour(tess);
+            }
+            GLU.gluTessEndPolygon(tess);
+            return indexCount / 3;
+        }
+
+        @Override
+        public void vertex(final Object data) {
+            if( indexCount == indices.length ) {
+                indices = Arrays.copyOf(indices, indices.length * 2);
+            }
+            indices[indexCount++] = ((Integer)data).intValue();
+        }
+
+        @Override
+        public void combine(final double[] coords, final Object[] data, final float[] weight, final Object[] outData) {
+            if( null != data[2] ) {
+                outData[0] = Integer.valueOf(nextIndex++);
+            } // else: merge of coincident vertices, keep data[0]
+        }
+    }
+
+    static Integer[] vertexData(final int n) {
+        final Integer[] r = new Integer[n];
+        for(int i=0; i<n; i++) {
+            r[i] = Integer.valueOf(i);
+        }
+        return r;
+    }
+
+    @Test
+    public void test01Square() {
+        final GLUtessellatorBatch tess = GLU.gluNewTessBatch();
+        final double[] xy = { 0, 0,  1, 0,  1, 1,  0, 1 };
+        Assert.assertEquals(2, tess.tessellate(xy, 2, 4, new int[] { 0 }, 1));
+        Assert.assertEquals(6, tess.getIndexCount());
+        Assert.assertEquals(0, tess.getCombinedVertexCount());
+        Assert.assertEquals(1.0, triangleArea(tess, xy), EPSILON);
+
+        // clockwise input, fixed normal: still the interior w/ ODD rule, emitted CCW
+        final double[] xyCW = { 0, 0,  0, 1,  1, 1,  1, 0 };
+        Assert.assertEquals(2, tess.tessellate(xyCW, 2, 4, new int[] { 0 }, 1));
+        Assert.assertEquals(1.0, triangleArea(tess, xyCW), EPSILON);
+
+        // degenerate input
+        Assert.assertEquals(0, tess.tessellate(xy, 2, 2, new int[] { 0 }, 1));
+        Assert.assertEquals(0, tess.tessellate(new double[] { 0, 0,  1, 1,  2, 2 }, 2, 3, new int[] { 0 }, 1));
+        Assert.assertEquals(0, tess.getIndexCount());
+    }
+
+    @Test
+    public void test02SquareWithHole() {
+        final GLUtessellatorBatch tess = GLU.gluNewTessBatch();
+        final double[] xy = { 0, 0,  4, 0,  4, 4,  0, 4,    1, 1,  1, 3,  3, 3,  3, 1 };
+        final int tris = tess.tessellate(xy, 2, 8, new int[] { 0, 4 }, 2);
+        Assert.assertEquals(8, tris);
+        Assert.assertEquals(12.0, triangleArea(tess, xy), EPSILON);
+
+        // same as 3-component floats
+        final float[] xyz = new float[8*3];
+        for(int i=0; i<8; i++) {
+            xyz[i*3] = (float)xy[i*2];
+            xyz[i*3+1] = (float)xy[i*2+1];
+            xyz[i*3+2] = 5f;
+        }
+        final int[] indices = Arrays.copyOf(tess.getIndices(), tess.getIndexCount());
+        Assert.assertEquals(tris, tess.tessellate(xyz, 3, 8, new int[] { 0, 4 }, 2));
+        Assert.assertArrayEquals(canonicalTriangles(indices, indices.length),
+                                 canonicalTriangles(tess.getIndices(), tess.getIndexCount()));
+
+        // NONZERO w/ both contours CCW fills the hole
+        final double[] xy2 = { 0, 0,  4, 0,  4, 4,  0, 4,    1, 1,  3, 1,  3, 3,  1, 3 };
+        tess.setWindingRule(GLU.GLU_TESS_WINDING_NONZERO);
+        tess.tessellate(xy2, 2, 8, new int[] { 0, 4 }, 2);
+        Assert.assertEquals(16.0, triangleArea(tess, xy2), EPSILON);
+        tess.setWindingRule(GLU.GLU_TESS_WINDING_ODD);
+        tess.tessellate(xy2, 2, 8, new int[] { 0, 4 }, 2);
+        Assert.assertEquals(12.0, triangleArea(tess, xy2), EPSILON);
+    }
+
+    @Test
+    public void test03Concave() {
+        final GLUtessellatorBatch tess = GLU.gluNewTessBatch();
+        final Random rnd = new Random(3);
+        for(int i=0; i<50; i++) {
+            final double[] xy = star(rnd, 5 + rnd.nextInt(100), 1, 100, false);
+            final int n = xy.length / 2;
+            Assert.assertEquals(n - 2, tess.tessellate(xy, 2, n, new int[] { 0 }, 1));
+            Assert.assertEquals(contourArea(xy, 0, n), triangleArea(tess, xy), 1e-6);
+        }
+    }
+
+    @Test
+    public void test04SelfIntersection() {
+        final GLUtessellatorBatch tess = GLU.gluNewTessBatch();
+        // bow tie crossing at (1, 1)
+        final double[] xy = { 0, 0,  2, 2,  2, 0,  0, 2 };
+        Assert.assertEquals(2, tess.tessellate(xy, 2, 4, new int[] { 0 }, 1));
+        Assert.assertEquals(1, tess.getCombinedVertexCount());
+        final double[] c = tess.getCombinedCoords();
+        Assert.assertEquals(1.0, c[0], EPSILON);
+        Assert.assertEquals(1.0, c[1], EPSILON);
+        Assert.assertEquals(0.0, c[2], EPSILON);
+        final int[] src = tess.getCombinedSources();
+        final float[] w = tess.getCombinedWeights();
+        double wx = 0, wy = 0, wsum = 0;
+        for(int i=0; i<4; i++) {
+            Assert.assertTrue(0 <= src[i] && src[i] < 4);
+            wx += w[i] * xy[src[i]*2];
+            wy += w[i] * xy[src[i]*2+1];
+            wsum += w[i];
+        }
+        Assert.assertEquals(1.0, wsum, 1e-6);
+        Assert.assertEquals(1.0, wx, 1e-6);
+        Assert.assertEquals(1.0, wy, 1e-6);
+        Assert.assertEquals(2.0, triangleArea(tess, xy), EPSILON);
+        boolean usesCombined = false;
+        for(int i=0; i<tess.getIndexCount(); i++) {
+            usesCombined |= 4 == tess.getIndices()[i];
+        }
+        Assert.assertTrue(usesCombined);
+    }
+
+    @Test
+    public void test05CompareCallbackAPI() {
+        final Polygon[] polys = randomPolygons(5, 200);
+        final GLUtessellatorBatch tess = GLU.gluNewTessBatch();
+        final CallbackTriangulator ref = new CallbackTriangulator();
+        final Integer[] vertexData = vertexData(128);
+        final double[] xyz = new double[128*3];
+        int combined = 0;
+        for(int pass=0; pass<2; pass++) { // 2nd pass runs on reused storage
+            for(int i=0; i<polys.length; i++) {
+                final Polygon p = polys[i];
+                final int tris = tessellate(tess, p);
+                final int refTris = ref.tessellate(p, vertexData, xyz);
+                Assert.assertEquals("polygon "+i, refTris, tris);
+                Assert.assertArrayEquals("polygon "+i, canonicalTriangles(ref.indices, ref.indexCount),
+                                         canonicalTriangles(tess.getIndices(), tess.getIndexCount()));
+                Assert.assertEquals("polygon "+i, ref.nextIndex - p.vertexCount(), tess.getCombinedVertexCount());
+                combined += tess.getCombinedVertexCount();
+                if( 3 != i % 4 ) {
+                    double area = 0;
+                    for(int c=0; c<p.contourStarts.length; c++) {
+                        final int end = c + 1 < p.contourStarts.length ? p.contourStarts[c+1] : p.vertexCount();
+                        area += contourArea(p.coords, p.contourStarts[c], end);
+                    }
+                    Assert.assertEquals("polygon "+i, area, triangleArea(tess, p.coords), 1e-6);
+                }
+            }
+        }
+        Assert.assertTrue(0 < combined);
+    }
+
+    @Test
+    public void test06Parallel() throws InterruptedException {
+        final Polygon[] polys = randomPolygons(6, 400);
+        final long[][] expected = new long[polys.length][];
+        {
+            final GLUtessellatorBatch tess = GLU.gluNewTessBatch();
+            for(int i=0; i<polys.length; i++) {
+                tessellate(tess, polys[i]);
+                expected[i] = canonicalTriangles(tess.getIndices(), tess.getIndexCount());
+            }
+        }
+        final int threadCount = 4;
+        final ArrayList<Throwable> errors = new ArrayList<Throwable>();
+        final Thread[] threads = new Thread[threadCount];
+        for(int t=0; t<threadCount; t++) {
+            final int offset = t;
+            threads[t] = new Thread("tess-"+t) {
+                @Override
+                public void run() {
+                    try {
+                        final GLUtessellatorBatch tess = GLU.gluNewTessBatch();
+                        for(int l=0; l<5; l++) {
+                            for(int j=0; j<polys.length; j++) {
+                                final int i = ( j + offset * 97 ) % polys.length;
+                                tessellate(tess, polys[i]);
+                                Assert.assertArrayEquals(expected[i], canonicalTriangles(tess.getIndices(), tess.getIndexCount()));
+                            }
+                        }
+                    } catch (final Throwable e) {
+                        synchronized(errors) {
+                            errors.add(e);
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for(int t=0; t<threadCount; t++) {
+            threads[t].join();
+        }
+        if( !errors.isEmpty() ) {
+            throw new AssertionError(errors.get(0));
+        }
+    }
+
+    @Test
+    public void test07InvalidArguments() {
+        final GLUtessellatorBatch tess = GLU.gluNewTessBatch();
+        final double[] xy = { 0, 0,  1, 0,  1, 1,  0, 1 };
+        try {
+            tess.tessellate(xy, 2, 5, new int[] { 0 }, 1);
+            Assert.fail("vertex count exceeds coords");
+        } catch (final IllegalArgumentException e) { }
+        try {
+            tess.tessellate(xy, 2, 4, new int[] { 0, 3, 2 }, 3);
+            Assert.fail("descending contour starts");
+        } catch (final IllegalArgumentException e) { }
+        try {
+            tess.tessellate(xy, 4, 2, new int[] { 0 }, 1);
+            Assert.fail("components");
+        } catch (final IllegalArgumentException e) { }
+        try {
+            tess.setWindingRule(0);
+            Assert.fail("winding rule");
+        } catch (final IllegalArgumentException e) { }
+        // still usable
+        Assert.assertEquals(2, tess.tessellate(xy, 2, 4, new int[] { 0 }, 1));
+    }
+
+    @Test
+    public void test10Benchmark() {
+        final Polygon[] polys = randomPolygons(10, polygons);
+        final GLUtessellatorBatch tess = GLU.gluNewTessBatch();
+        final CallbackTriangulator ref = new CallbackTriangulator();
+        final Integer[] vertexData = vertexData(128);
+        final double[] xyz = new double[128*3];
+        long sum0 = 0, sum1 = 0;
+        // warm up
+        for(int i=0; i<polys.length; i++) {
+            sum0 += ref.tessellate(polys[i], vertexData, xyz);
+            sum1 += tessellate(tess, polys[i]);
+        }
+        Assert.assertEquals(sum0, sum1);
+        final long t0 = System.nanoTime();
+        for(int l=0; l<loops; l++) {
+            for(int i=0; i<polys.length; i++) {
+                sum0 += ref.tessellate(polys[i], vertexData, xyz);
+            }
+        }
+        final long t1 = System.nanoTime();
+        for(int l=0; l<loops; l++) {
+            for(int i=0; i<polys.length; i++) {
+                sum1 += tessellate(tess, polys[i]);
+            }
+        }
+        final long t2 = System.nanoTime();
+        Assert.assertEquals(sum0, sum1);
+        System.err.printf("Tessellate %d polygons, loops %d: callback %.2f us/polygon, batch %.2f us/polygon%n",
+                polys.length, loops, ( t1 - t0 ) / 1000.0 / ( polys.length * loops ), ( t2 - t1 ) / 1000.0 / ( polys.length * loops ));
+    }
+}
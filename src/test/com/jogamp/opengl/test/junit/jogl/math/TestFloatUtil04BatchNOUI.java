@@ -0,0 +1,190 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.math;
+
+import java.nio.FloatBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.math.FloatUtil;
+import com.jogamp.opengl.util.PMVMatrix;
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+
+/**
+ * Validating the batched {@link FloatUtil} matrix and vector kernels against their per-element counterparts,
+ * including a simple benchmark.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFloatUtil04BatchNOUI {
+    static final int count = 20000;
+    static int loops = 200;
+
+    final float[] m1 = new float[]{    1,    3,    4,    0,
+                                       6,    7,    8,    5,
+                                      98,    7,    6,    9,
+                                      54,    3,    2,    5 };
+
+    static float[] makeData(final int n) {
+        final float[] data = new float[n];
+        for(int i=0; i<n; i++) {
+            data[i] = ( i % 97 ) * 0.25f - 12f;
+        }
+        return data;
+    }
+
+    @Test
+    public void test01Vec4() {
+        final int stride = 5;
+        final float[] src = makeData(count*stride);
+        final float[] dst0 = new float[count*4];
+        final float[] dst1 = new float[count*4];
+        for(int i=0; i<count; i++) {
+            FloatUtil.multMatrixVec(m1, 0, src, i*stride, dst0, i*4);
+        }
+        FloatUtil.multMatrixVec4(m1, 0, src, 0, stride, dst1, 0, 4, count);
+        Assert.assertArrayEquals(dst0, dst1, 0f);
+
+        // FloatBuffer, direct and heap
+        final FloatBuffer srcB = Buffers.newDirectFloatBuffer(src);
+        final FloatBuffer dstB = Buffers.newDirectFloatBuffer(count*4);
+        FloatUtil.multMatrixVec4(m1, 0, srcB, 0, stride, dstB, 0, 4, count);
+        final float[] dst2 = new float[count*4];
+        dstB.get(dst2);
+        Assert.assertArrayEquals(dst0, dst2, 0f);
+        final FloatBuffer dstH = FloatBuffer.allocate(count*4);
+        FloatUtil.multMatrixVec4(m1, 0, FloatBuffer.wrap(src), 0, stride, dstH, 0, 4, count);
+        Assert.assertArrayEquals(dst0, dstH.array(), 0f);
+
+        // in place
+        FloatUtil.multMatrixVec4(m1, 0, src, 0, stride, src, 0, stride, count);
+        for(int i=0; i<count; i++) {
+            for(int j=0; j<4; j++) {
+                Assert.assertEquals(dst0[i*4+j], src[i*stride+j], 0f);
+            }
+        }
+    }
+
+    @Test
+    public void test02Vec3() {
+        final float[] src = makeData(count*3);
+        final float[] dst0 = new float[count*3];
+        final float[] dst1 = new float[count*3];
+        final float[] v4 = new float[] { 0, 0, 0, 1 };
+        final float[] r4 = new float[4];
+        for(int i=0; i<count; i++) {
+            System.arraycopy(src, i*3, v4, 0, 3);
+            FloatUtil.multMatrixVec(m1, v4, r4);
+            System.arraycopy(r4, 0, dst0, i*3, 3);
+        }
+        FloatUtil.multMatrixVec3(m1, 0, src, 0, 3, dst1, 0, 3, count);
+        Assert.assertArrayEquals(dst0, dst1, 0f);
+
+        final FloatBuffer dstB = Buffers.newDirectFloatBuffer(count*3);
+        FloatUtil.multMatrixVec3(m1, 0, Buffers.newDirectFloatBuffer(src), 0, 3, dstB, 0, 3, count);
+        final float[] dst2 = new float[count*3];
+        dstB.get(dst2);
+        Assert.assertArrayEquals(dst0, dst2, 0f);
+    }
+
+    @Test
+    public void test03Matrices() {
+        final int n = 100;
+        final float[] b = makeData(n*16);
+        final float[] d0 = new float[n*16];
+        final float[] d1 = new float[n*16];
+        for(int i=0; i<n; i++) {
+            FloatUtil.multMatrix(m1, 0, b, i*16, d0, i*16);
+        }
+        FloatUtil.multMatrix(m1, 0, b, 0, d1, 0, n);
+        Assert.assertArrayEquals(d0, d1, 0f);
+
+        // in place
+        FloatUtil.multMatrix(m1, 0, b, 0, b, 0, n);
+        Assert.assertArrayEquals(d0, b, 0f);
+    }
+
+    @Test
+    public void test04PMVMatrix() {
+        final PMVMatrix pmv = new PMVMatrix();
+        pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+        pmv.glTranslatef(1f, 2f, 3f);
+        pmv.glRotatef(30f, 0f, 1f, 0f);
+        final float[] src = makeData(count*3);
+        final float[] dst0 = new float[count*3];
+        final float[] dst1 = new float[count*3];
+        final float[] mv = new float[16];
+        pmv.glGetFloatv(GLMatrixFunc.GL_MODELVIEW_MATRIX, mv, 0);
+        FloatUtil.multMatrixVec3(mv, 0, src, 0, 3, dst0, 0, 3, count);
+        pmv.multMvVec3f(src, 0, 3, dst1, 0, 3, count);
+        Assert.assertArrayEquals(dst0, dst1, 0f);
+    }
+
+    @Test
+    public void test10Benchmark() {
+        final float[] src = makeData(count*4);
+        final float[] dst = new float[count*4];
+        final float[] b = makeData(count/10*16);
+        final float[] d = new float[count/10*16];
+        for(int warmup=0; warmup<2; warmup++) {
+            long tVecE = 0, tVecB = 0, tMatE = 0, tMatB = 0;
+            for(int l=0; l<loops; l++) {
+                final long t0 = System.nanoTime();
+                for(int i=0; i<count; i++) {
+                    FloatUtil.multMatrixVec(m1, 0, src, i*4, dst, i*4);
+                }
+                final long t1 = System.nanoTime();
+                FloatUtil.multMatrixVec4(m1, 0, src, 0, 4, dst, 0, 4, count);
+                final long t2 = System.nanoTime();
+                for(int i=0; i<count/10; i++) {
+                    FloatUtil.multMatrix(m1, 0, b, i*16, d, i*16);
+                }
+                final long t3 = System.nanoTime();
+                FloatUtil.multMatrix(m1, 0, b, 0, d, 0, count/10);
+                final long t4 = System.nanoTime();
+                tVecE += t1 - t0; tVecB += t2 - t1; tMatE += t3 - t2; tMatB += t4 - t3;
+            }
+            if( 0 < warmup ) {
+                System.err.println("multMatrixVec x "+count+": per element "+tVecE/loops/1000+" us, batch "+tVecB/loops/1000+" us");
+                System.err.println("multMatrix    x "+count/10+": per element "+tMatE/loops/1000+" us, batch "+tMatB/loops/1000+" us");
+            }
+        }
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = Integer.parseInt(args[++i]);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestFloatUtil04BatchNOUI.class.getName());
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.math;
+
+import java.nio.FloatBuffer;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+import com.jogamp.opengl.math.geom.AABBox;
+import com.jogamp.opengl.math.geom.Frustum;
+import com.jogamp.opengl.util.PMVMatrix;
+
+/**
+ * Validating the batched {@link Frustum} culling against the per object tests,
+ * including a simple benchmark.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFrustum01BatchCullNOUI {
+    static int count = 100000;
+    static int loops = 20;
+
+    final float[] minX = new float[count], minY = new float[count], minZ = new float[count];
+    final float[] maxX = new float[count], maxY = new float[count], maxZ = new float[count];
+    final AABBox[] boxes = new AABBox[count];
+    final Frustum frustum;
+
+    public TestFrustum01BatchCullNOUI() {
+        final Random rnd = new Random(42);
+        for(int j=0; j<count; j++) {
+            final float x = rnd.nextFloat() * 200f - 100f, y = rnd.nextFloat() * 200f - 100f, z = rnd.nextFloat() * 200f - 100f;
+            final float s = rnd.nextFloat() * 4f;
+            minX[j] = x; minY[j] = y; minZ[j] = z;
+            maxX[j] = x + s; maxY[j] = y + s; maxZ[j] = z + s;
+            boxes[j] = new AABBox(minX[j], minY[j], minZ[j], maxX[j], maxY[j], maxZ[j]);
+        }
+        final PMVMatrix pmv = new PMVMatrix();
+        pmv.glMatrixMode(GLMatrixFunc.GL_PROJECTION);
+        pmv.gluPerspective(45f, 1.5f, 1f, 100f);
+        pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+        pmv.glRotatef(20f, 0f, 1f, 0f);
+        final float[] pmvm = new float[16];
+        pmv.multPMvMatrixf(pmvm, 0);
+        frustum = new Frustum();
+        frustum.updateByPMV(pmvm, 0);
+    }
+
+    int countVisible() {
+        int n = 0;
+        for(int j=0; j<count; j++) {
+            if( !frustum.isAABBoxOutside(boxes[j]) ) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Test
+    public void test01BitSet() {
+        final BitSet visible = new BitSet(count);
+        final int[] hints = new int[count];
+        java.util.Arrays.fill(hints, -1);
+        for(int pass=0; pass<2; pass++) { // 2nd pass uses plane hints
+            final int n = frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, 0, count, visible, hints);
+            Assert.assertEquals(countVisible(), n);
+            Assert.assertTrue(0 < n && n < count);
+            for(int j=0; j<count; j++) {
+                Assert.assertEquals(!frustum.isAABBoxOutside(boxes[j]), visible.get(j));
+                Assert.assertEquals(visible.get(j), 0 > hints[j]);
+            }
+        }
+        // sub-range w/o hints
+        visible.clear();
+        final int n = frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, 100, 1000, visible, null);
+        Assert.assertEquals(n, visible.cardinality());
+        Assert.assertTrue(visible.nextSetBit(0) >= 100 && visible.length() <= 1100);
+    }
+
+    @Test
+    public void test02FloatBuffer() {
+        final int stride = 7;
+        final FloatBuffer fb = Buffers.newDirectFloatBuffer(count*stride);
+        for(int j=0; j<count; j++) {
+            fb.put(j*stride+0, minX[j]); fb.put(j*stride+1, minY[j]); fb.put(j*stride+2, minZ[j]);
+            fb.put(j*stride+3, maxX[j]); fb.put(j*stride+4, maxY[j]); fb.put(j*stride+5, maxZ[j]);
+        }
+        final BitSet visible0 = new BitSet(count);
+        final BitSet visible1 = new BitSet(count);
+        frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, 0, count, visible0, null);
+        frustum.cullAABBoxes(fb, stride, 0, count, visible1, null);
+        Assert.assertEquals(visible0, visible1);
+    }
+
+    @Test
+    public void test03Parallel() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final BitSet visible0 = new BitSet(count);
+            final int[] visible1 = new int[count];
+            final int n0 = frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, 0, count, visible0, null);
+            final int n1 = frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, 0, count, visible1, null, executor);
+            Assert.assertEquals(n0, n1);
+            for(int j=0; j<count; j++) {
+                Assert.assertEquals(visible0.get(j), 1 == visible1[j]);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test04Spheres() {
+        final float[] x = new float[count], y = new float[count], z = new float[count], r = new float[count];
+        for(int j=0; j<count; j++) {
+            x[j] = ( minX[j] + maxX[j] ) * 0.5f;
+            y[j] = ( minY[j] + maxY[j] ) * 0.5f;
+            z[j] = ( minZ[j] + maxZ[j] ) * 0.5f;
+            r[j] = maxX[j] - minX[j];
+        }
+        final BitSet visible = new BitSet(count);
+        final int[] hints = new int[count];
+        frustum.cullSpheres(x, y, z, r, 0, count, visible, hints);
+        final float[] p = new float[3];
+        for(int j=0; j<count; j++) {
+            p[0] = x[j]; p[1] = y[j]; p[2] = z[j];
+            Assert.assertEquals(!frustum.isSphereOutside(p, r[j]), visible.get(j));
+        }
+    }
+
+    @Test
+    public void test10Benchmark() {
+        final BitSet visible = new BitSet(count);
+        final int[] hints = new int[count];
+        for(int warmup=0; warmup<2; warmup++) {
+            long tE = 0, tB = 0, tH = 0;
+            int nE = 0, nB = 0, nH = 0;
+            for(int l=0; l<loops; l++) {
+                final long t0 = System.nanoTime();
+                nE = countVisible();
+                final long t1 = System.nanoTime();
+                nB = frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, 0, count, visible, null);
+                final long t2 = System.nanoTime();
+                nH = frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, 0, count, visible, hints);
+                final long t3 = System.nanoTime();
+                tE += t1 - t0; tB += t2 - t1; tH += t3 - t2;
+            }
+            Assert.assertEquals(nE, nB);
+            Assert.assertEquals(nE, nH);
+            if( 0 < warmup ) {
+                System.err.println("Culling "+count+" boxes, "+nE+" visible: per object "+tE/loops/1000+" us, batch "+tB/loops/1000+" us, "+
+                                   "batch w/ plane hints "+tH/loops/1000+" us");
+            }
+        }
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = Integer.parseInt(args[++i]);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestFrustum01BatchCullNOUI.class.getName());
+    }
+}
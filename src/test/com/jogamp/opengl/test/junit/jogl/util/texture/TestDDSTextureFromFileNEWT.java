@@ -0,0 +1,131 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.ImageType;
+import com.jogamp.opengl.util.texture.TextureData;
+import com.jogamp.opengl.util.texture.TextureIO;
+
+/**
+ * Validates DDS files loaded via {@link TextureIO} from a {@link File} or <i>file</i> {@link URL}
+ * are backed by a read-only memory mapping, while matching the content loaded from a stream.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDDSTextureFromFileNEWT extends UITestCase {
+    static final String[] files = { "test-64x32_uncompressed.dds", "test-64x32_DXT1.dds", "test-64x32_DXT5.dds" };
+
+    private URL getURL(final String filename) {
+        final URLConnection connection = IOUtil.getResource(filename, getClass().getClassLoader(), getClass());
+        Assert.assertNotNull(connection);
+        return connection.getURL();
+    }
+
+    private TextureData readStream(final URL url) throws IOException {
+        final InputStream stream = url.openStream();
+        try {
+            return TextureIO.newTextureData(null, stream, true, TextureIO.DDS);
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static ByteBuffer[] getBuffers(final TextureData data) {
+        if( null != data.getMipmapData() ) {
+            final ByteBuffer[] res = new ByteBuffer[data.getMipmapData().length];
+            for(int i=0; i<res.length; i++) {
+                res[i] = (ByteBuffer) data.getMipmapData()[i];
+            }
+            return res;
+        }
+        return new ByteBuffer[] { (ByteBuffer) data.getBuffer() };
+    }
+
+    private void testImpl(final String filename, final boolean useURL) throws IOException, URISyntaxException {
+        final URL url = getURL(filename);
+        final TextureData expData = readStream(url);
+        final TextureData hasData;
+        if( useURL ) {
+            hasData = TextureIO.newTextureData(null, url, true, null);
+        } else {
+            hasData = TextureIO.newTextureData(null, new File(url.toURI()), true, null);
+        }
+        Assert.assertEquals(new ImageType(ImageType.T_DDS), hasData.getSourceImageType());
+        Assert.assertEquals(expData.getWidth(), hasData.getWidth());
+        Assert.assertEquals(expData.getHeight(), hasData.getHeight());
+        Assert.assertEquals(expData.getInternalFormat(), hasData.getInternalFormat());
+        Assert.assertEquals(expData.getPixelFormat(), hasData.getPixelFormat());
+        Assert.assertEquals(expData.isDataCompressed(), hasData.isDataCompressed());
+
+        final ByteBuffer[] exp = getBuffers(expData);
+        final ByteBuffer[] has = getBuffers(hasData);
+        Assert.assertEquals(exp.length, has.length);
+        for(int i=0; i<has.length; i++) {
+            System.err.println(filename+" level "+i+": "+has[i]);
+            Assert.assertFalse("Stream buffer "+i+" is direct", exp[i].isDirect());
+            Assert.assertTrue("Mapped buffer "+i+" not direct", has[i].isDirect());
+            Assert.assertTrue("Mapped buffer "+i+" not read-only", has[i].isReadOnly());
+            Assert.assertEquals("Content of level "+i, exp[i], has[i]);
+        }
+        hasData.flush();
+        expData.flush();
+    }
+
+    @Test
+    public void test01_File() throws IOException, URISyntaxException {
+        for(int i=0; i<files.length; i++) {
+            testImpl(files[i], false);
+        }
+    }
+
+    @Test
+    public void test02_URL() throws IOException, URISyntaxException {
+        for(int i=0; i<files.length; i++) {
+            testImpl(files[i], true);
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestDDSTextureFromFileNEWT.class.getName());
+    }
+}
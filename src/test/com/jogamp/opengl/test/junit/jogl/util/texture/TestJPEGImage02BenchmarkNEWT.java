@@ -0,0 +1,125 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.spi.JPEGImage;
+
+/**
+ * Benchmarking the JPEG decoder's throughput in megapixel per second
+ * on the bundled test images, validating the decoded RGB pixels
+ * against the CRC32 of the previous bit-by-bit Huffman decoder's result.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestJPEGImage02BenchmarkNEWT extends UITestCase {
+    static int loops = 20;
+
+    /** File name and CRC32 of the decoded RGB pixels. */
+    static final Object[][] files = {
+        { "bug745_qttdef_post_frame.jpg", Long.valueOf(0x6ccc365dL) },
+        { "j1-baseline.jpg", Long.valueOf(0xc331c192L) },
+        { "j2-progressive.jpg", Long.valueOf(0xb32285abL) },
+        { "j3-baseline_gray.jpg", Long.valueOf(0x3c79687fL) },
+        { "test-cmyk-01.jpg", Long.valueOf(0x9366a37cL) },
+        { "test-ntscN_3-01-160x90-60pct-yuv422h-base.jpg", Long.valueOf(0x7268d01cL) },
+        { "test-ntscN_3-01-160x90-60pct-yuv422h-prog.jpg", Long.valueOf(0x4aabc32fL) },
+        { "test-ntscN_3-01-160x90-90pct-yuv444-base.jpg", Long.valueOf(0x8ba54fdcL) },
+        { "test-ntscN_3-01-160x90-90pct-yuv444-prog.jpg", Long.valueOf(0x08d22975L) },
+        { "test-ycck-01.jpg", Long.valueOf(0xf59bb304L) },
+    };
+
+    @Test
+    public void test01Identity() throws IOException {
+        for(int i=0; i<files.length; i++) {
+            final String fname = (String)files[i][0];
+            final JPEGImage image = JPEGImage.read(new ByteArrayInputStream(readFile(fname)));
+            final long crc = crc32(image.getData());
+            System.err.printf("%s: %dx%d, crc32 0x%08x%n", fname, image.getWidth(), image.getHeight(), crc);
+            Assert.assertEquals(fname, ((Long)files[i][1]).longValue(), crc);
+        }
+    }
+
+    @Test
+    public void test02Throughput() throws IOException {
+        long pixels = 0, nanos = 0;
+        for(int i=0; i<files.length; i++) {
+            final String fname = (String)files[i][0];
+            final byte[] data = readFile(fname);
+            JPEGImage.read(new ByteArrayInputStream(data)); // warm-up
+            final long t0 = System.nanoTime();
+            int w = 0, h = 0;
+            for(int j=0; j<loops; j++) {
+                final JPEGImage image = JPEGImage.read(new ByteArrayInputStream(data));
+                w = image.getWidth();
+                h = image.getHeight();
+            }
+            final long dt = System.nanoTime() - t0;
+            pixels += (long)w * h * loops;
+            nanos += dt;
+            System.err.printf("%s: %dx%d, loops %d: %.3f ms/l, %.2f MP/s%n",
+                    fname, w, h, loops, dt / 1000000.0 / loops, ( (double)w * h * loops ) / ( dt / 1000.0 ));
+        }
+        System.err.printf("Total: %.2f MP/s%n", pixels / ( nanos / 1000.0 ));
+    }
+
+    private byte[] readFile(final String fname) throws IOException {
+        final URLConnection urlConn = IOUtil.getResource(fname, this.getClass().getClassLoader(), this.getClass());
+        Assert.assertNotNull(fname, urlConn);
+        return IOUtil.copyStream2ByteArray(urlConn.getInputStream());
+    }
+
+    private static long crc32(final ByteBuffer data) {
+        final byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestJPEGImage02BenchmarkNEWT.class.getName());
+    }
+}
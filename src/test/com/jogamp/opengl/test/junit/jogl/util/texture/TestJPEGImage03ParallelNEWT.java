@@ -0,0 +1,135 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URLConnection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.TextureData.ColorSpace;
+import com.jogamp.opengl.util.texture.spi.JPEGImage;
+
+/**
+ * Testing the JPEG decoder's parallel restart interval decoding,
+ * inverse DCT and scanline conversion against the serial decoding
+ * of the bundled test images.
+ * <p>
+ * <code>test-ycck-01.jpg</code> uses restart intervals.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestJPEGImage03ParallelNEWT extends UITestCase {
+    static int loops = 20;
+    static String benchmarkFile = "test-ycck-01.jpg";
+    static ExecutorService executor;
+
+    @BeforeClass
+    public static void initClass() {
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+    @AfterClass
+    public static void releaseClass() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void test01_RGB() throws IOException {
+        testImpl(ColorSpace.RGB);
+    }
+    @Test
+    public void test02_YCbCr() throws IOException {
+        testImpl(ColorSpace.YCbCr);
+    }
+
+    private void testImpl(final ColorSpace cs) throws IOException {
+        for(int i=0; i<TestJPEGImage02BenchmarkNEWT.files.length; i++) {
+            final String fname = (String)TestJPEGImage02BenchmarkNEWT.files[i][0];
+            if( ColorSpace.YCbCr == cs && fname.startsWith("test-cmyk") ) {
+                continue; // CMYK -> YCbCr storage not supported
+            }
+            final byte[] data = readFile(fname);
+            final JPEGImage image0 = JPEGImage.read(new ByteArrayInputStream(data), cs);
+            final JPEGImage image1 = JPEGImage.read(new ByteArrayInputStream(data), cs, executor);
+            System.err.println(fname+": "+cs+", "+image1.getWidth()+"x"+image1.getHeight());
+            Assert.assertEquals(image0.getWidth(), image1.getWidth());
+            Assert.assertEquals(image0.getHeight(), image1.getHeight());
+            Assert.assertEquals(fname, image0.getData(), image1.getData());
+        }
+    }
+
+    @Test
+    public void test10_Benchmark() throws IOException {
+        final byte[] data = readFile(benchmarkFile);
+        JPEGImage.read(new ByteArrayInputStream(data), ColorSpace.RGB, executor); // warm-up
+        int w = 0, h = 0;
+        final long t0 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            final JPEGImage image = JPEGImage.read(new ByteArrayInputStream(data), ColorSpace.RGB);
+            w = image.getWidth();
+            h = image.getHeight();
+        }
+        final long t1 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            JPEGImage.read(new ByteArrayInputStream(data), ColorSpace.RGB, executor);
+        }
+        final long t2 = System.nanoTime();
+        final double mp = (double)w * h * loops;
+        System.err.printf("%s, %dx%d, loops %d, threads %d: serial %.2f MP/s, parallel %.2f MP/s, speedup %.1fx%n",
+                benchmarkFile, w, h, loops, Runtime.getRuntime().availableProcessors(),
+                mp / ( ( t1 - t0 ) / 1000.0 ), mp / ( ( t2 - t1 ) / 1000.0 ), (double)( t1 - t0 ) / ( t2 - t1 ));
+    }
+
+    private byte[] readFile(final String fname) throws IOException {
+        final URLConnection urlConn = IOUtil.getResource(fname, this.getClass().getClassLoader(), this.getClass());
+        Assert.assertNotNull(fname, urlConn);
+        return IOUtil.copyStream2ByteArray(urlConn.getInputStream());
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            } else if(args[i].equals("-file")) {
+                benchmarkFile = args[++i];
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestJPEGImage03ParallelNEWT.class.getName());
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.TextureData;
+import com.jogamp.opengl.util.texture.TextureIO;
+import com.jogamp.opengl.util.texture.TextureData.ColorSpace;
+import com.jogamp.opengl.util.texture.spi.JPEGImage;
+
+/**
+ * Testing reduced size JPEG decoding at 1/2, 1/4 and 1/8 scale
+ * against the box filtered full size decoded image of the bundled test images.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestJPEGImage04ScaledNEWT extends UITestCase {
+    static int loops = 20;
+    static String benchmarkFile = "test-ycck-01.jpg";
+    /** Maximum mean absolute difference per color component to the box filtered full size image. */
+    static final double maxMeanError = 4.0;
+
+    @Test
+    public void test01_FullSizeIdentity() throws IOException {
+        for(int i=0; i<TestJPEGImage02BenchmarkNEWT.files.length; i++) {
+            final String fname = (String)TestJPEGImage02BenchmarkNEWT.files[i][0];
+            final byte[] data = readFile(fname);
+            final JPEGImage image0 = JPEGImage.read(new ByteArrayInputStream(data));
+            final JPEGImage image1 = JPEGImage.read(new ByteArrayInputStream(data), ColorSpace.RGB, null, 1);
+            Assert.assertEquals(fname, image0.getData(), image1.getData());
+        }
+    }
+
+    @Test
+    public void test02_Scaled() throws IOException {
+        for(int i=0; i<TestJPEGImage02BenchmarkNEWT.files.length; i++) {
+            final String fname = (String)TestJPEGImage02BenchmarkNEWT.files[i][0];
+            final byte[] data = readFile(fname);
+            final JPEGImage full = JPEGImage.read(new ByteArrayInputStream(data));
+            for(int scaleDenom = 2; scaleDenom <= 8; scaleDenom *= 2) {
+                final JPEGImage image = JPEGImage.read(new ByteArrayInputStream(data), ColorSpace.RGB, null, scaleDenom);
+                Assert.assertEquals(fname, ( full.getWidth() + scaleDenom - 1 ) / scaleDenom, image.getWidth());
+                Assert.assertEquals(fname, ( full.getHeight() + scaleDenom - 1 ) / scaleDenom, image.getHeight());
+                final double err = meanError(full, image, scaleDenom);
+                System.err.printf("%s: 1/%d -> %dx%d, mean error %.3f%n", fname, scaleDenom, image.getWidth(), image.getHeight(), err);
+                Assert.assertTrue(fname+" 1/"+scaleDenom+": mean error "+err, err <= maxMeanError);
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void test03_InvalidScale() throws IOException {
+        JPEGImage.read(new ByteArrayInputStream(readFile(benchmarkFile)), ColorSpace.RGB, null, 3);
+    }
+
+    @Test
+    public void test04_TextureIO() throws IOException {
+        final byte[] data = readFile(benchmarkFile);
+        final JPEGImage full = JPEGImage.read(new ByteArrayInputStream(data));
+        final TextureData texData = TextureIO.newTextureData(GLProfile.getGL2ES2(), new ByteArrayInputStream(data), false, TextureIO.JPG, 4);
+        Assert.assertNotNull(texData);
+        System.err.println("TextureData: "+texData);
+        Assert.assertEquals(( full.getWidth() + 3 ) / 4, texData.getWidth());
+        Assert.assertEquals(( full.getHeight() + 3 ) / 4, texData.getHeight());
+    }
+
+    @Test
+    public void test10_Benchmark() throws IOException {
+        final byte[] data = readFile(benchmarkFile);
+        for(int scaleDenom = 1; scaleDenom <= 8; scaleDenom *= 2) {
+            JPEGImage.read(new ByteArrayInputStream(data), ColorSpace.RGB, null, scaleDenom); // warm-up
+            final long t0 = System.nanoTime();
+            int w = 0, h = 0;
+            for(int i=0; i<loops; i++) {
+                final JPEGImage image = JPEGImage.read(new ByteArrayInputStream(data), ColorSpace.RGB, null, scaleDenom);
+                w = image.getWidth();
+                h = image.getHeight();
+            }
+            final long t1 = System.nanoTime();
+            System.err.printf("%s, 1/%d -> %dx%d, loops %d: %.3f ms/l%n", benchmarkFile, scaleDenom, w, h, loops, ( t1 - t0 ) / 1000000.0 / loops);
+        }
+    }
+
+    /** Mean absolute difference of the scaled image to the box filtered full size image, both stored bottom-to-top. */
+    private static double meanError(final JPEGImage full, final JPEGImage scaled, final int scaleDenom) {
+        final ByteBuffer f = full.getData();
+        final ByteBuffer s = scaled.getData();
+        final int fw = full.getWidth(), fh = full.getHeight();
+        final int sw = scaled.getWidth(), sh = scaled.getHeight();
+        long sum = 0, count = 0;
+        for(int y=0; y<sh; y++) {
+            for(int x=0; x<sw; x++) {
+                for(int c=0; c<3; c++) {
+                    int acc = 0, n = 0;
+                    for(int j=y*scaleDenom; j<Math.min(fh, (y+1)*scaleDenom); j++) {
+                        // top-down box rows j map to bottom-to-top storage row fh-1-j
+                        for(int i=x*scaleDenom; i<Math.min(fw, (x+1)*scaleDenom); i++) {
+                            acc += 0xFF & f.get( ( ( fh - 1 - j ) * fw + i ) * 3 + c );
+                            n++;
+                        }
+                    }
+                    final int v = 0xFF & s.get( ( ( sh - 1 - y ) * sw + x ) * 3 + c );
+                    sum += Math.abs( v - ( acc + n / 2 ) / n );
+                    count++;
+                }
+            }
+        }
+        return (double)sum / count;
+    }
+
+    private byte[] readFile(final String fname) throws IOException {
+        final URLConnection urlConn = IOUtil.getResource(fname, this.getClass().getClassLoader(), this.getClass());
+        Assert.assertNotNull(fname, urlConn);
+        return IOUtil.copyStream2ByteArray(urlConn.getInputStream());
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            } else if(args[i].equals("-file")) {
+                benchmarkFile = args[++i];
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestJPEGImage04ScaledNEWT.class.getName());
+    }
+}
@@ -0,0 +1,281 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+
+import jogamp.opengl.util.pngj.ImageInfo;
+import jogamp.opengl.util.pngj.ImageLine;
+import jogamp.opengl.util.pngj.ImageLineHelper;
+import jogamp.opengl.util.pngj.PngReader;
+import jogamp.opengl.util.pngj.PngWriter;
+import jogamp.opengl.util.pngj.chunks.PngChunkPLTE;
+import jogamp.opengl.util.pngj.chunks.PngChunkTRNS;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.nativewindow.util.PixelFormatUtil;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.util.PNGPixelRect;
+
+/**
+ * Validates the row-bulk {@link PNGPixelRect#read(InputStream, PixelFormat, boolean, int, boolean) PNGPixelRect.read}
+ * against a per-pixel reference decoder using <code>int[]</code> scanlines,
+ * and benchmarks both over truecolor, gray+alpha and paletted images.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPNGPixelRect02DecodeNOUI {
+    static int benchWidth = 1024;
+    static int benchHeight = 1024;
+    static int benchLoops = 10;
+
+    static final PixelFormat[] destFormats = { null, PixelFormat.LUMINANCE, PixelFormat.RGB888, PixelFormat.BGR888,
+                                               PixelFormat.RGBA8888, PixelFormat.BGRA8888, PixelFormat.ARGB8888, PixelFormat.ABGR8888 };
+
+    /**
+     * Per-pixel reference decoder, using {@link PngReader#readRow(int)} <code>int[]</code> scanlines
+     * and absolute {@link ByteBuffer#put(int, byte)} calls for each component.
+     */
+    static ByteBuffer referenceRead(final InputStream in, final PixelFormat ddestFmt, final int destMinStrideInBytes, final boolean destIsGLOriented) {
+        final PngReader pngr = new PngReader(in, null);
+        final ImageInfo imgInfo = pngr.imgInfo;
+        final PngChunkPLTE plte = pngr.getMetadata().getPLTE();
+        final PngChunkTRNS trns = pngr.getMetadata().getTRNS();
+        final boolean indexed = imgInfo.indexed;
+        final boolean hasAlpha = indexed ? ( trns != null ) : imgInfo.alpha ;
+        final int channels = indexed ? ( hasAlpha ? 4 : 3 ) : imgInfo.channels ;
+        final boolean isGrayAlpha = 2 == channels && imgInfo.greyscale && imgInfo.alpha;
+        final int width = imgInfo.cols;
+        final int height = imgInfo.rows;
+        final PixelFormat srcFmt;
+        switch( channels ) {
+            case 1: srcFmt = PixelFormat.LUMINANCE; break;
+            case 2: srcFmt = PixelFormat.LUMINANCE; break;
+            case 3: srcFmt = PixelFormat.RGB888; break;
+            default: srcFmt = PixelFormat.RGBA8888; break;
+        }
+        final PixelFormat destFmt = null != ddestFmt ? ddestFmt : ( isGrayAlpha ? PixelFormat.BGRA8888 : srcFmt );
+        final int dbpp = destFmt.comp.bytesPerPixel();
+        final int destStrideInBytes = Math.max(destMinStrideInBytes, dbpp * width);
+        final ByteBuffer d = ByteBuffer.allocate(destStrideInBytes * height);
+        int[] rgba = null;
+        for (int row = 0; row < height; row++) {
+            final ImageLine l1 = pngr.readRow(row);
+            int dOff = destIsGLOriented ? ( height - 1 - row ) * destStrideInBytes : row * destStrideInBytes;
+            final int[] scanline;
+            if( indexed ) {
+                rgba = ImageLineHelper.palette2rgb(l1, plte, trns, rgba);
+                scanline = rgba;
+            } else {
+                scanline = l1.scanline;
+            }
+            for (int j = 0, lineOff = 0; j < width; j++) {
+                final byte r, g, b, a;
+                if( 1 == channels ) {
+                    r = g = b = (byte) scanline[lineOff++]; a = (byte)0xff;
+                } else if( isGrayAlpha ) {
+                    r = g = b = (byte) scanline[lineOff++]; a = (byte) scanline[lineOff++];
+                } else {
+                    r = (byte) scanline[lineOff++]; g = (byte) scanline[lineOff++]; b = (byte) scanline[lineOff++];
+                    a = 4 == channels ? (byte) scanline[lineOff++] : (byte)0xff;
+                }
+                if( 1 == channels || isGrayAlpha ) {
+                    switch( destFmt ) {
+                        case LUMINANCE: d.put(dOff++, r); break;
+                        case RGB888: case BGR888: d.put(dOff++, r); d.put(dOff++, r); d.put(dOff++, r); break;
+                        case ARGB8888: case ABGR8888: d.put(dOff++, a); d.put(dOff++, r); d.put(dOff++, r); d.put(dOff++, r); break;
+                        default: d.put(dOff++, r); d.put(dOff++, r); d.put(dOff++, r); d.put(dOff++, a); break;
+                    }
+                } else {
+                    final int p = PixelFormatUtil.convertToInt32(destFmt, r, g, b, a);
+                    for(int k=0; k<dbpp; k++) {
+                        d.put(dOff++, (byte) ( p >>> ( 8 * k ) ));
+                    }
+                }
+            }
+        }
+        pngr.end();
+        return d;
+    }
+
+    static byte[] readAll(final String basename) throws IOException {
+        final URLConnection urlConn = IOUtil.getResource(basename+".png", TestPNGPixelRect02DecodeNOUI.class.getClassLoader(), TestPNGPixelRect02DecodeNOUI.class);
+        Assert.assertNotNull(urlConn);
+        final InputStream in = urlConn.getInputStream();
+        try {
+            return IOUtil.copyStream2ByteArray(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    static boolean isPackedGray(final byte[] png) {
+        final PngReader pngr = new PngReader(new ByteArrayInputStream(png), null);
+        final boolean res = !pngr.imgInfo.indexed && pngr.imgInfo.packed;
+        pngr.end();
+        return res;
+    }
+
+    static void assertEquals(final String msg, final ByteBuffer expected, final ByteBuffer has) {
+        Assert.assertEquals(msg+": position", 0, has.position());
+        Assert.assertEquals(msg+": limit", expected.limit(), has.limit());
+        for(int i=0; i<expected.limit(); i++) {
+            if( expected.get(i) != has.get(i) ) {
+                Assert.fail(msg+": byte "+i+": expected "+(0xff&expected.get(i))+", has "+(0xff&has.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void test01AllFormatsMatchReference() throws IOException {
+        for(int i=0; i<PNGTstFiles.allBasenames.length; i++) {
+            final String basename = PNGTstFiles.allBasenames[i];
+            final byte[] png = readAll(basename);
+            if( isPackedGray(png) ) {
+                continue; // reference treats packed gray samples as pixels
+            }
+            for(int j=0; j<destFormats.length; j++) {
+                for(int k=0; k<4; k++) {
+                    final boolean flip = 0 != ( k & 1 );
+                    final int minStride = 0 != ( k & 2 ) ? 999 : 0;
+                    final String msg = basename+", "+destFormats[j]+", flip "+flip+", minStride "+minStride;
+                    final ByteBuffer expected = referenceRead(new ByteArrayInputStream(png), destFormats[j], minStride, flip);
+                    final PNGPixelRect has = PNGPixelRect.read(new ByteArrayInputStream(png), destFormats[j], 0 != ( j & 1 ), minStride, flip);
+                    assertEquals(msg, expected, has.getPixels());
+                }
+            }
+        }
+    }
+
+    /** Creates a PNG with a smooth gradient and some noise, i.e. a realistic filter and deflate load. */
+    static byte[] createPNG(final int width, final int height, final int channels, final boolean indexed) throws IOException {
+        final boolean grayAlpha = 2 == channels;
+        final ImageInfo imi = new ImageInfo(width, height, 8, indexed ? false : ( 2 == channels || 4 == channels ), grayAlpha, indexed);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final PngWriter png = new PngWriter(out, imi);
+        if( indexed ) {
+            final PngChunkPLTE plte = png.getMetadata().createPLTEChunk();
+            plte.setNentries(256);
+            final int[] alpha = new int[256];
+            for(int i=0; i<256; i++) {
+                plte.setEntry(i, i, 255-i, ( i * 7 ) & 0xff);
+                alpha[i] = 255 - ( i >> 1 );
+            }
+            final PngChunkTRNS trns = png.getMetadata().createTRNSChunk();
+            trns.setPalletteAlpha(alpha);
+        }
+        final int[] row = new int[width * ( indexed ? 1 : channels )];
+        int seed = 1;
+        for(int y=0; y<height; y++) {
+            for(int x=0, o=0; x<width; x++) {
+                seed = seed * 1103515245 + 12345;
+                final int noise = ( seed >>> 16 ) & 0x0f;
+                if( indexed ) {
+                    row[o++] = ( x + y + noise ) & 0xff;
+                } else {
+                    for(int c=0; c<channels; c++) {
+                        row[o++] = ( x * ( c + 1 ) + y + noise ) & 0xff;
+                    }
+                }
+            }
+            png.writeRowInt(row, y);
+        }
+        png.end();
+        return out.toByteArray();
+    }
+
+    private void benchmark(final String name, final byte[] png, final PixelFormat destFmt) throws IOException {
+        // warm-up and validation
+        assertEquals(name, referenceRead(new ByteArrayInputStream(png), destFmt, 0, true),
+                     PNGPixelRect.read(new ByteArrayInputStream(png), destFmt, true, 0, true).getPixels());
+        final long t0 = System.nanoTime();
+        for(int i=0; i<benchLoops; i++) {
+            referenceRead(new ByteArrayInputStream(png), destFmt, 0, true);
+        }
+        final long t1 = System.nanoTime();
+        for(int i=0; i<benchLoops; i++) {
+            PNGPixelRect.read(new ByteArrayInputStream(png), destFmt, true, 0, true);
+        }
+        final long t2 = System.nanoTime();
+        final double mpix = (double)benchWidth * benchHeight * benchLoops / 1e6;
+        final double refMs = ( t1 - t0 ) / 1e6 / benchLoops;
+        final double newMs = ( t2 - t1 ) / 1e6 / benchLoops;
+        System.err.printf("%-22s -> %-9s: per-pixel %8.3f ms/image (%7.2f MPix/s), row-bulk %8.3f ms/image (%7.2f MPix/s), speedup %.2fx%n",
+                          name, destFmt, refMs, mpix / ( ( t1 - t0 ) / 1e9 ), newMs, mpix / ( ( t2 - t1 ) / 1e9 ), refMs / newMs);
+    }
+
+    @Test
+    public void test10BenchmarkTruecolor() throws IOException {
+        final byte[] rgb = createPNG(benchWidth, benchHeight, 3, false);
+        final byte[] rgba = createPNG(benchWidth, benchHeight, 4, false);
+        benchmark("Truecolor RGB", rgb, PixelFormat.RGB888);
+        benchmark("Truecolor RGB", rgb, PixelFormat.RGBA8888);
+        benchmark("Truecolor RGBA", rgba, PixelFormat.RGBA8888);
+        benchmark("Truecolor RGBA", rgba, PixelFormat.BGRA8888);
+    }
+
+    @Test
+    public void test11BenchmarkGrayAlpha() throws IOException {
+        final byte[] ga = createPNG(benchWidth, benchHeight, 2, false);
+        benchmark("Gray+Alpha", ga, PixelFormat.BGRA8888);
+        benchmark("Gray+Alpha", ga, PixelFormat.RGBA8888);
+    }
+
+    @Test
+    public void test12BenchmarkPaletted() throws IOException {
+        final byte[] pal = createPNG(benchWidth, benchHeight, 4, true);
+        benchmark("Paletted+tRNS", pal, PixelFormat.RGBA8888);
+        benchmark("Paletted+tRNS", pal, PixelFormat.BGRA8888);
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-width")) {
+                i++;
+                benchWidth = MiscUtils.atoi(args[i], benchWidth);
+            } else if(args[i].equals("-height")) {
+                i++;
+                benchHeight = MiscUtils.atoi(args[i], benchHeight);
+            } else if(args[i].equals("-loops")) {
+                i++;
+                benchLoops = MiscUtils.atoi(args[i], benchLoops);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestPNGPixelRect02DecodeNOUI.class.getName());
+    }
+}
@@ -0,0 +1,228 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import javax.imageio.ImageIO;
+
+import jogamp.opengl.util.pngj.FilterType;
+import jogamp.opengl.util.pngj.ImageInfo;
+import jogamp.opengl.util.pngj.PngWriter;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.nativewindow.util.Dimension;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.util.PNGPixelRect;
+
+/**
+ * Validates the parallel PNG encoder of {@link PngWriter#setParallelEncoding(int)}
+ * via {@link PNGPixelRect#write(java.io.OutputStream, boolean, int, int)}:
+ * round trip, zlib stream integrity incl. Adler32 and decoding by ImageIO.
+ * Benchmarks the throughput of a 4K frame, sequential vs parallel.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPNGPixelRect03EncodeNOUI {
+    static int benchWidth = 3840;
+    static int benchHeight = 2160;
+    static int benchLoops = 5;
+    static int benchThreads = Runtime.getRuntime().availableProcessors();
+
+    static PNGPixelRect createImage(final PixelFormat fmt, final int width, final int height, final boolean glOriented) {
+        final int bpp = fmt.comp.bytesPerPixel();
+        final ByteBuffer pixels = ByteBuffer.allocate(width * height * bpp);
+        int seed = 7;
+        for(int y=0; y<height; y++) {
+            for(int x=0; x<width; x++) {
+                seed = seed * 1103515245 + 12345;
+                final int noise = ( seed >>> 16 ) & 0x07;
+                for(int c=0; c<bpp; c++) {
+                    pixels.put( (byte) ( ( x * ( c + 1 ) + y * 3 + noise ) & 0xff ) );
+                }
+            }
+        }
+        pixels.rewind();
+        return new PNGPixelRect(fmt, new Dimension(width, height), width * bpp, glOriented, pixels, 72, 72);
+    }
+
+    /** Concatenates all IDAT chunks and inflates them, which verifies the Adler32 trailer. Returns the inflated size. */
+    static long inflateIDAT(final byte[] png) throws DataFormatException {
+        final ByteArrayOutputStream idat = new ByteArrayOutputStream();
+        int off = 8; // signature
+        while( off < png.length ) {
+            final int len = ( ( png[off] & 0xff ) << 24 ) | ( ( png[off+1] & 0xff ) << 16 ) | ( ( png[off+2] & 0xff ) << 8 ) | ( png[off+3] & 0xff );
+            final String id = new String(png, off+4, 4);
+            if( id.equals("IDAT") ) {
+                idat.write(png, off+8, len);
+            }
+            off += 12 + len;
+        }
+        final Inflater inf = new Inflater();
+        inf.setInput(idat.toByteArray());
+        final byte[] buf = new byte[65536];
+        while( !inf.finished() ) {
+            if( 0 == inf.inflate(buf) && ( inf.needsInput() || inf.needsDictionary() ) ) {
+                Assert.fail("Truncated zlib stream");
+            }
+        }
+        Assert.assertEquals("Trailing IDAT bytes", 0, inf.getRemaining());
+        final long res = inf.getBytesWritten();
+        inf.end();
+        return res;
+    }
+
+    static void assertEquals(final String msg, final PNGPixelRect expected, final PNGPixelRect has) {
+        Assert.assertEquals(msg, expected.getSize(), has.getSize());
+        final ByteBuffer e = expected.getPixels();
+        final ByteBuffer h = has.getPixels();
+        final int bytes = expected.getSize().getWidth() * expected.getSize().getHeight() * expected.getPixelformat().comp.bytesPerPixel();
+        for(int i=0; i<bytes; i++) {
+            if( e.get(i) != h.get(i) ) {
+                Assert.fail(msg+": byte "+i+": expected "+(0xff&e.get(i))+", has "+(0xff&h.get(i)));
+            }
+        }
+    }
+
+    private void testRoundTrip(final PixelFormat fmt, final int width, final int height, final int level, final int threads) throws IOException, DataFormatException {
+        final String msg = fmt+" "+width+"x"+height+", level "+level+", threads "+threads;
+        final PNGPixelRect image = createImage(fmt, width, height, true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        image.write(out, true, level, threads);
+        final byte[] png = out.toByteArray();
+        Assert.assertEquals(msg, (long)height * ( width * fmt.comp.bytesPerPixel() + 1 ), inflateIDAT(png));
+        final PNGPixelRect read = PNGPixelRect.read(new ByteArrayInputStream(png), fmt, false, 0, true);
+        assertEquals(msg, image, read);
+        Assert.assertNotNull(msg, ImageIO.read(new ByteArrayInputStream(png)));
+    }
+
+    @Test
+    public void test01RoundTrip() throws IOException, DataFormatException {
+        Assume.assumeTrue(PngWriter.isParallelEncodingAvailable());
+        final PixelFormat[] fmts = { PixelFormat.RGBA8888, PixelFormat.RGB888, PixelFormat.LUMINANCE };
+        final int[] levels = { 0, 1, 6, 9 };
+        final int[] threads = { 1, 2, 4 };
+        for(int f=0; f<fmts.length; f++) {
+            for(int l=0; l<levels.length; l++) {
+                for(int t=0; t<threads.length; t++) {
+                    testRoundTrip(fmts[f], 517, 301, levels[l], threads[t]);
+                }
+            }
+        }
+        // single band and one row per band (row > band size)
+        testRoundTrip(PixelFormat.RGBA8888, 16, 9, 6, 4);
+        testRoundTrip(PixelFormat.RGBA8888, 40000, 3, 6, 4);
+    }
+
+    @Test
+    public void test02AdaptiveFilter() throws IOException, DataFormatException {
+        Assume.assumeTrue(PngWriter.isParallelEncodingAvailable());
+        final int width = 333, height = 777;
+        final ImageInfo imi = new ImageInfo(width, height, 8, false, false, false);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final PngWriter png = new PngWriter(out, imi);
+        png.setFilterType(FilterType.FILTER_AGGRESSIVE);
+        png.setParallelEncoding(3);
+        final int[] row = new int[width*3];
+        for(int y=0; y<height; y++) {
+            for(int i=0; i<row.length; i++) {
+                row[i] = ( i * y ) & 0xff;
+            }
+            png.writeRowInt(row, y);
+        }
+        png.end();
+        final byte[] data = out.toByteArray();
+        inflateIDAT(data);
+        final PNGPixelRect read = PNGPixelRect.read(new ByteArrayInputStream(data), PixelFormat.RGB888, false, 0, false);
+        final ByteBuffer pixels = read.getPixels();
+        for(int y=0; y<height; y++) {
+            for(int i=0; i<row.length; i++) {
+                Assert.assertEquals("row "+y+", sample "+i, ( i * y ) & 0xff, pixels.get(y * row.length + i) & 0xff);
+            }
+        }
+    }
+
+    private long benchmark(final PNGPixelRect image, final int level, final int threads) throws IOException {
+        long size = 0;
+        final long t0 = System.nanoTime();
+        for(int i=0; i<benchLoops; i++) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(benchWidth * benchHeight);
+            image.write(out, true, level, threads);
+            size = out.size();
+        }
+        final long dt = System.nanoTime() - t0;
+        final double ms = dt / 1e6 / benchLoops;
+        final double mpix = (double)benchWidth * benchHeight * benchLoops / 1e6 / ( dt / 1e9 );
+        System.err.printf("%dx%d %s, level %d, threads %2d: %9.3f ms/image, %7.2f MPix/s, %9d bytes%n",
+                          benchWidth, benchHeight, image.getPixelformat(), level, threads, ms, mpix, size);
+        return dt;
+    }
+
+    @Test
+    public void test10Benchmark4K() throws IOException {
+        final PNGPixelRect image = createImage(PixelFormat.RGBA8888, benchWidth, benchHeight, true);
+        benchmark(image, 6, 1); // warm-up
+        final int[] levels = { 1, 6 };
+        for(int l=0; l<levels.length; l++) {
+            final long seq = benchmark(image, levels[l], 1);
+            if( PngWriter.isParallelEncodingAvailable() && 1 < benchThreads ) {
+                final long par = benchmark(image, levels[l], benchThreads);
+                System.err.printf("level %d: speedup %.2fx with %d threads%n", levels[l], (double)seq / par, benchThreads);
+            }
+        }
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-width")) {
+                i++;
+                benchWidth = MiscUtils.atoi(args[i], benchWidth);
+            } else if(args[i].equals("-height")) {
+                i++;
+                benchHeight = MiscUtils.atoi(args[i], benchHeight);
+            } else if(args[i].equals("-loops")) {
+                i++;
+                benchLoops = MiscUtils.atoi(args[i], benchLoops);
+            } else if(args[i].equals("-threads")) {
+                i++;
+                benchThreads = MiscUtils.atoi(args[i], benchThreads);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestPNGPixelRect03EncodeNOUI.class.getName());
+    }
+}
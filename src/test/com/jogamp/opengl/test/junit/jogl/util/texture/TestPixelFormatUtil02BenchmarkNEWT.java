@@ -0,0 +1,140 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.Bitstream;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.nativewindow.util.PixelFormatUtil;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Benchmarking PixelFormatUtil's specialized row conversion
+ * against the generic per-pixel {@link Bitstream} conversion
+ * for commonly used PixelFormat pairs, validating identical results.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPixelFormatUtil02BenchmarkNEWT extends UITestCase {
+    static int width = 1920;
+    static int height = 1080;
+    static int loops = 10;
+
+    @Test
+    public void test01_RGBA8888_BGRA8888() throws IOException {
+        benchmarkImpl(PixelFormat.RGBA8888, PixelFormat.BGRA8888);
+    }
+    @Test
+    public void test02_BGRA8888_RGBA8888() throws IOException {
+        benchmarkImpl(PixelFormat.BGRA8888, PixelFormat.RGBA8888);
+    }
+    @Test
+    public void test03_RGB888_RGBA8888() throws IOException {
+        benchmarkImpl(PixelFormat.RGB888, PixelFormat.RGBA8888);
+    }
+    @Test
+    public void test04_RGBA8888_LUMINANCE() throws IOException {
+        benchmarkImpl(PixelFormat.RGBA8888, PixelFormat.LUMINANCE);
+    }
+    @Test
+    public void test05_RGB565_RGBA8888() throws IOException {
+        benchmarkImpl(PixelFormat.RGB565, PixelFormat.RGBA8888);
+    }
+    @Test
+    public void test06_RGBA8888_RGBA8888() throws IOException {
+        benchmarkImpl(PixelFormat.RGBA8888, PixelFormat.RGBA8888);
+    }
+
+    private void benchmarkImpl(final PixelFormat srcFmt, final PixelFormat dstFmt) throws IOException {
+        final int srcStride = srcFmt.comp.bytesPerPixel() * width;
+        final int dstStride = dstFmt.comp.bytesPerPixel() * width;
+        final ByteBuffer src = Buffers.newDirectByteBuffer(srcStride * height);
+        for(int i=0; i<src.capacity(); i++) {
+            src.put(i, (byte)( i * 31 + ( i >>> 8 ) ));
+        }
+        final ByteBuffer dst0 = Buffers.newDirectByteBuffer(dstStride * height);
+        final ByteBuffer dst1 = Buffers.newDirectByteBuffer(dstStride * height);
+
+        final long t0 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            convertBitstream(width, height, src, srcFmt, srcStride, dst0, dstFmt, dstStride, true /* vert_flip */);
+        }
+        final long t1 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            PixelFormatUtil.convert(width, height, src, srcFmt, false, srcStride, dst1, dstFmt, true, dstStride);
+        }
+        final long t2 = System.nanoTime();
+        final double msBitstream = ( t1 - t0 ) / 1000000.0 / loops;
+        final double msSpecial = ( t2 - t1 ) / 1000000.0 / loops;
+        System.err.printf("%s -> %s, %dx%d, loops %d: bitstream %.3f ms/l, specialized %.3f ms/l, speedup %.1fx%n",
+                srcFmt, dstFmt, width, height, loops, msBitstream, msSpecial, msBitstream / msSpecial);
+        Assert.assertEquals(dst0, dst1);
+    }
+
+    /** The generic per-pixel {@link Bitstream} conversion as used for exotic compositions. */
+    private static void convertBitstream(final int width, final int height,
+                                         final ByteBuffer src_bb, final PixelFormat src_fmt, final int src_lineStride,
+                                         final ByteBuffer dst_bb, final PixelFormat dst_fmt, final int dst_lineStride,
+                                         final boolean vert_flip) throws IOException {
+        final PixelFormatUtil.ComponentMap cmap = new PixelFormatUtil.ComponentMap(src_fmt.comp, dst_fmt.comp);
+        final Bitstream<ByteBuffer> srcBitStream = new Bitstream<ByteBuffer>(new Bitstream.ByteBufferStream(src_bb), false /* outputMode */);
+        srcBitStream.setThrowIOExceptionOnEOF(true);
+        final Bitstream<ByteBuffer> dstBitStream = new Bitstream<ByteBuffer>(new Bitstream.ByteBufferStream(dst_bb), true /* outputMode */);
+        dstBitStream.setThrowIOExceptionOnEOF(true);
+        for(int y=0; y<height; y++) {
+            final int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride * 8 : y * src_lineStride * 8;
+            srcBitStream.position(src_off);
+            for(int x=0; x<width; x++) {
+                PixelFormatUtil.convert(cmap, dst_fmt.comp, dstBitStream, src_fmt.comp, srcBitStream);
+            }
+            dstBitStream.skip(( dst_lineStride * 8 ) - ( dst_fmt.comp.bitStride() * width ));
+        }
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-width")) {
+                width = MiscUtils.atoi(args[++i], width);
+            } else if(args[i].equals("-height")) {
+                height = MiscUtils.atoi(args[++i], height);
+            } else if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestPixelFormatUtil02BenchmarkNEWT.class.getName());
+    }
+}
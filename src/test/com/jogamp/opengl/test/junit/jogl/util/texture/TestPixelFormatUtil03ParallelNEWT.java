@@ -0,0 +1,149 @@
+/**
+ * Copyright 2015 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.nativewindow.util.PixelFormatUtil;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Testing PixelFormatUtil's parallel row-band conversion
+ * against the serial conversion for all PixelFormat pairs,
+ * including strides, endian-order and vertical flipping.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPixelFormatUtil03ParallelNEWT extends UITestCase {
+    static int width = 3840;
+    static int height = 2160;
+    static int loops = 10;
+    static ExecutorService executor;
+
+    @BeforeClass
+    public static void initClass() {
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+    @AfterClass
+    public static void releaseClass() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void test01_AllFormats() {
+        final Random rnd = new Random(1);
+        final PixelFormat[] formats = PixelFormat.values();
+        for(int i=0; i<formats.length; i++) {
+            for(int j=0; j<formats.length; j++) {
+                final int w = 1 + rnd.nextInt(97);
+                final int h = 1 + rnd.nextInt(211);
+                testImpl(formats[i], formats[j], w, h,
+                         rnd.nextInt(8), rnd.nextInt(8), rnd.nextBoolean(), rnd.nextBoolean(),
+                         rnd.nextBoolean() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN, rnd);
+            }
+        }
+    }
+
+    private void testImpl(final PixelFormat srcFmt, final PixelFormat dstFmt, final int w, final int h,
+                          final int srcPad, final int dstPad, final boolean srcGLOriented, final boolean dstGLOriented,
+                          final ByteOrder order, final Random rnd) {
+        final int srcStride = srcFmt.comp.bytesPerPixel() * w + srcPad;
+        final int dstStride = dstFmt.comp.bytesPerPixel() * w + dstPad;
+        final ByteBuffer src = ByteBuffer.allocate(srcStride * h).order(order);
+        final ByteBuffer dst0 = Buffers.newDirectByteBuffer(dstStride * h).order(order);
+        final ByteBuffer dst1 = Buffers.newDirectByteBuffer(dstStride * h).order(order);
+        for(int i=0; i<src.capacity(); i++) {
+            src.put(i, (byte)rnd.nextInt());
+        }
+        for(int i=0; i<dst0.capacity(); i++) {
+            final byte b = (byte)rnd.nextInt();
+            dst0.put(i, b);
+            dst1.put(i, b);
+        }
+        PixelFormatUtil.convert(w, h, src, srcFmt, srcGLOriented, srcStride, dst0, dstFmt, dstGLOriented, dstStride);
+        PixelFormatUtil.convert(w, h, src, srcFmt, srcGLOriented, srcStride, dst1, dstFmt, dstGLOriented, dstStride, executor, 4);
+        Assert.assertEquals(srcFmt+" -> "+dstFmt+", "+w+"x"+h, dst0, dst1);
+    }
+
+    @Test
+    public void test10_Benchmark() {
+        benchmarkImpl(PixelFormat.RGBA8888, PixelFormat.BGRA8888);
+        benchmarkImpl(PixelFormat.RGB888, PixelFormat.RGBA8888);
+        benchmarkImpl(PixelFormat.RGBA8888, PixelFormat.RGBA8888);
+    }
+
+    private void benchmarkImpl(final PixelFormat srcFmt, final PixelFormat dstFmt) {
+        final ByteBuffer src = Buffers.newDirectByteBuffer(srcFmt.comp.bytesPerPixel() * width * height);
+        final ByteBuffer dst0 = Buffers.newDirectByteBuffer(dstFmt.comp.bytesPerPixel() * width * height);
+        final ByteBuffer dst1 = Buffers.newDirectByteBuffer(dstFmt.comp.bytesPerPixel() * width * height);
+        for(int i=0; i<src.capacity(); i++) {
+            src.put(i, (byte)( i * 31 + ( i >>> 8 ) ));
+        }
+        final long t0 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            PixelFormatUtil.convert(width, height, src, srcFmt, true, 0, dst0, dstFmt, false, 0);
+        }
+        final long t1 = System.nanoTime();
+        for(int i=0; i<loops; i++) {
+            PixelFormatUtil.convert(width, height, src, srcFmt, true, 0, dst1, dstFmt, false, 0, executor, 0);
+        }
+        final long t2 = System.nanoTime();
+        final double msSerial = ( t1 - t0 ) / 1000000.0 / loops;
+        final double msParallel = ( t2 - t1 ) / 1000000.0 / loops;
+        System.err.printf("%s -> %s, %dx%d, loops %d: serial %.3f ms/l, parallel %.3f ms/l, speedup %.1fx%n",
+                srcFmt, dstFmt, width, height, loops, msSerial, msParallel, msSerial / msParallel);
+        Assert.assertEquals(dst0, dst1);
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-width")) {
+                width = MiscUtils.atoi(args[++i], width);
+            } else if(args[i].equals("-height")) {
+                height = MiscUtils.atoi(args[++i], height);
+            } else if(args[i].equals("-loops")) {
+                loops = MiscUtils.atoi(args[++i], loops);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestPixelFormatUtil03ParallelNEWT.class.getName());
+    }
+}
@@ -0,0 +1,223 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLRunnable;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.newt.opengl.GLWindow;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.Animator;
+import com.jogamp.opengl.util.texture.Texture;
+import com.jogamp.opengl.util.texture.TextureStreamer;
+
+/**
+ * Streams the bundled images via {@link TextureStreamer}, validating priority order,
+ * cancellation, upload budget and memory accounting.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextureStreamerNEWT extends UITestCase {
+    static long timeout = 10000; // ms
+    static int workerCount = 2;
+
+    static final String[] files = { "test-64x32_DXT1.dds", "j1-baseline.jpg", "grayscale_texture.png", "test-u32.tga",
+                                    "bug744-rle32.tga", "test-ntscI_3-01-160x90.png", "test-64x32_uncompressed.dds", "j3-baseline_gray.jpg" };
+
+    static class RecordingListener implements TextureStreamer.Listener {
+        final List<TextureStreamer.Request> loaded = new ArrayList<TextureStreamer.Request>();
+        final List<TextureStreamer.Request> failed = new ArrayList<TextureStreamer.Request>();
+
+        @Override
+        public synchronized void textureLoaded(final TextureStreamer streamer, final TextureStreamer.Request request, final Texture texture) {
+            Assert.assertNotNull(texture);
+            loaded.add(request);
+        }
+        @Override
+        public synchronized void textureFailed(final TextureStreamer streamer, final TextureStreamer.Request request, final Throwable error) {
+            System.err.println("Failed "+request+": "+error);
+            failed.add(request);
+        }
+        synchronized int doneCount() { return loaded.size() + failed.size(); }
+    }
+
+    private URL getURL(final String filename) {
+        final URLConnection connection = IOUtil.getResource(filename, getClass().getClassLoader(), getClass());
+        Assert.assertNotNull(connection);
+        return connection.getURL();
+    }
+
+    private GLWindow createWindow() {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getDefault());
+        final GLWindow glad = GLWindow.create(caps);
+        glad.setTitle(getSimpleTestName("."));
+        glad.setSize(256, 256);
+        return glad;
+    }
+
+    private void waitDone(final RecordingListener listener, final int count) throws InterruptedException {
+        final long t0 = System.currentTimeMillis();
+        while( listener.doneCount() < count && System.currentTimeMillis() - t0 < timeout ) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(count, listener.doneCount());
+    }
+
+    private void releaseAll(final GLWindow glad, final TextureStreamer streamer, final List<TextureStreamer.Request> requests) {
+        glad.invoke(true, new GLRunnable() {
+            @Override
+            public boolean run(final GLAutoDrawable drawable) {
+                for(int i=0; i<requests.size(); i++) {
+                    streamer.release(drawable.getGL(), requests.get(i));
+                }
+                return true;
+            }
+        });
+        Assert.assertEquals(0, streamer.getResidentMemorySize());
+    }
+
+    @Test
+    public void test01_AnimatedBudget() throws InterruptedException, IOException {
+        final GLWindow glad = createWindow();
+        final Animator animator = new Animator(glad);
+        glad.setVisible(true);
+        animator.start();
+
+        final TextureStreamer streamer = new TextureStreamer(glad, workerCount, 0);
+        streamer.setUploadBudget(16*1024, 2000000); // 16 KiB or 2 ms per frame
+        final RecordingListener listener = new RecordingListener();
+        final List<TextureStreamer.Request> requests = new ArrayList<TextureStreamer.Request>();
+        for(int i=0; i<files.length; i++) {
+            requests.add(streamer.request(getURL(files[i]), false, null, i, listener));
+        }
+        waitDone(listener, files.length);
+        Assert.assertEquals(0, listener.failed.size());
+
+        long memorySize = 0;
+        for(int i=0; i<requests.size(); i++) {
+            final TextureStreamer.Request r = requests.get(i);
+            Assert.assertEquals(TextureStreamer.State.LOADED, r.getState());
+            Assert.assertNotNull(r.getTexture());
+            Assert.assertTrue(0 < r.getMemorySize());
+            memorySize += r.getMemorySize();
+        }
+        System.err.println(streamer);
+        Assert.assertEquals(0, streamer.getPendingMemorySize());
+        Assert.assertEquals(memorySize, streamer.getResidentMemorySize());
+
+        releaseAll(glad, streamer, requests);
+        for(int i=0; i<requests.size(); i++) {
+            Assert.assertEquals(TextureStreamer.State.RELEASED, requests.get(i).getState());
+        }
+        streamer.destroy();
+        animator.stop();
+        glad.destroy();
+    }
+
+    @Test
+    public void test02_PriorityAndCancel() throws InterruptedException, IOException {
+        final GLWindow glad = createWindow();
+        // Not realized: decoded data stays pending, stalling the single worker via the pending memory limit
+        final TextureStreamer streamer = new TextureStreamer(glad, 1, 1);
+        final RecordingListener listener = new RecordingListener();
+        final TextureStreamer.Request first = streamer.request(getURL(files[0]), false, null, 0, listener);
+        final long t0 = System.currentTimeMillis();
+        while( TextureStreamer.State.DECODED != first.getState() && System.currentTimeMillis() - t0 < timeout ) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(TextureStreamer.State.DECODED, first.getState());
+        Assert.assertEquals(first.getMemorySize(), streamer.getPendingMemorySize());
+
+        final List<TextureStreamer.Request> requests = new ArrayList<TextureStreamer.Request>();
+        for(int i=1; i<files.length; i++) {
+            requests.add(streamer.request(getURL(files[i]), false, null, i, listener));
+        }
+        Assert.assertEquals(files.length-1, streamer.getQueuedCount());
+
+        // lowest becomes highest, two canceled
+        final TextureStreamer.Request promoted = requests.get(0);
+        promoted.setPriority(100);
+        final TextureStreamer.Request canceled0 = requests.get(1);
+        final TextureStreamer.Request canceled1 = requests.get(requests.size()-1);
+        Assert.assertTrue(canceled0.cancel());
+        Assert.assertTrue(canceled1.cancel());
+        Assert.assertFalse(canceled1.cancel());
+        Assert.assertEquals(TextureStreamer.State.CANCELED, canceled0.getState());
+
+        final List<TextureStreamer.Request> expected = new ArrayList<TextureStreamer.Request>();
+        expected.add(first);
+        expected.add(promoted);
+        for(int i=requests.size()-1; i>=1; i--) {
+            final TextureStreamer.Request r = requests.get(i);
+            if( r != canceled0 && r != canceled1 ) {
+                expected.add(r);
+            }
+        }
+
+        glad.setVisible(true); // uploads the first request, releasing the worker
+        glad.display();
+        waitDone(listener, expected.size());
+        Assert.assertEquals(0, listener.failed.size());
+        Assert.assertEquals(expected, listener.loaded);
+        Assert.assertNull(canceled0.getTexture());
+        Assert.assertNull(canceled1.getTexture());
+        Assert.assertEquals(0, streamer.getPendingMemorySize());
+
+        releaseAll(glad, streamer, expected);
+        streamer.destroy();
+        glad.destroy();
+    }
+
+    public static void main(final String args[]) throws IOException {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-timeout")) {
+                i++;
+                timeout = MiscUtils.atol(args[i], timeout);
+            } else if(args[i].equals("-workers")) {
+                i++;
+                workerCount = MiscUtils.atoi(args[i], workerCount);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestTextureStreamerNEWT.class.getName());
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+
+package com.jogamp.opengl.test.junit.newt.event;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+
+import jogamp.newt.event.NEWTEventQueue;
+
+/**
+ * Validating the bounded multiple producer, single consumer {@link NEWTEventQueue}
+ * regarding order, capacity, slot reuse and concurrent producers.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestNEWTEventQueueNOUI {
+    static int producerCount = 4;
+    static int eventsPerProducer = 200000;
+
+    static class Item {
+        final int producer;
+        final int serial;
+        Item(final int producer, final int serial) {
+            this.producer = producer;
+            this.serial = serial;
+        }
+    }
+
+    @Test
+    public void test01SingleThreaded() {
+        final NEWTEventQueue q = new NEWTEventQueue(10);
+        Assert.assertEquals(16, q.capacity());
+        Assert.assertTrue(q.isEmpty());
+        Assert.assertNull(q.poll());
+
+        int next = 0, expected = 0;
+        for(int round=0; round<5; round++) {
+            while( q.offer(Integer.valueOf(next)) ) {
+                next++;
+            }
+            Assert.assertEquals(16, q.size());
+            for(int i=0; i<11; i++) {
+                Assert.assertEquals(Integer.valueOf(expected++), q.poll());
+            }
+            Assert.assertEquals(5, q.size());
+        }
+        Object o;
+        while( null != ( o = q.poll() ) ) {
+            Assert.assertEquals(Integer.valueOf(expected++), o);
+        }
+        Assert.assertEquals(next, expected);
+        Assert.assertTrue(q.isEmpty());
+        Assert.assertEquals(16, q.getMaxSize());
+        Assert.assertEquals(next, q.getPollCount());
+        System.err.println(q);
+        q.resetCounter();
+        Assert.assertEquals(0, q.getPollCount());
+    }
+
+    @Test
+    public void test02MultipleProducer() throws InterruptedException {
+        final NEWTEventQueue q = new NEWTEventQueue(256);
+        final Thread[] producers = new Thread[producerCount];
+        for(int p=0; p<producerCount; p++) {
+            final int producer = p;
+            producers[p] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for(int i=0; i<eventsPerProducer; i++) {
+                        final Item item = new Item(producer, i);
+                        while( !q.offer(item) ) {
+                            Thread.yield();
+                        }
+                    }
+                } }, "Producer-"+p);
+        }
+        final long t0 = System.nanoTime();
+        for(int p=0; p<producerCount; p++) {
+            producers[p].start();
+        }
+        final int[] nextSerial = new int[producerCount];
+        final int total = producerCount * eventsPerProducer;
+        int received = 0;
+        while( received < total ) {
+            final Object o = q.poll();
+            if( null == o ) {
+                Thread.yield();
+                continue;
+            }
+            final Item item = (Item) o;
+            Assert.assertEquals("Order of producer "+item.producer, nextSerial[item.producer], item.serial);
+            nextSerial[item.producer]++;
+            received++;
+        }
+        final long t1 = System.nanoTime();
+        for(int p=0; p<producerCount; p++) {
+            producers[p].join();
+            Assert.assertEquals(eventsPerProducer, nextSerial[p]);
+        }
+        Assert.assertTrue(q.isEmpty());
+        Assert.assertNull(q.poll());
+        Assert.assertEquals(total, q.getPollCount());
+        System.err.printf("%d producer, %d events: %.1f ms, %s%n", producerCount, total, (t1-t0)/1e6, q);
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-producer")) {
+                i++;
+                producerCount = MiscUtils.atoi(args[i], producerCount);
+            } else if(args[i].equals("-events")) {
+                i++;
+                eventsPerProducer = MiscUtils.atoi(args[i], eventsPerProducer);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestNEWTEventQueueNOUI.class.getName());
+    }
+}
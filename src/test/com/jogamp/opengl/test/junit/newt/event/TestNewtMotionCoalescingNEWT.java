@@ -0,0 +1,206 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+
+package com.jogamp.opengl.test.junit.newt.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.newt.event.InputEvent;
+import com.jogamp.newt.event.MouseAdapter;
+import com.jogamp.newt.event.MouseEvent;
+import com.jogamp.newt.opengl.GLWindow;
+import com.jogamp.newt.util.EDTUtil;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import jogamp.newt.WindowImpl;
+
+/**
+ * Validates {@link com.jogamp.newt.Window#setPointerMotionCoalescing(boolean) pointer motion coalescing}
+ * by injecting a burst of native mouse events while the EDT is busy:
+ * consecutive MOVED and DRAGGED samples must be merged into one event each with their history,
+ * without reordering the PRESSED and RELEASED events.
+ * Exceeding the limit of pending merged events must neither drop nor reorder samples.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestNewtMotionCoalescingNEWT extends UITestCase {
+    static int samples = 100;
+
+    static class RecordingListener extends MouseAdapter {
+        final List<MouseEvent> events = new ArrayList<MouseEvent>();
+        @Override
+        public void mousePressed(final MouseEvent e) { events.add(e); }
+        @Override
+        public void mouseReleased(final MouseEvent e) { events.add(e); }
+        @Override
+        public void mouseMoved(final MouseEvent e) { events.add(e); }
+        @Override
+        public void mouseDragged(final MouseEvent e) { events.add(e); }
+    }
+
+    /** Burst of native mouse events injected on the EDT. */
+    static interface Burst {
+        void run(WindowImpl window);
+    }
+
+    static final Burst moveDragBurst = new Burst() {
+        @Override
+        public void run(final WindowImpl window) {
+            for(int i=0; i<samples; i++) {
+                window.sendMouseEvent(MouseEvent.EVENT_MOUSE_MOVED, 0, 10+i, 20, (short)0, 0f);
+            }
+            window.sendMouseEvent(MouseEvent.EVENT_MOUSE_PRESSED, 0, 10+samples, 20, MouseEvent.BUTTON1, 0f);
+            for(int i=0; i<samples; i++) {
+                window.sendMouseEvent(MouseEvent.EVENT_MOUSE_DRAGGED, 0, 10+samples, 21+i, MouseEvent.BUTTON1, 0f);
+            }
+            window.sendMouseEvent(MouseEvent.EVENT_MOUSE_RELEASED, 0, 10+samples, 20+samples, MouseEvent.BUTTON1, 0f);
+        } };
+
+    /** Number of pending merged events exceeding the window's limit of 64. */
+    static final int pendingGroups = 100;
+
+    /**
+     * Pairs of MOVED samples w/ alternating modifiers, i.e. each pair is merged into a distinct pending event.
+     */
+    static final Burst pendingBurst = new Burst() {
+        @Override
+        public void run(final WindowImpl window) {
+            for(int i=0; i<2*pendingGroups; i++) {
+                final int modifiers = 0 == ( i / 2 ) % 2 ? 0 : InputEvent.SHIFT_MASK;
+                window.sendMouseEvent(MouseEvent.EVENT_MOUSE_MOVED, modifiers, 10+i, 20, (short)0, 0f);
+            }
+        } };
+
+    private List<MouseEvent> testImpl(final boolean coalesce, final Burst burst) throws InterruptedException {
+        final GLWindow glWindow = GLWindow.create(new GLCapabilities(GLProfile.getDefault()));
+        glWindow.setSize(256, 256);
+        glWindow.setPointerMotionCoalescing(coalesce);
+        Assert.assertEquals(coalesce, glWindow.isPointerMotionCoalescing());
+        final RecordingListener listener = new RecordingListener();
+        glWindow.addMouseListener(listener);
+        glWindow.setVisible(true);
+        Assert.assertTrue(glWindow.isNativeValid());
+
+        final WindowImpl window = (WindowImpl) glWindow.getDelegatedWindow();
+        // burst on the EDT, i.e. the native event dispatch thread
+        glWindow.getScreen().getDisplay().getEDTUtil().invoke(true, new Runnable() {
+            @Override
+            public void run() {
+                burst.run(window);
+            } });
+        // let the EDT dispatch the enqueued events
+        final EDTUtil edt = glWindow.getScreen().getDisplay().getEDTUtil();
+        Thread.sleep(3 * edt.getPollPeriod());
+        edt.waitUntilIdle();
+        glWindow.destroy();
+        return listener.events;
+    }
+
+    private static void validate(final MouseEvent e, final short type, final int x, final int y) {
+        Assert.assertEquals(MouseEvent.getEventTypeString(type), MouseEvent.getEventTypeString(e.getEventType()));
+        Assert.assertEquals(x, e.getX());
+        Assert.assertEquals(y, e.getY());
+    }
+
+    @Test
+    public void test01Uncoalesced() throws InterruptedException {
+        final List<MouseEvent> events = testImpl(false, moveDragBurst);
+        Assert.assertEquals(2*samples+2, events.size());
+        for(int i=0; i<events.size(); i++) {
+            Assert.assertEquals(0, events.get(i).getHistorySize());
+        }
+    }
+
+    @Test
+    public void test02Coalesced() throws InterruptedException {
+        final List<MouseEvent> events = testImpl(true, moveDragBurst);
+        Assert.assertEquals(4, events.size());
+
+        final MouseEvent moved = events.get(0);
+        validate(moved, MouseEvent.EVENT_MOUSE_MOVED, 10+samples-1, 20);
+        Assert.assertEquals(samples-1, moved.getHistorySize());
+        for(int i=0; i<samples-1; i++) {
+            Assert.assertEquals(10+i, moved.getHistoricalX(0, i));
+            Assert.assertEquals(20, moved.getHistoricalY(0, i));
+            Assert.assertTrue(moved.getHistoricalWhen(i) <= moved.getWhen());
+        }
+
+        validate(events.get(1), MouseEvent.EVENT_MOUSE_PRESSED, 10+samples, 20);
+
+        final MouseEvent dragged = events.get(2);
+        validate(dragged, MouseEvent.EVENT_MOUSE_DRAGGED, 10+samples, 20+samples);
+        Assert.assertEquals(samples-1, dragged.getHistorySize());
+        for(int i=0; i<samples-1; i++) {
+            Assert.assertEquals(10+samples, dragged.getHistoricalX(0, i));
+            Assert.assertEquals(21+i, dragged.getHistoricalY(0, i));
+        }
+
+        validate(events.get(3), MouseEvent.EVENT_MOUSE_RELEASED, 10+samples, 20+samples);
+    }
+
+    @Test
+    public void test03CoalescedPendingLimit() throws InterruptedException {
+        final List<MouseEvent> events = testImpl(true, pendingBurst);
+        // pending events beyond the limit are delivered uncoalesced
+        Assert.assertTrue(pendingGroups < events.size());
+        Assert.assertTrue(2*pendingGroups > events.size());
+
+        // all samples in order, none dropped
+        int next = 10;
+        for(int i=0; i<events.size(); i++) {
+            final MouseEvent e = events.get(i);
+            Assert.assertEquals(MouseEvent.getEventTypeString(MouseEvent.EVENT_MOUSE_MOVED), MouseEvent.getEventTypeString(e.getEventType()));
+            final int expModifiers = 0 == ( ( next - 10 ) / 2 ) % 2 ? 0 : InputEvent.SHIFT_MASK;
+            Assert.assertEquals(expModifiers, e.getModifiers() & InputEvent.SHIFT_MASK);
+            for(int j=0; j<e.getHistorySize(); j++) {
+                Assert.assertEquals(next++, e.getHistoricalX(0, j));
+            }
+            Assert.assertEquals(next++, e.getX());
+        }
+        Assert.assertEquals(10+2*pendingGroups, next);
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-samples")) {
+                i++;
+                samples = MiscUtils.atoi(args[i], samples);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestNewtMotionCoalescingNEWT.class.getName());
+    }
+}